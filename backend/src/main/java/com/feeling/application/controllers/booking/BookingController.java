@@ -1,9 +1,11 @@
 package com.feeling.application.controllers.booking;
 
+import com.feeling.domain.dto.booking.BookingHoldResponseDTO;
 import com.feeling.domain.dto.booking.BookingRequestDTO;
 import com.feeling.domain.dto.booking.BookingResponseDTO;
 import com.feeling.domain.services.booking.BookingService;
 import com.feeling.domain.services.user.UserService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +34,24 @@ public class BookingController {
         return new ResponseEntity<>(bookingResponseDTO, HttpStatus.CREATED);
     }
 
+    @PostMapping("/holds")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BookingHoldResponseDTO> holdSlots(@Valid @RequestBody BookingRequestDTO bookingRequestDTO) {
+        // Retiene los cupos durante el checkout; se confirman enviando holdId en POST /bookings
+        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
+        BookingHoldResponseDTO hold = bookingService.holdSlots(bookingRequestDTO, userEmail);
+        return new ResponseEntity<>(hold, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> releaseHold(@PathVariable Long holdId) {
+        // Checkout cancelado o pago fallido: los cupos vuelven a la disponibilidad
+        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
+        bookingService.releaseHold(holdId, userEmail);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<BookingResponseDTO> getBooking(@PathVariable Long id) {
@@ -1,5 +1,6 @@
 package com.feeling.application.controllers.event;
 
+import com.feeling.application.handlers.HttpCacheable;
 import com.feeling.domain.dto.event.*;
 import com.feeling.domain.services.event.EventImageService;
 import com.feeling.domain.services.event.EventService;
@@ -37,6 +38,7 @@ public class EventController {
     private final EventStatsService statsService;
 
     @GetMapping
+    @HttpCacheable(caches = "events", maxAge = 60, serialized = true)
     @Operation(summary = "Get all active events", description = "Retrieve all active events with optional pagination")
     public ResponseEntity<List<EventResponseDTO>> getAllEvents(
             @RequestParam(required = false) boolean paginated,
@@ -448,4 +450,12 @@ public class EventController {
         List<Map<String, String>> images = eventImageService.browseAvailableImages();
         return ResponseEntity.ok(images);
     }
+
+    @GetMapping("/images/browse/paged")
+    @Operation(summary = "Browse event images (paged)", description = "Get available images filtered by name, paginated")
+    public ResponseEntity<Page<Map<String, String>>> browseEventImagesPaged(
+            @RequestParam(required = false) String search,
+            @PageableDefault(size = 24) Pageable pageable) {
+        return ResponseEntity.ok(eventImageService.browseAvailableImages(search, pageable));
+    }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.feeling.application.controllers.event;
 
 import com.feeling.domain.dto.event.EventRegistrationRequestDTO;
 import com.feeling.domain.dto.event.EventRegistrationResponseDTO;
+import com.feeling.domain.dto.event.EventWaitlistResponseDTO;
 import com.feeling.domain.services.event.EventRegistrationService;
+import com.feeling.domain.services.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,8 +15,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -73,6 +77,25 @@ public class EventRegistrationController {
         }
     }
 
+    @GetMapping("/event/{eventId}/attendees/export")
+    @Operation(summary = "Export event attendees", description = "Stream the attendees of an event as CSV or NDJSON (creator/admin only)")
+    public ResponseEntity<StreamingResponseBody> exportEventAttendees(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            Authentication authentication) {
+
+        return registrationService.exportEventAttendees(eventId, authentication.getName(), ExportFormat.from(format));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Export all registrations", description = "Stream the registrations of every event as CSV or NDJSON (admin only)")
+    public ResponseEntity<StreamingResponseBody> exportAllRegistrations(
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format) {
+
+        return registrationService.exportAllRegistrations(ExportFormat.from(format));
+    }
+
     @GetMapping("/event/{eventId}/confirmed-attendees")
     @Operation(summary = "Get confirmed attendees", description = "Get confirmed attendees for a specific event (creator/admin only)")
     public ResponseEntity<List<EventRegistrationResponseDTO>> getConfirmedAttendees(
@@ -108,6 +131,38 @@ public class EventRegistrationController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/event/{eventId}/waitlist")
+    @Operation(summary = "Join waitlist", description = "Join the waitlist of a full event; seats released by cancellations or failed payments are assigned in order")
+    public ResponseEntity<EventWaitlistResponseDTO> joinWaitlist(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        EventWaitlistResponseDTO entry = registrationService.joinWaitlist(eventId, userEmail);
+        return new ResponseEntity<>(entry, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/event/{eventId}/waitlist")
+    @Operation(summary = "Get my waitlist position", description = "Get the authenticated user's position in the waitlist of an event")
+    public ResponseEntity<EventWaitlistResponseDTO> getMyWaitlistPosition(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        return ResponseEntity.ok(registrationService.getWaitlistPosition(eventId, userEmail));
+    }
+
+    @DeleteMapping("/event/{eventId}/waitlist")
+    @Operation(summary = "Leave waitlist", description = "Remove the authenticated user from the waitlist of an event")
+    public ResponseEntity<Void> leaveWaitlist(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        registrationService.leaveWaitlist(eventId, userEmail);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/event/{eventId}/my-registration")
     @Operation(summary = "Get my registration for event", description = "Get the authenticated user's registration for a specific event")
     public ResponseEntity<EventRegistrationResponseDTO> getMyEventRegistration(
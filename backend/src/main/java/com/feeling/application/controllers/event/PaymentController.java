@@ -3,6 +3,7 @@ package com.feeling.application.controllers.event;
 import com.feeling.domain.dto.event.PaymentRequestDTO;
 import com.feeling.domain.dto.event.PaymentResponseDTO;
 import com.feeling.domain.services.event.PaymentServiceBasic;
+import com.feeling.domain.services.event.StripeWebhookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,8 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-
 @RestController
 @RequestMapping("/payments")
 @RequiredArgsConstructor
@@ -21,6 +20,7 @@ import java.util.Map;
 public class PaymentController {
     
     private final PaymentServiceBasic paymentService;
+    private final StripeWebhookService stripeWebhookService;
 
     @PostMapping("/create-payment-intent")
     @Operation(summary = "Create payment intent", description = "Create a Stripe payment intent for event registration")
@@ -43,13 +43,11 @@ public class PaymentController {
     }
 
     @PostMapping("/webhook")
-    @Operation(summary = "Stripe webhook", description = "Handle Stripe webhook events")
-    public ResponseEntity<String> handleStripeWebhook(@RequestBody Map<String, Object> payload) {
-        try {
-            paymentService.handleStripeWebhook(payload);
-            return ResponseEntity.ok("Webhook processed successfully");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("Error processing webhook: " + e.getMessage());
-        }
+    @Operation(summary = "Stripe webhook", description = "Verify and enqueue Stripe webhook events; processing is asynchronous")
+    public ResponseEntity<String> handleStripeWebhook(
+            @RequestBody String payload,
+            @RequestHeader(value = "Stripe-Signature", required = false) String signature) {
+        boolean received = stripeWebhookService.receive(payload, signature);
+        return ResponseEntity.ok(received ? "Webhook received" : "Webhook already received");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.feeling.application.controllers.info;
+
+import com.feeling.domain.dto.info.CacheStatisticsDTO;
+import com.feeling.domain.dto.response.MessageResponseDTO;
+import com.feeling.domain.services.info.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "Cache Administration", description = "Cache statistics and maintenance endpoints")
+public class CacheAdminController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping
+    @Operation(summary = "Get cache statistics", description = "Hit ratio, size, evictions and load time for every cache")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<CacheStatisticsDTO>> getAllCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getAllCacheStatistics());
+    }
+
+    @GetMapping("/{cacheName}")
+    @Operation(summary = "Get cache statistics by name", description = "Statistics for a single cache")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CacheStatisticsDTO> getCacheStatistics(
+            @Parameter(description = "Cache name") @PathVariable String cacheName) {
+        return ResponseEntity.ok(cacheStatisticsService.getCacheStatistics(cacheName));
+    }
+
+    @DeleteMapping("/{cacheName}")
+    @Operation(summary = "Clear cache", description = "Remove every entry of a cache")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<MessageResponseDTO> clearCache(
+            @Parameter(description = "Cache name") @PathVariable String cacheName) {
+        return ResponseEntity.ok(cacheStatisticsService.clearCache(cacheName));
+    }
+}
@@ -0,0 +1,52 @@
+package com.feeling.application.controllers.info;
+
+import com.feeling.domain.dto.info.ScheduledJobRunDTO;
+import com.feeling.domain.dto.info.ScheduledJobStatusDTO;
+import com.feeling.domain.dto.response.MessageResponseDTO;
+import com.feeling.domain.services.job.ClusterJobRunner;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Scheduled Jobs Administration", description = "Cluster-wide maintenance jobs: status, run history and manual runs")
+public class ScheduledJobAdminController {
+
+    private final ClusterJobRunner clusterJobRunner;
+
+    @GetMapping
+    @Operation(summary = "List maintenance jobs", description = "Schedule, current lease and last run of every job")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<ScheduledJobStatusDTO>> getJobs() {
+        return ResponseEntity.ok(clusterJobRunner.getJobs());
+    }
+
+    @GetMapping("/{jobName}/runs")
+    @Operation(summary = "Get job run history", description = "Runs of a job, most recent first, with node, duration and processed rows")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Page<ScheduledJobRunDTO>> getRuns(
+            @Parameter(description = "Job name") @PathVariable String jobName,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(clusterJobRunner.getRuns(jobName, pageable));
+    }
+
+    @PostMapping("/{jobName}/run")
+    @Operation(summary = "Run job now", description = "Start a job in the background unless another node is running it")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<MessageResponseDTO> runJob(
+            @Parameter(description = "Job name") @PathVariable String jobName) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(clusterJobRunner.trigger(jobName));
+    }
+}
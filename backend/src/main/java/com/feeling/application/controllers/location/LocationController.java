@@ -1,5 +1,6 @@
 package com.feeling.application.controllers.location;
 
+import com.feeling.application.handlers.HttpCacheable;
 import com.feeling.domain.dto.location.CityResponseDTO;
 import com.feeling.domain.dto.location.CountryResponseDTO;
 import com.feeling.domain.dto.location.GeographicDataResponseDTO;
@@ -32,6 +33,7 @@ public class LocationController {
     )
     @ApiResponse(responseCode = "200", description = "Lista de países obtenida exitosamente")
     @GetMapping("/countries")
+    @HttpCacheable(caches = "countries", maxAge = 86400, serialized = true)
     public ResponseEntity<List<CountryResponseDTO>> getAllCountries() {
         List<CountryResponseDTO> countries = locationService.getAllCountries();
         return ResponseEntity.ok(countries);
@@ -44,6 +46,7 @@ public class LocationController {
     @ApiResponse(responseCode = "200", description = "Lista de ciudades obtenida exitosamente")
     @ApiResponse(responseCode = "404", description = "País no encontrado")
     @GetMapping("/countries/{countryName}/cities")
+    @HttpCacheable(caches = "cities", maxAge = 86400)
     public ResponseEntity<List<CityResponseDTO>> getCitiesByCountry(
             @Parameter(description = "Nombre del país", example = "Colombia")
             @PathVariable String countryName
@@ -59,6 +62,7 @@ public class LocationController {
     @ApiResponse(responseCode = "200", description = "Lista de localidades obtenida exitosamente")
     @ApiResponse(responseCode = "404", description = "Ciudad no encontrada")
     @GetMapping("/cities/{cityName}/localities")
+    @HttpCacheable(caches = "localities", maxAge = 86400)
     public ResponseEntity<List<LocalityResponseDTO>> getLocalitiesByCity(
             @Parameter(description = "Nombre de la ciudad", example = "Bogotá D.C.")
             @PathVariable String cityName
@@ -73,6 +77,7 @@ public class LocationController {
     )
     @ApiResponse(responseCode = "200", description = "Datos geográficos obtenidos exitosamente")
     @GetMapping("/all")
+    @HttpCacheable(caches = "geographic-data", maxAge = 86400, serialized = true)
     public ResponseEntity<GeographicDataResponseDTO> getAllGeographicData() {
         GeographicDataResponseDTO data = locationService.getAllGeographicData();
         return ResponseEntity.ok(data);
@@ -84,6 +89,7 @@ public class LocationController {
     )
     @ApiResponse(responseCode = "200", description = "Lista simplificada de países")
     @GetMapping("/countries/simple")
+    @HttpCacheable(caches = "countries", maxAge = 86400)
     public ResponseEntity<List<CountryResponseDTO>> getSimpleCountries() {
         List<CountryResponseDTO> countries = locationService.getAllCountries()
                 .stream()
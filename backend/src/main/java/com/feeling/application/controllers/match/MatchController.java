@@ -1,9 +1,13 @@
 package com.feeling.application.controllers.match;
 
+import com.feeling.application.handlers.HttpCacheable;
+import com.feeling.domain.dto.auth.AuthenticatedUser;
 import com.feeling.domain.dto.match.*;
+import com.feeling.domain.dto.notification.NotificationCountersDTO;
 import com.feeling.domain.services.match.FavoriteService;
 import com.feeling.domain.services.match.MatchPlanService;
 import com.feeling.domain.services.match.MatchService;
+import com.feeling.domain.services.notification.NotificationService;
 import com.feeling.domain.services.user.UserAuthorizationService;
 import com.feeling.infrastructure.entities.user.User;
 import jakarta.validation.Valid;
@@ -30,8 +34,10 @@ public class MatchController {
     private final MatchPlanService matchPlanService;
     private final FavoriteService favoriteService;
     private final UserAuthorizationService userAuthorizationService;
+    private final NotificationService notificationService;
 
     @GetMapping("/plans")
+    @HttpCacheable(caches = "match-plans", maxAge = 3600, privateCache = true)
     public ResponseEntity<List<MatchPlanResponseDTO>> getMatchPlans() {
         log.debug("Getting all active match plans");
         List<MatchPlanResponseDTO> plans = matchPlanService.getAllActivePlans();
@@ -43,7 +49,7 @@ public class MatchController {
             @Valid @RequestBody PurchaseMatchPlanRequestDTO request,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.info("User {} purchasing match plan", user.getId());
 
         UserMatchPlanResponseDTO result = matchPlanService.purchaseMatchPlan(user, request);
@@ -52,7 +58,7 @@ public class MatchController {
 
     @GetMapping("/plans/my")
     public ResponseEntity<List<UserMatchPlanResponseDTO>> getMyMatchPlans(Authentication authentication) {
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.debug("Getting match plans for user {}", user.getId());
 
         List<UserMatchPlanResponseDTO> plans = matchPlanService.getUserMatchPlans(user);
@@ -61,7 +67,7 @@ public class MatchController {
 
     @GetMapping("/plans/my/active")
     public ResponseEntity<List<UserMatchPlanResponseDTO>> getMyActiveMatchPlans(Authentication authentication) {
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.debug("Getting active match plans for user {}", user.getId());
 
         List<UserMatchPlanResponseDTO> plans = matchPlanService.getActiveUserMatchPlans(user);
@@ -70,7 +76,7 @@ public class MatchController {
 
     @GetMapping("/attempts")
     public ResponseEntity<Map<String, Object>> getRemainingAttempts(Authentication authentication) {
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
 
         Integer remainingAttempts = matchPlanService.getTotalRemainingAttempts(user);
         boolean hasAttempts = matchPlanService.hasAvailableAttempts(user);
@@ -87,7 +93,7 @@ public class MatchController {
             @Valid @RequestBody MatchRequestDTO request,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.info("User {} sending match", user.getId());
 
         MatchResponseDTO result = matchService.sendMatch(user, request);
@@ -99,7 +105,7 @@ public class MatchController {
             @PathVariable Long matchId,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.info("User {} accepting match {}", user.getId(), matchId);
 
         MatchResponseDTO result = matchService.acceptMatch(user, matchId);
@@ -111,7 +117,7 @@ public class MatchController {
             @PathVariable Long matchId,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.info("User {} rejecting match {}", user.getId(), matchId);
 
         MatchResponseDTO result = matchService.rejectMatch(user, matchId);
@@ -123,7 +129,7 @@ public class MatchController {
             @PathVariable Long matchId,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         MatchResponseDTO result = matchService.viewMatch(user, matchId);
         return ResponseEntity.ok(result);
     }
@@ -133,20 +139,27 @@ public class MatchController {
             @PathVariable Long matchId,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.debug("User {} getting contact for match {}", user.getId(), matchId);
 
         MatchContactDTO contact = matchService.getMatchContact(user, matchId);
         return ResponseEntity.ok(contact);
     }
 
+    // Los listados aceptan 'cursor' (vacío para la primera página) como alternativa a 'page':
+    // paginan por clave sin COUNT y devuelven CursorPageDTO con el token de la página siguiente
+
     @GetMapping("/sent")
-    public ResponseEntity<Page<MatchResponseDTO>> getSentMatches(
+    public ResponseEntity<?> getSentMatches(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
+        if (cursor != null) {
+            return ResponseEntity.ok(matchService.getSentMatches(user, cursor, size));
+        }
         Pageable pageable = PageRequest.of(page, size);
 
         Page<MatchResponseDTO> matches = matchService.getSentMatches(user, pageable);
@@ -154,12 +167,16 @@ public class MatchController {
     }
 
     @GetMapping("/received")
-    public ResponseEntity<Page<MatchResponseDTO>> getReceivedMatches(
+    public ResponseEntity<?> getReceivedMatches(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
+        if (cursor != null) {
+            return ResponseEntity.ok(matchService.getReceivedMatches(user, cursor, size));
+        }
         Pageable pageable = PageRequest.of(page, size);
 
         Page<MatchResponseDTO> matches = matchService.getReceivedMatches(user, pageable);
@@ -167,12 +184,16 @@ public class MatchController {
     }
 
     @GetMapping("/received/pending")
-    public ResponseEntity<Page<MatchResponseDTO>> getPendingReceivedMatches(
+    public ResponseEntity<?> getPendingReceivedMatches(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
+        if (cursor != null) {
+            return ResponseEntity.ok(matchService.getPendingReceivedMatches(user, cursor, size));
+        }
         Pageable pageable = PageRequest.of(page, size);
 
         Page<MatchResponseDTO> matches = matchService.getPendingReceivedMatches(user, pageable);
@@ -180,12 +201,16 @@ public class MatchController {
     }
 
     @GetMapping("/accepted")
-    public ResponseEntity<Page<MatchResponseDTO>> getAcceptedMatches(
+    public ResponseEntity<?> getAcceptedMatches(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
+        if (cursor != null) {
+            return ResponseEntity.ok(matchService.getAcceptedMatches(user, cursor, size));
+        }
         Pageable pageable = PageRequest.of(page, size);
 
         Page<MatchResponseDTO> matches = matchService.getAcceptedMatches(user, pageable);
@@ -194,12 +219,13 @@ public class MatchController {
 
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getMatchStats(Authentication authentication) {
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
+        NotificationCountersDTO counters = notificationService.getCounters(user.getId());
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("pendingSent", matchService.countPendingSentMatches(user));
-        stats.put("pendingReceived", matchService.countPendingReceivedMatches(user));
-        stats.put("accepted", matchService.countAcceptedMatches(user));
+        stats.put("pendingSent", counters.pendingSent());
+        stats.put("pendingReceived", counters.pendingReceived());
+        stats.put("accepted", counters.accepted());
         stats.put("favorites", favoriteService.countUserFavorites(user));
         stats.put("remainingAttempts", matchPlanService.getTotalRemainingAttempts(user));
 
@@ -211,7 +237,7 @@ public class MatchController {
             @Valid @RequestBody FavoriteRequestDTO request,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.info("User {} adding favorite", user.getId());
 
         FavoriteResponseDTO result = favoriteService.addFavorite(user, request);
@@ -223,7 +249,7 @@ public class MatchController {
             @PathVariable Long favoriteUserId,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         log.info("User {} removing favorite {}", user.getId(), favoriteUserId);
 
         favoriteService.removeFavorite(user, favoriteUserId);
@@ -231,12 +257,16 @@ public class MatchController {
     }
 
     @GetMapping("/favorites")
-    public ResponseEntity<Page<FavoriteResponseDTO>> getFavorites(
+    public ResponseEntity<?> getFavorites(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
+        if (cursor != null) {
+            return ResponseEntity.ok(favoriteService.getUserFavorites(user, cursor, size));
+        }
         Pageable pageable = PageRequest.of(page, size);
 
         Page<FavoriteResponseDTO> favorites = favoriteService.getUserFavorites(user, pageable);
@@ -248,7 +278,7 @@ public class MatchController {
             @PathVariable Long userId,
             Authentication authentication) {
 
-        User user = userAuthorizationService.getCurrentUser(authentication);
+        User user = userAuthorizationService.getCurrentUserReference(authentication);
         boolean isFavorite = favoriteService.isFavorite(user, userId);
 
         Map<String, Boolean> response = new HashMap<>();
@@ -259,23 +289,23 @@ public class MatchController {
 
     @GetMapping("/notifications")
     public ResponseEntity<Map<String, Object>> getMatchNotifications(Authentication authentication) {
-        User user = userAuthorizationService.getCurrentUser(authentication);
-
-        Long pendingMatches = matchService.countPendingReceivedMatches(user);
-        Long acceptedMatches = matchService.countAcceptedMatches(user);
+        // Contadores en memoria (NotificationService); los clientes pueden suscribirse a /notifications/stream en lugar de sondear
+        AuthenticatedUser user = userAuthorizationService.getAuthenticatedUser(authentication);
+        NotificationCountersDTO counters = notificationService.getCounters(user.id());
 
         Map<String, Object> notifications = new HashMap<>();
-        notifications.put("pendingMatches", pendingMatches);
-        notifications.put("acceptedMatches", acceptedMatches);
-        notifications.put("hasNotifications", pendingMatches > 0);
+        notifications.put("pendingMatches", counters.pendingReceived());
+        notifications.put("acceptedMatches", counters.accepted());
+        notifications.put("unread", counters.unread());
+        notifications.put("hasNotifications", counters.pendingReceived() > 0);
 
         return ResponseEntity.ok(notifications);
     }
 
     @GetMapping("/plans/admin/stats")
     public ResponseEntity<Map<String, Object>> getMatchPlanStats(Authentication authentication) {
-        User user = userAuthorizationService.getCurrentUser(authentication);
-        log.debug("Getting match plan statistics for admin user {}", user.getId());
+        AuthenticatedUser admin = userAuthorizationService.getAuthenticatedUser(authentication);
+        log.debug("Getting match plan statistics for admin user {}", admin.id());
 
         Map<String, Object> stats = matchPlanService.getMatchPlanStatistics();
         return ResponseEntity.ok(stats);
@@ -283,8 +313,8 @@ public class MatchController {
 
     @GetMapping("/plans/admin/all")
     public ResponseEntity<List<MatchPlanResponseDTO>> getAllMatchPlansForAdmin(Authentication authentication) {
-        User user = userAuthorizationService.getCurrentUser(authentication);
-        log.debug("Getting all match plans for admin user {}", user.getId());
+        AuthenticatedUser admin = userAuthorizationService.getAuthenticatedUser(authentication);
+        log.debug("Getting all match plans for admin user {}", admin.id());
 
         List<MatchPlanResponseDTO> plans = matchPlanService.getAllPlansForAdmin();
         return ResponseEntity.ok(plans);
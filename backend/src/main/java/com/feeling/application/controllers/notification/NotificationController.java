@@ -0,0 +1,48 @@
+package com.feeling.application.controllers.notification;
+
+import com.feeling.domain.dto.auth.AuthenticatedUser;
+import com.feeling.domain.dto.notification.NotificationCountersDTO;
+import com.feeling.domain.services.notification.NotificationService;
+import com.feeling.domain.services.user.UserAuthorizationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notifications", description = "Real-time notifications for matches, event registrations and account status")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final UserAuthorizationService userAuthorizationService;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Notification stream", description = "Server-Sent Events stream with the authenticated user's notifications and counters (send the JWT in the Authorization header)")
+    public SseEmitter stream(Authentication authentication) {
+        AuthenticatedUser user = userAuthorizationService.getAuthenticatedUser(authentication);
+        return notificationService.subscribe(user.id());
+    }
+
+    @GetMapping("/counters")
+    @Operation(summary = "Notification counters", description = "Pending and accepted matches and unread notifications, served from memory")
+    public ResponseEntity<NotificationCountersDTO> getCounters(Authentication authentication) {
+        AuthenticatedUser user = userAuthorizationService.getAuthenticatedUser(authentication);
+        return ResponseEntity.ok(notificationService.getCounters(user.id()));
+    }
+
+    @PostMapping("/read")
+    @Operation(summary = "Mark notifications as read", description = "Reset the unread notifications counter")
+    public ResponseEntity<NotificationCountersDTO> markAsRead(Authentication authentication) {
+        AuthenticatedUser user = userAuthorizationService.getAuthenticatedUser(authentication);
+        return ResponseEntity.ok(notificationService.markAsRead(user.id()));
+    }
+}
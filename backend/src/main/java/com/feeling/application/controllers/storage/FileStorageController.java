@@ -0,0 +1,111 @@
+package com.feeling.application.controllers.storage;
+
+import com.feeling.domain.ports.infrastructure.IStoragePort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sirve los archivos del driver de almacenamiento en disco
+ * Solo se registra cuando storage.type=filesystem; con MinIO/S3 los archivos se sirven desde el propio storage.
+ * Acepta también las subidas con PUT a las URLs firmadas de IStoragePort.generateUploadUrl.
+ * Escribe directamente en la respuesta para no pasar por ResponseHandler ni por los conversores JSON.
+ */
+@RestController
+@RequestMapping("/files")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+@Tag(name = "Files", description = "Public file serving for the local filesystem storage driver")
+public class FileStorageController {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final IStoragePort storagePort;
+
+    @GetMapping("/{bucket}/**")
+    @Operation(summary = "Get stored file", description = "Stream a stored file from the local filesystem storage")
+    public void getFile(
+            @Parameter(description = "Bucket name") @PathVariable String bucket,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        String objectName = objectName(request);
+
+        IStoragePort.FileInfo fileInfo;
+        try {
+            fileInfo = storagePort.getFileInfo(bucket, objectName);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (fileInfo == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // Los nombres de archivo son UUID, por lo que el contenido de una URL nunca cambia
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + fileInfo.etag() + "\"")) {
+            return;
+        }
+
+        response.setContentType(fileInfo.contentType() != null
+                ? fileInfo.contentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(fileInfo.size());
+        try (InputStream inputStream = storagePort.downloadFile(bucket, objectName)) {
+            inputStream.transferTo(response.getOutputStream());
+        }
+    }
+
+    @PutMapping("/{bucket}/**")
+    @Operation(summary = "Upload file with signed URL", description = "Store a file using a URL from generateUploadUrl")
+    public void uploadFile(
+            @Parameter(description = "Bucket name") @PathVariable String bucket,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        String objectName = objectName(request);
+        try {
+            if (!storagePort.isValidUploadSignature(bucket, objectName, expires, signature)) {
+                response.sendError(HttpServletResponse.SC_FORBIDDEN);
+                return;
+            }
+            storagePort.uploadFile(request.getInputStream(), bucket, objectName,
+                    request.getContentLengthLong(), request.getContentType());
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_CREATED);
+    }
+
+    private static String objectName(HttpServletRequest request) {
+        return PATH_MATCHER.extractPathWithinPattern(
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE));
+    }
+}
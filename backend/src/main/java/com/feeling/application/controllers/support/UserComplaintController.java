@@ -5,6 +5,8 @@ import com.feeling.domain.dto.user.UserComplaintAdminActionDTO;
 import com.feeling.domain.dto.user.UserComplaintRequestDTO;
 import com.feeling.domain.dto.user.UserComplaintResponseDTO;
 import com.feeling.domain.services.auth.JwtService;
+import com.feeling.domain.services.export.ExportFormat;
+import com.feeling.domain.services.user.ComplaintMetricsService;
 import com.feeling.domain.services.user.UserComplaintService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +33,7 @@ import java.util.Map;
 public class UserComplaintController {
     
     private final UserComplaintService complaintService;
+    private final ComplaintMetricsService complaintMetricsService;
     private final JwtService jwtService;
 
     // ========================================
@@ -88,6 +92,17 @@ public class UserComplaintController {
         return ResponseEntity.ok(complaints);
     }
 
+    @GetMapping("/complaints/export")
+    @Operation(summary = "Export complaints (admin)", description = "Stream complaints filtered by status and search as CSV or NDJSON")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportComplaints(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search,
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format) {
+
+        return complaintService.exportComplaints(status, search, ExportFormat.from(format));
+    }
+
     @GetMapping("/complaints/pending")
     @Operation(summary = "Get pending complaints", description = "Get complaints that need attention")
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -98,21 +113,37 @@ public class UserComplaintController {
         return ResponseEntity.ok(complaints);
     }
 
+    @GetMapping("/complaints/triage")
+    @Operation(summary = "Get triage queue", description = "Open or in-progress complaints that are urgent and/or overdue, by priority and age")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Page<UserComplaintResponseDTO>> getTriageQueue(
+            @Parameter(description = "all | urgent | overdue") @RequestParam(required = false) String filter,
+            @PageableDefault(size = 20) Pageable pageable) {
+
+        Page<UserComplaintResponseDTO> complaints = complaintMetricsService.getTriageQueue(
+                ComplaintMetricsService.TriageFilter.from(filter), pageable);
+        return ResponseEntity.ok(complaints);
+    }
+
     @GetMapping("/complaints/urgent")
     @Operation(summary = "Get urgent complaints", description = "Get urgent complaints that need immediate attention")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<List<UserComplaintResponseDTO>> getUrgentComplaints() {
+    public ResponseEntity<List<UserComplaintResponseDTO>> getUrgentComplaints(
+            @PageableDefault(size = 100) Pageable pageable) {
         
-        List<UserComplaintResponseDTO> complaints = complaintService.getUrgentComplaints();
+        List<UserComplaintResponseDTO> complaints = complaintMetricsService.getTriageQueue(
+                ComplaintMetricsService.TriageFilter.URGENT, pageable).getContent();
         return ResponseEntity.ok(complaints);
     }
 
     @GetMapping("/complaints/overdue")
     @Operation(summary = "Get overdue complaints", description = "Get complaints that are overdue (>24h)")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<List<UserComplaintResponseDTO>> getOverdueComplaints() {
+    public ResponseEntity<List<UserComplaintResponseDTO>> getOverdueComplaints(
+            @PageableDefault(size = 100) Pageable pageable) {
         
-        List<UserComplaintResponseDTO> complaints = complaintService.getOverdueComplaints();
+        List<UserComplaintResponseDTO> complaints = complaintMetricsService.getTriageQueue(
+                ComplaintMetricsService.TriageFilter.OVERDUE, pageable).getContent();
         return ResponseEntity.ok(complaints);
     }
 
@@ -157,7 +188,7 @@ public class UserComplaintController {
     @PreAuthorize("hasAuthority('ADMIN')")
     public ResponseEntity<Map<String, Object>> getComplaintStats() {
         
-        Map<String, Object> stats = complaintService.getComplaintStats();
+        Map<String, Object> stats = complaintMetricsService.getComplaintStats();
         return ResponseEntity.ok(stats);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.feeling.application.controllers.user;
 
 import com.feeling.domain.dto.user.UserMetricsDTO;
 import com.feeling.domain.dto.user.UserTagStatisticsDTO;
+import com.feeling.domain.services.analytics.AnalyticsReportService;
 import com.feeling.domain.services.user.UserService;
 import com.feeling.domain.services.user.UserAttributeService;
 import com.feeling.domain.services.user.UserCategoryInterestService;
@@ -11,11 +12,14 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -26,6 +30,7 @@ import java.util.Map;
 public class UserAnalyticsController {
     
     private final UserService userService;
+    private final AnalyticsReportService analyticsReportService;
     private final UserAttributeService userAttributeService;
     private final UserCategoryInterestService userCategoryInterestService;
     private final UserTagService userTagService;
@@ -40,7 +45,7 @@ public class UserAnalyticsController {
                description = "Get comprehensive analytics overview for user management")
     public ResponseEntity<Map<String, Object>> getAnalyticsOverview() {
         try {
-            Map<String, Object> analytics = userService.getAnalyticsOverview();
+            Map<String, Object> analytics = analyticsReportService.getAnalyticsOverview();
             return ResponseEntity.ok(analytics);
         } catch (Exception e) {
             log.error("Error al obtener overview de analytics", e);
@@ -56,9 +61,9 @@ public class UserAnalyticsController {
         try {
             Map<String, Object> comprehensiveMetrics = Map.of(
                 "userTabsCount", userService.getUserTabsCount(),
-                "engagementStats", userService.getEngagementStats(),
-                "growthStats", userService.getGrowthStats(null),
-                "geographicDistribution", userService.getGeographicDistribution()
+                "engagementStats", analyticsReportService.getEngagementStats(),
+                "growthStats", analyticsReportService.getGrowthStats(),
+                "geographicDistribution", analyticsReportService.getGeographicDistribution()
             );
             return ResponseEntity.ok(comprehensiveMetrics);
         } catch (Exception e) {
@@ -67,6 +72,32 @@ public class UserAnalyticsController {
         }
     }
 
+    @GetMapping("/daily")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Get daily user facts",
+               description = "Signups, verifications, approvals and active users per day for a date range (last 30 days by default), optionally broken down by country, city or category")
+    public ResponseEntity<Map<String, Object>> getDailyFacts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "country, city or category") @RequestParam(required = false) String dimension) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(analyticsReportService.getDailyFacts(start, end, dimension));
+    }
+
+    @GetMapping("/retention")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Get cohort retention",
+               description = "Share of each daily signup cohort active N days after signup (cohorts of the last 30 days by default)")
+    public ResponseEntity<List<Map<String, Object>>> getCohortRetention(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Days after signup") @RequestParam(defaultValue = "1,7,30") List<Integer> offsets) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(analyticsReportService.getCohortRetention(start, end, offsets));
+    }
+
     @GetMapping("/metrics/{userId}")
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Get detailed user metrics", 
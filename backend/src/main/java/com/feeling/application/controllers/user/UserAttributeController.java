@@ -1,5 +1,6 @@
 package com.feeling.application.controllers.user;
 
+import com.feeling.application.handlers.HttpCacheable;
 import com.feeling.domain.dto.response.MessageResponseDTO;
 import com.feeling.domain.dto.user.UserAttributeCreateDTO;
 import com.feeling.domain.dto.user.UserAttributeDTO;
@@ -41,6 +42,7 @@ public class UserAttributeController {
     // ========================================
 
     @GetMapping
+    @HttpCacheable(caches = "user-attributes", maxAge = 3600, privateCache = true)
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get all attributes grouped by type", 
                description = "Get all user attributes grouped by type (authenticated users)")
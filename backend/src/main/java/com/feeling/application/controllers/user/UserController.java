@@ -5,6 +5,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.feeling.domain.dto.response.MessageResponseDTO;
 import com.feeling.domain.dto.user.*;
 import com.feeling.domain.services.auth.JwtService;
+import com.feeling.domain.services.export.ExportFormat;
+import com.feeling.domain.services.user.BulkUserOperation;
+import com.feeling.domain.services.user.BulkUserOperationService;
 import com.feeling.domain.services.user.UserService;
 import com.feeling.domain.services.user.UserTagService;
 import com.feeling.domain.services.user.UserAttributeService;
@@ -20,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +31,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
@@ -44,6 +49,7 @@ public class UserController {
     private final UserAttributeService userAttributeService;
     private final Validator validator;
     private final JwtService jwtService;
+    private final BulkUserOperationService bulkUserOperationService;
 
     // ========================================
     // CLIENT ENDPOINTS (AUTHENTICATED)
@@ -116,13 +122,13 @@ public class UserController {
     @GetMapping("/suggestions")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get user suggestions", 
-               description = "Get user suggestions for matching")
-    public ResponseEntity<Page<UserPublicResponseDTO>> getUserSuggestions(
+               description = "Next batch of unseen suggestions; served users are marked as seen, so the feed advances by itself")
+    public ResponseEntity<Slice<UserPublicResponseDTO>> getUserSuggestions(
             @PageableDefault(size = 10) Pageable pageable,
             Authentication authentication) {
         try {
             String currentUserEmail = authentication.getName();
-            Page<UserPublicResponseDTO> suggestions = userService.getUserSuggestions(currentUserEmail, pageable);
+            Slice<UserPublicResponseDTO> suggestions = userService.getUserSuggestions(currentUserEmail, pageable);
             return ResponseEntity.ok(suggestions);
         } catch (Exception e) {
             log.error("Error obteniendo sugerencias para el usuario: {}", authentication.getName(), e);
@@ -188,10 +194,14 @@ public class UserController {
     @GetMapping("/all")
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Get all users", 
-               description = "Get all users with pagination and search")
-    public ResponseEntity<Page<UserResponseDTO>> getAllUsers(
+               description = "Get all users with pagination and search; 'cursor' (empty for the first page) switches to keyset pagination")
+    public ResponseEntity<?> getAllUsers(
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(userService.getUsersByStatus("all", search, cursor, pageable.getPageSize()));
+        }
         try {
             Page<UserResponseDTO> users;
             if (search != null && !search.trim().isEmpty()) {
@@ -224,11 +234,15 @@ public class UserController {
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Get users by status", 
-               description = "Get users filtered by status (active, pending-approval, unverified, non-approved, deactivated, incomplete-profiles)")
-    public ResponseEntity<Page<UserResponseDTO>> getUsersByStatus(
+               description = "Get users filtered by status (active, pending-approval, unverified, non-approved, deactivated, incomplete-profiles); 'cursor' (empty for the first page) switches to keyset pagination")
+    public ResponseEntity<?> getUsersByStatus(
             @Parameter(description = "User status") @PathVariable String status,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (cursor != null) {
+            return ResponseEntity.ok(userService.getUsersByStatus(status, search, cursor, pageable.getPageSize()));
+        }
         try {
             Page<UserResponseDTO> users = userService.getUsersByStatus(status, search, pageable);
             return ResponseEntity.ok(users);
@@ -238,6 +252,17 @@ public class UserController {
         }
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Export users",
+               description = "Stream users filtered by status ('all' by default) and search as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "all") String status,
+            @RequestParam(required = false) String search,
+            @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format) {
+        return userService.exportUsers(status, search, ExportFormat.from(format));
+    }
+
     @PutMapping("/{userId}")
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Update user profile (admin)", 
@@ -289,16 +314,11 @@ public class UserController {
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Approve users in batch", 
                description = "Approve multiple users at once")
-    public ResponseEntity<MessageResponseDTO> approveUsersBatch(
-            @RequestBody List<String> userIds) {
-        try {
-            MessageResponseDTO response = userService.approveUsersBatch(userIds);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error aprobando usuarios en lote", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponseDTO("Error al aprobar usuarios en lote"));
-        }
+    public ResponseEntity<?> approveUsersBatch(
+            @RequestBody List<String> userIds,
+            Authentication authentication) {
+        return bulkResponse(bulkUserOperationService.execute(
+                BulkUserOperation.APPROVE, userIds, authentication.getName(), null));
     }
 
     @PutMapping("/{userId}/reject")
@@ -321,16 +341,11 @@ public class UserController {
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Reject users in batch", 
                description = "Reject multiple users at once")
-    public ResponseEntity<MessageResponseDTO> rejectUsersBatch(
-            @RequestBody List<String> userIds) {
-        try {
-            MessageResponseDTO response = userService.rejectUsersBatch(userIds);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error rechazando usuarios en lote", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponseDTO("Error al rechazar usuarios en lote"));
-        }
+    public ResponseEntity<?> rejectUsersBatch(
+            @RequestBody List<String> userIds,
+            Authentication authentication) {
+        return bulkResponse(bulkUserOperationService.execute(
+                BulkUserOperation.REJECT, userIds, authentication.getName(), null));
     }
 
     @PutMapping("/{userId}/pending")
@@ -371,18 +386,11 @@ public class UserController {
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Assign admin role in batch", 
                description = "Grant admin role to multiple users at once")
-    public ResponseEntity<MessageResponseDTO> assignAdminRoleBatch(
+    public ResponseEntity<?> assignAdminRoleBatch(
             @RequestBody List<String> userIds,
             Authentication authentication) {
-        try {
-            String adminEmail = authentication.getName();
-            MessageResponseDTO response = userService.grantAdminRoleBatch(adminEmail, userIds);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error asignando rol admin en lote", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponseDTO("Error al asignar rol admin en lote"));
-        }
+        return bulkResponse(bulkUserOperationService.execute(
+                BulkUserOperation.GRANT_ADMIN, userIds, authentication.getName(), null));
     }
 
     @PutMapping("/{userId}/revoke-admin")
@@ -407,18 +415,11 @@ public class UserController {
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Revoke admin role in batch", 
                description = "Revoke admin role from multiple users at once")
-    public ResponseEntity<MessageResponseDTO> revokeAdminRoleBatch(
+    public ResponseEntity<?> revokeAdminRoleBatch(
             @RequestBody List<String> userIds,
             Authentication authentication) {
-        try {
-            String adminEmail = authentication.getName();
-            MessageResponseDTO response = userService.revokeAdminRoleBatch(adminEmail, userIds);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error revocando rol admin en lote", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponseDTO("Error al revocar rol admin en lote"));
-        }
+        return bulkResponse(bulkUserOperationService.execute(
+                BulkUserOperation.REVOKE_ADMIN, userIds, authentication.getName(), null));
     }
 
     @PutMapping("/{userId}/deactivate")
@@ -458,33 +459,23 @@ public class UserController {
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Deactivate accounts in batch", 
                description = "Deactivate multiple user accounts at once")
-    public ResponseEntity<MessageResponseDTO> deactivateAccountsBatch(
+    public ResponseEntity<?> deactivateAccountsBatch(
             @RequestBody List<String> userIds,
-            @RequestParam(required = false) String reason) {
-        try {
-            MessageResponseDTO response = userService.deactivateAccountsBatch(userIds, reason);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error desactivando cuentas en lote", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponseDTO("Error al desactivar cuentas en lote"));
-        }
+            @RequestParam(required = false) String reason,
+            Authentication authentication) {
+        return bulkResponse(bulkUserOperationService.execute(
+                BulkUserOperation.DEACTIVATE, userIds, authentication.getName(), reason));
     }
 
     @PostMapping("/reactivate-batch")
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Reactivate accounts in batch", 
                description = "Reactivate multiple deactivated user accounts at once")
-    public ResponseEntity<MessageResponseDTO> reactivateAccountsBatch(
-            @RequestBody List<String> userIds) {
-        try {
-            MessageResponseDTO response = userService.reactivateAccountsBatch(userIds);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error reactivando cuentas en lote", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponseDTO("Error al reactivar cuentas en lote"));
-        }
+    public ResponseEntity<?> reactivateAccountsBatch(
+            @RequestBody List<String> userIds,
+            Authentication authentication) {
+        return bulkResponse(bulkUserOperationService.execute(
+                BulkUserOperation.REACTIVATE, userIds, authentication.getName(), null));
     }
 
     @PostMapping("/{userId}/send-email")
@@ -540,15 +531,27 @@ public class UserController {
     @PreAuthorize("hasAuthority('ADMIN')")
     @Operation(summary = "Delete users in batch", 
                description = "Permanently delete multiple user accounts at once")
-    public ResponseEntity<MessageResponseDTO> deleteUsersBatch(
-            @RequestBody List<String> userIds) {
-        try {
-            MessageResponseDTO response = userService.deleteUsersBatch(userIds);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error eliminando usuarios en lote", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponseDTO("Error al eliminar usuarios en lote"));
+    public ResponseEntity<?> deleteUsersBatch(
+            @RequestBody List<String> userIds,
+            Authentication authentication) {
+        return bulkResponse(bulkUserOperationService.execute(
+                BulkUserOperation.DELETE, userIds, authentication.getName(), null));
+    }
+
+    @GetMapping("/bulk-jobs/{jobId}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = "Get bulk operation progress",
+               description = "Progress of a batch operation that is running in the background")
+    public ResponseEntity<BulkUserJobDTO> getBulkJob(
+            @Parameter(description = "Job ID") @PathVariable String jobId) {
+        return ResponseEntity.ok(bulkUserOperationService.getJob(jobId));
+    }
+
+    // Terminada en la propia petición: mensaje con el resultado; en segundo plano: 202 con el trabajo a consultar
+    private ResponseEntity<?> bulkResponse(BulkUserJobDTO job) {
+        if (job.finished()) {
+            return ResponseEntity.ok(new MessageResponseDTO(job.message()));
         }
+        return ResponseEntity.accepted().body(job);
     }
-}
\ No newline at end of file
+}
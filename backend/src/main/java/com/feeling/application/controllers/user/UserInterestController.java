@@ -1,5 +1,6 @@
 package com.feeling.application.controllers.user;
 
+import com.feeling.application.handlers.HttpCacheable;
 import com.feeling.domain.dto.response.MessageResponseDTO;
 import com.feeling.domain.dto.user.UserCategoryInterestDTO;
 import com.feeling.domain.services.user.UserCategoryInterestService;
@@ -31,6 +32,7 @@ public class UserInterestController {
 
     @GetMapping
     @PreAuthorize("isAuthenticated()")
+    @HttpCacheable(caches = "user-interests", maxAge = 3600, privateCache = true)
     @Operation(summary = "Get all interest categories", 
                description = "Get all available interest categories (authenticated users)")
     public ResponseEntity<List<UserCategoryInterestDTO>> getAllInterests() {
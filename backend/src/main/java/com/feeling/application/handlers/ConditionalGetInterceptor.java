@@ -0,0 +1,85 @@
+package com.feeling.application.handlers;
+
+import com.feeling.infrastructure.cache.CacheVersionRegistry;
+import com.feeling.infrastructure.cache.SerializedResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET condicional para endpoints anotados con @HttpCacheable
+ * El ETag se calcula a partir de la versión de los caches, por lo que un 304 no carga ni serializa datos
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final CacheVersionRegistry cacheVersionRegistry;
+    private final SerializedResponseCache serializedResponseCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        HttpCacheable httpCacheable = handlerMethod.getMethodAnnotation(HttpCacheable.class);
+        if (httpCacheable == null) {
+            return true;
+        }
+
+        CacheControl cacheControl = CacheControl.maxAge(httpCacheable.maxAge(), TimeUnit.SECONDS).mustRevalidate();
+        cacheControl = httpCacheable.privateCache() ? cacheControl.cachePrivate() : cacheControl.cachePublic();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        for (String header : httpCacheable.vary()) {
+            response.addHeader(HttpHeaders.VARY, header);
+        }
+        if (httpCacheable.privateCache()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+            // Los anónimos deben llegar al controlador para que @PreAuthorize los rechace
+            if (!isAuthenticated()) {
+                return true;
+            }
+        }
+
+        String etag = cacheVersionRegistry.etag(httpCacheable.caches());
+        // checkNotModified escribe el ETag y, si coincide con If-None-Match, marca la respuesta como 304
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return false;
+        }
+
+        if (httpCacheable.serialized() && !httpCacheable.privateCache()) {
+            String key = SerializedResponseCache.keyFor(request);
+            SerializedResponseCache.SerializedResponse cached = serializedResponseCache.get(key, etag);
+            if (cached != null) {
+                serializedResponseCache.write(cached, request, response);
+                return false;
+            }
+            // ResponseHandler guardará los bytes de esta respuesta
+            request.setAttribute(SerializedResponseCache.CAPTURE_ATTRIBUTE,
+                    new SerializedResponseCache.Capture(key, etag, httpCacheable.caches()));
+        }
+        return true;
+    }
+
+    private boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+}
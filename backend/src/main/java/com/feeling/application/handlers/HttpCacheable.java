@@ -0,0 +1,44 @@
+package com.feeling.application.handlers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un endpoint GET cuya respuesta depende solo del contenido de los caches indicados.
+ * ConditionalGetInterceptor deriva el ETag de la versión de esos caches, responde 304 a
+ * If-None-Match sin ejecutar el controlador y emite Cache-Control y Vary para la ruta.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HttpCacheable {
+
+    /**
+     * Nombres de los caches de Spring que respaldan la respuesta
+     */
+    String[] caches();
+
+    /**
+     * Tiempo máximo (segundos) que navegadores y CDN pueden reutilizar la respuesta sin revalidar
+     */
+    long maxAge() default 60;
+
+    /**
+     * Respuesta solo para usuarios autenticados: Cache-Control private y sin 304 para anónimos
+     */
+    boolean privateCache() default false;
+
+    /**
+     * Headers de petición que varían la representación
+     */
+    String[] vary() default {"Accept-Encoding"};
+
+    /**
+     * Guarda los bytes finales (JSON y gzip) de la respuesta y los reescribe sin pasar por Jackson
+     * Solo para respuestas públicas que no dependen del usuario
+     */
+    boolean serialized() default false;
+}
@@ -1,26 +1,37 @@
 package com.feeling.application.handlers;
 
 import com.feeling.domain.dto.response.FormatResponseDTO;
+import com.feeling.infrastructure.cache.CacheVersionRegistry;
+import com.feeling.infrastructure.cache.SerializedResponseCache;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
 
 @Data
 @AllArgsConstructor
 @Component
 public class ResponseHandler implements ResponseBodyAdvice<Object> {
 
+    private final SerializedResponseCache serializedResponseCache;
+    private final CacheVersionRegistry cacheVersionRegistry;
+
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
-        // Aplica a todas las respuestas excepto las que ya están envueltas en ResponseWrapper
-        return !returnType.getParameterType().equals(FormatResponseDTO.class);
+        // Aplica a todas las respuestas JSON excepto las que ya están envueltas en ResponseWrapper
+        return !returnType.getParameterType().equals(FormatResponseDTO.class)
+                && !StringHttpMessageConverter.class.isAssignableFrom(converterType);
     }
 
     @Override
@@ -35,12 +46,45 @@ public class ResponseHandler implements ResponseBodyAdvice<Object> {
         }
 
         // Envolver la respuesta en ResponseWrapper con un mensaje por defecto
-        return new FormatResponseDTO<>(
+        FormatResponseDTO<Object> wrapped = new FormatResponseDTO<>(
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
                 "Proceso exitoso",
                 false,
                 body
         );
+
+        captureSerializedResponse(wrapped, request, response);
+        return wrapped;
+    }
+
+    /**
+     * Guarda los bytes de la respuesta cuando ConditionalGetInterceptor lo solicitó (@HttpCacheable(serialized = true))
+     */
+    private void captureSerializedResponse(FormatResponseDTO<Object> wrapped,
+                                           org.springframework.http.server.ServerHttpRequest request,
+                                           org.springframework.http.server.ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return;
+        }
+        Object attribute = servletRequest.getServletRequest().getAttribute(SerializedResponseCache.CAPTURE_ATTRIBUTE);
+        if (!(attribute instanceof SerializedResponseCache.Capture capture)
+                || servletResponse.getServletResponse().getStatus() != 200) {
+            return;
+        }
+
+        // Si los caches cambiaron durante la petición, el cuerpo podría no corresponder al ETag: no se guarda
+        if (!capture.etag().equals(cacheVersionRegistry.etag(capture.caches()))) {
+            return;
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        response.getHeaders().forEach((name, values) -> {
+            if (name.startsWith("X-") && !values.isEmpty()) {
+                headers.put(name, values.get(0));
+            }
+        });
+        serializedResponseCache.put(capture.key(), capture.etag(), wrapped, headers);
     }
 
 }
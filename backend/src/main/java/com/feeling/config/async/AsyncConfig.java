@@ -1,10 +1,186 @@
 package com.feeling.config.async;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Modelo de ejecución de la aplicación: un executor acotado y con nombre por tipo de trabajo
+ * - mailExecutor: envíos de correo (@Async(AsyncConfig.MAIL_EXECUTOR) en EmailService)
+ * - notificationExecutor: entrega de notificaciones en tiempo real (NotificationService)
+ * - applicationTaskExecutor: @Async sin calificar
+ * - exportExecutor: respuestas asíncronas de Spring MVC (exportaciones en streaming, que ocupan su hilo hasta
+ *   spring.mvc.async.request-timeout); con todos ocupados la exportación se rechaza en lugar de ocupar el resto de pools
+ * - stripeWebhookExecutor: procesamiento de webhooks de Stripe (StripeWebhookService); lo rechazado lo recoge el barrido
+ * - bulkUserExecutor: operaciones masivas en segundo plano (BulkUserOperationService); lo rechazado responde 429
+ * - taskScheduler: tareas @Scheduled, con varios hilos para que un job largo (rollups, barridos) no retrase al resto
+ * Cada pool tiene hilos y cola fijos (executors.*) y una política de rechazo configurable; con la cola llena CALLER_RUNS
+ * ejecuta la tarea en el hilo que la envía, lo que frena a quien produce (p. ej. una ráfaga de registros) en lugar de
+ * crear hilos. Las métricas executor.* (hilos activos, cola, completadas) las publica actuator y executor.rejected
+ * cuenta los rechazos.
+ * Con spring.threads.virtual.enabled=true Tomcat atiende las peticiones en hilos virtuales y los executors de trabajo
+ * bloqueante (correo, notificaciones, aplicación, exportaciones) pasan a hilos virtuales con el mismo límite de
+ * concurrencia, que en ese modo bloquea al productor en lugar de encolar; el scheduler y los pools cuyo rechazo tiene
+ * tratamiento propio (webhooks, operaciones masivas) siguen con hilos de plataforma y cola
+ */
+@Slf4j
 @Configuration
 @EnableAsync // Habilita la ejecución asíncrona en la aplicación
-public class AsyncConfig {
+@EnableScheduling // Habilita las tareas @Scheduled (limpiezas, reconciliación del catálogo de storage)
+public class AsyncConfig implements AsyncConfigurer, WebMvcConfigurer {
+
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String EXPORT_EXECUTOR = "exportExecutor";
+    public static final String STRIPE_WEBHOOK_EXECUTOR = "stripeWebhookExecutor";
+    public static final String BULK_USER_EXECUTOR = "bulkUserExecutor";
+
+    public enum RejectionPolicy {
+        CALLER_RUNS, ABORT, DISCARD_OLDEST
+    }
+
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public AsyncConfig(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(name = MAIL_EXECUTOR)
+    public AsyncTaskExecutor mailExecutor() {
+        return boundedExecutor("mail", 4, 500);
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public AsyncTaskExecutor notificationExecutor() {
+        return boundedExecutor("notification", 2, 1000);
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return boundedExecutor("application", 8, 100);
+    }
+
+    @Bean(name = EXPORT_EXECUTOR)
+    public AsyncTaskExecutor exportExecutor() {
+        return boundedExecutor("export", 4, 0, RejectionPolicy.ABORT);
+    }
+
+    @Bean(name = STRIPE_WEBHOOK_EXECUTOR)
+    public AsyncTaskExecutor stripeWebhookExecutor() {
+        return queuedExecutor("stripe-webhook", 4, 1000, RejectionPolicy.ABORT);
+    }
+
+    @Bean(name = BULK_USER_EXECUTOR)
+    public AsyncTaskExecutor bulkUserExecutor() {
+        return queuedExecutor("bulk-users", 2, 10, RejectionPolicy.ABORT);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${executors.scheduler.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setErrorHandler(error -> log.error("Error en tarea programada", error));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+
+    // Se aplica después de la configuración de Spring Boot, que usaría applicationTaskExecutor
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor());
+    }
+
+    private AsyncTaskExecutor boundedExecutor(String name, int defaultConcurrency, int defaultQueueCapacity) {
+        return boundedExecutor(name, defaultConcurrency, defaultQueueCapacity, RejectionPolicy.CALLER_RUNS);
+    }
+
+    /**
+     * Executor de executors.{name}.concurrency hilos y executors.{name}.queue-capacity tareas en espera
+     */
+    private AsyncTaskExecutor boundedExecutor(String name, int defaultConcurrency, int defaultQueueCapacity,
+                                              RejectionPolicy defaultPolicy) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency(name, defaultConcurrency));
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+        return queuedExecutor(name, defaultConcurrency, defaultQueueCapacity, defaultPolicy);
+    }
+
+    /**
+     * Pool de hilos de plataforma con cola, también con hilos virtuales: para trabajos cuyo rechazo se trata aparte
+     */
+    private ThreadPoolTaskExecutor queuedExecutor(String name, int defaultConcurrency, int defaultQueueCapacity,
+                                                  RejectionPolicy defaultPolicy) {
+        int concurrency = concurrency(name, defaultConcurrency);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(environment.getProperty(
+                "executors." + name + ".queue-capacity", Integer.class, defaultQueueCapacity));
+        executor.setRejectedExecutionHandler(countingRejections(name, environment.getProperty(
+                "executors." + name + ".rejection-policy", RejectionPolicy.class, defaultPolicy)));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    private int concurrency(String name, int defaultConcurrency) {
+        return environment.getProperty("executors." + name + ".concurrency", Integer.class, defaultConcurrency);
+    }
 
+    private RejectedExecutionHandler countingRejections(String name, RejectionPolicy policy) {
+        RejectedExecutionHandler delegate = switch (policy) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+        Counter rejected = meterRegistry.getIfAvailable() != null
+                ? Counter.builder("executor.rejected")
+                        .tag("name", name)
+                        .tag("policy", policy.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry.getObject())
+                : null;
+        return (task, executor) -> {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            log.debug("Executor {} saturado ({} en cola): política {}", name, executor.getQueue().size(), policy);
+            delegate.rejectedExecution(task, executor);
+        };
+    }
 }
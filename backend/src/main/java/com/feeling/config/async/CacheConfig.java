@@ -1,35 +1,127 @@
 package com.feeling.config.async;
 
+import com.feeling.infrastructure.cache.CacheVersionRegistry;
+import com.feeling.infrastructure.cache.VersionedCacheManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // Caches de catálogo con valores grandes: se acotan por número total de elementos en lugar de entradas
+    private static final long CATALOG_MAX_WEIGHT = 50_000;
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheVersionRegistry cacheVersionRegistry,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-        // Configuración por defecto para todos los caches
+
+        // Configuración por defecto para caches no declarados en cacheSpecs()
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(1000)
                 .expireAfterWrite(15, TimeUnit.MINUTES)
                 .recordStats());
-        
-        return cacheManager;
+
+        // Configuración específica por cache
+        cacheSpecs().forEach((name, spec) -> {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = spec.build();
+            cacheManager.registerCustomCache(name, cache);
+            meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+        });
+
+        // Versionado de caches para ETags de respuestas HTTP (ver ConditionalGetInterceptor)
+        return new VersionedCacheManager(cacheManager, cacheVersionRegistry);
+    }
+
+    /**
+     * Especificación de cada cache de la aplicación
+     * Los caches de catálogo se mantienen calientes con CatalogCacheRefresher (refresh-ahead)
+     */
+    private Map<String, Caffeine<Object, Object>> cacheSpecs() {
+        Map<String, Caffeine<Object, Object>> specs = new LinkedHashMap<>();
+
+        // Usuarios y validaciones del JWT (CachedUserService)
+        specs.put("users", userCacheConfig());
+        specs.put("user-validation", userCacheConfig());
+        specs.put("user-profile-completion", userCacheConfig());
+        specs.put("user-security-context", userCacheConfig());
+        specs.put("user-active-status", userCacheConfig());
+
+        // Correspondencias id <-> email (UserAuthorizationService): no cambian durante la vida del usuario
+        specs.put("user-id-email-mapping", tokenCacheConfig());
+        specs.put("user-id-to-email", tokenCacheConfig());
+        specs.put("user-email-to-id", tokenCacheConfig());
+
+        // Saldo de intentos de match por usuario (MatchAttemptLedger); la BD sigue siendo la fuente de verdad
+        specs.put("match-attempts", Caffeine.newBuilder()
+                .maximumSize(20000)
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .recordStats());
+
+        // Contadores de notificaciones por usuario (NotificationService); cada evento los descarta en todas las
+        // réplicas y se recargan desde la BD
+        specs.put("notification-counters", Caffeine.newBuilder()
+                .maximumSize(20000)
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .recordStats());
+
+        // Filtros de usuarios vistos en sugerencias (SeenSetService); los cambios pendientes se conservan
+        // fuera del cache hasta volcarse, y la recarga trae lo fusionado por otras réplicas
+        specs.put("user-seen-sets", Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .recordStats());
+
+        // Datos geográficos: provienen de archivos JSON empaquetados, no expiran
+        specs.put("countries", catalogCacheConfig());
+        specs.put("cities", catalogCacheConfig());
+        specs.put("localities", catalogCacheConfig());
+        specs.put("geographic-data", catalogCacheConfig());
+
+        // Catálogos en BD: se invalidan en las escrituras de administración y se refrescan antes de expirar
+        specs.put("events", catalogCacheConfig().expireAfterWrite(5, TimeUnit.MINUTES));
+        specs.put("user-attributes", catalogCacheConfig().expireAfterWrite(1, TimeUnit.HOURS));
+        specs.put("user-interests", catalogCacheConfig().expireAfterWrite(1, TimeUnit.HOURS));
+        specs.put("match-plans", catalogCacheConfig().expireAfterWrite(1, TimeUnit.HOURS));
+
+        // Tablas de referencia completas (ReferenceDataRegistry): sin expiración, se invalidan en las escrituras
+        specs.put("reference-data", Caffeine.newBuilder()
+                .maximumSize(16)
+                .recordStats());
+
+        // Estadísticas del dashboard de eventos
+        specs.put("eventStats", Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .recordStats());
+
+        // Estadísticas del panel de soporte (ComplaintMetricsService), invalidadas en cada escritura de quejas
+        specs.put("complaint-stats", Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .recordStats());
+
+        return specs;
     }
 
     @Bean
     public Caffeine<Object, Object> userCacheConfig() {
         return Caffeine.newBuilder()
-                .maximumSize(500)
+                .maximumSize(5000)
                 .expireAfterWrite(10, TimeUnit.MINUTES)
                 .expireAfterAccess(5, TimeUnit.MINUTES)
                 .recordStats();
@@ -38,8 +130,45 @@ public class CacheConfig {
     @Bean
     public Caffeine<Object, Object> tokenCacheConfig() {
         return Caffeine.newBuilder()
-                .maximumSize(2000)
+                .maximumSize(20000)
                 .expireAfterWrite(30, TimeUnit.MINUTES)
                 .recordStats();
     }
-}
\ No newline at end of file
+
+    private Caffeine<Object, Object> catalogCacheConfig() {
+        return Caffeine.newBuilder()
+                .maximumWeight(CATALOG_MAX_WEIGHT)
+                .weigher((Object key, Object value) -> elementCount(value))
+                .recordStats();
+    }
+
+    /**
+     * Peso aproximado de un valor cacheado: número de elementos que contiene
+     */
+    private static int elementCount(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.size() + 1;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.values().stream().mapToInt(CacheConfig::elementCount).sum() + 1;
+        }
+        if (value instanceof Page<?> page) {
+            return page.getNumberOfElements() + 1;
+        }
+        if (value instanceof Record record) {
+            int weight = 1;
+            for (var component : record.getClass().getRecordComponents()) {
+                try {
+                    Object componentValue = component.getAccessor().invoke(record);
+                    if (componentValue instanceof Collection<?> || componentValue instanceof Map<?, ?>) {
+                        weight += elementCount(componentValue);
+                    }
+                } catch (ReflectiveOperationException e) {
+                    // Componente inaccesible: no suma peso
+                }
+            }
+            return weight;
+        }
+        return 1;
+    }
+}
@@ -730,13 +730,15 @@ public class DataInitializer implements CommandLineRunner {
 
             Random random = new Random();
             int usuariosCreados = 0;
+            // Se insertan juntos al final: con ids por bloques Hibernate los agrupa en lotes JDBC
+            List<User> nuevosUsuarios = new ArrayList<>();
 
             // 1. USUARIOS ACTIVOS (15 usuarios): verified=true, approvalStatus=APPROVED, profileComplete=true, accountDeactivated=false
             logger.info("Creando usuarios activos...");
             for (int i = 0; i < 15; i++) {
                 User user = createSpecificUser(random, clientRole, categories, genders, eyeColors, hairColors, bodyTypes, "ACTIVE", i);
                 if (userRepository.findByEmail(user.getEmail()).isEmpty()) {
-                    userRepository.save(user);
+                    nuevosUsuarios.add(user);
                     usuariosCreados++;
                     logger.debug("Usuario ACTIVO creado: {}", user.getEmail());
                 }
@@ -747,7 +749,7 @@ public class DataInitializer implements CommandLineRunner {
             for (int i = 0; i < 8; i++) {
                 User user = createSpecificUser(random, clientRole, categories, genders, eyeColors, hairColors, bodyTypes, "PENDING_APPROVAL", i);
                 if (userRepository.findByEmail(user.getEmail()).isEmpty()) {
-                    userRepository.save(user);
+                    nuevosUsuarios.add(user);
                     usuariosCreados++;
                     logger.debug("Usuario PENDIENTE DE APROBACIÓN creado: {}", user.getEmail());
                 }
@@ -758,7 +760,7 @@ public class DataInitializer implements CommandLineRunner {
             for (int i = 0; i < 4; i++) {
                 User user = createSpecificUser(random, clientRole, categories, genders, eyeColors, hairColors, bodyTypes, "INCOMPLETE_PROFILE", i);
                 if (userRepository.findByEmail(user.getEmail()).isEmpty()) {
-                    userRepository.save(user);
+                    nuevosUsuarios.add(user);
                     usuariosCreados++;
                     logger.debug("Usuario PERFIL INCOMPLETO creado: {}", user.getEmail());
                 }
@@ -769,7 +771,7 @@ public class DataInitializer implements CommandLineRunner {
             for (int i = 0; i < 3; i++) {
                 User user = createSpecificUser(random, clientRole, categories, genders, eyeColors, hairColors, bodyTypes, "UNVERIFIED", i);
                 if (userRepository.findByEmail(user.getEmail()).isEmpty()) {
-                    userRepository.save(user);
+                    nuevosUsuarios.add(user);
                     usuariosCreados++;
                     logger.debug("Usuario EMAIL NO VERIFICADO creado: {}", user.getEmail());
                 }
@@ -780,7 +782,7 @@ public class DataInitializer implements CommandLineRunner {
             for (int i = 0; i < 5; i++) {
                 User user = createSpecificUser(random, clientRole, categories, genders, eyeColors, hairColors, bodyTypes, "REJECTED", i);
                 if (userRepository.findByEmail(user.getEmail()).isEmpty()) {
-                    userRepository.save(user);
+                    nuevosUsuarios.add(user);
                     usuariosCreados++;
                     logger.debug("Usuario RECHAZADO creado: {}", user.getEmail());
                 }
@@ -791,12 +793,13 @@ public class DataInitializer implements CommandLineRunner {
             for (int i = 0; i < 5; i++) {
                 User user = createSpecificUser(random, clientRole, categories, genders, eyeColors, hairColors, bodyTypes, "DEACTIVATED", i);
                 if (userRepository.findByEmail(user.getEmail()).isEmpty()) {
-                    userRepository.save(user);
+                    nuevosUsuarios.add(user);
                     usuariosCreados++;
                     logger.debug("Usuario DESACTIVADO creado: {}", user.getEmail());
                 }
             }
 
+            userRepository.saveAll(nuevosUsuarios);
             logger.info("Se crearon {} usuarios de prueba distribuidos en las 6 categorías", usuariosCreados);
             logger.info("RESUMEN: {} activos, {} pendientes, {} incompletos, {} no verificados, {} rechazados, {} desactivados",
                     15, 8, 4, 3, 5, 5);
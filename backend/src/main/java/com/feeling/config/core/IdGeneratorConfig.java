@@ -0,0 +1,71 @@
+package com.feeling.config.core;
+
+import com.feeling.infrastructure.entities.IdGenerators;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Prepara la tabla de contadores de IdGenerators antes de crear el EntityManagerFactory
+ * Las tablas que antes usaban IDENTITY ya tienen filas: cada contador se lleva por encima del id máximo más un
+ * bloque completo, porque el optimizador pooled reparte los ids del bloque que termina en el valor leído.
+ * Se ejecuta en cada arranque y nunca hace retroceder un contador
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGeneratorSeeder idGeneratorSeeder(DataSource dataSource) {
+        return new IdGeneratorSeeder(new JdbcTemplate(dataSource));
+    }
+
+    @Component
+    static class EntityManagerFactoryAfterIdGeneratorSeeder extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryAfterIdGeneratorSeeder() {
+            super("idGeneratorSeeder");
+        }
+    }
+
+    @Slf4j
+    public static class IdGeneratorSeeder {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        IdGeneratorSeeder(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+            seed();
+        }
+
+        private void seed() {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdGenerators.TABLE + " (" +
+                    IdGenerators.PK_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                    IdGenerators.VALUE_COLUMN + " BIGINT)");
+
+            for (String table : IdGenerators.POOLED_TABLES) {
+                long nextValue = maxId(table) + IdGenerators.ALLOCATION_SIZE + 1;
+                jdbcTemplate.update("INSERT INTO " + IdGenerators.TABLE +
+                                " (" + IdGenerators.PK_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?) " +
+                                "ON DUPLICATE KEY UPDATE " + IdGenerators.VALUE_COLUMN + " = GREATEST(" +
+                                IdGenerators.VALUE_COLUMN + ", VALUES(" + IdGenerators.VALUE_COLUMN + "))",
+                        table, nextValue);
+            }
+            log.info("Contadores de id por bloques preparados: {}", IdGenerators.POOLED_TABLES);
+        }
+
+        private long maxId(String table) {
+            try {
+                Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+                return max != null ? max : 0L;
+            } catch (DataAccessException e) {
+                // Base de datos nueva: Hibernate crea la tabla después (ddl-auto)
+                return 0L;
+            }
+        }
+    }
+}
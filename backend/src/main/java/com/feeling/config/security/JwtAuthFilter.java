@@ -2,6 +2,7 @@ package com.feeling.config.security;
 
 import org.springframework.http.HttpMethod;
 
+import com.feeling.domain.dto.auth.AuthenticatedUser;
 import com.feeling.domain.services.auth.JwtService;
 import com.feeling.domain.services.user.CachedUserService;
 import com.feeling.infrastructure.entities.user.User;
@@ -17,8 +18,6 @@ import com.feeling.infrastructure.logging.StructuredLoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -34,7 +33,6 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             StructuredLoggerFactory.create(JwtAuthFilter.class);
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
     private final IUserTokenRepository tokenRepository;
     private final CachedUserService cachedUserService;
     private final RouteSecurityConfig routeSecurityConfig;
@@ -184,14 +182,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             // La aprobación ahora solo controla funciones específicas (matching, eventos)
             // El usuario puede navegar normalmente sin estar aprobado
 
-            // Cargar detalles del usuario para Spring Security
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            // El principal es una instantánea del usuario ya cargado desde cache: controladores y servicios
+            // la consumen sin volver a consultar la BD (ver UserAuthorizationService.getAuthenticatedUser)
+            AuthenticatedUser principal = AuthenticatedUser.from(user);
 
             // Crear token de autenticación para Spring Security
             UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
+                    principal,
                     null,
-                    userDetails.getAuthorities()
+                    principal.getAuthorities()
             );
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -49,7 +49,14 @@ public class RouteSecurityConfig {
             "/user-tags/trending",
             "/user-tags/trending/**",
             // Eventos públicos
-            "/events/**"
+            "/events/**",
+            // Archivos del storage local (storage.type=filesystem)
+            "/files/**"
+        ),
+
+        HttpMethod.PUT, Set.of(
+            // Subidas con URL firmada al storage local (firma verificada por FileStorageController)
+            "/files/**"
         ),
         
         HttpMethod.POST, Set.of(
@@ -62,7 +69,9 @@ public class RouteSecurityConfig {
             "/auth/resend-verification",
             "/auth/forgot-password",
             "/auth/reset-password",
-            "/auth/refresh-token"
+            "/auth/refresh-token",
+            // Webhooks de Stripe (autenticados por firma, StripeSignatureVerifier)
+            "/payments/webhook"
         )
     );
 
@@ -124,7 +133,10 @@ public class RouteSecurityConfig {
         // Match admin endpoints
         "/matches/plans/admin/**",
         // Support admin routes
-        "/support/admin/**"
+        "/support/admin/**",
+        // Cache and metrics administration
+        "/admin/**",
+        "/actuator/**"
     );
 
     private static final Map<String, Set<HttpMethod>> ADMIN_SPECIFIC_ROUTES = new HashMap<>() {{
@@ -298,7 +310,10 @@ public class RouteSecurityConfig {
             
             // Datos públicos
             "/geographic/**", "/user-attributes/**", "/user-interests/**",
-            "/user-tags/popular/**", "/user-tags/search/**", "/user-tags/trending/**"
+            "/user-tags/popular/**", "/user-tags/search/**", "/user-tags/trending/**",
+
+            // Webhooks de Stripe (autenticados por firma)
+            "/payments/webhook"
         );
     }
 
@@ -3,6 +3,7 @@ package com.feeling.config.security;
 import com.feeling.config.core.ApplicationConfiguration;
 import com.feeling.config.logging.LoggingConfiguration;
 import com.feeling.infrastructure.repositories.user.IUserTokenRepository;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -89,6 +90,9 @@ public class SecurityConfiguration {
                 .exceptionHandling(exceptionHandling ->
                         exceptionHandling.authenticationEntryPoint(new BearerTokenAuthenticationEntryPoint()))
                 .authorizeHttpRequests(auth -> {
+                    // Despachos asíncronos (SSE): la petición original ya fue autorizada
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
                     // ========================================
                     // 🔓 RUTAS PÚBLICAS (desde RouteSecurityConfig)
                     // ========================================
@@ -100,6 +104,10 @@ public class SecurityConfiguration {
                     // Eventos públicos (solo lectura)
                     auth.requestMatchers(HttpMethod.GET, "/events/**").permitAll();
 
+                    // Archivos del storage local (lectura y subidas con URL firmada)
+                    auth.requestMatchers(HttpMethod.GET, "/files/**").permitAll();
+                    auth.requestMatchers(HttpMethod.PUT, "/files/**").permitAll();
+
                     // ========================================
                     // 🔒 RUTAS AUTENTICADAS (USUARIOS)
                     // ========================================
@@ -0,0 +1,22 @@
+package com.feeling.config.web;
+
+import com.feeling.application.handlers.ConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra el soporte de GET condicional (ETag / Cache-Control) para los endpoints @HttpCacheable
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HttpCachingConfig implements WebMvcConfigurer {
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor);
+    }
+}
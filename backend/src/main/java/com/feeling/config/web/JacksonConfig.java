@@ -6,7 +6,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -31,5 +33,10 @@ public class JacksonConfig implements WebMvcConfigurer {
         converter.setObjectMapper(objectMapper());
         converter.setDefaultCharset(StandardCharsets.UTF_8);
         converters.add(0, converter);
+
+        // Texto plano solo para las líneas de control de Server-Sent Events (SseEmitter); el resto de respuestas es JSON
+        StringHttpMessageConverter textConverter = new StringHttpMessageConverter(StandardCharsets.UTF_8);
+        textConverter.setSupportedMediaTypes(List.of(MediaType.TEXT_PLAIN, MediaType.TEXT_EVENT_STREAM));
+        converters.add(textConverter);
     }
 }
\ No newline at end of file
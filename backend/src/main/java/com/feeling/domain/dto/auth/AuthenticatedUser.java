@@ -0,0 +1,60 @@
+package com.feeling.domain.dto.auth;
+
+import com.feeling.infrastructure.entities.user.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Instantánea inmutable del usuario autenticado, resuelta una sola vez por JwtAuthFilter
+ * Es el principal del contexto de seguridad durante la petición: evita recargar la entidad User
+ * en controladores y servicios que solo necesitan id, email, rol o estado de la cuenta.
+ */
+public record AuthenticatedUser(
+        Long id,
+        String email,
+        String role,
+        boolean verified,
+        boolean approved,
+        boolean accountDeactivated
+) implements UserDetails {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getUserRole() != null ? user.getUserRole().getAuthority() : null,
+                user.isVerified(),
+                user.isApproved(),
+                user.isAccountDeactivated()
+        );
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role != null ? List.of(new SimpleGrantedAuthority(role)) : List.of();
+    }
+
+    // La contraseña nunca forma parte del principal de una petición autenticada por JWT
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return verified && !accountDeactivated;
+    }
+}
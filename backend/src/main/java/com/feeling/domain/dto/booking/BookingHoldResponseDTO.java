@@ -0,0 +1,32 @@
+package com.feeling.domain.dto.booking;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.feeling.infrastructure.entities.booking.AvailabilityHold;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class BookingHoldResponseDTO {
+    private Long id;
+    private Long availabilityId;
+    private Long tourId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startDate;
+    private Integer slots;
+    private String status;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime expiresAt;
+
+    public BookingHoldResponseDTO(AvailabilityHold hold) {
+        this.id = hold.getId();
+        this.availabilityId = hold.getAvailability().getId();
+        this.tourId = hold.getAvailability().getTour().getId();
+        this.startDate = hold.getAvailability().getAvailableDate();
+        this.slots = hold.getSlots();
+        this.status = hold.getStatus().name();
+        this.expiresAt = hold.getExpiresAt();
+    }
+}
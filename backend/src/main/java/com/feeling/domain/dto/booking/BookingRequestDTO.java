@@ -29,4 +29,7 @@ public class BookingRequestDTO {
 
     private AccommodationBooking accommodationBooking;
     private Long paymentMethodId;
+
+    // Reserva temporal de cupos obtenida en POST /bookings/holds; si se indica, la reserva usa sus cupos
+    private Long holdId;
 }
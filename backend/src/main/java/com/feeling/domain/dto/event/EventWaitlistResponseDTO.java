@@ -0,0 +1,11 @@
+package com.feeling.domain.dto.event;
+
+import java.time.LocalDateTime;
+
+public record EventWaitlistResponseDTO(
+    Long eventId,
+    String eventTitle,
+    Long position,
+    Long waitlistSize,
+    LocalDateTime joinedAt
+) {}
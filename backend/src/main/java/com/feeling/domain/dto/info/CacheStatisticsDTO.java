@@ -0,0 +1,21 @@
+package com.feeling.domain.dto.info;
+
+import lombok.Builder;
+
+@Builder
+public record CacheStatisticsDTO(
+        String name,
+        Long estimatedSize,
+        Long weightedSize,
+        Long maximum,
+        Long hitCount,
+        Long missCount,
+        Double hitRatio,
+        Long evictionCount,
+        Long loadCount,
+        Long loadFailureCount,
+        Double averageLoadMillis,
+        Long totalLoadMillis,
+        Long version
+) {
+}
@@ -0,0 +1,22 @@
+package com.feeling.domain.dto.info;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ScheduledJobRunDTO(
+        Long id,
+        String jobName,
+        String node,
+        String trigger,
+        String status,
+        String resumedFrom,
+        Integer chunks,
+        Long processed,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Long durationMs,
+        String error
+) {
+}
@@ -0,0 +1,17 @@
+package com.feeling.domain.dto.info;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ScheduledJobStatusDTO(
+        String name,
+        String cron,
+        Boolean running,
+        String lockedBy,
+        LocalDateTime lockedUntil,
+        String resumeCursor,
+        ScheduledJobRunDTO lastRun
+) {
+}
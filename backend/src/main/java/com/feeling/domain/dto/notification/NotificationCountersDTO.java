@@ -0,0 +1,8 @@
+package com.feeling.domain.dto.notification;
+
+public record NotificationCountersDTO(
+    long pendingSent,
+    long pendingReceived,
+    long accepted,
+    long unread
+) {}
@@ -0,0 +1,11 @@
+package com.feeling.domain.dto.notification;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record NotificationDTO(
+    NotificationType type,
+    Map<String, Object> data,
+    NotificationCountersDTO counters,
+    LocalDateTime createdAt
+) {}
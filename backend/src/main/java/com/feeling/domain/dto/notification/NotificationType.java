@@ -0,0 +1,30 @@
+package com.feeling.domain.dto.notification;
+
+/**
+ * Tipos de notificación enviados por /notifications/stream
+ * Los tipos visibles incrementan el contador de no leídas; el resto solo sincronizan contadores entre pestañas
+ */
+public enum NotificationType {
+    MATCH_RECEIVED(true),           // Al destinatario de un match
+    MATCH_SENT(false),              // Al remitente de un match
+    MATCH_ACCEPTED(true),           // Al remitente cuando aceptan su match
+    MATCH_DECLINED(false),          // Al remitente cuando rechazan su match (no se muestra como aviso)
+    RECEIVED_MATCH_ACCEPTED(false), // Al destinatario tras aceptar un match
+    RECEIVED_MATCH_REJECTED(false), // Al destinatario tras rechazar un match
+    EVENT_PAYMENT_CONFIRMED(true),  // Pago de inscripción a evento confirmado
+    EVENT_PAYMENT_REFUND_PENDING(true), // Pago recibido sin plaza en el evento: se reembolsará
+    EVENT_SEAT_HOLD_EXPIRED(true),  // Reserva de plaza liberada por falta de pago
+    EVENT_WAITLIST_PROMOTED(true),  // Plaza asignada desde la lista de espera, pendiente de pago
+    ACCOUNT_APPROVED(true),         // Cuenta aprobada por un administrador
+    COUNTERS(false);                // Estado inicial de los contadores al conectar
+
+    private final boolean visible;
+
+    NotificationType(boolean visible) {
+        this.visible = visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+}
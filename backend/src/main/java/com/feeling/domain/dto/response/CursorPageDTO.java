@@ -0,0 +1,29 @@
+package com.feeling.domain.dto.response;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de una paginación por cursor: no incluye totales, ya que no se ejecuta COUNT.
+ * nextCursor es null cuando no hay más resultados
+ */
+public record CursorPageDTO<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext
+) {
+
+    /**
+     * Construye la página a partir de un Slice ordenado por la clave de búsqueda;
+     * el cursor siguiente apunta a la última fila devuelta
+     */
+    public static <E, T> CursorPageDTO<T> of(Slice<E> slice, Function<E, SeekCursor> keyOf, Function<E, T> mapper) {
+        List<E> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? keyOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+        return new CursorPageDTO<>(rows.stream().map(mapper).toList(), nextCursor, nextCursor != null);
+    }
+}
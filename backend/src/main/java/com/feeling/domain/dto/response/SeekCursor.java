@@ -0,0 +1,55 @@
+package com.feeling.domain.dto.response;
+
+import com.feeling.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición de una paginación por clave (seek): último par (marca de tiempo, id) devuelto.
+ * Se serializa como un token opaco en Base64 URL-safe; la primera página parte de un valor
+ * mayor que cualquier fila para que las consultas no necesiten predicados IS NULL.
+ * Una fila sin marca de tiempo cuenta como NULL_TIMESTAMP, menor que cualquier fecha; las consultas sobre columnas
+ * que admiten NULL lo aplican con COALESCE(columna, NULL_TIMESTAMP)
+ */
+public record SeekCursor(LocalDateTime timestamp, Long id) {
+
+    // Mínimo y máximo de DATETIME en MySQL
+    public static final LocalDateTime NULL_TIMESTAMP = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final SeekCursor FIRST = new SeekCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    private static final char SEPARATOR = '|';
+
+    public SeekCursor {
+        if (timestamp == null) {
+            timestamp = NULL_TIMESTAMP;
+        }
+    }
+
+    public static SeekCursor first() {
+        return FIRST;
+    }
+
+    /**
+     * Decodifica el token recibido del cliente; un token vacío o nulo equivale a la primera página
+     */
+    public static SeekCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new SeekCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Cursor de paginación no válido");
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
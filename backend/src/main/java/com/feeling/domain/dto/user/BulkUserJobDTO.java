@@ -0,0 +1,23 @@
+package com.feeling.domain.dto.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de una operación masiva sobre usuarios (aprobación, rechazo, roles, desactivación, eliminación)
+ */
+public record BulkUserJobDTO(
+        String jobId,
+        String operation,
+        String status,
+        int total,
+        int processed,
+        int succeeded,
+        int failed,
+        String message,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    public boolean finished() {
+        return finishedAt != null;
+    }
+}
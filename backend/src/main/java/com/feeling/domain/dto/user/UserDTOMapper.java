@@ -3,6 +3,9 @@ package com.feeling.domain.dto.user;
 import com.feeling.domain.dto.auth.UserProfileDataDTO;
 import com.feeling.domain.dto.auth.UserStatusDTO;
 import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.user.UserPublicCard;
+
+import java.util.List;
 
 /**
  * Utilidad para mapear entidades User a DTOs estandarizados
@@ -127,4 +130,43 @@ public class UserDTOMapper {
                 toUserProfileDataDTO(user)
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Convierte una proyección UserPublicCard a UserPublicResponseDTO, con la misma forma que la versión para User
+     */
+    public static UserPublicResponseDTO toUserPublicResponseDTO(UserPublicCard card, List<String> images, List<String> tags) {
+        String categoryInterest = card.categoryInterest() != null ? card.categoryInterest().name() : null;
+        return new UserPublicResponseDTO(
+                new UserPublicResponseDTO.UserPublicStatusDTO(
+                        card.verified(),
+                        card.profileComplete(),
+                        card.approvalStatus().isApproved(),
+                        card.approvalStatus().name(),
+                        categoryInterest
+                ),
+                new UserProfileDataDTO(
+                        card.name(),
+                        card.lastName(),
+                        card.email(),
+                        card.dateOfBirth(),
+                        card.age(),
+                        card.document(),
+                        card.phone(),
+                        card.phoneCode(),
+                        card.country(),
+                        card.city(),
+                        card.department(),
+                        card.locality(),
+                        card.description(),
+                        images,
+                        card.mainImage(images),
+                        categoryInterest,
+                        card.gender(),
+                        tags,
+                        card.agePreferenceMin(),
+                        card.agePreferenceMax(),
+                        card.locationPreferenceRadius()
+                )
+        );
+    }
+}
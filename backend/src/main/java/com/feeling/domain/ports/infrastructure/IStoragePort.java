@@ -4,14 +4,28 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
 
 /**
  * Port para operaciones de almacenamiento según Clean Architecture
  * Abstrae las operaciones de storage (S3, MinIO, FileSystem, etc.)
+ * El backend activo se selecciona por configuración de beans (propiedad storage.type)
  */
 public interface IStoragePort {
 
+    /**
+     * Bucket configurado por defecto para la aplicación
+     */
+    String getDefaultBucket();
+
+    /**
+     * Obtiene la clave del objeto a partir de su URL pública, o null si la URL no pertenece a este storage
+     */
+    String extractObjectKey(String url);
+
     // ========================================
     // OPERACIONES BÁSICAS DE ARCHIVO
     // ========================================
@@ -19,7 +33,11 @@ public interface IStoragePort {
     /**
      * Sube un archivo al storage
      */
-    String uploadFile(MultipartFile file, String bucketName, String objectName) throws IOException;
+    default String uploadFile(MultipartFile file, String bucketName, String objectName) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadFile(inputStream, bucketName, objectName, file.getSize(), file.getContentType());
+        }
+    }
     
     /**
      * Sube un archivo desde InputStream
@@ -73,6 +91,14 @@ public interface IStoragePort {
      * Genera URL presignada para subida
      */
     String generateUploadUrl(String bucketName, String objectName, int expirationInSeconds);
+
+    /**
+     * Comprueba una URL de subida generada por generateUploadUrl que recibe el propio backend
+     * Solo el driver de sistema de archivos recibe las subidas; con MinIO/S3 las firma y valida el storage
+     */
+    default boolean isValidUploadSignature(String bucketName, String objectName, long expires, String signature) {
+        return false;
+    }
     
     /**
      * Obtiene la URL pública de un archivo
@@ -90,13 +116,16 @@ public interface IStoragePort {
     
     /**
      * Lista archivos en un bucket con prefijo
+     * @throws com.feeling.exception.StorageException si el backend no responde (nunca una lista vacía en su lugar)
      */
     List<String> listFiles(String bucketName, String prefix);
     
     /**
      * Lista todos los archivos en un bucket
      */
-    List<String> listAllFiles(String bucketName);
+    default List<String> listAllFiles(String bucketName) {
+        return listFiles(bucketName, "");
+    }
 
     // ========================================
     // OPERACIONES ESPECÍFICAS PARA FEELING
@@ -105,27 +134,48 @@ public interface IStoragePort {
     /**
      * Sube imagen de perfil de usuario
      */
-    String uploadUserProfileImage(String userEmail, MultipartFile image) throws IOException;
+    default String uploadUserProfileImage(String userEmail, MultipartFile image) throws IOException {
+        return uploadFile(image, getDefaultBucket(), userProfileFolder(userEmail) + uniqueFileName(image.getOriginalFilename()));
+    }
     
     /**
      * Elimina imagen de perfil de usuario
      */
-    boolean deleteUserProfileImage(String userEmail);
+    default boolean deleteUserProfileImage(String userEmail) {
+        return listFiles(getDefaultBucket(), userProfileFolder(userEmail)).stream()
+                .map(objectName -> deleteFile(getDefaultBucket(), objectName))
+                .reduce(true, Boolean::logicalAnd);
+    }
     
     /**
      * Obtiene URL de imagen de perfil
      */
-    String getUserProfileImageUrl(String userEmail);
+    default String getUserProfileImageUrl(String userEmail) {
+        return listFiles(getDefaultBucket(), userProfileFolder(userEmail)).stream()
+                .findFirst()
+                .map(objectName -> getPublicUrl(getDefaultBucket(), objectName))
+                .orElse(null);
+    }
     
     /**
      * Sube múltiples imágenes de un tour
      */
-    List<String> uploadTourImages(Long tourId, List<MultipartFile> images) throws IOException;
+    default List<String> uploadTourImages(Long tourId, List<MultipartFile> images) throws IOException {
+        List<String> urls = new ArrayList<>();
+        for (MultipartFile image : images) {
+            urls.add(uploadFile(image, getDefaultBucket(), tourFolder(tourId) + uniqueFileName(image.getOriginalFilename())));
+        }
+        return urls;
+    }
     
     /**
      * Elimina imágenes de un tour
      */
-    boolean deleteTourImages(Long tourId);
+    default boolean deleteTourImages(Long tourId) {
+        return listFiles(getDefaultBucket(), tourFolder(tourId)).stream()
+                .map(objectName -> deleteFile(getDefaultBucket(), objectName))
+                .reduce(true, Boolean::logicalAnd);
+    }
 
     // ========================================
     // CONFIGURACIÓN Y POLÍTICAS
@@ -139,12 +189,45 @@ public interface IStoragePort {
     /**
      * Valida tipo de archivo permitido
      */
-    boolean isValidFileType(MultipartFile file, String[] allowedTypes);
+    default boolean isValidFileType(MultipartFile file, String[] allowedTypes) {
+        String contentType = file.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        for (String allowedType : allowedTypes) {
+            if (contentType.equalsIgnoreCase(allowedType)) {
+                return true;
+            }
+        }
+        return false;
+    }
     
     /**
      * Valida tamaño de archivo
      */
-    boolean isValidFileSize(MultipartFile file, long maxSizeInBytes);
+    default boolean isValidFileSize(MultipartFile file, long maxSizeInBytes) {
+        return file.getSize() > 0 && file.getSize() <= maxSizeInBytes;
+    }
+
+    // ========================================
+    // UTILIDADES INTERNAS
+    // ========================================
+
+    private static String userProfileFolder(String userEmail) {
+        return "profiles/" + userEmail.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9._-]", "_") + "/";
+    }
+
+    private static String tourFolder(Long tourId) {
+        return "tours/" + tourId + "/";
+    }
+
+    private static String uniqueFileName(String originalFilename) {
+        String extension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        return UUID.randomUUID() + extension;
+    }
 
     // ========================================
     // CLASE DE INFORMACIÓN DE ARCHIVO
@@ -0,0 +1,293 @@
+package com.feeling.domain.services.analytics;
+
+import com.feeling.exception.BadRequestException;
+import com.feeling.infrastructure.repositories.analytics.ICohortActivityRepository;
+import com.feeling.infrastructure.repositories.analytics.IDailyUserFactRepository;
+import com.feeling.infrastructure.repositories.analytics.IUserActivityDayRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Métricas de usuarios para los paneles de administración, leídas de los rollups diarios (AnalyticsRollupService)
+ * Los totales son la foto del último día calculado; los activos de un periodo salen de user_activity_days y las
+ * ventanas de altas son días naturales que incluyen el día en curso. La actividad anterior a activityFrom (primera
+ * captura) es desconocida: esos días devuelven activeUsers null
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsReportService {
+
+    private static final Set<String> DIMENSIONS = Set.of("country", "city", "category");
+
+    private final IDailyUserFactRepository factRepository;
+    private final IUserActivityDayRepository activityRepository;
+    private final ICohortActivityRepository cohortRepository;
+    private final AnalyticsRollupService rollupService;
+
+    public Map<String, Object> getAnalyticsOverview() {
+        Map<String, Object> result = new HashMap<>();
+        Snapshot snapshot = latestSnapshot();
+        LocalDate today = LocalDate.now();
+
+        // Contadores básicos del sistema
+        Map<String, Object> systemCounts = new HashMap<>();
+        systemCounts.put("totalUsers", snapshot.totalUsers());
+        systemCounts.put("verifiedUsers", snapshot.verifiedUsers());
+        systemCounts.put("unverifiedUsers", snapshot.totalUsers() - snapshot.verifiedUsers());
+        systemCounts.put("approvedUsers", snapshot.approvedUsers());
+        systemCounts.put("pendingUsers", snapshot.totalUsers() - snapshot.approvedUsers());
+        systemCounts.put("completeProfiles", snapshot.completeProfiles());
+        systemCounts.put("incompleteProfiles", snapshot.totalUsers() - snapshot.completeProfiles());
+        systemCounts.put("activeUsersLast7Days", activeUsers(today, 7));
+        systemCounts.put("activeUsersLast30Days", activeUsers(today, 30));
+        result.put("systemCounts", systemCounts);
+        result.put("activityFrom", rollupService.firstActivityDay());
+
+        // Métricas de calidad básicas
+        Map<String, Object> qualityMetrics = new HashMap<>();
+        qualityMetrics.put("verificationRate", percentage(snapshot.verifiedUsers(), snapshot.totalUsers()));
+        qualityMetrics.put("approvalRate", percentage(snapshot.approvedUsers(), snapshot.totalUsers()));
+        qualityMetrics.put("completionRate", percentage(snapshot.completeProfiles(), snapshot.totalUsers()));
+        result.put("qualityMetrics", qualityMetrics);
+        result.put("computedAt", snapshot.computedAt());
+
+        return result;
+    }
+
+    public Map<String, Object> getEngagementStats() {
+        Map<String, Object> result = new HashMap<>();
+        Snapshot snapshot = latestSnapshot();
+
+        result.put("totalUsers", snapshot.totalUsers());
+        result.put("verifiedUsers", snapshot.verifiedUsers());
+        result.put("completeProfiles", snapshot.completeProfiles());
+        result.put("averageVerificationRate", percentage(snapshot.verifiedUsers(), snapshot.totalUsers()));
+        result.put("averageCompletionRate", percentage(snapshot.completeProfiles(), snapshot.totalUsers()));
+
+        return result;
+    }
+
+    public Map<String, Object> getGrowthStats() {
+        Map<String, Object> result = new HashMap<>();
+        Snapshot snapshot = latestSnapshot();
+        LocalDate today = LocalDate.now();
+
+        // Altas de hoy y de los últimos 7 y 30 días
+        Map<LocalDate, Long> signupsByDay = new HashMap<>();
+        for (Object[] row : factRepository.sumByDay(today.minusDays(29), today)) {
+            signupsByDay.put((LocalDate) row[0], toLong(row[1]));
+        }
+        result.put("usersLast24Hours", signupsSince(signupsByDay, today));
+        result.put("usersLast7Days", signupsSince(signupsByDay, today.minusDays(6)));
+        result.put("usersLast30Days", signupsSince(signupsByDay, today.minusDays(29)));
+
+        // Retención básica
+        long activeUsersLast7Days = activeUsers(today, 7);
+        long activeUsersLast30Days = activeUsers(today, 30);
+        result.put("activeUsersLast7Days", activeUsersLast7Days);
+        result.put("activeUsersLast30Days", activeUsersLast30Days);
+        result.put("retentionRate7Days", percentage(activeUsersLast7Days, snapshot.totalUsers()));
+        result.put("retentionRate30Days", percentage(activeUsersLast30Days, snapshot.totalUsers()));
+        result.put("activityFrom", rollupService.firstActivityDay());
+
+        return result;
+    }
+
+    public Map<String, Object> getGeographicDistribution() {
+        Map<String, Object> result = new HashMap<>();
+        LocalDate day = latestDay();
+
+        Map<String, Long> usersByCountry = toCounts(factRepository.sumUsersByCountry(day));
+        Map<String, Long> usersByCity = toCounts(factRepository.sumUsersByCity(day));
+        result.put("usersByCountry", usersByCountry);
+        result.put("usersByCity", usersByCity);
+
+        Map<String, Object> topLocations = new HashMap<>();
+        topLocations.put("topCountries", top(usersByCountry, 5));
+        topLocations.put("topCities", top(usersByCity, 5));
+        result.put("topLocations", topLocations);
+
+        return result;
+    }
+
+    /**
+     * Hechos diarios del rango [from, to] y, si se indica dimension ('country', 'city' o 'category'), sus totales por valor
+     */
+    public Map<String, Object> getDailyFacts(LocalDate from, LocalDate to, String dimension) {
+        validateRange(from, to);
+        if (dimension != null && !DIMENSIONS.contains(dimension)) {
+            throw new BadRequestException("Dimensión no válida: " + dimension);
+        }
+
+        List<Map<String, Object>> days = new ArrayList<>();
+        long signups = 0;
+        long verifications = 0;
+        long approvals = 0;
+        for (Object[] row : factRepository.sumByDay(from, to)) {
+            Map<String, Object> day = new LinkedHashMap<>();
+            day.put("day", row[0]);
+            day.put("signups", toLong(row[1]));
+            day.put("verifications", toLong(row[2]));
+            day.put("approvals", toLong(row[3]));
+            day.put("activeUsers", toLong(row[6]) == 1 ? toLong(row[4]) : null);
+            day.put("totalUsers", toLong(row[5]));
+            days.add(day);
+            signups += toLong(row[1]);
+            verifications += toLong(row[2]);
+            approvals += toLong(row[3]);
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("signups", signups);
+        totals.put("verifications", verifications);
+        totals.put("approvals", approvals);
+        LocalDate activityFrom = rollupService.firstActivityDay();
+        totals.put("activeUsers", activityFrom == null || activityFrom.isAfter(to) ? null
+                : activityRepository.countDistinctUsersBetween(activityFrom.isAfter(from) ? activityFrom : from, to));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("from", from);
+        result.put("to", to);
+        result.put("activityFrom", activityFrom);
+        result.put("totals", totals);
+        result.put("days", days);
+        if (dimension != null) {
+            List<Map<String, Object>> values = new ArrayList<>();
+            for (Object[] row : factRepository.sumByDimension(dimension, from, to)) {
+                Map<String, Object> value = new LinkedHashMap<>();
+                value.put(dimension, row[0] == null || ((String) row[0]).isEmpty() ? null : row[0]);
+                value.put("signups", toLong(row[1]));
+                value.put("verifications", toLong(row[2]));
+                value.put("approvals", toLong(row[3]));
+                values.add(value);
+            }
+            result.put("by" + Character.toUpperCase(dimension.charAt(0)) + dimension.substring(1), values);
+        }
+        return result;
+    }
+
+    /**
+     * Retención de las cohortes de alta del rango [from, to]: usuarios activos offset días después del alta
+     * Los desplazamientos que caen antes de la primera captura de actividad se devuelven a null (desconocidos)
+     */
+    public List<Map<String, Object>> getCohortRetention(LocalDate from, LocalDate to, List<Integer> offsets) {
+        validateRange(from, to);
+        if (offsets.isEmpty() || offsets.stream().anyMatch(offset -> offset == null || offset < 0)) {
+            throw new BadRequestException("Los desplazamientos de retención deben ser días no negativos");
+        }
+
+        Map<LocalDate, Long> sizes = new TreeMap<>();
+        for (Object[] row : factRepository.sumByDay(from, to)) {
+            sizes.put((LocalDate) row[0], toLong(row[1]));
+        }
+        Map<LocalDate, Map<Long, Long>> activeByCohort = new HashMap<>();
+        for (Object[] row : cohortRepository.findByCohortDayBetween(from, to)) {
+            LocalDate cohortDay = (LocalDate) row[0];
+            long offset = ChronoUnit.DAYS.between(cohortDay, (LocalDate) row[1]);
+            activeByCohort.computeIfAbsent(cohortDay, day -> new HashMap<>()).put(offset, toLong(row[2]));
+        }
+
+        LocalDate activityFrom = rollupService.firstActivityDay();
+        List<Map<String, Object>> cohorts = new ArrayList<>();
+        List<Integer> sortedOffsets = offsets.stream().distinct().sorted().toList();
+        sizes.forEach((cohortDay, size) -> {
+            if (size == 0) {
+                return;
+            }
+            Map<String, Object> retention = new LinkedHashMap<>();
+            Map<Long, Long> active = activeByCohort.getOrDefault(cohortDay, Map.of());
+            for (Integer offset : sortedOffsets) {
+                LocalDate activityDay = cohortDay.plusDays(offset);
+                if (activityDay.isAfter(LocalDate.now())) {
+                    continue;
+                }
+                if (activityFrom == null || activityDay.isBefore(activityFrom)) {
+                    retention.put("day" + offset, null);
+                    continue;
+                }
+                long users = active.getOrDefault(offset.longValue(), 0L);
+                retention.put("day" + offset, Map.of(
+                        "activeUsers", users,
+                        "rate", Math.round((double) users / size * 10000) / 100.0));
+            }
+            Map<String, Object> cohort = new LinkedHashMap<>();
+            cohort.put("cohortDay", cohortDay);
+            cohort.put("size", size);
+            cohort.put("retention", retention);
+            cohorts.add(cohort);
+        });
+        return cohorts;
+    }
+
+    record Snapshot(long totalUsers, long verifiedUsers, long approvedUsers, long completeProfiles, LocalDateTime computedAt) {
+    }
+
+    // Último día con rollup; si aún no hay ninguno (primer arranque) se calcula el de hoy
+    private LocalDate latestDay() {
+        LocalDate latest = factRepository.findLatestDay();
+        if (latest == null) {
+            latest = LocalDate.now();
+            rollupService.rollupDay(latest);
+        }
+        return latest;
+    }
+
+    private Snapshot latestSnapshot() {
+        List<Object[]> rows = factRepository.sumSnapshot(latestDay());
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return new Snapshot(0, 0, 0, 0, null);
+        }
+        Object[] row = rows.get(0);
+        return new Snapshot(toLong(row[0]), toLong(row[1]), toLong(row[2]), toLong(row[3]), (LocalDateTime) row[4]);
+    }
+
+    private long activeUsers(LocalDate today, int days) {
+        return activityRepository.countDistinctUsersBetween(today.minusDays(days - 1), today);
+    }
+
+    private static long signupsSince(Map<LocalDate, Long> signupsByDay, LocalDate since) {
+        return signupsByDay.entrySet().stream()
+                .filter(entry -> !entry.getKey().isBefore(since))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BadRequestException("Rango de fechas no válido");
+        }
+    }
+
+    private static long percentage(long part, long total) {
+        return total > 0 ? Math.round((double) part / total * 100) : 0;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static Map<String, Long> toCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], toLong(row[1]));
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> top(Map<String, Long> counts, int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.entrySet().stream().limit(limit).forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+}
@@ -0,0 +1,153 @@
+package com.feeling.domain.services.analytics;
+
+import com.feeling.infrastructure.repositories.analytics.ICohortActivityRepository;
+import com.feeling.infrastructure.repositories.analytics.IDailyUserFactRepository;
+import com.feeling.infrastructure.repositories.analytics.IUserActivityDayRepository;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Rollups diarios de analítica de usuarios (analytics_daily_user_facts, analytics_cohort_activity)
+ * Según analytics.rollup.incremental-cron registra los días de actividad nuevos (user_activity_days) y recalcula
+ * el día en curso; cada noche cierra el día anterior, recalcula los analytics.rollup.restate-days previos (perfiles
+ * completados después del alta) y rellena los días que falten hasta analytics.rollup.backfill-days atrás.
+ * La actividad y las cohortes solo se calculan desde la primera captura de actividad; los días anteriores quedan
+ * marcados como desconocidos. Los paneles leen solo estas tablas (AnalyticsReportService)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsRollupService {
+
+    private final IDailyUserFactRepository factRepository;
+    private final ICohortActivityRepository cohortRepository;
+    private final IUserActivityDayRepository activityRepository;
+    private final IUserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.rollup.restate-days:7}")
+    private int restateDays;
+
+    @Value("${analytics.rollup.backfill-days:400}")
+    private int backfillDays;
+
+    // Inicio de la última captura de actividad en este nodo; null hasta la primera
+    // Si la captura anterior la hizo otra réplica, el solape solo repite inserciones que se ignoran
+    private volatile LocalDateTime lastCapture;
+
+    /**
+     * Registra la actividad nueva y recalcula el día en curso
+     * Se ejecuta una vez por clúster como job analytics-today (ClusterJobRunner, ver MaintenanceJobs)
+     * @return días recalculados (0 si otra réplica recalculaba el día a la vez)
+     */
+    public int refreshToday() {
+        captureActivity();
+        return rollupDay(LocalDate.now()) ? 1 : 0;
+    }
+
+    /**
+     * Cierre nocturno: reprocesa los últimos días y rellena los que falten
+     * Se ejecuta una vez por clúster como job analytics-nightly (ClusterJobRunner, ver MaintenanceJobs)
+     * @return días recalculados
+     */
+    public int nightly() {
+        captureActivity();
+        LocalDate today = LocalDate.now();
+        int rolled = 0;
+        for (LocalDate day = today.minusDays(Math.max(restateDays, 1)); day.isBefore(today); day = day.plusDays(1)) {
+            rolled += rollupDay(day) ? 1 : 0;
+        }
+        rolled += backfill(today);
+        log.info("Rollups de analítica recalculados: {} días", rolled);
+        return rolled;
+    }
+
+    /**
+     * Recalcula los rollups de un día (hechos por dimensión y actividad por cohorte)
+     * @return false si otra réplica lo estaba recalculando a la vez
+     */
+    public boolean rollupDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        boolean activityKnown = isActivityKnown(day);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                factRepository.deleteByDay(day);
+                factRepository.insertRollup(day, start, end, activityKnown, LocalDateTime.now());
+                cohortRepository.deleteByActivityDay(day);
+                if (activityKnown) {
+                    cohortRepository.insertForActivityDay(day);
+                }
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Rollup de analítica del día {} recalculado concurrentemente", day);
+            return false;
+        }
+    }
+
+    /**
+     * Primer día con la actividad completa: el de la primera captura (null si aún no hay ninguna)
+     * users.last_active solo guarda la última actividad, así que de los días anteriores solo se conoce una parte
+     */
+    public LocalDate firstActivityDay() {
+        LocalDateTime firstCapture = activityRepository.findFirstCapturedAt();
+        return firstCapture != null ? firstCapture.toLocalDate() : null;
+    }
+
+    private boolean isActivityKnown(LocalDate day) {
+        LocalDate firstDay = firstActivityDay();
+        return firstDay != null && !day.isBefore(firstDay);
+    }
+
+    // Copia a user_activity_days los usuarios con last_active posterior a la captura anterior (con un minuto de solape)
+    void captureActivity() {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = lastCapture;
+        if (since == null) {
+            LocalDate latest = activityRepository.findLatestDay();
+            since = latest != null ? latest.atStartOfDay() : LocalDate.now().minusDays(backfillDays).atStartOfDay();
+        }
+        LocalDateTime from = since.minusMinutes(1);
+        int captured = transactionTemplate.execute(status -> activityRepository.captureActiveSince(from, started));
+        lastCapture = started;
+        if (captured > 0) {
+            log.debug("Días de actividad registrados: {}", captured);
+        }
+    }
+
+    // Días sin rollup entre el alta más antigua (acotada a backfill-days) y ayer
+    private int backfill(LocalDate today) {
+        LocalDateTime firstSignup = userRepository.findEarliestCreatedAt();
+        if (firstSignup == null) {
+            return 0;
+        }
+        LocalDate from = firstSignup.toLocalDate();
+        LocalDate limit = today.minusDays(backfillDays);
+        if (from.isBefore(limit)) {
+            from = limit;
+        }
+        LocalDate yesterday = today.minusDays(1);
+        if (from.isAfter(yesterday)) {
+            return 0;
+        }
+        Set<LocalDate> present = new HashSet<>(factRepository.findDaysBetween(from, yesterday));
+        int rolled = 0;
+        for (LocalDate day = from; !day.isAfter(yesterday); day = day.plusDays(1)) {
+            if (!present.contains(day) && rollupDay(day)) {
+                rolled++;
+            }
+        }
+        return rolled;
+    }
+}
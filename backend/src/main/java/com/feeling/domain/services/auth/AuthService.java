@@ -10,6 +10,7 @@ import com.feeling.domain.dto.user.UserMetricsDTO;
 import com.feeling.domain.dto.user.UserAuthDTO;
 import com.feeling.domain.dto.user.UserAccountStatusDTO;
 import com.feeling.domain.services.email.EmailService;
+import com.feeling.domain.services.reference.ReferenceDataRegistry;
 import com.feeling.exception.EmailNotVerifiedException;
 import com.feeling.exception.ExistEmailException;
 import com.feeling.exception.NotFoundException;
@@ -45,6 +46,7 @@ public class AuthService {
     private final IUserTokenRepository tokenRepository;
     private final JwtService jwtService;
     private final IUserRoleRepository userRoleRepository;
+    private final ReferenceDataRegistry referenceData;
     private final AuthenticationManager authenticationManager;
     private final IUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -93,11 +95,8 @@ public class AuthService {
 
             validateMinimumRegistrationData(newUser);
 
-            UserRole clientRole = userRoleRepository.findByUserRoleList(UserRoleList.CLIENT)
-                    .orElseGet(() -> {
-                        UserRole newRole = new UserRole(UserRoleList.CLIENT);
-                        return userRoleRepository.save(newRole);
-                    });
+            UserRole clientRole = referenceData.role(UserRoleList.CLIENT)
+                    .orElseGet(this::createClientRole);
 
             User userEntity = User.builder()
                     .name(newUser.name().trim())
@@ -181,8 +180,8 @@ public class AuthService {
             // 3. Crear nuevo usuario desde Google
             logger.logAuth("google_register", googleUser.email(), "creating new user");
 
-            UserRole clientRole = userRoleRepository.findByUserRoleList(UserRoleList.CLIENT)
-                    .orElseGet(() -> userRoleRepository.save(new UserRole(UserRoleList.CLIENT)));
+            UserRole clientRole = referenceData.role(UserRoleList.CLIENT)
+                    .orElseGet(this::createClientRole);
 
             User newUser = User.builder()
                     .name(googleUser.getFirstName())
@@ -314,11 +313,8 @@ public class AuthService {
                 logger.logAuth("google_login", googleUser.email(), "creating new user");
 
                 // Obtener rol de cliente - usar transacción separada para evitar conflictos
-                UserRole clientRole = userRoleRepository.findByUserRoleList(UserRoleList.CLIENT)
-                        .orElseGet(() -> {
-                            UserRole newRole = new UserRole(UserRoleList.CLIENT);
-                            return userRoleRepository.save(newRole);
-                        });
+                UserRole clientRole = referenceData.role(UserRoleList.CLIENT)
+                        .orElseGet(this::createClientRole);
 
                 // Crear usuario
                 user = User.builder()
@@ -1098,6 +1094,15 @@ public class AuthService {
     // MÉTODOS DE UTILIDAD
     // ==============================
 
+    /**
+     * Crea el rol CLIENT si aún no existe y descarta la foto de roles para que los demás registros lo vean
+     */
+    private UserRole createClientRole() {
+        UserRole role = userRoleRepository.save(new UserRole(UserRoleList.CLIENT));
+        referenceData.invalidate(ReferenceDataRegistry.ROLES);
+        return role;
+    }
+
     /**
      * VALIDACIÓN DE DATOS MÍNIMOS
      * Valida que los datos mínimos de registro estén presentes
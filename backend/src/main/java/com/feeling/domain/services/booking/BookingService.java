@@ -1,5 +1,6 @@
 package com.feeling.domain.services.booking;
 
+import com.feeling.domain.dto.booking.BookingHoldResponseDTO;
 import com.feeling.domain.dto.booking.BookingRequestDTO;
 import com.feeling.domain.dto.booking.BookingResponseDTO;
 import com.feeling.domain.services.email.EmailService;
@@ -15,13 +16,19 @@ import com.feeling.infrastructure.repositories.booking.IPaymentMethodRepository;
 import com.feeling.infrastructure.repositories.tour.ITourRepository;
 import com.feeling.infrastructure.repositories.user.IUserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookingService {
@@ -32,50 +39,46 @@ public class BookingService {
     private final IPaymentMethodRepository paymentMethodRepository;
     private final IAvailabilityRepository availabilityRepository;
     private final EmailService emailService;
+    private final SlotInventoryService slotInventoryService;
 
+    private final Map<AccommodationBooking, Long> accommodationIds = new ConcurrentHashMap<>();
+
+    /**
+     * Crea una reserva descontando los cupos con un UPDATE condicional (o confirmando una reserva temporal previa)
+     * El correo de confirmación se envía tras el commit, fuera del hilo de la petición
+     */
     @Transactional
     public BookingResponseDTO createBooking(BookingRequestDTO bookingRequestDTO, String userEmail) {
         //Obtener el tour
         Tour tour = tourRepository.findById(bookingRequestDTO.getTourId()).orElseThrow(() -> new UnauthorizedException("Tour no encontrado"));
-        //Validar que la fecha de inicio sea posterior a la fecha de creacion del tour
-        if (bookingRequestDTO.getStartDate().isBefore(tour.getCreationDate().atStartOfDay())) {
-            throw new BadRequestException("La fecha de inicio debe ser posterior a la fecha de creacion del tour");
-        }
-        //Validar que la fecha de inicio sea anterior o igual a la fecha disponible
-        Availability availability = availabilityRepository.findByTourIdAndAvailableDate(bookingRequestDTO.getTourId(), bookingRequestDTO.getStartDate());
-        if (availability == null) {
-            throw new BadRequestException("No hay disponibilidad para la fecha seleccionada");
-        }
-        if (bookingRequestDTO.getStartDate().isAfter(availability.getAvailableDate())) {
-            throw new BadRequestException("La fecha de inicio debe ser anterior o igual a la fecha disponible");
-        }
-        //Validar que la fecha de inicio este dentro del rango de la fecha de creacion del tour y la fecha de disponibilidad
-        if (bookingRequestDTO.getStartDate().isBefore(tour.getCreationDate().atStartOfDay()) || bookingRequestDTO.getStartDate().isAfter(availability.getAvailableDate())) {
-            throw new BadRequestException("La fecha de inicio debe estar entre la fecha de creaciel tour y la fecha de disponibilidad");
-        }
-        //Validar que la suma de adultos y niños no supere los cupos disponibles
+        User user = userRepository.findByEmail(userEmail).orElseThrow(() -> new UnauthorizedException("Usuario no encontrado"));
         int totalRequested = bookingRequestDTO.getAdults() + bookingRequestDTO.getChildren();
-        if (totalRequested > availability.getAvailableSlots()) {
-            throw new BadRequestException("No hay suficientes cupos disponibles");
-        }
 
-        User user = userRepository.findByEmail(userEmail).orElseThrow(() -> new UnauthorizedException("Usuario no encontrado"));
+        Availability availability;
+        if (bookingRequestDTO.getHoldId() != null) {
+            //Los cupos ya se descontaron al crear la reserva temporal
+            AvailabilityHold hold = slotInventoryService.confirmHold(bookingRequestDTO.getHoldId(), user.getId());
+            availability = hold.getAvailability();
+            if (!availability.getTour().getId().equals(tour.getId())
+                    || !availability.getAvailableDate().equals(bookingRequestDTO.getStartDate())
+                    || hold.getSlots() != totalRequested) {
+                throw new BadRequestException("La reserva temporal no corresponde con los datos de la reserva");
+            }
+        } else {
+            availability = resolveAvailability(tour, bookingRequestDTO.getStartDate());
+            //Descuento atómico: dos reservas concurrentes no pueden superar los cupos disponibles
+            if (!slotInventoryService.reserve(availability.getId(), totalRequested)) {
+                throw new BadRequestException("No hay suficientes cupos disponibles");
+            }
+        }
 
         Accommodation accommodation = null;
         if (bookingRequestDTO.getAccommodationBooking() != null) {
-            accommodation = accommodationRepository.findByAccommodationBooking(bookingRequestDTO.getAccommodationBooking()).orElse(null);
-            if (accommodation == null) {
-                accommodation = new Accommodation(bookingRequestDTO.getAccommodationBooking());
-                accommodation = accommodationRepository.save(accommodation);
-            }
+            accommodation = resolveAccommodation(bookingRequestDTO.getAccommodationBooking());
         }
         //Se crea la fecha de fin con la fecha de disponibilidad y la hora de regreso
         LocalDateTime endDate = LocalDateTime.of(availability.getAvailableDate().toLocalDate(), availability.getReturnTime().toLocalTime());
 
-        if (!checkAvailability(tour, bookingRequestDTO.getStartDate(), endDate, bookingRequestDTO.getAdults(), bookingRequestDTO.getChildren(), availability)) {
-            throw new UnauthorizedException("No hay disponibilidad para las fechas seleccionadas");
-        }
-
         Double price = calculatePrice(tour, bookingRequestDTO.getAdults(), bookingRequestDTO.getChildren());
 
         Pay pay = null;
@@ -91,6 +94,7 @@ public class BookingService {
         Booking booking = new Booking();
         booking.setUser(user);
         booking.setTour(tour);
+        booking.setAvailability(availability);
         booking.setStartDate(bookingRequestDTO.getStartDate());
         //Se asigna la fecha de fin
         booking.setEndDate(endDate);
@@ -102,19 +106,35 @@ public class BookingService {
         booking.setCreationDate(LocalDateTime.now());
 
         bookingRepository.save(booking);
-        //Se actualizan los cupos disponibles
-        availability.setAvailableSlots(availability.getAvailableSlots() - totalRequested);
-        availabilityRepository.save(availability);
 
         BookingResponseDTO bookingResponseDTO = new BookingResponseDTO(booking);
-        try {
-            emailService.sendMailBooking(user.getEmail(), user.getName(), bookingResponseDTO);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        sendConfirmationAfterCommit(user.getEmail(), user.getName(), bookingResponseDTO);
         return bookingResponseDTO;
     }
 
+    /**
+     * Retiene cupos mientras el usuario completa el pago
+     */
+    @Transactional
+    public BookingHoldResponseDTO holdSlots(BookingRequestDTO bookingRequestDTO, String userEmail) {
+        Tour tour = tourRepository.findById(bookingRequestDTO.getTourId()).orElseThrow(() -> new UnauthorizedException("Tour no encontrado"));
+        User user = userRepository.findByEmail(userEmail).orElseThrow(() -> new UnauthorizedException("Usuario no encontrado"));
+        Availability availability = resolveAvailability(tour, bookingRequestDTO.getStartDate());
+
+        int totalRequested = bookingRequestDTO.getAdults() + bookingRequestDTO.getChildren();
+        AvailabilityHold hold = slotInventoryService.hold(availability, user, totalRequested);
+        return new BookingHoldResponseDTO(hold);
+    }
+
+    /**
+     * Libera una reserva temporal (checkout cancelado o pago fallido)
+     */
+    @Transactional
+    public void releaseHold(Long holdId, String userEmail) {
+        User user = userRepository.findByEmail(userEmail).orElseThrow(() -> new UnauthorizedException("Usuario no encontrado"));
+        slotInventoryService.releaseHold(holdId, user.getId());
+    }
+
     public BookingResponseDTO getBooking(Long id) {
         Booking booking = bookingRepository.findById(id).orElseThrow(() -> new UnauthorizedException("Reserva no encontrada"));
         return new BookingResponseDTO(booking);
@@ -132,32 +152,63 @@ public class BookingService {
         return bookingRepository.findByUserId(userId).stream().map(BookingResponseDTO::new).collect(Collectors.toList());
     }
 
+    @Transactional
     public void deleteBooking(Long id) {
-        bookingRepository.deleteById(id);
+        Booking booking = bookingRepository.findById(id).orElseThrow(() -> new UnauthorizedException("Reserva no encontrada"));
+        //Los cupos de reservas futuras vuelven a la disponibilidad
+        if (booking.getAvailability() != null && booking.getStartDate().isAfter(LocalDateTime.now())) {
+            slotInventoryService.release(booking.getAvailability().getId(), booking.getAdults() + booking.getChildren());
+        }
+        bookingRepository.delete(booking);
     }
 
-    private boolean checkAvailability(Tour tour, LocalDateTime startDate, LocalDateTime endDate, Integer adults, Integer children, Availability availability) {
-
-        List<Booking> bookings = bookingRepository.findByTourId(tour.getId());
-        int totalRequested = adults + children;
-        for (Booking booking : bookings) {
-            //Se valida si hay superposicion de reservas
-            if (!(endDate.isBefore(booking.getStartDate()) || startDate.isAfter(booking.getEndDate()))) {
-                //Si hay superposicion, se valida si hay cupos disponibles
-                if (availability.getAvailableSlots() < totalRequested) {
-                    return false;
-                }
-            }
+    private Availability resolveAvailability(Tour tour, LocalDateTime startDate) {
+        //Validar que la fecha de inicio sea posterior a la fecha de creacion del tour
+        if (startDate.isBefore(tour.getCreationDate().atStartOfDay())) {
+            throw new BadRequestException("La fecha de inicio debe ser posterior a la fecha de creacion del tour");
         }
-
+        Availability availability = availabilityRepository.findByTourIdAndAvailableDate(tour.getId(), startDate);
         if (availability == null) {
-            return false;
+            throw new BadRequestException("No hay disponibilidad para la fecha seleccionada");
         }
-        //Se modifica la validacion para que permita reservar la cantidad total de slots disponibles
-        if (availability.getAvailableSlots() < totalRequested) {
-            return false;
+        return availability;
+    }
+
+    /**
+     * Las filas de tours_accommodation son un catálogo fijo (una por AccommodationBooking): se resuelven una vez por nodo
+     */
+    private Accommodation resolveAccommodation(AccommodationBooking accommodationBooking) {
+        Long accommodationId = accommodationIds.get(accommodationBooking);
+        if (accommodationId != null) {
+            return accommodationRepository.getReferenceById(accommodationId);
+        }
+        //Solo se memorizan filas ya confirmadas; una creada aquí podría deshacerse con el rollback de la reserva
+        return accommodationRepository.findByAccommodationBooking(accommodationBooking)
+                .map(accommodation -> {
+                    accommodationIds.put(accommodationBooking, accommodation.getId());
+                    return accommodation;
+                })
+                .orElseGet(() -> accommodationRepository.save(new Accommodation(accommodationBooking)));
+    }
+
+    private void sendConfirmationAfterCommit(String email, String name, BookingResponseDTO bookingResponseDTO) {
+        Runnable send = () -> {
+            try {
+                emailService.sendMailBooking(email, name, bookingResponseDTO);
+            } catch (Exception e) {
+                log.error("Error enviando la confirmación de la reserva {}: {}", bookingResponseDTO.getId(), e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send.run();
+                }
+            });
+        } else {
+            send.run();
         }
-        return true;
     }
 
     private Double calculatePrice(Tour tour, Integer adults, Integer children) {
@@ -0,0 +1,132 @@
+package com.feeling.domain.services.booking;
+
+import com.feeling.domain.services.job.ClusterJob;
+import com.feeling.exception.BadRequestException;
+import com.feeling.exception.NotFoundException;
+import com.feeling.infrastructure.entities.booking.Availability;
+import com.feeling.infrastructure.entities.booking.AvailabilityHold;
+import com.feeling.infrastructure.entities.booking.HoldStatus;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.booking.IAvailabilityHoldRepository;
+import com.feeling.infrastructure.repositories.booking.IAvailabilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inventario de cupos de las disponibilidades de tours
+ * Los cupos se descuentan con UPDATE condicionales (sin lectura previa ni bloqueo de tabla), de modo que las
+ * reservas concurrentes nunca superan la capacidad. Durante el checkout los cupos quedan retenidos en una
+ * reserva temporal (availability_holds) que se confirma con la reserva o se libera al fallar el pago o expirar.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotInventoryService {
+
+    private final IAvailabilityRepository availabilityRepository;
+    private final IAvailabilityHoldRepository holdRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${booking.hold.ttl-minutes:10}")
+    private long holdTtlMinutes;
+
+    /**
+     * Descuenta cupos de forma atómica
+     * @return false si no quedan cupos suficientes
+     * @throws BadRequestException si slots no es positivo (un valor negativo sumaría cupos)
+     */
+    @Transactional
+    public boolean reserve(Long availabilityId, int slots) {
+        if (slots <= 0) {
+            throw new BadRequestException("La cantidad de cupos debe ser mayor que cero");
+        }
+        return availabilityRepository.reserveSlots(availabilityId, slots) == 1;
+    }
+
+    @Transactional
+    public void release(Long availabilityId, int slots) {
+        availabilityRepository.releaseSlots(availabilityId, slots);
+    }
+
+    /**
+     * Retiene cupos durante el checkout; expiran tras booking.hold.ttl-minutes si no se confirman
+     */
+    @Transactional
+    public AvailabilityHold hold(Availability availability, User user, int slots) {
+        if (!reserve(availability.getId(), slots)) {
+            throw new BadRequestException("No hay suficientes cupos disponibles");
+        }
+
+        AvailabilityHold hold = new AvailabilityHold();
+        hold.setAvailability(availability);
+        hold.setUser(user);
+        hold.setSlots(slots);
+        hold.setStatus(HoldStatus.HELD);
+        hold.setExpiresAt(LocalDateTime.now().plusMinutes(holdTtlMinutes));
+        return holdRepository.save(hold);
+    }
+
+    /**
+     * Convierte una reserva temporal vigente en definitiva; sus cupos ya estaban descontados
+     */
+    @Transactional
+    public AvailabilityHold confirmHold(Long holdId, Long userId) {
+        AvailabilityHold hold = holdRepository.findByIdAndUserId(holdId, userId)
+                .orElseThrow(() -> new NotFoundException("Reserva temporal no encontrada"));
+
+        if (holdRepository.confirmIfActive(holdId, HoldStatus.HELD, HoldStatus.CONFIRMED, LocalDateTime.now()) == 0) {
+            throw new BadRequestException("La reserva temporal expiró o ya fue utilizada");
+        }
+        return hold;
+    }
+
+    /**
+     * Libera una reserva temporal (cancelación del checkout o pago fallido) y devuelve sus cupos
+     */
+    @Transactional
+    public void releaseHold(Long holdId, Long userId) {
+        AvailabilityHold hold = holdRepository.findByIdAndUserId(holdId, userId)
+                .orElseThrow(() -> new NotFoundException("Reserva temporal no encontrada"));
+
+        closeAndRelease(hold, HoldStatus.RELEASED);
+    }
+
+    /**
+     * Devuelve los cupos de las reservas temporales vencidas; job "booking-holds" (MaintenanceJobs)
+     * Cada lote se libera en su propia transacción, así que un fallo a mitad solo deshace ese lote y el siguiente
+     * intento continúa desde el cursor guardado
+     */
+    public ClusterJob.Chunk releaseExpiredHolds(String cursor, int chunkSize) {
+        long afterId = cursor != null ? Long.parseLong(cursor) : 0L;
+        List<AvailabilityHold> expired = holdRepository.findExpired(HoldStatus.HELD, LocalDateTime.now(), afterId,
+                PageRequest.of(0, chunkSize));
+
+        Long released = transactionTemplate.execute(status -> expired.stream()
+                .filter(hold -> closeAndRelease(hold, HoldStatus.EXPIRED))
+                .count());
+        long count = released != null ? released : 0;
+        if (count > 0) {
+            log.info("Liberadas {} reservas temporales de cupos vencidas", count);
+        }
+        return expired.size() < chunkSize
+                ? ClusterJob.Chunk.done(count)
+                : ClusterJob.Chunk.next(count, String.valueOf(expired.get(expired.size() - 1).getId()));
+    }
+
+    // Solo la transición desde HELD devuelve los cupos, aunque varios nodos procesen la misma reserva
+    private boolean closeAndRelease(AvailabilityHold hold, HoldStatus status) {
+        if (holdRepository.close(hold.getId(), HoldStatus.HELD, status) == 0) {
+            return false;
+        }
+        release(hold.getAvailability().getId(), hold.getSlots());
+        return true;
+    }
+}
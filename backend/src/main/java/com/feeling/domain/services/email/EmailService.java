@@ -1,5 +1,6 @@
 package com.feeling.domain.services.email;
 
+import com.feeling.config.async.AsyncConfig;
 import com.feeling.domain.dto.booking.BookingResponseDTO;
 import com.feeling.domain.dto.event.EventRegistrationResponseDTO;
 import com.feeling.domain.dto.event.EventResponseDTO;
@@ -42,7 +43,7 @@ public class EmailService {
     // ==============================
     // EMAIL DE VERIFICACIÓN
     // ==============================
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendVerificationEmail(String to, String name, String verificationCode) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -73,7 +74,7 @@ public class EmailService {
     /**
      * Envía email de bienvenida para usuarios registrados con Google
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendWelcomeEmailForGoogleUser(String to, String name, String profilePicture) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -103,7 +104,7 @@ public class EmailService {
     /**
      * Envía email de bienvenida para usuarios registrados localmente (después de verificar email)
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendWelcomeEmailForLocalUser(String to, String name) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -137,7 +138,7 @@ public class EmailService {
     /**
      * Envía email de recuperación de contraseña con enlace de restablecimiento
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendPasswordResetEmail(String to, String name, String resetLink, int expirationMinutes) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -165,7 +166,7 @@ public class EmailService {
     /**
      * Envía email de confirmación de cambio de contraseña
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendPasswordChangeConfirmationEmail(String to, String name) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -194,7 +195,7 @@ public class EmailService {
     // ==============================
     // EMAIL DE RESERVA (LEGACY)
     // ==============================
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendMailBooking(String email, String name, BookingResponseDTO bookingResponseDTO) throws MessagingException {
         try {
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
@@ -232,7 +233,7 @@ public class EmailService {
     /**
      * Envía email de bienvenida para usuarios validados por administrador
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendWelcomeEmailForApprovedUser(String to, String name, boolean isGoogleUser, String profilePicture) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -268,7 +269,7 @@ public class EmailService {
      * Método genérico para enviar email de bienvenida
      * Determina automáticamente el tipo de usuario
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendWelcomeEmail(String to, String name, boolean isGoogleUser, String profilePicture) throws MessagingException {
         if (isGoogleUser) {
             sendWelcomeEmailForGoogleUser(to, name, profilePicture);
@@ -284,7 +285,7 @@ public class EmailService {
     /**
      * Envía email de confirmación de registro a evento
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendEventRegistrationConfirmation(EventRegistrationResponseDTO registration, EventResponseDTO event) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -315,7 +316,7 @@ public class EmailService {
     /**
      * Envía recordatorio de evento 24 horas antes
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendEventReminder(EventRegistrationResponseDTO registration, EventResponseDTO event) throws MessagingException {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -352,7 +353,7 @@ public class EmailService {
     /**
      * Envía correo recordatorio para completar el perfil
      */
-    @Async
+    @Async(AsyncConfig.MAIL_EXECUTOR)
     public void sendProfileCompletionReminder(User user) {
         try {
             Context context = new Context();
@@ -11,6 +11,8 @@ import com.feeling.infrastructure.repositories.user.IUserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,6 +31,7 @@ public class EventImageService {
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "webp");
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final String EVENTS_FOLDER = "events";
+    private static final String BROWSE_FOLDER = EVENTS_FOLDER + "/imagenes";
 
     @Transactional
     @CacheEvict(value = "events", allEntries = true)
@@ -103,17 +106,11 @@ public class EventImageService {
 
     public List<Map<String, String>> browseAvailableImages() {
         try {
-            // Get list of available images from the events/imagenes folder
-            List<String> imageUrls = storageService.listImages(EVENTS_FOLDER + "/imagenes");
+            // Get list of available images from the events/imagenes folder (served from the storage catalog)
+            List<String> imageUrls = storageService.listImages(BROWSE_FOLDER);
             
             return imageUrls.stream()
-                    .map(url -> {
-                        Map<String, String> imageInfo = new HashMap<>();
-                        imageInfo.put("url", url);
-                        imageInfo.put("name", extractImageName(url));
-                        imageInfo.put("thumbnail", url); // For now, use the same URL
-                        return imageInfo;
-                    })
+                    .map(this::toImageInfo)
                     .collect(Collectors.toList());
         } catch (Exception e) {
             // Return empty list if folder doesn't exist or error occurs
@@ -121,6 +118,19 @@ public class EventImageService {
         }
     }
 
+    public Page<Map<String, String>> browseAvailableImages(String search, Pageable pageable) {
+        return storageService.listImages(BROWSE_FOLDER, search, pageable)
+                .map(this::toImageInfo);
+    }
+
+    private Map<String, String> toImageInfo(String url) {
+        Map<String, String> imageInfo = new HashMap<>();
+        imageInfo.put("url", url);
+        imageInfo.put("name", extractImageName(url));
+        imageInfo.put("thumbnail", url); // For now, use the same URL
+        return imageInfo;
+    }
+
     private List<Map<String, String>> createDefaultEventImages() {
         // Return some default placeholder images for events
         List<String> defaultImages = Arrays.asList(
@@ -3,38 +3,89 @@ package com.feeling.domain.services.event;
 import com.feeling.domain.dto.event.EventRegistrationRequestDTO;
 import com.feeling.domain.dto.event.EventRegistrationResponseDTO;
 import com.feeling.domain.dto.event.EventResponseDTO;
+import com.feeling.domain.dto.event.EventWaitlistResponseDTO;
+import com.feeling.domain.dto.notification.NotificationType;
 import com.feeling.domain.services.email.EmailService;
+import com.feeling.domain.services.export.ExportColumn;
+import com.feeling.domain.services.export.ExportFormat;
+import com.feeling.domain.services.export.StreamingExportService;
+import com.feeling.domain.services.job.ClusterJob;
+import com.feeling.domain.services.notification.UserNotificationEvent;
+import com.feeling.domain.services.user.UserAuthorizationService;
 import com.feeling.exception.BadRequestException;
 import com.feeling.exception.NotFoundException;
 import com.feeling.exception.UnauthorizedException;
 import com.feeling.infrastructure.entities.event.Event;
 import com.feeling.infrastructure.entities.event.EventRegistration;
+import com.feeling.infrastructure.entities.event.EventWaitlistEntry;
 import com.feeling.infrastructure.entities.event.PaymentStatus;
 import com.feeling.infrastructure.entities.user.User;
 import com.feeling.infrastructure.repositories.event.IEventRegistrationRepository;
 import com.feeling.infrastructure.repositories.event.IEventRepository;
+import com.feeling.infrastructure.repositories.event.IEventWaitlistRepository;
+import com.feeling.infrastructure.repositories.event.RegistrationExportRow;
 import com.feeling.infrastructure.repositories.user.IUserRepository;
 import jakarta.mail.MessagingException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventRegistrationService {
+
+    // Estados de registro que ocupan plaza en events.current_attendees
+    private static final List<PaymentStatus> SEAT_HOLDING_STATUSES = List.of(PaymentStatus.PENDING, PaymentStatus.COMPLETED);
+    // Estados de un registro que ya no ocupa plaza y puede reabrirse con una nueva inscripción
+    private static final List<PaymentStatus> RELEASED_STATUSES = List.of(PaymentStatus.CANCELLED, PaymentStatus.FAILED);
+
+    private static final List<ExportColumn<RegistrationExportRow>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", RegistrationExportRow::id),
+            ExportColumn.of("eventId", RegistrationExportRow::eventId),
+            ExportColumn.of("eventTitle", RegistrationExportRow::eventTitle),
+            ExportColumn.of("userId", RegistrationExportRow::userId),
+            ExportColumn.of("userName", RegistrationExportRow::userName),
+            ExportColumn.of("userLastName", RegistrationExportRow::userLastName),
+            ExportColumn.of("userEmail", RegistrationExportRow::userEmail),
+            ExportColumn.of("registrationDate", RegistrationExportRow::registrationDate),
+            ExportColumn.of("paymentStatus", RegistrationExportRow::paymentStatus),
+            ExportColumn.of("amountPaid", RegistrationExportRow::amountPaid),
+            ExportColumn.of("paymentDate", RegistrationExportRow::paymentDate),
+            ExportColumn.of("cancellationDate", RegistrationExportRow::cancellationDate),
+            ExportColumn.of("confirmed", RegistrationExportRow::confirmed)
+    );
     
     private final IEventRegistrationRepository registrationRepository;
     private final IEventRepository eventRepository;
+    private final IEventWaitlistRepository waitlistRepository;
     private final IUserRepository userRepository;
+    private final UserAuthorizationService userAuthorizationService;
     private final ModelMapper modelMapper;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StreamingExportService streamingExportService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${events.registration.hold-minutes:30}")
+    private long holdMinutes;
 
     public List<EventRegistrationResponseDTO> getUserRegistrations(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
@@ -90,6 +141,33 @@ public class EventRegistrationService {
         return registrations.map(this::convertToResponseDTO);
     }
 
+    /**
+     * Exporta en streaming los asistentes de un evento (creador del evento o admin)
+     */
+    public ResponseEntity<StreamingResponseBody> exportEventAttendees(Long eventId, String userEmail, ExportFormat format) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new NotFoundException("Evento no encontrado"));
+
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new UnauthorizedException("Usuario no encontrado"));
+
+        if (!event.getCreatedBy().getId().equals(user.getId()) &&
+            !user.getUserRole().getAuthority().equals("ADMIN")) {
+            throw new UnauthorizedException("No tienes permisos para ver los asistentes de este evento");
+        }
+
+        return streamingExportService.export("event-" + eventId + "-attendees", format, EXPORT_COLUMNS,
+                () -> registrationRepository.streamRegistrationsForExport(eventId));
+    }
+
+    /**
+     * Exporta en streaming las inscripciones de todos los eventos (admin)
+     */
+    public ResponseEntity<StreamingResponseBody> exportAllRegistrations(ExportFormat format) {
+        return streamingExportService.export("event-registrations", format, EXPORT_COLUMNS,
+                () -> registrationRepository.streamRegistrationsForExport(null));
+    }
+
     public List<EventRegistrationResponseDTO> getConfirmedAttendees(Long eventId, String userEmail) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("Evento no encontrado"));
@@ -109,77 +187,156 @@ public class EventRegistrationService {
                 .toList();
     }
 
+    /**
+     * Inscripción con reserva atómica de plaza
+     * La plaza se reserva con un único UPDATE condicional sobre events.current_attendees y el registro se inserta en la
+     * misma transacción; la restricción única (user_id, event_id) descarta inscripciones duplicadas y el rollback devuelve
+     * la plaza. Un registro anterior que ya no ocupa plaza (reserva caducada, cancelada o pago fallido) se reabre en lugar
+     * de insertar otro. El evento solo se lee para explicar el rechazo cuando la reserva falla.
+     */
     @Transactional
     public EventRegistrationResponseDTO registerForEvent(EventRegistrationRequestDTO request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UnauthorizedException("Usuario no encontrado"));
+        Long userId = resolveUserId(userEmail);
+        Long eventId = request.eventId();
 
-        Event event = eventRepository.findById(request.eventId())
-                .orElseThrow(() -> new NotFoundException("Evento no encontrado"));
-
-        // Validate event is active and not in the past
-        if (!event.getIsActive()) {
-            throw new BadRequestException("El evento no está disponible para inscripciones");
-        }
-
-        if (event.getEventDate().isBefore(LocalDateTime.now())) {
-            throw new BadRequestException("No se puede registrar en un evento que ya ha pasado");
+        if (eventRepository.reserveSeat(eventId, LocalDateTime.now()) == 0) {
+            throw registrationRejection(eventId, userId);
         }
 
-        // Check if user is already registered
-        if (registrationRepository.existsByUserIdAndEventId(user.getId(), event.getId())) {
+        EventRegistration registration;
+        try {
+            registration = holdRegistration(userRepository.getReferenceById(userId), eventRepository.getReferenceById(eventId));
+        } catch (DataIntegrityViolationException e) {
             throw new BadRequestException("Ya estás registrado en este evento");
         }
-
-        // Check if event has available spots
-        if (event.isFull()) {
-            throw new BadRequestException("El evento está lleno");
-        }
-
-        // Create registration
-        EventRegistration registration = EventRegistration.builder()
-                .user(user)
-                .event(event)
-                .paymentStatus(PaymentStatus.PENDING)
-                .isConfirmed(false)
-                .build();
-
-        EventRegistration savedRegistration = registrationRepository.save(registration);
-        return convertToResponseDTO(savedRegistration);
+        return convertToResponseDTO(registration);
     }
 
+    /**
+     * Confirma el pago de un registro
+     * Un registro PENDING ya ocupa su plaza y pasa a COMPLETED con un UPDATE condicional, así que el pago no se cruza con
+     * la caducidad de la reserva (expireSeatHolds). Uno cancelado o fallido solo se marca pagado si recupera plaza; si el
+     * evento está lleno el pago se guarda sin plaza, queda pendiente de reembolso y se avisa al usuario
+     * @return false si no había plaza y el pago queda pendiente de reembolso
+     */
     @Transactional
-    public void confirmPayment(Long registrationId, BigDecimal amount, String stripePaymentIntentId) {
+    public boolean confirmPayment(Long registrationId, BigDecimal amount, String stripePaymentIntentId) {
         EventRegistration registration = registrationRepository.findById(registrationId)
                 .orElseThrow(() -> new NotFoundException("Registro no encontrado"));
+        Long eventId = registration.getEvent().getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        boolean paid = registrationRepository.markPaid(registrationId, amount, stripePaymentIntentId, now,
+                List.of(PaymentStatus.PENDING)) == 1;
+        if (!paid && registration.isPaid()) {
+            log.debug("Pago del registro {} ya confirmado", registrationId);
+            return true;
+        }
+
+        // Un registro cancelado o fallido necesita recuperar su plaza antes de marcarse pagado
+        if (!paid && eventRepository.reserveSeat(eventId, now) == 1) {
+            paid = registrationRepository.markPaid(registrationId, amount, stripePaymentIntentId, now,
+                    List.of(PaymentStatus.FAILED, PaymentStatus.CANCELLED)) == 1;
+            if (!paid) {
+                // Otra confirmación concurrente cambió el estado primero y ya gestionó la plaza
+                eventRepository.releaseSeat(eventId);
+                log.debug("Pago del registro {} confirmado por otra petición", registrationId);
+                return true;
+            }
+        }
+
+        if (!paid) {
+            registrationRepository.recordPaymentWithoutSeat(registrationId, amount, stripePaymentIntentId, now,
+                    SEAT_HOLDING_STATUSES);
+            log.error("Pago {} del registro {} recibido sin plaza en el evento {}: pendiente de reembolso",
+                    stripePaymentIntentId, registrationId, eventId);
+            eventPublisher.publishEvent(new UserNotificationEvent(registration.getUser().getId(),
+                    NotificationType.EVENT_PAYMENT_REFUND_PENDING,
+                    Map.of("registrationId", registrationId, "eventId", eventId)));
+            return false;
+        }
 
         registration.markAsPaid(amount, stripePaymentIntentId);
-        
-        // Increment event attendees count
-        Event event = registration.getEvent();
-        event.incrementAttendees();
-        
-        registrationRepository.save(registration);
-        eventRepository.save(event);
-        
+
+        eventPublisher.publishEvent(new UserNotificationEvent(registration.getUser().getId(),
+                NotificationType.EVENT_PAYMENT_CONFIRMED,
+                Map.of("registrationId", registrationId, "eventId", eventId)));
+
         // Send confirmation email
         try {
             EventRegistrationResponseDTO registrationDTO = convertToResponseDTO(registration);
-            EventResponseDTO eventDTO = convertEventToResponseDTO(event);
+            EventResponseDTO eventDTO = convertEventToResponseDTO(registration.getEvent());
             emailService.sendEventRegistrationConfirmation(registrationDTO, eventDTO);
         } catch (MessagingException e) {
             // Log error but don't fail the transaction
             System.err.println("Error sending confirmation email: " + e.getMessage());
         }
+        return true;
     }
 
+    /**
+     * Libera las reservas sin pagar de eventos de pago registradas hace más de events.registration.hold-minutes y pasa
+     * cada plaza a la lista de espera; job "event-seat-holds" (MaintenanceJobs)
+     * Cada reserva se cancela en su propia transacción con el mismo UPDATE condicional que una cancelación, así que un
+     * pago que llegue a la vez gana o pierde la plaza entera
+     */
+    public ClusterJob.Chunk expireSeatHolds(String cursor, int chunkSize) {
+        long afterId = cursor != null ? Long.parseLong(cursor) : 0L;
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(holdMinutes);
+        List<Object[]> holds = registrationRepository.findExpiredHolds(PaymentStatus.PENDING, cutoff, afterId,
+                PageRequest.of(0, chunkSize));
+
+        long expired = 0;
+        for (Object[] hold : holds) {
+            Long registrationId = (Long) hold[0];
+            Long eventId = (Long) hold[1];
+            Long userId = (Long) hold[2];
+            boolean released = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (registrationRepository.releaseSeatHolder(registrationId, PaymentStatus.CANCELLED,
+                        LocalDateTime.now(), List.of(PaymentStatus.PENDING)) == 0) {
+                    return false;
+                }
+                eventPublisher.publishEvent(new UserNotificationEvent(userId, NotificationType.EVENT_SEAT_HOLD_EXPIRED,
+                        Map.of("registrationId", registrationId, "eventId", eventId)));
+                releaseSeatAndPromote(eventId);
+                return true;
+            }));
+            if (released) {
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            log.info("{} reservas de plaza sin pagar caducadas", expired);
+        }
+        return holds.size() < chunkSize
+                ? ClusterJob.Chunk.done(expired)
+                : ClusterJob.Chunk.next(expired, String.valueOf(holds.get(holds.size() - 1)[0]));
+    }
+
+    /**
+     * Recalcula events.current_attendees desde los registros que ocupan plaza; job puntual "event-attendees-recount"
+     * para los eventos anteriores al contador atómico
+     */
+    public long recountAttendees() {
+        Integer updated = transactionTemplate.execute(status -> eventRepository.recountAttendees(SEAT_HOLDING_STATUSES));
+        log.info("Plazas ocupadas recalculadas en {} eventos", updated);
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * Marca como fallido el pago de una reserva pendiente y libera su plaza
+     * Solo cambia un registro PENDING: un payment_failed que llega tarde (Stripe no garantiza el orden de entrega) no
+     * deshace un registro ya pagado
+     */
     @Transactional
     public void markPaymentFailed(Long registrationId) {
         EventRegistration registration = registrationRepository.findById(registrationId)
                 .orElseThrow(() -> new NotFoundException("Registro no encontrado"));
 
-        registration.markAsFailed();
-        registrationRepository.save(registration);
+        if (registrationRepository.releaseSeatHolder(registrationId, PaymentStatus.FAILED, null,
+                List.of(PaymentStatus.PENDING)) == 1) {
+            releaseSeatAndPromote(registration.getEvent().getId());
+        }
     }
 
     @Transactional
@@ -201,15 +358,64 @@ public class EventRegistrationService {
             throw new BadRequestException("No se puede cancelar un registro de un evento que ya ha pasado");
         }
 
-        // If payment was completed, decrement attendees count
-        if (registration.isPaid()) {
-            Event event = registration.getEvent();
-            event.decrementAttendees();
-            eventRepository.save(event);
+        // Solo la transición desde un estado que ocupa plaza la libera, aunque lleguen cancelaciones concurrentes
+        if (registrationRepository.releaseSeatHolder(registrationId, PaymentStatus.CANCELLED, LocalDateTime.now(), SEAT_HOLDING_STATUSES) == 1) {
+            releaseSeatAndPromote(registration.getEvent().getId());
+        } else if (!registration.isCancelled()) {
+            registration.cancel();
+            registrationRepository.save(registration);
         }
+    }
 
-        registration.cancel();
-        registrationRepository.save(registration);
+    @Transactional
+    public EventWaitlistResponseDTO joinWaitlist(Long eventId, String userEmail) {
+        Long userId = resolveUserId(userEmail);
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new NotFoundException("Evento no encontrado"));
+
+        if (!event.getIsActive()) {
+            throw new BadRequestException("El evento no está disponible para inscripciones");
+        }
+
+        if (event.getEventDate().isBefore(LocalDateTime.now())) {
+            throw new BadRequestException("No se puede registrar en un evento que ya ha pasado");
+        }
+
+        if (registrationRepository.existsByUserIdAndEventIdAndPaymentStatusIn(userId, eventId, SEAT_HOLDING_STATUSES)) {
+            throw new BadRequestException("Ya estás registrado en este evento");
+        }
+
+        if (event.hasAvailableSpots()) {
+            throw new BadRequestException("El evento tiene plazas disponibles, inscríbete directamente");
+        }
+
+        EventWaitlistEntry entry = EventWaitlistEntry.builder()
+                .event(event)
+                .user(userRepository.getReferenceById(userId))
+                .build();
+
+        try {
+            entry = waitlistRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("Ya estás en la lista de espera de este evento");
+        }
+        return convertToWaitlistDTO(entry);
+    }
+
+    @Transactional
+    public EventWaitlistResponseDTO getWaitlistPosition(Long eventId, String userEmail) {
+        Long userId = resolveUserId(userEmail);
+        EventWaitlistEntry entry = waitlistRepository.findByEventIdAndUserId(eventId, userId)
+                .orElseThrow(() -> new NotFoundException("No estás en la lista de espera de este evento"));
+        return convertToWaitlistDTO(entry);
+    }
+
+    @Transactional
+    public void leaveWaitlist(Long eventId, String userEmail) {
+        Long userId = resolveUserId(userEmail);
+        if (waitlistRepository.deleteByEventIdAndUserId(eventId, userId) == 0) {
+            throw new NotFoundException("No estás en la lista de espera de este evento");
+        }
     }
 
     public boolean isUserRegistered(Long eventId, String userEmail) {
@@ -247,6 +453,95 @@ public class EventRegistrationService {
         return registrationRepository.countConfirmedAttendeesByEventId(eventId);
     }
 
+    private Long resolveUserId(String userEmail) {
+        return userAuthorizationService.getUserIdByEmail(userEmail)
+                .orElseThrow(() -> new UnauthorizedException("Usuario no encontrado"));
+    }
+
+    /**
+     * Motivo por el que no se pudo reservar plaza; solo se consulta en el camino de rechazo
+     */
+    private RuntimeException registrationRejection(Long eventId, Long userId) {
+        Optional<Event> event = eventRepository.findById(eventId);
+        if (event.isEmpty()) {
+            return new NotFoundException("Evento no encontrado");
+        }
+        if (!event.get().getIsActive()) {
+            return new BadRequestException("El evento no está disponible para inscripciones");
+        }
+        if (!event.get().getEventDate().isAfter(LocalDateTime.now())) {
+            return new BadRequestException("No se puede registrar en un evento que ya ha pasado");
+        }
+        if (registrationRepository.existsByUserIdAndEventId(userId, eventId)) {
+            return new BadRequestException("Ya estás registrado en este evento");
+        }
+        return new BadRequestException("El evento está lleno, puedes unirte a la lista de espera");
+    }
+
+    private void releaseSeatAndPromote(Long eventId) {
+        eventRepository.releaseSeat(eventId);
+        promoteFromWaitlist(eventId);
+    }
+
+    /**
+     * Asigna la plaza liberada a la entrada más antigua de la lista de espera
+     * El usuario promovido queda con un registro PENDING, igual que una inscripción directa, y recibe una notificación;
+     * su reserva caduca como cualquier otra si no paga. Las entradas de usuarios que ya ocupan plaza por su cuenta se
+     * descartan
+     */
+    private void promoteFromWaitlist(Long eventId) {
+        Optional<EventWaitlistEntry> next;
+        while ((next = waitlistRepository.findFirstByEventIdOrderByIdAsc(eventId)).isPresent()) {
+            EventWaitlistEntry entry = next.get();
+            Long userId = entry.getUser().getId();
+
+            if (registrationRepository.existsByUserIdAndEventIdAndPaymentStatusIn(userId, eventId, SEAT_HOLDING_STATUSES)) {
+                waitlistRepository.delete(entry);
+                continue;
+            }
+
+            if (eventRepository.reserveSeat(eventId, LocalDateTime.now()) == 0) {
+                return;
+            }
+
+            EventRegistration promoted = holdRegistration(entry.getUser(), entry.getEvent());
+            waitlistRepository.delete(entry);
+            eventPublisher.publishEvent(new UserNotificationEvent(userId, NotificationType.EVENT_WAITLIST_PROMOTED,
+                    Map.of("registrationId", promoted.getId(), "eventId", eventId)));
+            log.info("Usuario {} promovido desde la lista de espera del evento {}", userId, eventId);
+            return;
+        }
+    }
+
+    /**
+     * Registro PENDING para una plaza ya reservada: reabre el registro anterior del usuario si ya no ocupaba plaza o
+     * inserta uno nuevo
+     */
+    private EventRegistration holdRegistration(User user, Event event) {
+        if (registrationRepository.reopenRegistration(user.getId(), event.getId(), LocalDateTime.now(),
+                RELEASED_STATUSES) == 1) {
+            return registrationRepository.findByUserIdAndEventId(user.getId(), event.getId())
+                    .orElseThrow(() -> new NotFoundException("Registro no encontrado"));
+        }
+        return registrationRepository.saveAndFlush(EventRegistration.builder()
+                .user(user)
+                .event(event)
+                .paymentStatus(PaymentStatus.PENDING)
+                .isConfirmed(false)
+                .build());
+    }
+
+    private EventWaitlistResponseDTO convertToWaitlistDTO(EventWaitlistEntry entry) {
+        Long eventId = entry.getEvent().getId();
+        return new EventWaitlistResponseDTO(
+            eventId,
+            entry.getEvent().getTitle(),
+            waitlistRepository.countAhead(eventId, entry.getId()) + 1,
+            waitlistRepository.countByEventId(eventId),
+            entry.getCreatedAt()
+        );
+    }
+
     private EventRegistrationResponseDTO convertToResponseDTO(EventRegistration registration) {
         return new EventRegistrationResponseDTO(
             registration.getId(),
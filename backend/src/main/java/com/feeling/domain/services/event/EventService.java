@@ -10,11 +10,13 @@ import com.feeling.infrastructure.entities.event.EventRegistration;
 import com.feeling.infrastructure.entities.event.EventStatus;
 import com.feeling.infrastructure.entities.user.User;
 import com.feeling.infrastructure.repositories.event.IEventRepository;
+import com.feeling.infrastructure.repositories.event.IEventWaitlistRepository;
 import com.feeling.infrastructure.repositories.user.IUserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -31,30 +33,38 @@ import java.util.stream.Collectors;
 public class EventService {
     
     private final IEventRepository eventRepository;
+    private final IEventWaitlistRepository waitlistRepository;
     private final IUserRepository userRepository;
     private final ModelMapper modelMapper;
     private final EventImageService eventImageService;
 
-    @Cacheable(value = "events", key = "'active'")
+    @Cacheable(value = "events", key = "'active'", sync = true)
     public List<EventResponseDTO> getAllActiveEvents() {
-        List<Event> events = eventRepository.findByIsActiveTrueOrderByEventDateAsc();
-        return events.stream()
-                .map(this::convertToResponseDTO)
-                .toList();
+        return loadActiveEvents();
+    }
+
+    /**
+     * Recarga la lista de eventos activos en cache antes de que expire (ver CatalogCacheRefresher)
+     */
+    @CachePut(value = "events", key = "'active'")
+    public List<EventResponseDTO> refreshActiveEvents() {
+        return loadActiveEvents();
     }
 
-    @Cacheable(value = "events", key = "'active_paginated_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "events", key = "'active_paginated_' + #pageable.pageNumber + '_' + #pageable.pageSize", sync = true)
     public Page<EventResponseDTO> getAllActiveEvents(Pageable pageable) {
         Page<Event> events = eventRepository.findByIsActiveTrueOrderByEventDateAsc(pageable);
         return events.map(this::convertToResponseDTO);
     }
 
-    @Cacheable(value = "events", key = "'upcoming'")
+    @Cacheable(value = "events", key = "'upcoming'", sync = true)
     public List<EventResponseDTO> getUpcomingEvents() {
-        List<Event> events = eventRepository.findUpcomingEvents(LocalDateTime.now());
-        return events.stream()
-                .map(this::convertToResponseDTO)
-                .toList();
+        return loadUpcomingEvents();
+    }
+
+    @CachePut(value = "events", key = "'upcoming'")
+    public List<EventResponseDTO> refreshUpcomingEvents() {
+        return loadUpcomingEvents();
     }
 
     public Page<EventResponseDTO> getUpcomingEvents(Pageable pageable) {
@@ -62,7 +72,7 @@ public class EventService {
         return events.map(this::convertToResponseDTO);
     }
 
-    @Cacheable(value = "events", key = "'category_' + #category.name()")
+    @Cacheable(value = "events", key = "'category_' + #category.name()", sync = true)
     public List<EventResponseDTO> getEventsByCategory(EventCategory category) {
         List<Event> events = eventRepository.findByCategoryAndIsActiveTrueOrderByEventDateAsc(category);
         return events.stream()
@@ -234,6 +244,7 @@ public class EventService {
             }
         }
 
+        waitlistRepository.deleteByEventId(eventId);
         eventRepository.delete(event);
     }
 
@@ -460,4 +471,16 @@ public class EventService {
             event.getCreatedBy() != null ? event.getCreatedBy().getId() : null
         );
     }
-}
\ No newline at end of file
+
+    private List<EventResponseDTO> loadActiveEvents() {
+        return eventRepository.findByIsActiveTrueOrderByEventDateAsc().stream()
+                .map(this::convertToResponseDTO)
+                .toList();
+    }
+
+    private List<EventResponseDTO> loadUpcomingEvents() {
+        return eventRepository.findUpcomingEvents(LocalDateTime.now()).stream()
+                .map(this::convertToResponseDTO)
+                .toList();
+    }
+}
@@ -21,7 +21,7 @@ public class EventStatsService {
     private final IEventRepository eventRepository;
     private final IEventRegistrationRepository registrationRepository;
 
-    @Cacheable(value = "eventStats", key = "'dashboard'")
+    @Cacheable(value = "eventStats", key = "'dashboard'", sync = true)
     public EventStatsDTO getDashboardStats() {
         // Basic counts
         Long totalEvents = eventRepository.count();
@@ -21,7 +21,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -54,22 +53,4 @@ public class PaymentService {
         // Use PaymentServiceBasic instead for simulation mode
         throw new BadRequestException("Stripe integration temporarily disabled. Use PaymentServiceBasic for simulation mode.");
     }
-
-    public void handleStripeWebhook(Map<String, Object> payload) {
-        // This method would handle Stripe webhooks for payment confirmations
-        // Implementation would depend on your webhook setup
-        String eventType = (String) payload.get("type");
-        
-        if ("payment_intent.succeeded".equals(eventType)) {
-            Map<String, Object> paymentIntentData = (Map<String, Object>) ((Map<String, Object>) payload.get("data")).get("object");
-            String paymentIntentId = (String) paymentIntentData.get("id");
-            
-            try {
-                confirmPayment(paymentIntentId);
-            } catch (Exception e) {
-                // Log error but don't throw - webhook should not fail
-                System.err.println("Error processing webhook for payment intent " + paymentIntentId + ": " + e.getMessage());
-            }
-        }
-    }
-}
\ No newline at end of file
+}
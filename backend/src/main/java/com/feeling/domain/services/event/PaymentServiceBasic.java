@@ -17,7 +17,6 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -43,14 +42,15 @@ public class PaymentServiceBasic {
             throw new BadRequestException("El evento no está disponible");
         }
 
-        if (event.isFull()) {
-            throw new BadRequestException("El evento está lleno");
-        }
-
         // Check if user has a registration for this event
         EventRegistration registration = registrationRepository.findByUserIdAndEventId(user.getId(), event.getId())
                 .orElseThrow(() -> new NotFoundException("No tienes un registro para este evento"));
 
+        // Un registro pendiente ya tiene su plaza reservada aunque el evento figure lleno
+        if (!registration.holdsSeat() && event.isFull()) {
+            throw new BadRequestException("El evento está lleno");
+        }
+
         if (registration.isPaid()) {
             throw new BadRequestException("Ya has pagado por este evento");
         }
@@ -82,7 +82,15 @@ public class PaymentServiceBasic {
         if (paymentIntentId.startsWith("pi_simulation_")) {
             // Simulate successful payment
             BigDecimal amount = registration.getEvent().getPrice();
-            registrationService.confirmPayment(registration.getId(), amount, paymentIntentId);
+            if (!registrationService.confirmPayment(registration.getId(), amount, paymentIntentId)) {
+                return new PaymentResponseDTO(
+                        null,
+                        paymentIntentId,
+                        "refund_pending",
+                        registration.getId(),
+                        "El evento ya no tiene plazas: el pago se reembolsará (SIMULATION MODE)"
+                );
+            }
 
             return new PaymentResponseDTO(
                     null,
@@ -96,25 +104,4 @@ public class PaymentServiceBasic {
         // For real Stripe integration, this would use actual Stripe API
         throw new BadRequestException("Integración con Stripe no configurada para este payment intent");
     }
-
-    public void handleStripeWebhook(Map<String, Object> payload) {
-        // Webhook handling for future Stripe integration
-        String eventType = (String) payload.get("type");
-        
-        if ("payment_intent.succeeded".equals(eventType)) {
-            // Handle successful payment webhook
-            try {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> data = (Map<String, Object>) payload.get("data");
-                @SuppressWarnings("unchecked")
-                Map<String, Object> paymentIntentData = (Map<String, Object>) data.get("object");
-                String paymentIntentId = (String) paymentIntentData.get("id");
-                
-                confirmPayment(paymentIntentId);
-            } catch (Exception e) {
-                // Log error but don't throw - webhook should not fail
-                System.err.println("Error processing webhook: " + e.getMessage());
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.feeling.domain.services.event;
+
+import com.feeling.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Verifica la cabecera Stripe-Signature ("t=<timestamp>,v1=<firma>[,v1=...]"): HMAC-SHA256 de "timestamp.payload"
+ * con el secreto del endpoint, como el SDK de Stripe, y rechaza firmas con más de stripe.webhook.tolerance-seconds
+ */
+@Component
+public class StripeSignatureVerifier {
+
+    private static final String SCHEME = "v1";
+
+    @Value("${stripe.webhook.secret:}")
+    private String webhookSecret;
+
+    @Value("${stripe.webhook.tolerance-seconds:300}")
+    private long toleranceSeconds;
+
+    public void verify(String payload, String signatureHeader) {
+        verify(payload, signatureHeader, Instant.now().getEpochSecond());
+    }
+
+    void verify(String payload, String signatureHeader, long nowEpochSeconds) {
+        if (webhookSecret == null || webhookSecret.isBlank()) {
+            throw new BadRequestException("Webhook de Stripe no configurado");
+        }
+        if (signatureHeader == null || signatureHeader.isBlank()) {
+            throw new BadRequestException("Falta la firma del webhook");
+        }
+
+        Long timestamp = null;
+        for (String part : signatureHeader.split(",")) {
+            String[] keyValue = part.trim().split("=", 2);
+            if (keyValue.length == 2 && keyValue[0].equals("t")) {
+                try {
+                    timestamp = Long.parseLong(keyValue[1]);
+                } catch (NumberFormatException e) {
+                    throw new BadRequestException("Firma del webhook no válida");
+                }
+            }
+        }
+        if (timestamp == null) {
+            throw new BadRequestException("Firma del webhook no válida");
+        }
+        if (Math.abs(nowEpochSeconds - timestamp) > toleranceSeconds) {
+            throw new BadRequestException("Firma del webhook caducada");
+        }
+
+        byte[] expected = sign(timestamp + "." + payload);
+        for (String part : signatureHeader.split(",")) {
+            String[] keyValue = part.trim().split("=", 2);
+            if (keyValue.length == 2 && keyValue[0].equals(SCHEME) && matches(expected, keyValue[1])) {
+                return;
+            }
+        }
+        throw new BadRequestException("Firma del webhook no válida");
+    }
+
+    private byte[] sign(String signedPayload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(webhookSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(signedPayload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 no disponible", e);
+        }
+    }
+
+    private static boolean matches(byte[] expected, String hexSignature) {
+        try {
+            return MessageDigest.isEqual(expected, HexFormat.of().parseHex(hexSignature));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
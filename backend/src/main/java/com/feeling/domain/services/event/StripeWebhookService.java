@@ -0,0 +1,203 @@
+package com.feeling.domain.services.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feeling.config.async.AsyncConfig;
+import com.feeling.exception.BadRequestException;
+import com.feeling.exception.NotFoundException;
+import com.feeling.infrastructure.entities.event.EventRegistration;
+import com.feeling.infrastructure.entities.event.StripeWebhookEvent;
+import com.feeling.infrastructure.entities.event.WebhookEventStatus;
+import com.feeling.infrastructure.repositories.event.IEventRegistrationRepository;
+import com.feeling.infrastructure.repositories.event.IStripeWebhookEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Recepción y procesamiento de webhooks de Stripe
+ * La petición solo verifica la firma y registra el id del evento en stripe_webhook_events (un INSERT indexado,
+ * que descarta las entregas repetidas); el evento se procesa después en el pool acotado stripeWebhookExecutor. Un fallo se
+ * reintenta con espera exponencial y, agotados stripe.webhook.max-attempts, el evento queda en DEAD_LETTER.
+ * Los eventos que no caben en la cola del pool, o cuyo nodo se detuvo a mitad, los recoge el barrido periódico.
+ * Un evento con datos que no cuadran (importe o moneda distintos del precio) no se reintenta: queda en DEAD_LETTER con el
+ * motivo en last_error para revisarlo a mano
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StripeWebhookService {
+
+    private static final List<WebhookEventStatus> CLAIMABLE =
+            List.of(WebhookEventStatus.PENDING, WebhookEventStatus.PROCESSING);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(6);
+
+    private final IStripeWebhookEventRepository webhookEventRepository;
+    private final IEventRegistrationRepository registrationRepository;
+    private final EventRegistrationService registrationService;
+    private final StripeSignatureVerifier signatureVerifier;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    // Al cerrar, los eventos en curso conservan su concesión y los reintenta otro nodo o el siguiente arranque
+    @Qualifier(AsyncConfig.STRIPE_WEBHOOK_EXECUTOR)
+    private final TaskExecutor workers;
+
+    @Value("${stripe.currency:cop}")
+    private String currency;
+
+    @Value("${stripe.webhook.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${stripe.webhook.retry-base-ms:30000}")
+    private long retryBaseMs;
+
+    @Value("${stripe.webhook.lease-ms:300000}")
+    private long leaseMs;
+
+    @Value("${stripe.webhook.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    /**
+     * Verifica y registra un evento recibido
+     * @return true si es nuevo, false si es una entrega repetida (ya registrada)
+     */
+    public boolean receive(String payload, String signatureHeader) {
+        signatureVerifier.verify(payload, signatureHeader);
+
+        JsonNode event = parse(payload);
+        String eventId = event.path("id").asText(null);
+        String type = event.path("type").asText(null);
+        if (eventId == null || type == null) {
+            throw new BadRequestException("Evento de Stripe sin id o tipo");
+        }
+
+        Integer inserted = transactionTemplate.execute(status ->
+                webhookEventRepository.insertIfAbsent(eventId, type, payload, LocalDateTime.now()));
+        if (inserted == null || inserted == 0) {
+            log.debug("Webhook de Stripe {} repetido, se ignora", eventId);
+            return false;
+        }
+        dispatch(eventId);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${stripe.webhook.sweep-interval-ms:60000}")
+    public void sweep() {
+        List<String> due = webhookEventRepository.findDueEventIds(CLAIMABLE, LocalDateTime.now(),
+                PageRequest.of(0, sweepBatchSize));
+        due.forEach(this::dispatch);
+    }
+
+    /**
+     * Procesa el evento si este worker consigue tomarlo; lo tomado por otro worker o nodo se ignora
+     */
+    void process(String eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> webhookEventRepository.claim(
+                eventId, WebhookEventStatus.PROCESSING, CLAIMABLE, now, now.plus(Duration.ofMillis(leaseMs))));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        StripeWebhookEvent event = webhookEventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(event.getType(), parse(event.getPayload())));
+            event.setStatus(WebhookEventStatus.PROCESSED);
+            event.setProcessedAt(LocalDateTime.now());
+            event.setLastError(null);
+        } catch (RuntimeException e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (e instanceof BadRequestException || event.getAttempts() >= maxAttempts) {
+                event.setStatus(WebhookEventStatus.DEAD_LETTER);
+                log.error("Webhook de Stripe {} ({}) descartado tras {} intentos", eventId, event.getType(),
+                        event.getAttempts(), e);
+            } else {
+                event.setStatus(WebhookEventStatus.PENDING);
+                event.setNextAttemptAt(LocalDateTime.now().plus(retryDelay(event.getAttempts())));
+                log.warn("Webhook de Stripe {} ({}) falló en el intento {}: {}", eventId, event.getType(),
+                        event.getAttempts(), e.getMessage());
+            }
+        }
+        webhookEventRepository.save(event);
+    }
+
+    private void apply(String type, JsonNode event) {
+        JsonNode object = event.path("data").path("object");
+        switch (type) {
+            case "payment_intent.succeeded" -> {
+                EventRegistration registration = registrationFor(object.path("id").asText());
+                BigDecimal amount = amountReceived(object, registration.getEvent().getPrice());
+                registrationService.confirmPayment(registration.getId(), amount, registration.getStripePaymentIntentId());
+            }
+            case "payment_intent.payment_failed" ->
+                    registrationService.markPaymentFailed(registrationFor(object.path("id").asText()).getId());
+            default -> log.debug("Webhook de Stripe de tipo {} sin tratamiento", type);
+        }
+    }
+
+    private EventRegistration registrationFor(String paymentIntentId) {
+        return registrationRepository.findByStripePaymentIntentId(paymentIntentId)
+                .orElseThrow(() -> new NotFoundException("Registro no encontrado para el pago " + paymentIntentId));
+    }
+
+    /**
+     * Importe cobrado según el PaymentIntent (amount_received en la unidad mínima de la moneda)
+     * @throws BadRequestException si la moneda o el importe no coinciden con el precio del evento
+     */
+    private BigDecimal amountReceived(JsonNode paymentIntent, BigDecimal price) {
+        String received = paymentIntent.path("currency").asText("");
+        if (!received.equalsIgnoreCase(currency) || !paymentIntent.path("amount_received").canConvertToLong()) {
+            throw new BadRequestException("Pago " + paymentIntent.path("id").asText() + " en moneda '" + received +
+                    "' o sin amount_received; se esperaba " + currency);
+        }
+        BigDecimal amount = BigDecimal.valueOf(paymentIntent.path("amount_received").asLong())
+                .movePointLeft(Currency.getInstance(currency.toUpperCase()).getDefaultFractionDigits());
+        if (price == null || amount.compareTo(price) != 0) {
+            throw new BadRequestException("Pago " + paymentIntent.path("id").asText() + " por " + amount + " " +
+                    currency + " distinto del precio del evento (" + price + ")");
+        }
+        // Misma escala que el precio (iguales por compareTo, sin redondeo)
+        return amount.setScale(price.scale(), RoundingMode.UNNECESSARY);
+    }
+
+    private void dispatch(String eventId) {
+        try {
+            workers.execute(() -> process(eventId));
+        } catch (RejectedExecutionException e) {
+            log.debug("Cola de webhooks llena; el evento {} queda para el barrido", eventId);
+        }
+    }
+
+    private Duration retryDelay(int attempts) {
+        long delayMs = retryBaseMs << Math.min(Math.max(attempts - 1, 0), 20);
+        return delayMs > MAX_RETRY_DELAY.toMillis() ? MAX_RETRY_DELAY : Duration.ofMillis(delayMs);
+    }
+
+    private JsonNode parse(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Evento de Stripe no válido");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.feeling.domain.services.event;
 import com.feeling.domain.dto.event.TourRequestDTO;
 import com.feeling.domain.dto.event.TourResponseDTO;
 import com.feeling.domain.dto.event.availability.AvailabilityRequestDTO;
+import com.feeling.domain.services.reference.ReferenceDataRegistry;
 import com.feeling.exception.BadRequestException;
 import com.feeling.exception.DuplicateNameException;
 import com.feeling.exception.NotFoundException;
@@ -10,6 +11,7 @@ import com.feeling.infrastructure.entities.booking.Availability;
 import com.feeling.infrastructure.entities.booking.Booking;
 import com.feeling.infrastructure.entities.location.Location;
 import com.feeling.infrastructure.entities.tour.*;
+import com.feeling.infrastructure.repositories.booking.IAvailabilityHoldRepository;
 import com.feeling.infrastructure.repositories.booking.IAvailabilityRepository;
 import com.feeling.infrastructure.repositories.booking.IBookingRepository;
 import com.feeling.infrastructure.repositories.location.ILocationRepository;
@@ -37,12 +39,13 @@ public class TourService {
 
     private final ITourRepository tourRepository;
     private final ILocationRepository locationRepository;
-    private final IStatusTourRepository statusRepository;
     private final ITagTourRepository tagRepository;
+    private final ReferenceDataRegistry referenceData;
     private final IHotelRepository hotelRepository;
     private final IIncludeRepository includeRepository;
     private final IAvailabilityRepository availabilityRepository;
     private final IBookingRepository bookingRepository;
+    private final IAvailabilityHoldRepository availabilityHoldRepository;
 
     public List<TourResponseDTO> getAll() {
         List<Tour> data = tourRepository.findAll();
@@ -111,6 +114,7 @@ public class TourService {
                 bookingRepository.save(booking);
             }
             bookingRepository.deleteAll(bookings);
+            availabilityHoldRepository.deleteByAvailabilityId(availability.getId());
         }
 
         // Eliminar cada una de las disponibilidades
@@ -126,11 +130,11 @@ public class TourService {
         Location location = locationRepository.findByCountryAndCity(tour.destination().country(), tour.destination().city())
                 .orElseThrow(() -> new NotFoundException("Destino no encontrado"));
 
-        StatusTour statusTour = statusRepository.findByStatus(tour.status())
+        StatusTour statusTour = referenceData.tourStatus(tour.status())
                 .orElseThrow(() -> new NotFoundException("Estado no encontrado"));
 
         List<TagTour> tagList = tour.tags().stream()
-                .map(tag -> tagRepository.findByTagTourOptions(tag)
+                .map(tag -> referenceData.tourTag(tag)
                         .orElseThrow(() -> new NotFoundException("Etiqueta no encontrada: " + tag)))
                 .collect(Collectors.toList());
 
@@ -191,10 +195,11 @@ public class TourService {
         tourRepository.save(existingTour);
 
         List<TagTour> tagList = tags.stream()
-                .map(tag -> tagRepository.findByTagTourOptions(tag)
+                .map(tag -> referenceData.tourTag(tag)
                         .orElseGet(() -> {
                             TagTour newTag = new TagTour(tag);
                             tagRepository.save(newTag);
+                            referenceData.invalidate(ReferenceDataRegistry.TOUR_TAGS);
                             return newTag;
                         }))
                 .collect(Collectors.toList());
@@ -0,0 +1,13 @@
+package com.feeling.domain.services.export;
+
+import java.util.function.Function;
+
+/**
+ * Columna de una exportación: cabecera CSV / clave NDJSON y el valor que toma de cada fila
+ */
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+
+    public static <T> ExportColumn<T> of(String name, Function<T, Object> value) {
+        return new ExportColumn<>(name, value);
+    }
+}
@@ -0,0 +1,165 @@
+package com.feeling.domain.services.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Exportaciones de administración en CSV o NDJSON escritas fila a fila sobre la respuesta
+ * Las filas llegan de un Stream de Spring Data con cursor de solo avance (ver las consultas stream* de los repositorios),
+ * abierto dentro de una transacción de solo lectura en el hilo asíncrono de StreamingResponseBody; el heap usado no depende
+ * del tamaño de la exportación y la duración máxima la marca spring.mvc.async.request-timeout
+ */
+@Slf4j
+@Service
+public class StreamingExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 1000;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public StreamingExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Respuesta de descarga con las filas de rows; la consulta se ejecuta cuando empieza la escritura, no al llamar al método
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format,
+                                                            List<ExportColumn<T>> columns, Supplier<Stream<T>> rows) {
+        String fileName = name + "-" + LocalDate.now() + "." + format.getExtension();
+        StreamingResponseBody body = out -> {
+            long started = System.currentTimeMillis();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            Long written = readOnlyTransaction.execute(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    return write(writer, format, columns, stream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("Exportación {} completada: {} filas en {} ms", fileName, written, System.currentTimeMillis() - started);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(body);
+    }
+
+    static <T> long write(Writer writer, ExportFormat format, List<ExportColumn<T>> columns, Stream<T> rows) throws IOException {
+        JsonGenerator json = format == ExportFormat.NDJSON ? ndjsonGenerator(writer) : null;
+        if (format == ExportFormat.CSV) {
+            writer.write(csvLine(columns.stream().map(ExportColumn::name).toList()));
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (json != null) {
+                json.writeStartObject();
+                for (ExportColumn<T> column : columns) {
+                    json.writeFieldName(column.name());
+                    writeJsonValue(json, cell(column.value().apply(row)));
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } else {
+                writer.write(csvLine(columns.stream().map(column -> cell(column.value().apply(row))).toList()));
+            }
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                if (json != null) {
+                    json.flush();
+                }
+                writer.flush();
+            }
+        }
+        if (json != null) {
+            json.close();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static JsonGenerator ndjsonGenerator(Writer writer) throws IOException {
+        return JSON_FACTORY.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    // Fechas en ISO-8601 y enums por nombre, igual en CSV y NDJSON
+    private static Object cell(Object value) {
+        if (value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value;
+    }
+
+    private static void writeJsonValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Boolean flag) {
+            json.writeBoolean(flag);
+        } else if (value instanceof Long || value instanceof Integer) {
+            json.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            json.writeNumber(number.toString());
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Línea CSV (RFC 4180): entrecomilla los valores con separadores, comillas o saltos de línea y neutraliza los textos
+     * que una hoja de cálculo interpretaría como fórmula
+     */
+    static String csvLine(List<?> values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                line.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(text);
+            }
+        }
+        return line.append("\r\n").toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.feeling.domain.services.info;
+
+import com.feeling.domain.dto.info.CacheStatisticsDTO;
+import com.feeling.domain.dto.response.MessageResponseDTO;
+import com.feeling.exception.NotFoundException;
+import com.feeling.infrastructure.cache.CacheVersionRegistry;
+import com.feeling.infrastructure.cache.VersionedCacheManager;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estadísticas de los caches Caffeine de la aplicación para ajustar tamaños y expiraciones con datos reales
+ * Los tiempos de carga solo se registran en los caches declarados con @Cacheable(sync = true)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final CacheManager cacheManager;
+    private final CacheVersionRegistry cacheVersionRegistry;
+
+    public List<CacheStatisticsDTO> getAllCacheStatistics() {
+        CacheManager nativeManager = nativeCacheManager();
+        return nativeManager.getCacheNames().stream()
+                .map(nativeManager::getCache)
+                .filter(Objects::nonNull)
+                .map(this::toStatistics)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(CacheStatisticsDTO::name))
+                .toList();
+    }
+
+    public CacheStatisticsDTO getCacheStatistics(String cacheName) {
+        CacheStatisticsDTO statistics = toStatistics(findCache(cacheName));
+        if (statistics == null) {
+            throw new NotFoundException("Cache sin estadísticas: " + cacheName);
+        }
+        return statistics;
+    }
+
+    /**
+     * Vacía un cache a través del CacheManager versionado para invalidar también los ETags asociados
+     */
+    public MessageResponseDTO clearCache(String cacheName) {
+        findCache(cacheName);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+        log.info("Cache '{}' vaciado manualmente", cacheName);
+        return new MessageResponseDTO("Cache " + cacheName + " vaciado correctamente");
+    }
+
+    private Cache findCache(String cacheName) {
+        CacheManager nativeManager = nativeCacheManager();
+        if (!nativeManager.getCacheNames().contains(cacheName)) {
+            throw new NotFoundException("Cache no encontrado: " + cacheName);
+        }
+        return nativeManager.getCache(cacheName);
+    }
+
+    // Se consulta el CacheManager original para no crear caches nuevos ni alterar versiones al inspeccionar
+    private CacheManager nativeCacheManager() {
+        return cacheManager instanceof VersionedCacheManager versioned ? versioned.getDelegate() : cacheManager;
+    }
+
+    private CacheStatisticsDTO toStatistics(Cache cache) {
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        Policy.Eviction<Object, Object> eviction = nativeCache.policy().eviction().orElse(null);
+
+        return CacheStatisticsDTO.builder()
+                .name(cache.getName())
+                .estimatedSize(nativeCache.estimatedSize())
+                .weightedSize(eviction != null ? weightedSize(eviction) : null)
+                .maximum(eviction != null ? eviction.getMaximum() : null)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRatio(stats.requestCount() == 0 ? null : stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadCount(stats.loadCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1))
+                .totalLoadMillis(TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime()))
+                .version(cacheVersionRegistry.version(cache.getName()))
+                .build();
+    }
+
+    // Solo los caches acotados por peso (catálogos) informan tamaño ponderado
+    private Long weightedSize(Policy.Eviction<Object, Object> eviction) {
+        OptionalLong weightedSize = eviction.weightedSize();
+        return weightedSize.isPresent() ? weightedSize.getAsLong() : null;
+    }
+}
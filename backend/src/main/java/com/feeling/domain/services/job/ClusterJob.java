@@ -0,0 +1,95 @@
+package com.feeling.domain.services.job;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Job de mantenimiento que se ejecuta una sola vez por clúster (ClusterJobRunner)
+ * El trabajo se reparte en tramos: cada uno recibe el cursor del anterior (null al empezar) y devuelve cuánto procesó
+ * y el cursor siguiente, o null cuando no queda nada. Cada tramo gestiona su propia transacción y debe poder repetirse:
+ * si el nodo cae entre el tramo y el guardado del cursor, la siguiente ejecución vuelve a procesarlo
+ */
+public interface ClusterJob {
+
+    String name();
+
+    /**
+     * Expresión cron de las ejecuciones programadas; "-" las desactiva y el job solo se lanza a mano
+     */
+    String cron();
+
+    Chunk runChunk(String cursor);
+
+    /**
+     * Corrección puntual: se ejecuta al arrancar hasta que una ejecución termine bien, y su historial no caduca
+     */
+    default boolean oneOff() {
+        return false;
+    }
+
+    record Chunk(long processed, String nextCursor) {
+
+        public static Chunk next(long processed, String nextCursor) {
+            return new Chunk(processed, nextCursor);
+        }
+
+        public static Chunk done(long processed) {
+            return new Chunk(processed, null);
+        }
+    }
+
+    static ClusterJob chunked(String name, String cron, Function<String, Chunk> chunk) {
+        return new ClusterJob() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String cron() {
+                return cron;
+            }
+
+            @Override
+            public Chunk runChunk(String cursor) {
+                return chunk.apply(cursor);
+            }
+        };
+    }
+
+    /**
+     * Job de un solo tramo
+     */
+    static ClusterJob single(String name, String cron, LongSupplier work) {
+        return chunked(name, cron, cursor -> Chunk.done(work.getAsLong()));
+    }
+
+    /**
+     * Job de un solo tramo que se ejecuta una única vez en la vida del clúster (ver oneOff)
+     */
+    static ClusterJob oneOff(String name, LongSupplier work) {
+        return new ClusterJob() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String cron() {
+                return Scheduled.CRON_DISABLED;
+            }
+
+            @Override
+            public Chunk runChunk(String cursor) {
+                return Chunk.done(work.getAsLong());
+            }
+
+            @Override
+            public boolean oneOff() {
+                return true;
+            }
+        };
+    }
+}
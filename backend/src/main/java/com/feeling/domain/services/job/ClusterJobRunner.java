@@ -0,0 +1,283 @@
+package com.feeling.domain.services.job;
+
+import com.feeling.domain.dto.info.ScheduledJobRunDTO;
+import com.feeling.domain.dto.info.ScheduledJobStatusDTO;
+import com.feeling.domain.dto.response.MessageResponseDTO;
+import com.feeling.exception.BadRequestException;
+import com.feeling.exception.NotFoundException;
+import com.feeling.infrastructure.entities.job.JobRunStatus;
+import com.feeling.infrastructure.entities.job.JobTrigger;
+import com.feeling.infrastructure.entities.job.ScheduledJobLock;
+import com.feeling.infrastructure.entities.job.ScheduledJobRun;
+import com.feeling.infrastructure.repositories.job.IScheduledJobLockRepository;
+import com.feeling.infrastructure.repositories.job.IScheduledJobRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ejecuta los jobs de mantenimiento (beans ClusterJob) una sola vez por clúster
+ * Antes de empezar, el nodo toma la concesión del job en scheduled_job_lock con un UPDATE condicional; las demás
+ * réplicas que disparan el mismo cron no la obtienen y no hacen nada. Cada disparo programado se identifica por la hora
+ * prevista de su cron, de modo que una réplica cuyo cron llega tarde, con el job ya terminado, tampoco lo repite; las
+ * fechas de la concesión usan el reloj de la base de datos. Tras cada tramo se guarda el cursor y se prolonga
+ * la concesión jobs.lease-seconds, así que un job largo no la pierde mientras avance y, si el nodo cae, otra réplica la
+ * toma al caducar y reanuda desde el último cursor. Cada ejecución queda en scheduled_job_runs (nodo, disparador,
+ * duración, tramos y filas procesadas), con jobs.history.retention-days días de historial por job.
+ * Las limpiezas de estado en memoria de cada nodo (lista negra de tokens, buckets de rate limiting) no pasan por aquí:
+ * tienen que ejecutarse en todas las réplicas
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClusterJobRunner implements SchedulingConfigurer {
+
+    private static final LocalDateTime FREE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final List<ClusterJob> jobs;
+    private final IScheduledJobLockRepository lockRepository;
+    private final IScheduledJobRunRepository runRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+
+    private final String nodeId = resolveNodeId();
+
+    @Value("${jobs.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${jobs.history.retention-days:30}")
+    private int retentionDays;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (ClusterJob job : jobs) {
+            if (!Scheduled.CRON_DISABLED.equals(job.cron())) {
+                // El trigger anota la hora prevista del disparo antes de programarlo; la tarea la recibe al ejecutarse
+                CronTrigger cron = new CronTrigger(job.cron());
+                AtomicReference<Instant> fireTime = new AtomicReference<>();
+                registrar.addTriggerTask(
+                        () -> run(job.name(), JobTrigger.SCHEDULED, LocalDateTime.ofInstant(fireTime.get(), ZoneId.systemDefault())),
+                        context -> {
+                            Instant next = cron.nextExecution(context);
+                            fireTime.set(next);
+                            return next;
+                        });
+            }
+        }
+    }
+
+    /**
+     * Lanza los jobs puntuales que todavía no han terminado bien; si varias réplicas arrancan a la vez, la concesión
+     * deja que solo una lo ejecute
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runPendingOneOffJobs() {
+        for (ClusterJob job : jobs) {
+            if (job.oneOff() && !runRepository.existsByJobNameAndStatus(job.name(), JobRunStatus.SUCCEEDED)) {
+                taskScheduler.schedule(() -> run(job.name(), JobTrigger.SCHEDULED), Instant.now());
+            }
+        }
+    }
+
+    /**
+     * Ejecuta el job si ninguna otra réplica lo tiene en curso
+     * @return la ejecución registrada, o vacío si la concesión la tenía otro nodo
+     */
+    public Optional<ScheduledJobRun> run(String jobName, JobTrigger trigger) {
+        return run(jobName, trigger, null);
+    }
+
+    /**
+     * Ejecuta el disparo del cron previsto para fireTime (null en ejecuciones manuales) si ninguna réplica lo tiene en
+     * curso ni lo ha ejecutado ya
+     */
+    public Optional<ScheduledJobRun> run(String jobName, JobTrigger trigger, LocalDateTime fireTime) {
+        ClusterJob job = job(jobName);
+        LocalDateTime now = LocalDateTime.now();
+        boolean acquired = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            lockRepository.insertIfAbsent(jobName, FREE);
+            return lockRepository.acquire(jobName, nodeId, fireTime, leaseSeconds) == 1;
+        }));
+        if (!acquired) {
+            log.debug("Job {} en curso en otra réplica o disparo {} ya ejecutado; se omite", jobName, fireTime);
+            return Optional.empty();
+        }
+        // Otra réplica pudo completar el job puntual entre la comprobación al arrancar y la concesión
+        if (job.oneOff() && trigger == JobTrigger.SCHEDULED
+                && runRepository.existsByJobNameAndStatus(jobName, JobRunStatus.SUCCEEDED)) {
+            transactionTemplate.executeWithoutResult(status -> lockRepository.release(jobName, nodeId, null));
+            return Optional.empty();
+        }
+
+        String resumedFrom = lockRepository.findById(jobName).map(ScheduledJobLock::getResumeCursor).orElse(null);
+        ScheduledJobRun run = transactionTemplate.execute(status -> {
+            runRepository.closeAbandoned(jobName, JobRunStatus.RUNNING, JobRunStatus.FAILED,
+                    "Interrumpido: el nodo dejó de renovar la concesión", now);
+            return runRepository.save(ScheduledJobRun.builder()
+                    .jobName(jobName)
+                    .node(nodeId)
+                    .trigger(trigger)
+                    .resumedFrom(resumedFrom)
+                    .startedAt(now)
+                    .build());
+        });
+        if (resumedFrom != null) {
+            log.info("Job {} reanudado desde el cursor {}", jobName, resumedFrom);
+        }
+
+        String cursor = resumedFrom;
+        long started = System.nanoTime();
+        try {
+            do {
+                ClusterJob.Chunk chunk = job.runChunk(cursor);
+                run.setChunks(run.getChunks() + 1);
+                run.setProcessed(run.getProcessed() + chunk.processed());
+                cursor = chunk.nextCursor();
+                String checkpoint = cursor;
+                Integer renewed = transactionTemplate.execute(status -> lockRepository.checkpoint(
+                        jobName, nodeId, checkpoint, leaseSeconds));
+                if (renewed == null || renewed == 0) {
+                    throw new IllegalStateException("Concesión perdida: el job lo tomó otra réplica");
+                }
+            } while (cursor != null);
+            run.setStatus(JobRunStatus.SUCCEEDED);
+            log.info("Job {} completado: {} tramos, {} procesados", jobName, run.getChunks(), run.getProcessed());
+        } catch (RuntimeException e) {
+            run.setStatus(JobRunStatus.FAILED);
+            run.setError(truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+            log.error("Job {} fallido tras {} tramos", jobName, run.getChunks(), e);
+        }
+        finish(job, run, cursor, started);
+        return Optional.of(run);
+    }
+
+    /**
+     * Lanza el job en el scheduler sin esperar a que termine
+     */
+    public MessageResponseDTO trigger(String jobName) {
+        job(jobName);
+        lockRepository.findHeld(jobName)
+                .ifPresent(lock -> {
+                    throw new BadRequestException("El job " + jobName + " ya se está ejecutando en " + lock.getLockedBy());
+                });
+        taskScheduler.schedule(() -> run(jobName, JobTrigger.MANUAL), Instant.now());
+        return new MessageResponseDTO("Job " + jobName + " lanzado");
+    }
+
+    public List<ScheduledJobStatusDTO> getJobs() {
+        Map<String, ScheduledJobLock> locks = lockRepository.findAll().stream()
+                .collect(Collectors.toMap(ScheduledJobLock::getJobName, Function.identity()));
+        Set<String> held = new HashSet<>(lockRepository.findHeldJobNames());
+        return jobs.stream()
+                .sorted(Comparator.comparing(ClusterJob::name))
+                .map(job -> {
+                    ScheduledJobLock lock = locks.get(job.name());
+                    return ScheduledJobStatusDTO.builder()
+                            .name(job.name())
+                            .cron(job.cron())
+                            .running(held.contains(job.name()))
+                            .lockedBy(lock != null ? lock.getLockedBy() : null)
+                            .lockedUntil(lock != null ? lock.getLockedUntil() : null)
+                            .resumeCursor(lock != null ? lock.getResumeCursor() : null)
+                            .lastRun(runRepository.findFirstByJobNameOrderByStartedAtDesc(job.name())
+                                    .map(this::toDTO)
+                                    .orElse(null))
+                            .build();
+                })
+                .toList();
+    }
+
+    public Page<ScheduledJobRunDTO> getRuns(String jobName, Pageable pageable) {
+        job(jobName);
+        return runRepository.findByJobNameOrderByStartedAtDesc(jobName, pageable).map(this::toDTO);
+    }
+
+    // ========================================
+    // MÉTODOS PRIVADOS
+    // ========================================
+
+    private ClusterJob job(String jobName) {
+        return jobs.stream()
+                .filter(job -> job.name().equals(jobName))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("Job no encontrado: " + jobName));
+    }
+
+    // Libera la concesión conservando el cursor si el job no terminó, y cierra la ejecución
+    // El historial de los jobs puntuales se conserva: es lo que evita repetirlos al arrancar
+    private void finish(ClusterJob job, ScheduledJobRun run, String cursor, long startedNanos) {
+        LocalDateTime now = LocalDateTime.now();
+        run.setFinishedAt(now);
+        run.setDurationMs((System.nanoTime() - startedNanos) / 1_000_000);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                lockRepository.release(run.getJobName(), nodeId, cursor);
+                runRepository.save(run);
+                if (!job.oneOff()) {
+                    runRepository.deleteStartedBefore(run.getJobName(), now.minusDays(retentionDays));
+                }
+            });
+        } catch (RuntimeException e) {
+            // La concesión caducará sola; la ejecución quedará abierta hasta que otra la cierre
+            log.warn("No se pudo registrar el final del job {}: {}", run.getJobName(), e.getMessage());
+        }
+    }
+
+    private ScheduledJobRunDTO toDTO(ScheduledJobRun run) {
+        return ScheduledJobRunDTO.builder()
+                .id(run.getId())
+                .jobName(run.getJobName())
+                .node(run.getNode())
+                .trigger(run.getTrigger().name())
+                .status(run.getStatus().name())
+                .resumedFrom(run.getResumedFrom())
+                .chunks(run.getChunks())
+                .processed(run.getProcessed())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .durationMs(run.getDurationMs())
+                .error(run.getError())
+                .build();
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String resolveNodeId() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return (host.length() > 55 ? host.substring(0, 55) : host) + "-" + suffix;
+        } catch (Exception e) {
+            return "node-" + suffix;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.feeling.domain.services.job;
+
+import com.feeling.domain.services.analytics.AnalyticsRollupService;
+import com.feeling.domain.services.booking.SlotInventoryService;
+import com.feeling.domain.services.event.EventRegistrationService;
+import com.feeling.domain.services.user.SuggestionQueueService;
+import com.feeling.domain.services.user.UserTagService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jobs de mantenimiento que trabajan sobre la base de datos compartida y deben ejecutarse una sola vez por clúster
+ * Cada cron se configura en jobs.{nombre}.cron, o en la propiedad del módulo para analytics-* y suggestion-queues
+ * ("-" lo desactiva); todos se pueden lanzar a mano desde /admin/jobs
+ * Los jobs puntuales (ClusterJob.oneOff) no tienen cron: se ejecutan al arrancar hasta que uno termina bien
+ */
+@Configuration
+public class MaintenanceJobs {
+
+    public static final String USER_TAG_METRICS = "user-tag-metrics";
+    public static final String USER_TAG_CLEANUP = "user-tag-cleanup";
+    public static final String ANALYTICS_NIGHTLY = "analytics-nightly";
+    public static final String ANALYTICS_TODAY = "analytics-today";
+    public static final String SUGGESTION_QUEUES = "suggestion-queues";
+    public static final String EVENT_SEAT_HOLDS = "event-seat-holds";
+    public static final String EVENT_ATTENDEES_RECOUNT = "event-attendees-recount";
+    public static final String BOOKING_HOLDS = "booking-holds";
+
+    @Bean
+    public ClusterJob userTagMetricsJob(UserTagService userTagService,
+                                        @Value("${jobs.user-tag-metrics.cron:0 30 1 * * *}") String cron,
+                                        @Value("${jobs.user-tags.chunk-size:1000}") int chunkSize) {
+        return ClusterJob.chunked(USER_TAG_METRICS, cron, cursor -> userTagService.updateTagMetrics(cursor, chunkSize));
+    }
+
+    @Bean
+    public ClusterJob userTagCleanupJob(UserTagService userTagService,
+                                        @Value("${jobs.user-tag-cleanup.cron:0 0 2 * * *}") String cron,
+                                        @Value("${jobs.user-tags.chunk-size:1000}") int chunkSize) {
+        return ClusterJob.chunked(USER_TAG_CLEANUP, cron, cursor -> userTagService.cleanupUnusedTags(cursor, chunkSize));
+    }
+
+    @Bean
+    public ClusterJob analyticsNightlyJob(AnalyticsRollupService rollupService,
+                                          @Value("${analytics.rollup.nightly-cron:0 15 0 * * *}") String cron) {
+        return ClusterJob.single(ANALYTICS_NIGHTLY, cron, rollupService::nightly);
+    }
+
+    @Bean
+    public ClusterJob analyticsTodayJob(AnalyticsRollupService rollupService,
+                                        @Value("${analytics.rollup.incremental-cron:0 */15 * * * *}") String cron) {
+        return ClusterJob.single(ANALYTICS_TODAY, cron, rollupService::refreshToday);
+    }
+
+    @Bean
+    public ClusterJob suggestionQueuesJob(SuggestionQueueService queueService,
+                                          @Value("${suggestions.queue.refresh-cron:0 */5 * * * *}") String cron) {
+        return ClusterJob.single(SUGGESTION_QUEUES, cron, queueService::refreshQueues);
+    }
+
+    @Bean
+    public ClusterJob eventSeatHoldsJob(EventRegistrationService registrationService,
+                                        @Value("${jobs.event-seat-holds.cron:0 * * * * *}") String cron,
+                                        @Value("${jobs.event-seat-holds.chunk-size:200}") int chunkSize) {
+        return ClusterJob.chunked(EVENT_SEAT_HOLDS, cron, cursor -> registrationService.expireSeatHolds(cursor, chunkSize));
+    }
+
+    @Bean
+    public ClusterJob bookingHoldsJob(SlotInventoryService slotInventoryService,
+                                      @Value("${jobs.booking-holds.cron:0 * * * * *}") String cron,
+                                      @Value("${jobs.booking-holds.chunk-size:200}") int chunkSize) {
+        return ClusterJob.chunked(BOOKING_HOLDS, cron, cursor -> slotInventoryService.releaseExpiredHolds(cursor, chunkSize));
+    }
+
+    @Bean
+    public ClusterJob eventAttendeesRecountJob(EventRegistrationService registrationService) {
+        return ClusterJob.oneOff(EVENT_ATTENDEES_RECOUNT, registrationService::recountAttendees);
+    }
+}
@@ -0,0 +1,90 @@
+package com.feeling.domain.services.location;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Índice en memoria de puntos por celdas de una rejilla de latitud/longitud
+ * Una búsqueda por radio solo recorre las celdas que cubren el rectángulo envolvente del círculo.
+ * Es inmutable una vez construido: se reemplaza completo al refrescarse
+ */
+public final class GeoGridIndex<T> {
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double cellDegrees;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private int size;
+
+    public GeoGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    public record Entry<T>(GeoPoint point, T value) {}
+
+    public record Hit<T>(T value, double distanceKm) {}
+
+    /**
+     * Solo durante la construcción, antes de publicar el índice
+     */
+    public void add(GeoPoint point, T value) {
+        cells.computeIfAbsent(cellKey(cellOf(point.latitude()), cellOf(point.longitude())), key -> new ArrayList<>())
+                .add(new Entry<>(point, value));
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Valores a menos de radiusKm del centro que cumplen el filtro, ordenados por distancia
+     */
+    public List<Hit<T>> withinRadius(GeoPoint center, double radiusKm, Predicate<T> filter, int limit) {
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.max(Math.cos(Math.toRadians(center.latitude())), 0.01);
+        double lonSpan = Math.min(radiusKm / (KM_PER_DEGREE * cosLat), 180.0);
+
+        long minLat = cellOf(Math.max(center.latitude() - latSpan, -90.0));
+        long maxLat = cellOf(Math.min(center.latitude() + latSpan, 90.0));
+        long minLon = cellOf(center.longitude() - lonSpan);
+        long maxLon = cellOf(center.longitude() + lonSpan);
+
+        List<Hit<T>> hits = new ArrayList<>();
+        for (long latCell = minLat; latCell <= maxLat; latCell++) {
+            for (long lonCell = minLon; lonCell <= maxLon; lonCell++) {
+                List<Entry<T>> entries = cells.get(cellKey(latCell, wrapLongitudeCell(lonCell)));
+                if (entries == null) {
+                    continue;
+                }
+                for (Entry<T> entry : entries) {
+                    double distance = center.distanceKm(entry.point());
+                    if (distance <= radiusKm && filter.test(entry.value())) {
+                        hits.add(new Hit<>(entry.value(), distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private long cellOf(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    // Las celdas al otro lado del antimeridiano se buscan con su índice equivalente
+    private long wrapLongitudeCell(long lonCell) {
+        long cellsPerTurn = Math.round(360.0 / cellDegrees);
+        long minCell = cellOf(-180.0);
+        return Math.floorMod(lonCell - minCell, cellsPerTurn) + minCell;
+    }
+
+    private static long cellKey(long latCell, long lonCell) {
+        return (latCell << 32) ^ (lonCell & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,88 @@
+package com.feeling.domain.services.location;
+
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+
+/**
+ * Índice geográfico en memoria de los usuarios descubribles para la búsqueda por radio (locationPreferenceRadius)
+ * Cada usuario se sitúa en el centroide de su localidad o ciudad (LocationService); el índice se reconstruye
+ * completo cada geo.index.refresh-interval-ms y se publica de una vez, sin bloquear las consultas en curso
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoIndexService {
+
+    private final IUserRepository userRepository;
+    private final LocationService locationService;
+
+    @Value("${geo.index.cell-degrees:0.1}")
+    private double cellDegrees;
+
+    private volatile GeoGridIndex<Candidate> index;
+
+    public record Candidate(Long userId, Long categoryInterestId, Integer birthYear) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${geo.index.refresh-interval-ms:600000}",
+               initialDelayString = "${geo.index.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            GeoGridIndex<Candidate> built = new GeoGridIndex<>(cellDegrees);
+            int unresolved = 0;
+            for (Object[] row : userRepository.findDiscoverableLocations()) {
+                Optional<GeoPoint> point = locationService.resolveCentroid((String) row[1], (String) row[2], (String) row[3]);
+                if (point.isEmpty()) {
+                    unresolved++;
+                    continue;
+                }
+                LocalDate dateOfBirth = (LocalDate) row[5];
+                built.add(point.get(), new Candidate((Long) row[0], (Long) row[4],
+                        dateOfBirth != null ? dateOfBirth.getYear() : null));
+            }
+            index = built;
+            log.info("Índice geográfico reconstruido: {} usuarios ({} sin centroide)", built.size(), unresolved);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo reconstruir el índice geográfico; se conserva el anterior", e);
+        }
+    }
+
+    /**
+     * Candidatos compatibles a menos de radiusKm, del más cercano al más lejano, sin los que cumplan excluded
+     * (usuarios ya vistos); el límite se aplica después de descartarlos
+     * Vacío si el índice aún no se ha construido (el llamador usa entonces la búsqueda por ciudad)
+     */
+    public Optional<List<GeoGridIndex.Hit<Candidate>>> withinRadius(GeoPoint center, double radiusKm, Long excludeUserId,
+                                                                    Long categoryInterestId, Integer minAge,
+                                                                    Integer maxAge, LongPredicate excluded, int limit) {
+        GeoGridIndex<Candidate> current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        // Edad por diferencia de años, igual que findCompatibleUserIds
+        int currentYear = Year.now().getValue();
+        return Optional.of(current.withinRadius(center, radiusKm, candidate ->
+                !candidate.userId().equals(excludeUserId)
+                        && !excluded.test(candidate.userId())
+                        && (categoryInterestId == null || categoryInterestId.equals(candidate.categoryInterestId()))
+                        && (minAge == null || (candidate.birthYear() != null && currentYear - candidate.birthYear() >= minAge))
+                        && (maxAge == null || (candidate.birthYear() != null && currentYear - candidate.birthYear() <= maxAge)),
+                limit));
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.text.Normalizer;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,15 +30,35 @@ public class LocationService {
             "Colombia", Set.of("Bogotá D.C.", "Bogotá")
     );
     private final ObjectMapper objectMapper;
+    // Centroides de ciudades y localidades (centroids.json), indexados por nombre normalizado
+    private volatile CentroidIndex centroids;
 
     public LocationService(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
 
+    /**
+     * Centroide aproximado de la ubicación: el de la localidad si se conoce, si no el de la ciudad.
+     * Vacío si la ciudad no está en el dataset de centroides
+     */
+    public Optional<GeoPoint> resolveCentroid(String country, String city, String locality) {
+        if (country == null || city == null) {
+            return Optional.empty();
+        }
+        CentroidIndex index = centroidIndex();
+        if (locality != null) {
+            GeoPoint point = index.localities().get(normalize(city) + "|" + normalize(locality));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.ofNullable(index.cities().get(normalize(country) + "|" + normalize(city)));
+    }
+
     /**
      * Obtiene todos los países ordenados con Colombia primero
      */
-    @Cacheable("countries")
+    @Cacheable(value = "countries", sync = true)
     public List<CountryResponseDTO> getAllCountries() {
         try {
             Map<String, CountryRequestDTO> countriesData = loadCountriesData();
@@ -87,7 +108,7 @@ public class LocationService {
     /**
      * Obtiene las ciudades de un país específico
      */
-    @Cacheable("cities")
+    @Cacheable(value = "cities", sync = true)
     public List<CityResponseDTO> getCitiesByCountry(String countryName) {
         try {
             Map<String, List<String>> citiesData = loadCitiesData();
@@ -104,7 +125,7 @@ public class LocationService {
     /**
      * Obtiene las localidades de una ciudad específica
      */
-    @Cacheable("localities")
+    @Cacheable(value = "localities", sync = true)
     public List<LocalityResponseDTO> getLocalitiesByCity(String cityName) {
         try {
             Map<String, List<String>> localitiesData = loadLocalitiesData();
@@ -124,7 +145,7 @@ public class LocationService {
     /**
      * Obtiene todos los datos geográficos en una sola respuesta
      */
-    @Cacheable("geographic-data")
+    @Cacheable(value = "geographic-data", sync = true)
     public GeographicDataResponseDTO getAllGeographicData() {
         List<CountryResponseDTO> countries = getAllCountries();
 
@@ -219,6 +240,57 @@ public class LocationService {
         }
     }
 
+    private record CentroidIndex(Map<String, GeoPoint> cities, Map<String, GeoPoint> localities) {
+    }
+
+    private CentroidIndex centroidIndex() {
+        CentroidIndex index = centroids;
+        if (index == null) {
+            synchronized (this) {
+                if (centroids == null) {
+                    centroids = loadCentroids();
+                }
+                index = centroids;
+            }
+        }
+        return index;
+    }
+
+    private CentroidIndex loadCentroids() {
+        Map<String, GeoPoint> cities = new HashMap<>();
+        Map<String, GeoPoint> localities = new HashMap<>();
+        try {
+            Map<String, Map<String, Map<String, double[]>>> data = objectMapper.readValue(
+                    new ClassPathResource("centroids.json").getInputStream(),
+                    new TypeReference<Map<String, Map<String, Map<String, double[]>>>>() {
+                    }
+            );
+            data.getOrDefault("cities", Map.of()).forEach((country, byCity) -> byCity.forEach((city, coords) ->
+                    cities.put(normalize(country) + "|" + normalize(city), new GeoPoint(coords[0], coords[1]))));
+            data.getOrDefault("localities", Map.of()).forEach((city, byLocality) -> byLocality.forEach((locality, coords) ->
+                    localities.put(normalize(city) + "|" + normalize(locality), new GeoPoint(coords[0], coords[1]))));
+
+            // Las localidades de Bogotá también se registran con "Bogotá D.C.", como en loadLocalitiesData
+            String bogota = normalize("Bogotá");
+            String bogotaDc = normalize("Bogotá D.C.");
+            new HashMap<>(localities).forEach((key, point) -> {
+                if (key.startsWith(bogota + "|")) {
+                    localities.put(bogotaDc + key.substring(bogota.length()), point);
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("Error al cargar centroides, la búsqueda por radio queda desactivada", e);
+        }
+        return new CentroidIndex(Map.copyOf(cities), Map.copyOf(localities));
+    }
+
+    // Sin tildes ni mayúsculas, para tolerar variantes de escritura del perfil
+    private static String normalize(String name) {
+        return Normalizer.normalize(name.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
     private List<CountryResponseDTO> getDefaultCountries() {
         return List.of(
                 new CountryResponseDTO(
@@ -2,7 +2,10 @@ package com.feeling.domain.services.match;
 
 import com.feeling.domain.dto.match.FavoriteRequestDTO;
 import com.feeling.domain.dto.match.FavoriteResponseDTO;
+import com.feeling.domain.dto.response.CursorPageDTO;
+import com.feeling.domain.dto.response.SeekCursor;
 import com.feeling.domain.dto.user.UserPublicResponseDTO;
+import com.feeling.domain.services.user.SeenSetService;
 import com.feeling.domain.services.user.UserService;
 import com.feeling.infrastructure.entities.match.UserFavorite;
 import com.feeling.infrastructure.entities.user.User;
@@ -11,10 +14,14 @@ import com.feeling.infrastructure.repositories.user.IUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +30,8 @@ public class FavoriteService {
     private final IUserFavoriteRepository userFavoriteRepository;
     private final IUserRepository userRepository;
     private final UserService userService;
+    private final MatchPageAssembler matchPageAssembler;
+    private final SeenSetService seenSetService;
 
     @Transactional
     public FavoriteResponseDTO addFavorite(User user, FavoriteRequestDTO request) {
@@ -43,6 +52,7 @@ public class FavoriteService {
         userFavorite = userFavoriteRepository.save(userFavorite);
 
         log.info("User {} successfully added user {} to favorites", user.getId(), favoriteUser.getId());
+        seenSetService.markSeen(user.getId(), List.of(favoriteUser.getId()));
 
         return convertToResponseDTO(userFavorite);
     }
@@ -64,8 +74,17 @@ public class FavoriteService {
 
     public Page<FavoriteResponseDTO> getUserFavorites(User user, Pageable pageable) {
         log.debug("Getting favorites for user: {}", user.getId());
-        return userFavoriteRepository.findUserFavorites(user, pageable)
-                .map(this::convertToResponseDTO);
+        Page<UserFavorite> favorites = userFavoriteRepository.findUserFavorites(user, pageable);
+        return favorites.map(matchPageAssembler.favoriteMapper(favorites.getContent()));
+    }
+
+    public CursorPageDTO<FavoriteResponseDTO> getUserFavorites(User user, String cursor, int size) {
+        SeekCursor after = SeekCursor.decode(cursor);
+        Slice<UserFavorite> favorites = userFavoriteRepository.findUserFavoritesAfter(
+                user, after.timestamp(), after.id(), PageRequest.of(0, size));
+        return CursorPageDTO.of(favorites,
+                favorite -> new SeekCursor(favorite.getCreatedAt(), favorite.getId()),
+                matchPageAssembler.favoriteMapper(favorites.getContent()));
     }
 
     public boolean isFavorite(User user, Long favoriteUserId) {
@@ -0,0 +1,106 @@
+package com.feeling.domain.services.match;
+
+import com.feeling.infrastructure.repositories.match.IUserMatchPlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Libro de intentos de match por usuario
+ * La BD es la fuente de verdad: cada consumo es un único UPDATE condicional (remaining_attempts > 0),
+ * por lo que ráfagas concurrentes de una misma cuenta nunca gastan más intentos de los comprados.
+ * El saldo se mantiene en el cache "match-attempts" (cargado bajo demanda) para responder consultas
+ * y rechazar sin tocar la BD a usuarios sin intentos. Las compras lo invalidan en todos los nodos.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchAttemptLedger {
+
+    static final String CACHE_NAME = "match-attempts";
+
+    private final IUserMatchPlanRepository userMatchPlanRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * Saldo de intentos del usuario (desde cache; se carga con una consulta en el primer acceso)
+     */
+    public int getBalance(Long userId) {
+        return balance(userId).get();
+    }
+
+    /**
+     * Consume un intento. Devuelve false si el usuario no tiene intentos disponibles
+     * Debe ejecutarse dentro de la transacción que registra la acción que consume el intento
+     */
+    public boolean tryConsume(Long userId) {
+        AtomicInteger balance = balance(userId);
+        if (balance.get() <= 0) {
+            return false;
+        }
+
+        boolean consumed = userMatchPlanRepository.consumeAttempt(userId) == 1;
+        if (!consumed) {
+            // Otro nodo consumió los últimos intentos: el saldo en cache estaba sobreestimado
+            balance.set(0);
+            return false;
+        }
+
+        balance.updateAndGet(current -> Math.max(current - 1, 0));
+        evictOnRollback(userId);
+        return true;
+    }
+
+    /**
+     * Invalida el saldo cacheado (compras, ajustes de administración)
+     * Dentro de una transacción se invalida de nuevo tras el commit, para descartar un saldo
+     * recargado por otra petición antes de que el cambio fuera visible
+     */
+    public void invalidate(Long userId) {
+        cache().evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(userId);
+                }
+            });
+        }
+    }
+
+    private AtomicInteger balance(Long userId) {
+        AtomicInteger balance = cache().get(userId, () ->
+                new AtomicInteger(userMatchPlanRepository.getTotalRemainingAttemptsByUserId(userId)));
+        return balance != null ? balance : new AtomicInteger();
+    }
+
+    // Si la transacción que consumió el intento se revierte, el saldo en cache deja de ser válido
+    private void evictOnRollback(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.debug("Transacción revertida: se invalida el saldo de intentos del usuario {}", userId);
+                    invalidate(userId);
+                }
+            }
+        });
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache no configurado: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
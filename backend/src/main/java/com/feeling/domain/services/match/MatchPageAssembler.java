@@ -0,0 +1,101 @@
+package com.feeling.domain.services.match;
+
+import com.feeling.domain.dto.match.FavoriteResponseDTO;
+import com.feeling.domain.dto.match.MatchResponseDTO;
+import com.feeling.domain.dto.user.UserDTOMapper;
+import com.feeling.domain.dto.user.UserPublicResponseDTO;
+import com.feeling.infrastructure.entities.match.Match;
+import com.feeling.infrastructure.entities.match.UserFavorite;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import com.feeling.infrastructure.repositories.user.UserPublicCard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Construye las respuestas de una página de matches o favoritos con un número constante de consultas:
+ * reúne los ids de usuario de la página y carga sus tarjetas públicas, imágenes y tags por lote.
+ * Las asociaciones LAZY de la página solo se usan por id, por lo que no se inicializan
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchPageAssembler {
+
+    private final IUserRepository userRepository;
+
+    /**
+     * Mapper de Match a MatchResponseDTO respaldado por las tarjetas de todos los usuarios de la página
+     */
+    public Function<Match, MatchResponseDTO> matchMapper(Collection<Match> matches) {
+        Set<Long> userIds = new HashSet<>();
+        for (Match match : matches) {
+            userIds.add(match.getInitiatorUser().getId());
+            userIds.add(match.getTargetUser().getId());
+        }
+        Map<Long, UserPublicResponseDTO> cards = loadPublicCards(userIds);
+
+        return match -> new MatchResponseDTO(
+                match.getId(),
+                cards.get(match.getInitiatorUser().getId()),
+                cards.get(match.getTargetUser().getId()),
+                match.getStatus(),
+                match.getRespondedAt(),
+                match.getViewedAt(),
+                match.getContactUnlocked(),
+                match.getCreatedAt()
+        );
+    }
+
+    /**
+     * Mapper de UserFavorite a FavoriteResponseDTO respaldado por las tarjetas de todos los favoritos de la página
+     */
+    public Function<UserFavorite, FavoriteResponseDTO> favoriteMapper(Collection<UserFavorite> favorites) {
+        Set<Long> userIds = new HashSet<>();
+        for (UserFavorite favorite : favorites) {
+            userIds.add(favorite.getFavoriteUser().getId());
+        }
+        Map<Long, UserPublicResponseDTO> cards = loadPublicCards(userIds);
+
+        return favorite -> new FavoriteResponseDTO(
+                favorite.getId(),
+                cards.get(favorite.getFavoriteUser().getId()),
+                favorite.getCreatedAt()
+        );
+    }
+
+    private Map<Long, UserPublicResponseDTO> loadPublicCards(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<String>> images = groupByUser(userRepository.findImagesByUserIdIn(userIds));
+        Map<Long, List<String>> tags = groupByUser(userRepository.findTagNamesByUserIdIn(userIds));
+
+        Map<Long, UserPublicResponseDTO> cards = new HashMap<>();
+        for (UserPublicCard card : userRepository.findPublicCardsByIdIn(userIds)) {
+            cards.put(card.id(), UserDTOMapper.toUserPublicResponseDTO(card,
+                    images.getOrDefault(card.id(), new ArrayList<>()),
+                    tags.getOrDefault(card.id(), new ArrayList<>())));
+        }
+        return cards;
+    }
+
+    /**
+     * Agrupa filas (userId, valor) en listas por usuario conservando el orden de llegada
+     */
+    private static Map<Long, List<String>> groupByUser(List<Object[]> rows) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return grouped;
+    }
+}
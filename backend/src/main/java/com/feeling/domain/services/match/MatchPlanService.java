@@ -3,13 +3,15 @@ package com.feeling.domain.services.match;
 import com.feeling.domain.dto.match.MatchPlanResponseDTO;
 import com.feeling.domain.dto.match.PurchaseMatchPlanRequestDTO;
 import com.feeling.domain.dto.match.UserMatchPlanResponseDTO;
+import com.feeling.domain.services.reference.ReferenceDataRegistry;
 import com.feeling.infrastructure.entities.match.MatchPlan;
 import com.feeling.infrastructure.entities.match.UserMatchPlan;
 import com.feeling.infrastructure.entities.user.User;
-import com.feeling.infrastructure.repositories.match.IMatchPlanRepository;
 import com.feeling.infrastructure.repositories.match.IUserMatchPlanRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,20 +26,32 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MatchPlanService {
 
-    private final IMatchPlanRepository matchPlanRepository;
     private final IUserMatchPlanRepository userMatchPlanRepository;
+    private final MatchAttemptLedger matchAttemptLedger;
+    private final ReferenceDataRegistry referenceData;
 
+    @Cacheable(value = "match-plans", key = "'active'", sync = true)
     public List<MatchPlanResponseDTO> getAllActivePlans() {
         log.debug("Getting all active match plans");
-        return matchPlanRepository.findAllActiveOrderBySortOrderAndPrice()
-                .stream()
+        return loadActivePlans();
+    }
+
+    @CachePut(value = "match-plans", key = "'active'")
+    public List<MatchPlanResponseDTO> refreshActivePlans() {
+        log.debug("Refreshing cached active match plans");
+        return loadActivePlans();
+    }
+
+    private List<MatchPlanResponseDTO> loadActivePlans() {
+        return referenceData.matchPlans().all().stream()
+                .filter(MatchPlan::getIsActive)
                 .map(this::convertToResponseDTO)
                 .collect(Collectors.toList());
     }
 
     public MatchPlanResponseDTO getPlanById(Long planId) {
         log.debug("Getting match plan by id: {}", planId);
-        MatchPlan plan = matchPlanRepository.findById(planId)
+        MatchPlan plan = referenceData.matchPlan(planId)
                 .orElseThrow(() -> new RuntimeException("Match plan not found with id: " + planId));
         return convertToResponseDTO(plan);
     }
@@ -46,7 +60,7 @@ public class MatchPlanService {
     public UserMatchPlanResponseDTO purchaseMatchPlan(User user, PurchaseMatchPlanRequestDTO request) {
         log.info("User {} purchasing match plan {}", user.getId(), request.getMatchPlanId());
         
-        MatchPlan matchPlan = matchPlanRepository.findById(request.getMatchPlanId())
+        MatchPlan matchPlan = referenceData.matchPlan(request.getMatchPlanId())
                 .orElseThrow(() -> new RuntimeException("Match plan not found with id: " + request.getMatchPlanId()));
 
         if (!matchPlan.getIsActive()) {
@@ -55,6 +69,7 @@ public class MatchPlanService {
 
         UserMatchPlan userMatchPlan = new UserMatchPlan(user, matchPlan, matchPlan.getAttempts());
         userMatchPlan = userMatchPlanRepository.save(userMatchPlan);
+        matchAttemptLedger.invalidate(user.getId());
 
         log.info("User {} successfully purchased match plan {} with {} attempts", 
                 user.getId(), matchPlan.getName(), matchPlan.getAttempts());
@@ -80,32 +95,30 @@ public class MatchPlanService {
 
     public Integer getTotalRemainingAttempts(User user) {
         log.debug("Getting total remaining attempts for user: {}", user.getId());
-        Integer total = userMatchPlanRepository.getTotalRemainingAttempts(user);
-        return total != null ? total : 0;
+        return matchAttemptLedger.getBalance(user.getId());
     }
 
     public boolean hasAvailableAttempts(User user) {
         return getTotalRemainingAttempts(user) > 0;
     }
 
+    /**
+     * Consume un intento con un UPDATE condicional (sin lectura previa ni bloqueo de fila)
+     */
     @Transactional
     public void useAttempt(User user) {
         log.debug("Using one attempt for user: {}", user.getId());
-        
-        UserMatchPlan activeUserMatchPlan = userMatchPlanRepository.findFirstActiveUserMatchPlan(user)
-                .orElseThrow(() -> new RuntimeException("No active match plans found for user"));
 
-        activeUserMatchPlan.useAttempt();
-        userMatchPlanRepository.save(activeUserMatchPlan);
+        if (!matchAttemptLedger.tryConsume(user.getId())) {
+            throw new RuntimeException("No available match attempts. Please purchase a match plan.");
+        }
 
-        log.info("Used one attempt for user {}. Remaining attempts: {}", 
-                user.getId(), activeUserMatchPlan.getRemainingAttempts());
+        log.info("Used one attempt for user {}", user.getId());
     }
 
     public List<MatchPlanResponseDTO> getAllPlansForAdmin() {
         log.debug("Getting all match plans for admin");
-        return matchPlanRepository.findAll()
-                .stream()
+        return referenceData.matchPlans().all().stream()
                 .map(this::convertToResponseDTOWithStats)
                 .collect(Collectors.toList());
     }
@@ -114,8 +127,8 @@ public class MatchPlanService {
         log.debug("Calculating match plan statistics");
         
         // Obtener todos los planes
-        List<MatchPlan> allPlans = matchPlanRepository.findAll();
-        List<MatchPlan> activePlans = matchPlanRepository.findAllActiveOrderBySortOrderAndPrice();
+        List<MatchPlan> allPlans = referenceData.matchPlans().all();
+        List<MatchPlan> activePlans = allPlans.stream().filter(MatchPlan::getIsActive).toList();
         
         // Obtener todas las compras
         List<UserMatchPlan> allPurchases = userMatchPlanRepository.findAll();
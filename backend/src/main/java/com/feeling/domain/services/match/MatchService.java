@@ -3,7 +3,12 @@ package com.feeling.domain.services.match;
 import com.feeling.domain.dto.match.MatchContactDTO;
 import com.feeling.domain.dto.match.MatchRequestDTO;
 import com.feeling.domain.dto.match.MatchResponseDTO;
+import com.feeling.domain.dto.notification.NotificationType;
+import com.feeling.domain.dto.response.CursorPageDTO;
+import com.feeling.domain.dto.response.SeekCursor;
 import com.feeling.domain.dto.user.UserPublicResponseDTO;
+import com.feeling.domain.services.notification.UserNotificationEvent;
+import com.feeling.domain.services.user.SeenSetService;
 import com.feeling.domain.services.user.UserService;
 import com.feeling.infrastructure.entities.match.Match;
 import com.feeling.infrastructure.entities.user.User;
@@ -11,11 +16,17 @@ import com.feeling.infrastructure.repositories.match.IMatchRepository;
 import com.feeling.infrastructure.repositories.user.IUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -25,10 +36,16 @@ public class MatchService {
     private final IUserRepository userRepository;
     private final MatchPlanService matchPlanService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MatchPageAssembler matchPageAssembler;
+    private final SeenSetService seenSetService;
 
     @Transactional
-    public MatchResponseDTO sendMatch(User initiatorUser, MatchRequestDTO request) {
-        log.info("User {} sending match to user {}", initiatorUser.getId(), request.getTargetUserId());
+    public MatchResponseDTO sendMatch(User initiator, MatchRequestDTO request) {
+        log.info("User {} sending match to user {}", initiator.getId(), request.getTargetUserId());
+
+        // El usuario puede llegar como referencia sin estado (principal de la petición): se asocia a esta transacción
+        User initiatorUser = userRepository.getReferenceById(initiator.getId());
 
         if (!matchPlanService.hasAvailableAttempts(initiatorUser)) {
             throw new RuntimeException("No available match attempts. Please purchase a match plan.");
@@ -52,6 +69,13 @@ public class MatchService {
 
         log.info("Match sent successfully from user {} to user {}", initiatorUser.getId(), targetUser.getId());
 
+        notify(targetUser.getId(), NotificationType.MATCH_RECEIVED, match, initiatorUser.getId());
+        notify(initiatorUser.getId(), NotificationType.MATCH_SENT, match, targetUser.getId());
+
+        // Ninguno de los dos vuelve a aparecer en las sugerencias del otro
+        seenSetService.markSeen(initiatorUser.getId(), List.of(targetUser.getId()));
+        seenSetService.markSeen(targetUser.getId(), List.of(initiatorUser.getId()));
+
         return convertToResponseDTO(match);
     }
 
@@ -81,6 +105,10 @@ public class MatchService {
 
         log.info("Match {} accepted successfully by user {}", matchId, targetUser.getId());
 
+        Long initiatorId = match.getInitiatorUser().getId();
+        notify(initiatorId, NotificationType.MATCH_ACCEPTED, match, targetUser.getId());
+        notify(targetUser.getId(), NotificationType.RECEIVED_MATCH_ACCEPTED, match, initiatorId);
+
         return convertToResponseDTO(match);
     }
 
@@ -104,6 +132,10 @@ public class MatchService {
 
         log.info("Match {} rejected by user {}", matchId, targetUser.getId());
 
+        Long initiatorId = match.getInitiatorUser().getId();
+        notify(initiatorId, NotificationType.MATCH_DECLINED, match, targetUser.getId());
+        notify(targetUser.getId(), NotificationType.RECEIVED_MATCH_REJECTED, match, initiatorId);
+
         return convertToResponseDTO(match);
     }
 
@@ -127,26 +159,61 @@ public class MatchService {
 
     public Page<MatchResponseDTO> getSentMatches(User user, Pageable pageable) {
         log.debug("Getting sent matches for user: {}", user.getId());
-        return matchRepository.findSentMatches(user, pageable)
-                .map(this::convertToResponseDTO);
+        Page<Match> matches = matchRepository.findSentMatches(user, pageable);
+        return matches.map(matchPageAssembler.matchMapper(matches.getContent()));
     }
 
     public Page<MatchResponseDTO> getReceivedMatches(User user, Pageable pageable) {
         log.debug("Getting received matches for user: {}", user.getId());
-        return matchRepository.findReceivedMatches(user, pageable)
-                .map(this::convertToResponseDTO);
+        Page<Match> matches = matchRepository.findReceivedMatches(user, pageable);
+        return matches.map(matchPageAssembler.matchMapper(matches.getContent()));
     }
 
     public Page<MatchResponseDTO> getPendingReceivedMatches(User user, Pageable pageable) {
         log.debug("Getting pending received matches for user: {}", user.getId());
-        return matchRepository.findPendingReceivedMatches(user, pageable)
-                .map(this::convertToResponseDTO);
+        Page<Match> matches = matchRepository.findPendingReceivedMatches(user, pageable);
+        return matches.map(matchPageAssembler.matchMapper(matches.getContent()));
     }
 
     public Page<MatchResponseDTO> getAcceptedMatches(User user, Pageable pageable) {
         log.debug("Getting accepted matches for user: {}", user.getId());
-        return matchRepository.findAcceptedMatches(user, pageable)
-                .map(this::convertToResponseDTO);
+        Page<Match> matches = matchRepository.findAcceptedMatches(user, pageable);
+        return matches.map(matchPageAssembler.matchMapper(matches.getContent()));
+    }
+
+    // Variantes por cursor: seek sobre (createdAt, id) o (respondedAt, id) y Slice, sin COUNT por página.
+    // Los listados construyen las respuestas con MatchPageAssembler (consultas por lote, no por fila)
+
+    public CursorPageDTO<MatchResponseDTO> getSentMatches(User user, String cursor, int size) {
+        SeekCursor after = SeekCursor.decode(cursor);
+        Slice<Match> matches = matchRepository.findSentMatchesAfter(user, after.timestamp(), after.id(), PageRequest.of(0, size));
+        return CursorPageDTO.of(matches,
+                match -> new SeekCursor(match.getCreatedAt(), match.getId()),
+                matchPageAssembler.matchMapper(matches.getContent()));
+    }
+
+    public CursorPageDTO<MatchResponseDTO> getReceivedMatches(User user, String cursor, int size) {
+        SeekCursor after = SeekCursor.decode(cursor);
+        Slice<Match> matches = matchRepository.findReceivedMatchesAfter(user, after.timestamp(), after.id(), PageRequest.of(0, size));
+        return CursorPageDTO.of(matches,
+                match -> new SeekCursor(match.getCreatedAt(), match.getId()),
+                matchPageAssembler.matchMapper(matches.getContent()));
+    }
+
+    public CursorPageDTO<MatchResponseDTO> getPendingReceivedMatches(User user, String cursor, int size) {
+        SeekCursor after = SeekCursor.decode(cursor);
+        Slice<Match> matches = matchRepository.findPendingReceivedMatchesAfter(user, after.timestamp(), after.id(), PageRequest.of(0, size));
+        return CursorPageDTO.of(matches,
+                match -> new SeekCursor(match.getCreatedAt(), match.getId()),
+                matchPageAssembler.matchMapper(matches.getContent()));
+    }
+
+    public CursorPageDTO<MatchResponseDTO> getAcceptedMatches(User user, String cursor, int size) {
+        SeekCursor after = SeekCursor.decode(cursor);
+        Slice<Match> matches = matchRepository.findAcceptedMatchesAfter(user, after.timestamp(), after.id(), PageRequest.of(0, size));
+        return CursorPageDTO.of(matches,
+                match -> new SeekCursor(match.getRespondedAt(), match.getId()),
+                matchPageAssembler.matchMapper(matches.getContent()));
     }
 
     public MatchContactDTO getMatchContact(User user, Long matchId) {
@@ -187,6 +254,12 @@ public class MatchService {
         return matchRepository.countAcceptedMatches(user);
     }
 
+    // Se entrega tras el commit (NotificationService), nunca para una transacción que hace rollback
+    private void notify(Long userId, NotificationType type, Match match, Long otherUserId) {
+        eventPublisher.publishEvent(new UserNotificationEvent(userId, type,
+                Map.of("matchId", match.getId(), "otherUserId", otherUserId)));
+    }
+
     private MatchResponseDTO convertToResponseDTO(Match match) {
         UserPublicResponseDTO initiatorUserDTO = userService.convertToUserPublicResponseDTO(match.getInitiatorUser());
         UserPublicResponseDTO targetUserDTO = userService.convertToUserPublicResponseDTO(match.getTargetUser());
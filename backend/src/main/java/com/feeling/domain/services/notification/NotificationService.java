@@ -0,0 +1,169 @@
+package com.feeling.domain.services.notification;
+
+import com.feeling.config.async.AsyncConfig;
+import com.feeling.domain.dto.notification.NotificationCountersDTO;
+import com.feeling.domain.dto.notification.NotificationDTO;
+import com.feeling.domain.dto.notification.NotificationType;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.match.IMatchRepository;
+import com.feeling.infrastructure.repositories.notification.INotificationInboxRepository;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Canal de notificaciones en tiempo real (Server-Sent Events)
+ * Los servicios publican UserNotificationEvent; tras el commit se recargan los contadores del usuario y se envía el
+ * aviso a sus conexiones abiertas. SseEmitter usa el procesamiento asíncrono del servlet, así que una conexión inactiva
+ * no ocupa ningún hilo. Los contadores viven en el cache "notification-counters" pero la BD es la fuente: los de
+ * matches se cuentan sobre los matches y las notificaciones sin leer se guardan en notification_inbox. Cada evento
+ * descarta la entrada y la recarga, y el evict llega a las demás réplicas por CacheInvalidationBus, así que ningún nodo
+ * acumula incrementos propios.
+ * Las conexiones SSE son locales a cada nodo: un evento solo se empuja a las conexiones abiertas en la réplica que lo
+ * procesa. Con varias réplicas el aviso no llega a un cliente conectado a otra (sus contadores sí se corrigen en la
+ * siguiente lectura o suscripción), así que el canal en tiempo real requiere una sola réplica
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    static final String CACHE_NAME = "notification-counters";
+    private static final int MAX_CONNECTIONS_PER_USER = 5;
+
+    private final IMatchRepository matchRepository;
+    private final IUserRepository userRepository;
+    private final INotificationInboxRepository inboxRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notifications.sse.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * Abre una conexión SSE para el usuario y envía el estado actual de sus contadores
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Set<SseEmitter> userEmitters = emitters.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>());
+        if (userEmitters.size() >= MAX_CONNECTIONS_PER_USER) {
+            userEmitters.stream().findFirst().ifPresent(SseEmitter::complete);
+        }
+        userEmitters.add(emitter);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(error -> remove(userId, emitter));
+
+        send(userId, emitter, new NotificationDTO(NotificationType.COUNTERS, Map.of(), getCounters(userId), LocalDateTime.now()));
+        return emitter;
+    }
+
+    public NotificationCountersDTO getCounters(Long userId) {
+        NotificationCountersDTO counters = cache().get(userId, () -> loadCounters(userId));
+        return counters != null ? counters : new NotificationCountersDTO(0, 0, 0, 0);
+    }
+
+    public NotificationCountersDTO markAsRead(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> inboxRepository.markAllRead(userId, LocalDateTime.now()));
+        return reloadCounters(userId);
+    }
+
+    /**
+     * Entrega un evento tras el commit de la transacción que lo originó, fuera del hilo de la petición
+     */
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(UserNotificationEvent event) {
+        if (event.type().isVisible()) {
+            transactionTemplate.executeWithoutResult(status -> inboxRepository.incrementUnread(event.userId()));
+        }
+        NotificationDTO notification = new NotificationDTO(
+                event.type(),
+                event.data() != null ? event.data() : Map.of(),
+                reloadCounters(event.userId()),
+                LocalDateTime.now());
+
+        Set<SseEmitter> userEmitters = emitters.get(event.userId());
+        if (userEmitters != null) {
+            userEmitters.forEach(emitter -> send(event.userId(), emitter, notification));
+        }
+    }
+
+    /**
+     * Comentario periódico para mantener vivas las conexiones a través de proxies y detectar clientes caídos
+     */
+    @Scheduled(fixedDelayString = "${notifications.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                remove(userId, emitter);
+            }
+        }));
+    }
+
+    private void send(Long userId, SseEmitter emitter, NotificationDTO notification) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(notification.type().name())
+                    .data(notification, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Conexión SSE cerrada para el usuario {}: {}", userId, e.getMessage());
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+
+    /**
+     * Descarta los contadores cacheados del usuario (en este nodo y, vía CacheInvalidationBus, en los demás) y los
+     * vuelve a cargar desde la BD
+     */
+    private NotificationCountersDTO reloadCounters(Long userId) {
+        cache().evict(userId);
+        return getCounters(userId);
+    }
+
+    private NotificationCountersDTO loadCounters(Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        return new NotificationCountersDTO(
+                matchRepository.countPendingSentMatches(user),
+                matchRepository.countPendingReceivedMatches(user),
+                matchRepository.countAcceptedMatches(user),
+                inboxRepository.findUnreadCount(userId).orElse(0L));
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache no configurado: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
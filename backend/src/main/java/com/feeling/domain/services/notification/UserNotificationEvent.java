@@ -0,0 +1,11 @@
+package com.feeling.domain.services.notification;
+
+import com.feeling.domain.dto.notification.NotificationType;
+
+import java.util.Map;
+
+/**
+ * Evento de aplicación para notificar a un usuario; NotificationService lo entrega tras el commit
+ */
+public record UserNotificationEvent(Long userId, NotificationType type, Map<String, Object> data) {
+}
@@ -0,0 +1,234 @@
+package com.feeling.domain.services.reference;
+
+import com.feeling.infrastructure.entities.match.MatchPlan;
+import com.feeling.infrastructure.entities.tour.StatusTour;
+import com.feeling.infrastructure.entities.tour.StatusTourOptions;
+import com.feeling.infrastructure.entities.tour.TagTour;
+import com.feeling.infrastructure.entities.tour.TagTourOptions;
+import com.feeling.infrastructure.entities.user.UserAttribute;
+import com.feeling.infrastructure.entities.user.UserCategoryInterest;
+import com.feeling.infrastructure.entities.user.UserCategoryInterestList;
+import com.feeling.infrastructure.entities.user.UserRole;
+import com.feeling.infrastructure.entities.user.UserRoleList;
+import com.feeling.infrastructure.repositories.match.IMatchPlanRepository;
+import com.feeling.infrastructure.repositories.tour.IStatusTourRepository;
+import com.feeling.infrastructure.repositories.tour.ITagTourRepository;
+import com.feeling.infrastructure.repositories.user.IUserAttributeRepository;
+import com.feeling.infrastructure.repositories.user.IUserCategoryInterestRepository;
+import com.feeling.infrastructure.repositories.user.IUserRoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Tablas de referencia (roles, categorías de interés, atributos de usuario, planes de match, estados y etiquetas de tour)
+ * en memoria como fotos inmutables indexadas por id (ReferenceTable), cargadas al arrancar
+ * Cada foto es una entrada del cache reference-data: las escrituras de administración la invalidan con
+ * @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'<tabla>'") y CacheInvalidationBus propaga la invalidación
+ * al resto de réplicas; la siguiente consulta recarga la tabla completa. CatalogCacheRefresher las recarga además cada
+ * cache.refresh.catalog-interval-ms por si alguna escritura no pasó por los servicios.
+ * Las entidades devueltas están desasociadas de cualquier sesión y se comparten entre hilos: solo lectura, o como
+ * destino de una relación sin cascada (user.setGender(...)); para modificarlas hay que cargarlas del repositorio
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+
+    public static final String CACHE = "reference-data";
+
+    public static final String ROLES = "roles";
+    public static final String CATEGORY_INTERESTS = "category-interests";
+    public static final String ATTRIBUTES = "attributes";
+    public static final String MATCH_PLANS = "match-plans";
+    public static final String TOUR_STATUSES = "tour-statuses";
+    public static final String TOUR_TAGS = "tour-tags";
+
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final IUserRoleRepository roleRepository;
+    private final IUserCategoryInterestRepository categoryInterestRepository;
+    private final IUserAttributeRepository attributeRepository;
+    private final IMatchPlanRepository matchPlanRepository;
+    private final IStatusTourRepository statusTourRepository;
+    private final ITagTourRepository tagTourRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Map<String, Integer> sizes = Map.of(
+                    ROLES, roles().size(),
+                    CATEGORY_INTERESTS, categoryInterests().size(),
+                    ATTRIBUTES, attributes().size(),
+                    MATCH_PLANS, matchPlans().size(),
+                    TOUR_STATUSES, tourStatuses().size(),
+                    TOUR_TAGS, tourTags().size());
+            log.info("📚 Datos de referencia cargados: {}", sizes);
+        } catch (Exception e) {
+            // Se cargarán en la primera consulta
+            log.warn("No se pudieron precargar los datos de referencia: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recarga todas las tablas sin dejar huecos: las consultas siguen viendo la foto anterior hasta el reemplazo
+     */
+    public void refreshAll() {
+        cache().put(ROLES, loadRoles());
+        cache().put(CATEGORY_INTERESTS, loadCategoryInterests());
+        cache().put(ATTRIBUTES, loadAttributes());
+        cache().put(MATCH_PLANS, loadMatchPlans());
+        cache().put(TOUR_STATUSES, loadTourStatuses());
+        cache().put(TOUR_TAGS, loadTourTags());
+    }
+
+    /**
+     * Descarta la foto de una tabla (en este nodo y, vía CacheInvalidationBus, en los demás) tras escribir en ella
+     */
+    public void invalidate(String table) {
+        cache().evict(table);
+    }
+
+    // ========================================
+    // ROLES
+    // ========================================
+
+    public ReferenceTable<UserRole> roles() {
+        return table(ROLES, this::loadRoles);
+    }
+
+    public Optional<UserRole> role(UserRoleList role) {
+        return roles().find(candidate -> candidate.getUserRoleList() == role);
+    }
+
+    // ========================================
+    // CATEGORÍAS DE INTERÉS (ordenadas por displayOrder)
+    // ========================================
+
+    public ReferenceTable<UserCategoryInterest> categoryInterests() {
+        return table(CATEGORY_INTERESTS, this::loadCategoryInterests);
+    }
+
+    public Optional<UserCategoryInterest> categoryInterest(Long id) {
+        return categoryInterests().get(id);
+    }
+
+    public Optional<UserCategoryInterest> categoryInterest(UserCategoryInterestList category) {
+        return categoryInterests().find(candidate -> candidate.getCategoryInterestEnum() == category);
+    }
+
+    // ========================================
+    // ATRIBUTOS DE USUARIO (ordenados por tipo y displayOrder)
+    // ========================================
+
+    public ReferenceTable<UserAttribute> attributes() {
+        return table(ATTRIBUTES, this::loadAttributes);
+    }
+
+    public Optional<UserAttribute> attribute(Long id) {
+        return attributes().get(id);
+    }
+
+    public List<UserAttribute> activeAttributes(String attributeType) {
+        return attributes().all().stream()
+                .filter(attribute -> attribute.isActive() && attribute.getAttributeType().equals(attributeType))
+                .toList();
+    }
+
+    // ========================================
+    // PLANES DE MATCH (ordenados por sortOrder y precio)
+    // ========================================
+
+    public ReferenceTable<MatchPlan> matchPlans() {
+        return table(MATCH_PLANS, this::loadMatchPlans);
+    }
+
+    public Optional<MatchPlan> matchPlan(Long id) {
+        return matchPlans().get(id);
+    }
+
+    // ========================================
+    // TOURS
+    // ========================================
+
+    public ReferenceTable<StatusTour> tourStatuses() {
+        return table(TOUR_STATUSES, this::loadTourStatuses);
+    }
+
+    public Optional<StatusTour> tourStatus(StatusTourOptions status) {
+        return tourStatuses().find(candidate -> candidate.getStatus() == status);
+    }
+
+    public ReferenceTable<TagTour> tourTags() {
+        return table(TOUR_TAGS, this::loadTourTags);
+    }
+
+    public Optional<TagTour> tourTag(TagTourOptions tag) {
+        return tourTags().find(candidate -> candidate.getTagTourOptions() == tag);
+    }
+
+    // ========================================
+    // CARGA
+    // ========================================
+
+    private <T> ReferenceTable<T> table(String name, Supplier<ReferenceTable<T>> loader) {
+        return Objects.requireNonNull(cache().get(name, loader::get));
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE), "Cache no configurado: " + CACHE);
+    }
+
+    private ReferenceTable<UserRole> loadRoles() {
+        return ReferenceTable.of(roleRepository.findAll(), UserRole::getId);
+    }
+
+    private ReferenceTable<UserCategoryInterest> loadCategoryInterests() {
+        return transactionTemplate.execute(status -> {
+            List<UserCategoryInterest> categories = categoryInterestRepository.findAllByOrderByDisplayOrder();
+            // Las características son LAZY: se inicializan aquí para poder leerlas fuera de la sesión
+            categories.forEach(category -> Hibernate.initialize(category.getFeatures()));
+            return ReferenceTable.of(categories, UserCategoryInterest::getId);
+        });
+    }
+
+    private ReferenceTable<UserAttribute> loadAttributes() {
+        List<UserAttribute> attributes = attributeRepository.findAll().stream()
+                .sorted(Comparator.comparing(UserAttribute::getAttributeType)
+                        .thenComparing(attribute -> attribute.getDisplayOrder() != null ? attribute.getDisplayOrder() : 0)
+                        .thenComparing(UserAttribute::getId))
+                .toList();
+        return ReferenceTable.of(attributes, UserAttribute::getId);
+    }
+
+    private ReferenceTable<MatchPlan> loadMatchPlans() {
+        List<MatchPlan> plans = matchPlanRepository.findAll().stream()
+                .sorted(Comparator.comparing(MatchPlan::getSortOrder)
+                        .thenComparing(MatchPlan::getPrice, Comparator.nullsLast(BigDecimal::compareTo))
+                        .thenComparing(MatchPlan::getId))
+                .toList();
+        return ReferenceTable.of(plans, MatchPlan::getId);
+    }
+
+    private ReferenceTable<StatusTour> loadTourStatuses() {
+        return ReferenceTable.of(statusTourRepository.findAll(), StatusTour::getId);
+    }
+
+    private ReferenceTable<TagTour> loadTourTags() {
+        return ReferenceTable.of(tagTourRepository.findAll(), TagTour::getId);
+    }
+}
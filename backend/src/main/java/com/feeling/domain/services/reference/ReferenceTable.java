@@ -0,0 +1,63 @@
+package com.feeling.domain.services.reference;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Foto inmutable de una tabla de referencia: filas en el orden de carga e índice por id
+ * Con ids densos (IDENTITY sobre tablas pequeñas) el índice es un array; si los ids son muy dispersos se usa un mapa
+ */
+public final class ReferenceTable<T> {
+
+    private static final int MAX_DENSE_ID = 1 << 16;
+
+    private final List<T> rows;
+    private final Object[] byId;
+    private final Map<Long, T> sparse;
+
+    private ReferenceTable(List<T> rows, Object[] byId, Map<Long, T> sparse) {
+        this.rows = rows;
+        this.byId = byId;
+        this.sparse = sparse;
+    }
+
+    public static <T> ReferenceTable<T> of(List<T> rows, Function<T, Long> idOf) {
+        List<T> copy = List.copyOf(rows);
+        long maxId = copy.stream().map(idOf).mapToLong(Long::longValue).max().orElse(0);
+        if (maxId < MAX_DENSE_ID) {
+            Object[] byId = new Object[(int) maxId + 1];
+            copy.forEach(row -> byId[idOf.apply(row).intValue()] = row);
+            return new ReferenceTable<>(copy, byId, null);
+        }
+        Map<Long, T> sparse = new HashMap<>();
+        copy.forEach(row -> sparse.put(idOf.apply(row), row));
+        return new ReferenceTable<>(copy, null, Map.copyOf(sparse));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> get(Long id) {
+        if (id == null || id < 0) {
+            return Optional.empty();
+        }
+        if (byId != null) {
+            return id < byId.length ? Optional.ofNullable((T) byId[id.intValue()]) : Optional.empty();
+        }
+        return Optional.ofNullable(sparse.get(id));
+    }
+
+    public Optional<T> find(Predicate<T> filter) {
+        return rows.stream().filter(filter).findFirst();
+    }
+
+    public List<T> all() {
+        return rows;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+}
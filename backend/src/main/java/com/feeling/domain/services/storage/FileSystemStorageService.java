@@ -0,0 +1,348 @@
+package com.feeling.domain.services.storage;
+
+import com.feeling.domain.ports.infrastructure.IStoragePort;
+import com.feeling.exception.StorageException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Driver de almacenamiento sobre el sistema de archivos local (NIO)
+ * Pensado para despliegues de un solo nodo y pruebas de carga locales sin servidor de objetos.
+ * Cada bucket es un directorio bajo storage.filesystem.root; las escrituras usan
+ * FileChannel.transferFrom (sin copias en el heap) y las lecturas se sirven desde archivos mapeados en memoria.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+@Slf4j
+public class FileSystemStorageService implements IStoragePort {
+
+    // Bloque de transferencia cuando no se conoce el tamaño del stream
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+    // 256 bits de clave para HMAC-SHA256
+    private static final int MIN_SIGNING_KEY_LENGTH = 32;
+
+    @Value("${storage.filesystem.root:./storage}")
+    private String rootDirectory;
+
+    @Value("${storage.filesystem.bucket:feeling}")
+    private String bucketName;
+
+    @Value("${storage.filesystem.public-url:/files}")
+    private String publicUrl;
+
+    // Clave HMAC de las URLs de subida firmadas, compartida por todos los nodos: una URL generada en uno se sube a otro
+    @Value("${storage.filesystem.signing-key:}")
+    private String signingKey;
+
+    private Path root;
+    private String urlPrefix;
+    private byte[] signingKeyBytes;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(rootDirectory).toAbsolutePath().normalize();
+        urlPrefix = publicUrl + "/" + bucketName + "/";
+        if (signingKey == null || signingKey.length() < MIN_SIGNING_KEY_LENGTH) {
+            throw new IllegalStateException("storage.filesystem.signing-key (STORAGE_FS_SIGNING_KEY) es obligatoria con " +
+                    "storage.type=filesystem: al menos " + MIN_SIGNING_KEY_LENGTH + " caracteres, la misma en todos los nodos");
+        }
+        signingKeyBytes = signingKey.getBytes(StandardCharsets.UTF_8);
+        createBucketIfNotExists(bucketName);
+        log.info("📁 Storage en sistema de archivos: {} (bucket '{}')", root, bucketName);
+    }
+
+    @Override
+    public String getDefaultBucket() {
+        return bucketName;
+    }
+
+    // ========================================
+    // OPERACIONES BÁSICAS DE ARCHIVO
+    // ========================================
+
+    @Override
+    public String uploadFile(InputStream inputStream, String bucket, String objectName, long size, String contentType) throws IOException {
+        Path target = resolve(bucket, objectName);
+        Files.createDirectories(target.getParent());
+
+        // Se escribe a un temporal del mismo directorio y se mueve atómicamente para no exponer archivos a medio escribir
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try (ReadableByteChannel source = Channels.newChannel(inputStream);
+             FileChannel destination = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            while (size < 0 || position < size) {
+                long count = size < 0 ? TRANSFER_CHUNK : size - position;
+                long transferred = destination.transferFrom(source, position, count);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw new IOException("Error guardando archivo en disco: " + e.getMessage(), e);
+        }
+
+        return getPublicUrl(bucket, objectName);
+    }
+
+    @Override
+    public InputStream downloadFile(String bucket, String objectName) throws IOException {
+        Path file = resolve(bucket, objectName);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // El mapeo sigue siendo válido después de cerrar el canal
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ByteBufferInputStream(buffer);
+        }
+    }
+
+    @Override
+    public boolean deleteFile(String bucket, String objectName) {
+        try {
+            return Files.deleteIfExists(resolve(bucket, objectName));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean fileExists(String bucket, String objectName) {
+        try {
+            return Files.isRegularFile(resolve(bucket, objectName));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // ========================================
+    // OPERACIONES DE BUCKET
+    // ========================================
+
+    @Override
+    public void createBucketIfNotExists(String bucket) {
+        try {
+            Files.createDirectories(bucketPath(bucket));
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo crear el directorio del bucket: " + bucket, e);
+        }
+    }
+
+    @Override
+    public List<String> listBuckets() {
+        List<String> buckets = new ArrayList<>();
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(root, Files::isDirectory)) {
+            directories.forEach(directory -> buckets.add(directory.getFileName().toString()));
+        } catch (IOException e) {
+            log.error("Error listando buckets en {}: {}", root, e.getMessage());
+        }
+        return buckets;
+    }
+
+    @Override
+    public boolean deleteBucket(String bucket) {
+        try {
+            return Files.deleteIfExists(bucketPath(bucket));
+        } catch (Exception e) {
+            // Solo se eliminan buckets vacíos, igual que en S3/MinIO
+            return false;
+        }
+    }
+
+    // ========================================
+    // GESTIÓN DE URLs Y METADATOS
+    // ========================================
+
+    /**
+     * El sistema de archivos no firma URLs: los archivos se sirven públicamente por FileStorageController
+     */
+    @Override
+    public String generateDownloadUrl(String bucket, String objectName, int expirationInSeconds) {
+        return getPublicUrl(bucket, objectName);
+    }
+
+    /**
+     * URL de subida firmada con HMAC-SHA256 sobre bucket, objeto y caducidad; FileStorageController la acepta con PUT
+     */
+    @Override
+    public String generateUploadUrl(String bucket, String objectName, int expirationInSeconds) {
+        resolve(bucket, objectName);
+        long expires = Instant.now().getEpochSecond() + expirationInSeconds;
+        return getPublicUrl(bucket, objectName) + "?expires=" + expires + "&signature=" + sign(bucket, objectName, expires);
+    }
+
+    /**
+     * Comprueba la firma y la caducidad de una URL generada por generateUploadUrl
+     */
+    @Override
+    public boolean isValidUploadSignature(String bucket, String objectName, long expires, String signature) {
+        if (signature == null || expires < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(bucket, objectName, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public String getPublicUrl(String bucket, String objectName) {
+        if (bucketName.equals(bucket)) {
+            return urlPrefix + objectName;
+        }
+        return publicUrl + "/" + bucket + "/" + objectName;
+    }
+
+    @Override
+    public String extractObjectKey(String url) {
+        if (url != null && url.startsWith(urlPrefix)) {
+            return url.substring(urlPrefix.length());
+        }
+        return null;
+    }
+
+    @Override
+    public FileInfo getFileInfo(String bucket, String objectName) {
+        try {
+            Path file = resolve(bucket, objectName);
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileInfo(
+                    objectName,
+                    Long.toHexString(attributes.lastModifiedTime().toMillis()) + "-" + Long.toHexString(attributes.size()),
+                    attributes.size(),
+                    attributes.lastModifiedTime().toInstant().toString(),
+                    Files.probeContentType(file),
+                    getPublicUrl(bucket, objectName)
+            );
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // ========================================
+    // OPERACIONES DE LISTADO
+    // ========================================
+
+    @Override
+    public List<String> listFiles(String bucket, String prefix) {
+        Path bucketPath = bucketPath(bucket);
+        if (!Files.isDirectory(bucketPath)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(bucketPath)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> bucketPath.relativize(file).toString().replace('\\', '/'))
+                    .filter(objectName -> objectName.startsWith(prefix) && !objectName.endsWith(".tmp"))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new StorageException("Error listando archivos con prefijo " + prefix + ": " + e.getMessage(), e);
+        }
+    }
+
+    // ========================================
+    // CONFIGURACIÓN Y POLÍTICAS
+    // ========================================
+
+    @Override
+    public void setBucketPolicy(String bucket, String policy) {
+        log.debug("Políticas de bucket no aplican al almacenamiento en disco (bucket '{}')", bucket);
+    }
+
+    private Path bucketPath(String bucket) {
+        Path bucketPath = root.resolve(bucket).normalize();
+        if (!bucketPath.getParent().equals(root)) {
+            throw new IllegalArgumentException("Nombre de bucket inválido: " + bucket);
+        }
+        return bucketPath;
+    }
+
+    private String sign(String bucket, String objectName, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingKeyBytes, "HmacSHA256"));
+            byte[] digest = mac.doFinal((bucket + "\n" + objectName + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 no disponible", e);
+        }
+    }
+
+    /**
+     * Resuelve la ruta de un objeto impidiendo salir del directorio del bucket (path traversal)
+     */
+    private Path resolve(String bucket, String objectName) {
+        Path bucketPath = bucketPath(bucket);
+        Path file = bucketPath.resolve(objectName).normalize();
+        if (!file.startsWith(bucketPath) || file.equals(bucketPath)) {
+            throw new IllegalArgumentException("Ruta de archivo inválida: " + objectName);
+        }
+        return file;
+    }
+
+    /**
+     * InputStream de solo lectura sobre un buffer mapeado en memoria
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.feeling.domain.services.storage;
 
+import com.feeling.domain.ports.infrastructure.IStoragePort;
+import com.feeling.exception.StorageException;
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
 import io.minio.MinioClient;
+import io.minio.MakeBucketArgs;
 import io.minio.PutObjectArgs;
+import io.minio.RemoveBucketArgs;
 import io.minio.RemoveObjectArgs;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.ListObjectsArgs;
 import io.minio.Result;
+import io.minio.SetBucketPolicyArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Bucket;
 import io.minio.messages.Item;
 import io.minio.http.Method;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -24,7 +35,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "storage.type", havingValue = "minio")
 @Slf4j
-public class MinioStorageService {
+public class MinioStorageService implements IStoragePort {
+
+    // Tamaño de parte para subidas multipart cuando no se conoce el tamaño del stream
+    private static final long UNKNOWN_SIZE_PART = 10L * 1024 * 1024;
 
     private final MinioClient minioClient; // Inyectar el bean configurado
 
@@ -37,31 +51,67 @@ public class MinioStorageService {
     @Value("${minio.public-url:#{null}}")
     private String publicUrl;
 
-    public String uploadFile(MultipartFile file, String filePath) throws IOException {
+    // Base "<url>/" y prefijo "<base>/<bucket>/" calculados una sola vez para construir URLs por concatenación
+    private String baseUrl;
+    private String urlPrefix;
+
+    @PostConstruct
+    void initUrlPrefix() {
+        String base = (publicUrl != null && !publicUrl.trim().isEmpty()) ? publicUrl : minioUrl;
+        baseUrl = base + "/";
+        urlPrefix = baseUrl + bucketName + "/";
+    }
+
+    @Override
+    public String getDefaultBucket() {
+        return bucketName;
+    }
+
+    // ========================================
+    // OPERACIONES BÁSICAS DE ARCHIVO
+    // ========================================
+
+    @Override
+    public String uploadFile(InputStream inputStream, String bucket, String objectName, long size, String contentType) throws IOException {
         try {
             minioClient.putObject(
                     PutObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(filePath)
-                            .stream(file.getInputStream(), file.getSize(), -1)
-                            .contentType(file.getContentType())
+                            .bucket(bucket)
+                            .object(objectName)
+                            .stream(inputStream, size, size < 0 ? UNKNOWN_SIZE_PART : -1)
+                            .contentType(contentType)
                             .build()
             );
 
             // Generar URL pública para MinIO
-            return generatePublicUrl(filePath);
+            return getPublicUrl(bucket, objectName);
 
         } catch (Exception e) {
             throw new IOException("Error subiendo archivo a MinIO: " + e.getMessage(), e);
         }
     }
 
-    public boolean deleteFile(String fileName) {
+    @Override
+    public InputStream downloadFile(String bucket, String objectName) throws IOException {
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw new IOException("Error descargando archivo de MinIO: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean deleteFile(String bucket, String objectName) {
         try {
             minioClient.removeObject(
                     RemoveObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(fileName)
+                            .bucket(bucket)
+                            .object(objectName)
                             .build()
             );
 
@@ -71,60 +121,117 @@ public class MinioStorageService {
         }
     }
 
-    /**
-     * Genera URL pública para acceder a archivos en MinIO
-     */
-    public String generatePublicUrl(String filePath) {
+    @Override
+    public boolean fileExists(String bucket, String objectName) {
+        return statObject(bucket, objectName) != null;
+    }
+
+    // ========================================
+    // OPERACIONES DE BUCKET
+    // ========================================
+
+    @Override
+    public void createBucketIfNotExists(String bucket) {
         try {
-            // Si hay una URL pública configurada, usarla
-            if (publicUrl != null && !publicUrl.trim().isEmpty()) {
-                return String.format("%s/%s/%s", publicUrl, bucketName, filePath);
+            if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucket).build())) {
+                minioClient.makeBucket(MakeBucketArgs.builder().bucket(bucket).build());
+                log.info("📁 Bucket '{}' creado", bucket);
             }
+        } catch (Exception e) {
+            throw new IllegalStateException("Error creando bucket MinIO: " + bucket, e);
+        }
+    }
 
-            // Generar URL con acceso directo (para MinIO con bucket público)
-            String directUrl = String.format("%s/%s/%s", minioUrl, bucketName, filePath);
-            
-            // Verificar si el bucket está configurado como público
-            // Si no, generar URL pre-firmada
-            try {
-                return directUrl;
-            } catch (Exception e) {
-                log.warn("Error accediendo URL directa, generando URL pre-firmada: {}", e.getMessage());
-                return generatePresignedUrl(filePath);
-            }
+    @Override
+    public List<String> listBuckets() {
+        try {
+            return minioClient.listBuckets().stream()
+                    .map(Bucket::name)
+                    .toList();
+        } catch (Exception e) {
+            log.error("Error listando buckets de MinIO: {}", e.getMessage());
+            return List.of();
+        }
+    }
 
+    @Override
+    public boolean deleteBucket(String bucket) {
+        try {
+            minioClient.removeBucket(RemoveBucketArgs.builder().bucket(bucket).build());
+            return true;
         } catch (Exception e) {
-            log.error("Error generando URL pública para {}: {}", filePath, e.getMessage());
-            return null;
+            return false;
         }
     }
 
+    // ========================================
+    // GESTIÓN DE URLs Y METADATOS
+    // ========================================
+
+    @Override
+    public String generateDownloadUrl(String bucket, String objectName, int expirationInSeconds) {
+        return generatePresignedUrl(Method.GET, bucket, objectName, expirationInSeconds);
+    }
+
+    @Override
+    public String generateUploadUrl(String bucket, String objectName, int expirationInSeconds) {
+        return generatePresignedUrl(Method.PUT, bucket, objectName, expirationInSeconds);
+    }
+
     /**
-     * Genera URL pre-firmada para archivos privados
+     * Genera URL pública para acceder a archivos en MinIO
+     * Usa el prefijo precalculado en lugar de formatear la URL completa en cada llamada
      */
-    public String generatePresignedUrl(String filePath) {
-        try {
-            return minioClient.getPresignedObjectUrl(
-                    GetPresignedObjectUrlArgs.builder()
-                            .method(Method.GET)
-                            .bucket(bucketName)
-                            .object(filePath)
-                            .expiry(7, TimeUnit.DAYS) // URL válida por 7 días
-                            .build()
-            );
-        } catch (Exception e) {
-            log.error("Error generando URL pre-firmada para {}: {}", filePath, e.getMessage());
+    @Override
+    public String getPublicUrl(String bucket, String objectName) {
+        if (bucketName.equals(bucket)) {
+            return urlPrefix + objectName;
+        }
+        return baseUrl + bucket + "/" + objectName;
+    }
+
+    /**
+     * Obtiene la clave del objeto a partir de su URL pública (operación inversa a getPublicUrl)
+     */
+    @Override
+    public String extractObjectKey(String url) {
+        if (url != null && url.startsWith(urlPrefix)) {
+            return url.substring(urlPrefix.length());
+        }
+        return null;
+    }
+
+    @Override
+    public FileInfo getFileInfo(String bucket, String objectName) {
+        StatObjectResponse stat = statObject(bucket, objectName);
+        if (stat == null) {
             return null;
         }
+        return new FileInfo(
+                stat.object(),
+                stat.etag(),
+                stat.size(),
+                stat.lastModified() != null ? stat.lastModified().toString() : null,
+                stat.contentType(),
+                getPublicUrl(bucket, objectName)
+        );
     }
 
-    public List<String> listFiles(String folder) {
-        List<String> fileUrls = new ArrayList<>();
+    // ========================================
+    // OPERACIONES DE LISTADO
+    // ========================================
+
+    /**
+     * Lista las claves de los objetos almacenados bajo un prefijo (recursivo)
+     */
+    @Override
+    public List<String> listFiles(String bucket, String prefix) {
+        List<String> objectKeys = new ArrayList<>();
         try {
             Iterable<Result<Item>> results = minioClient.listObjects(
                     ListObjectsArgs.builder()
-                            .bucket(bucketName)
-                            .prefix(folder + "/")
+                            .bucket(bucket)
+                            .prefix(prefix)
                             .recursive(true)
                             .build()
             );
@@ -132,30 +239,62 @@ public class MinioStorageService {
             for (Result<Item> result : results) {
                 Item item = result.get();
                 if (!item.isDir()) { // Skip directories
-                    String objectName = item.objectName();
-                    // Filter for image files
-                    if (isImageFile(objectName)) {
-                        String url = generatePublicUrl(objectName);
-                        if (url != null) {
-                            fileUrls.add(url);
-                        }
-                    }
+                    objectKeys.add(item.objectName());
                 }
             }
         } catch (Exception e) {
-            log.error("Error listing files in folder {}: {}", folder, e.getMessage());
+            throw new StorageException("Error listando archivos de MinIO con prefijo " + prefix + ": " + e.getMessage(), e);
         }
-        return fileUrls;
+        return objectKeys;
     }
 
-    private boolean isImageFile(String filename) {
-        String[] imageExtensions = {".jpg", ".jpeg", ".png", ".gif", ".webp", ".bmp"};
-        String lowerFilename = filename.toLowerCase();
-        for (String ext : imageExtensions) {
-            if (lowerFilename.endsWith(ext)) {
-                return true;
-            }
+    // ========================================
+    // CONFIGURACIÓN Y POLÍTICAS
+    // ========================================
+
+    @Override
+    public void setBucketPolicy(String bucket, String policy) {
+        try {
+            minioClient.setBucketPolicy(
+                    SetBucketPolicyArgs.builder()
+                            .bucket(bucket)
+                            .config(policy)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException("Error configurando política del bucket MinIO: " + bucket, e);
+        }
+    }
+
+    /**
+     * Genera URL pre-firmada para archivos privados
+     */
+    private String generatePresignedUrl(Method method, String bucket, String objectName, int expirationInSeconds) {
+        try {
+            return minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(method)
+                            .bucket(bucket)
+                            .object(objectName)
+                            .expiry(expirationInSeconds, TimeUnit.SECONDS)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("Error generando URL pre-firmada para {}: {}", objectName, e.getMessage());
+            return null;
+        }
+    }
+
+    private StatObjectResponse statObject(String bucket, String objectName) {
+        try {
+            return minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(objectName)
+                            .build()
+            );
+        } catch (Exception e) {
+            return null;
         }
-        return false;
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,46 @@
 package com.feeling.domain.services.storage;
 
+import com.feeling.domain.ports.infrastructure.IStoragePort;
+import com.feeling.exception.StorageException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Bucket;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.DeleteBucketRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.PutBucketPolicyRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
-public class S3StorageService {
+@Slf4j
+public class S3StorageService implements IStoragePort {
 
     private final S3Client s3Client; // Inyectar el bean configurado
+    private final S3Presigner s3Presigner;
 
     @Value("${s3.region}")
     private String region;
@@ -30,30 +48,59 @@ public class S3StorageService {
     @Value("${s3.bucket}")
     private String bucketName;
 
-    public String uploadFile(MultipartFile file, String filePath) throws IOException {
+    // Prefijo "https://<bucket>.s3.<region>.amazonaws.com/" calculado una sola vez
+    private String urlPrefix;
+
+    @PostConstruct
+    void initUrlPrefix() {
+        urlPrefix = bucketUrl(bucketName);
+    }
+
+    @Override
+    public String getDefaultBucket() {
+        return bucketName;
+    }
+
+    // ========================================
+    // OPERACIONES BÁSICAS DE ARCHIVO
+    // ========================================
+
+    @Override
+    public String uploadFile(InputStream inputStream, String bucket, String objectName, long size, String contentType) throws IOException {
         try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .contentType(file.getContentType())
+                    .bucket(bucket)
+                    .key(objectName)
+                    .contentType(contentType)
                     .build();
 
-            s3Client.putObject(putObjectRequest,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, size));
 
-            return String.format("https://%s.s3.%s.amazonaws.com/%s",
-                    bucketName, region, filePath);
+            return getPublicUrl(bucket, objectName);
 
         } catch (Exception e) {
             throw new IOException("Error subiendo archivo a S3: " + e.getMessage(), e);
         }
     }
 
-    public boolean deleteFile(String fileName) {
+    @Override
+    public InputStream downloadFile(String bucket, String objectName) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectName)
+                    .build());
+        } catch (Exception e) {
+            throw new IOException("Error descargando archivo de S3: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean deleteFile(String bucket, String objectName) {
         try {
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
+                    .bucket(bucket)
+                    .key(objectName)
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
@@ -63,39 +110,158 @@ public class S3StorageService {
         }
     }
 
-    public List<String> listFiles(String folder) {
-        List<String> fileUrls = new ArrayList<>();
+    @Override
+    public boolean fileExists(String bucket, String objectName) {
+        return headObject(bucket, objectName) != null;
+    }
+
+    // ========================================
+    // OPERACIONES DE BUCKET
+    // ========================================
+
+    @Override
+    public void createBucketIfNotExists(String bucket) {
+        try {
+            s3Client.headBucket(HeadBucketRequest.builder().bucket(bucket).build());
+        } catch (NoSuchBucketException e) {
+            s3Client.createBucket(CreateBucketRequest.builder().bucket(bucket).build());
+            log.info("📁 Bucket '{}' creado", bucket);
+        }
+    }
+
+    @Override
+    public List<String> listBuckets() {
+        try {
+            return s3Client.listBuckets().buckets().stream()
+                    .map(Bucket::name)
+                    .toList();
+        } catch (Exception e) {
+            log.error("Error listando buckets de S3: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public boolean deleteBucket(String bucket) {
+        try {
+            s3Client.deleteBucket(DeleteBucketRequest.builder().bucket(bucket).build());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // ========================================
+    // GESTIÓN DE URLs Y METADATOS
+    // ========================================
+
+    @Override
+    public String generateDownloadUrl(String bucket, String objectName, int expirationInSeconds) {
+        return s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                        .signatureDuration(Duration.ofSeconds(expirationInSeconds))
+                        .getObjectRequest(request -> request.bucket(bucket).key(objectName))
+                        .build())
+                .url()
+                .toString();
+    }
+
+    @Override
+    public String generateUploadUrl(String bucket, String objectName, int expirationInSeconds) {
+        return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                        .signatureDuration(Duration.ofSeconds(expirationInSeconds))
+                        .putObjectRequest(request -> request.bucket(bucket).key(objectName))
+                        .build())
+                .url()
+                .toString();
+    }
+
+    /**
+     * Genera la URL pública de un objeto concatenando el prefijo precalculado
+     */
+    @Override
+    public String getPublicUrl(String bucket, String objectName) {
+        if (bucketName.equals(bucket)) {
+            return urlPrefix + objectName;
+        }
+        return bucketUrl(bucket) + objectName;
+    }
+
+    /**
+     * Obtiene la clave del objeto a partir de su URL pública
+     */
+    @Override
+    public String extractObjectKey(String url) {
+        if (url != null && url.startsWith(urlPrefix)) {
+            return url.substring(urlPrefix.length());
+        }
+        return null;
+    }
+
+    @Override
+    public FileInfo getFileInfo(String bucket, String objectName) {
+        HeadObjectResponse head = headObject(bucket, objectName);
+        if (head == null) {
+            return null;
+        }
+        return new FileInfo(
+                objectName,
+                head.eTag(),
+                head.contentLength(),
+                head.lastModified() != null ? head.lastModified().toString() : null,
+                head.contentType(),
+                getPublicUrl(bucket, objectName)
+        );
+    }
+
+    // ========================================
+    // OPERACIONES DE LISTADO
+    // ========================================
+
+    /**
+     * Lista las claves de los objetos bajo un prefijo, recorriendo todas las páginas
+     */
+    @Override
+    public List<String> listFiles(String bucket, String prefix) {
+        List<String> objectKeys = new ArrayList<>();
         try {
             ListObjectsV2Request request = ListObjectsV2Request.builder()
-                    .bucket(bucketName)
-                    .prefix(folder + "/")
+                    .bucket(bucket)
+                    .prefix(prefix)
                     .build();
 
-            ListObjectsV2Response response = s3Client.listObjectsV2(request);
-            
-            for (S3Object object : response.contents()) {
-                String objectKey = object.key();
-                // Filter for image files
-                if (isImageFile(objectKey)) {
-                    String url = String.format("https://%s.s3.%s.amazonaws.com/%s",
-                            bucketName, region, objectKey);
-                    fileUrls.add(url);
-                }
+            for (S3Object object : s3Client.listObjectsV2Paginator(request).contents()) {
+                objectKeys.add(object.key());
             }
         } catch (Exception e) {
-            // Log error but return empty list
+            throw new StorageException("Error listando archivos de S3 con prefijo " + prefix + ": " + e.getMessage(), e);
         }
-        return fileUrls;
+        return objectKeys;
     }
 
-    private boolean isImageFile(String filename) {
-        String[] imageExtensions = {".jpg", ".jpeg", ".png", ".gif", ".webp", ".bmp"};
-        String lowerFilename = filename.toLowerCase();
-        for (String ext : imageExtensions) {
-            if (lowerFilename.endsWith(ext)) {
-                return true;
-            }
+    // ========================================
+    // CONFIGURACIÓN Y POLÍTICAS
+    // ========================================
+
+    @Override
+    public void setBucketPolicy(String bucket, String policy) {
+        s3Client.putBucketPolicy(PutBucketPolicyRequest.builder()
+                .bucket(bucket)
+                .policy(policy)
+                .build());
+    }
+
+    private HeadObjectResponse headObject(String bucket, String objectName) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectName)
+                    .build());
+        } catch (Exception e) {
+            return null;
         }
-        return false;
     }
-}
\ No newline at end of file
+
+    private String bucketUrl(String bucket) {
+        return "https://" + bucket + ".s3." + region + ".amazonaws.com/";
+    }
+}
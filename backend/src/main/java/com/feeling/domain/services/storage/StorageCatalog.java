@@ -0,0 +1,112 @@
+package com.feeling.domain.services.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Catálogo en memoria de los objetos almacenados bajo cada prefijo (carpeta) del storage.
+ * Evita listar el bucket completo en cada petición: el primer acceso a un prefijo lo carga
+ * desde el backend, las subidas y eliminaciones hechas a través de StorageService lo mantienen
+ * al día y una reconciliación periódica corrige cambios hechos por fuera de la aplicación.
+ */
+@Component
+@Slf4j
+public class StorageCatalog {
+
+    // prefijo -> (clave del objeto -> URL pública), ordenado por clave para paginar de forma estable
+    private final Map<String, NavigableMap<String, String>> catalog = new ConcurrentHashMap<>();
+
+    /**
+     * Devuelve el contenido de un prefijo, cargándolo desde el backend si aún no se conoce
+     * Si la carga falla el prefijo queda sin cargar y la siguiente consulta vuelve a intentarlo
+     */
+    public NavigableMap<String, String> getOrLoad(String prefix, Function<String, Map<String, String>> loader) {
+        try {
+            return catalog.computeIfAbsent(prefix, p -> {
+                log.debug("Cargando catálogo de storage para prefijo: {}", p);
+                return new ConcurrentSkipListMap<>(loader.apply(p));
+            });
+        } catch (RuntimeException e) {
+            log.warn("No se pudo cargar el catálogo de storage '{}': {}", prefix, e.getMessage());
+            return Collections.emptyNavigableMap();
+        }
+    }
+
+    /**
+     * Lista las URLs de un prefijo filtrando por nombre de archivo y paginando sobre el catálogo
+     */
+    public Page<String> list(String prefix, String nameFilter, Pageable pageable,
+                             Function<String, Map<String, String>> loader) {
+        NavigableMap<String, String> entries = getOrLoad(prefix, loader);
+        String filter = nameFilter == null || nameFilter.isBlank()
+                ? null
+                : nameFilter.trim().toLowerCase(Locale.ROOT);
+
+        List<String> matches = entries.entrySet().stream()
+                .filter(entry -> filter == null || fileName(entry.getKey()).toLowerCase(Locale.ROOT).contains(filter))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+    }
+
+    /**
+     * Registra un objeto recién subido en todos los prefijos cargados que lo contienen
+     */
+    public void onObjectStored(String objectKey, String url) {
+        catalog.forEach((prefix, entries) -> {
+            if (objectKey.startsWith(prefix + "/")) {
+                entries.put(objectKey, url);
+            }
+        });
+    }
+
+    /**
+     * Elimina un objeto de todos los prefijos cargados
+     */
+    public void onObjectDeleted(String objectKey) {
+        catalog.values().forEach(entries -> entries.remove(objectKey));
+    }
+
+    /**
+     * Reemplaza el contenido de cada prefijo conocido con un listado fresco del backend
+     */
+    public void reconcile(Function<String, Map<String, String>> loader) {
+        catalog.replaceAll((prefix, current) -> {
+            Map<String, String> fresh;
+            try {
+                fresh = loader.apply(prefix);
+            } catch (RuntimeException e) {
+                // Se conserva el contenido conocido hasta la próxima reconciliación
+                log.warn("No se pudo reconciliar el catálogo de storage '{}': {}", prefix, e.getMessage());
+                return current;
+            }
+            if (fresh.size() != current.size()) {
+                log.info("Catálogo de storage '{}' reconciliado: {} -> {} objetos", prefix, current.size(), fresh.size());
+            }
+            return new ConcurrentSkipListMap<>(fresh);
+        });
+    }
+
+    private String fileName(String objectKey) {
+        return objectKey.substring(objectKey.lastIndexOf('/') + 1);
+    }
+}
@@ -1,48 +1,40 @@
 package com.feeling.domain.services.storage;
 
+import com.feeling.domain.ports.infrastructure.IStoragePort;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Fachada de almacenamiento de imágenes de la aplicación
+ * El backend concreto (MinIO, S3 o sistema de archivos) se inyecta como IStoragePort según storage.type
+ */
 @Service
 @RequiredArgsConstructor
 public class StorageService {
 
-    @Autowired(required = false)
-    private S3StorageService s3StorageService;
+    private static final String[] IMAGE_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".webp", ".bmp"};
 
-    @Autowired(required = false)
-    private MinioStorageService minioStorageService;
-
-    @Value("${storage.type}")
-    private String storageType;
+    private final IStoragePort storagePort;
+    private final StorageCatalog storageCatalog;
 
     public String uploadImage(MultipartFile file, String folder) throws IOException {
         String fileName = generateUniqueFileName(file.getOriginalFilename());
         String filePath = folder + "/" + fileName;
 
-        return switch (storageType.toLowerCase()) {
-            case "s3" -> {
-                if (s3StorageService == null) {
-                    throw new IllegalStateException("S3StorageService no está disponible en este entorno");
-                }
-                yield s3StorageService.uploadFile(file, filePath);
-            }
-            case "minio" -> {
-                if (minioStorageService == null) {
-                    throw new IllegalStateException("MinioStorageService no está disponible en este entorno");
-                }
-                yield minioStorageService.uploadFile(file, filePath);
-            }
-            default ->
-                    throw new IllegalStateException("Tipo de almacenamiento no configurado correctamente. Usa 'minio' para desarrollo o 's3' para producción");
-        };
+        String url = storagePort.uploadFile(file, storagePort.getDefaultBucket(), filePath);
+        storageCatalog.onObjectStored(filePath, url);
+        return url;
     }
 
     public List<String> uploadImages(List<MultipartFile> files, String folder) throws IOException {
@@ -59,22 +51,12 @@ public class StorageService {
 
     public boolean deleteImage(String imageUrl) {
         try {
-            String fileName = extractFileNameFromUrl(imageUrl);
-            return switch (storageType.toLowerCase()) {
-                case "s3" -> {
-                    if (s3StorageService == null) {
-                        yield false;
-                    }
-                    yield s3StorageService.deleteFile(fileName);
-                }
-                case "minio" -> {
-                    if (minioStorageService == null) {
-                        yield false;
-                    }
-                    yield minioStorageService.deleteFile(fileName);
-                }
-                default -> false;
-            };
+            String fileName = extractObjectKey(imageUrl);
+            boolean deleted = storagePort.deleteFile(storagePort.getDefaultBucket(), fileName);
+            if (deleted) {
+                storageCatalog.onObjectDeleted(fileName);
+            }
+            return deleted;
         } catch (Exception e) {
             return false;
         }
@@ -84,26 +66,47 @@ public class StorageService {
         imageUrls.forEach(this::deleteImage);
     }
 
+    /**
+     * Lista las imágenes de una carpeta desde el catálogo en memoria
+     */
     public List<String> listImages(String folder) {
-        try {
-            return switch (storageType.toLowerCase()) {
-                case "s3" -> {
-                    if (s3StorageService == null) {
-                        yield List.of();
-                    }
-                    yield s3StorageService.listFiles(folder);
-                }
-                case "minio" -> {
-                    if (minioStorageService == null) {
-                        yield List.of();
-                    }
-                    yield minioStorageService.listFiles(folder);
-                }
-                default -> List.of();
-            };
-        } catch (Exception e) {
-            return List.of();
+        return List.copyOf(storageCatalog.getOrLoad(folder, this::loadFromBackend).values());
+    }
+
+    /**
+     * Lista las imágenes de una carpeta con filtro por nombre y paginación, sin consultar el backend
+     */
+    public Page<String> listImages(String folder, String nameFilter, Pageable pageable) {
+        return storageCatalog.list(folder, nameFilter, pageable, this::loadFromBackend);
+    }
+
+    /**
+     * Reconciliación periódica del catálogo con el contenido real del bucket
+     */
+    @Scheduled(fixedDelayString = "${storage.catalog.reconcile-interval-ms:600000}",
+            initialDelayString = "${storage.catalog.reconcile-interval-ms:600000}")
+    public void reconcileCatalog() {
+        storageCatalog.reconcile(this::loadFromBackend);
+    }
+
+    // Un fallo del backend (StorageException) llega a StorageCatalog, que no guarda el prefijo o conserva lo conocido
+    private Map<String, String> loadFromBackend(String folder) {
+        String bucket = storagePort.getDefaultBucket();
+        Map<String, String> objects = new LinkedHashMap<>();
+        storagePort.listFiles(bucket, folder + "/").stream()
+                .filter(this::isImageFile)
+                .forEach(key -> objects.put(key, storagePort.getPublicUrl(bucket, key)));
+        return objects;
+    }
+
+    private boolean isImageFile(String filename) {
+        String lowerFilename = filename.toLowerCase(Locale.ROOT);
+        for (String ext : IMAGE_EXTENSIONS) {
+            if (lowerFilename.endsWith(ext)) {
+                return true;
+            }
         }
+        return false;
     }
 
     private String generateUniqueFileName(String originalFilename) {
@@ -114,7 +117,12 @@ public class StorageService {
         return UUID.randomUUID() + extension;
     }
 
+    private String extractObjectKey(String url) {
+        String objectKey = storagePort.extractObjectKey(url);
+        return objectKey != null ? objectKey : extractFileNameFromUrl(url);
+    }
+
     private String extractFileNameFromUrl(String url) {
         return url.substring(url.lastIndexOf("/") + 1);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.feeling.domain.services.user;
+
+/**
+ * Operaciones masivas de administración sobre usuarios (BulkUserOperationService)
+ */
+public enum BulkUserOperation {
+    APPROVE("usuarios aprobados"),
+    REJECT("usuarios rechazados"),
+    GRANT_ADMIN("roles admin otorgados"),
+    REVOKE_ADMIN("roles admin revocados"),
+    DEACTIVATE("cuentas desactivadas"),
+    REACTIVATE("cuentas reactivadas"),
+    DELETE("usuarios eliminados");
+
+    private final String resultLabel;
+
+    BulkUserOperation(String resultLabel) {
+        this.resultLabel = resultLabel;
+    }
+
+    public String getResultLabel() {
+        return resultLabel;
+    }
+}
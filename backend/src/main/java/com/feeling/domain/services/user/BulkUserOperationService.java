@@ -0,0 +1,276 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.config.async.AsyncConfig;
+import com.feeling.domain.dto.notification.NotificationType;
+import com.feeling.domain.dto.user.BulkUserJobDTO;
+import com.feeling.domain.services.notification.UserNotificationEvent;
+import com.feeling.exception.NotFoundException;
+import com.feeling.exception.TooManyRequestsException;
+import com.feeling.exception.UnauthorizedException;
+import com.feeling.infrastructure.entities.user.BulkUserJob;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.entities.user.UserApprovalStatusList;
+import com.feeling.infrastructure.entities.user.UserRole;
+import com.feeling.infrastructure.entities.user.UserRoleList;
+import com.feeling.infrastructure.logging.StructuredLoggerFactory;
+import com.feeling.infrastructure.repositories.analytics.IUserActivityDayRepository;
+import com.feeling.infrastructure.repositories.notification.INotificationInboxRepository;
+import com.feeling.infrastructure.repositories.user.IBulkUserJobRepository;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import com.feeling.infrastructure.repositories.user.IUserRoleRepository;
+import com.feeling.infrastructure.repositories.user.IUserSeenSetRepository;
+import com.feeling.infrastructure.repositories.user.IUserSuggestionQueueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Operaciones masivas de administración sobre usuarios
+ * Los ids se procesan por tramos de admin.bulk.chunk-size, cada uno en su propia transacción corta con un único
+ * UPDATE ... WHERE id IN (...), y el cache de los usuarios afectados se invalida en bloque por tramo. Los borrados
+ * van usuario a usuario, cada uno en su transacción, para que un usuario que no se puede eliminar no deshaga el tramo.
+ * Las selecciones de más de admin.bulk.async-threshold usuarios se ejecutan en segundo plano (bulkUserExecutor): la petición devuelve
+ * el id del trabajo y su progreso, guardado en bulk_user_jobs tras cada tramo, se consulta con getJob desde cualquier réplica
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkUserOperationService {
+
+    private static final StructuredLoggerFactory.StructuredLogger logger =
+            StructuredLoggerFactory.create(BulkUserOperationService.class);
+
+    private final IUserRepository userRepository;
+    private final IUserRoleRepository roleRepository;
+    private final IBulkUserJobRepository jobRepository;
+    // Tablas por usuario sin clave foránea hacia users: se limpian en la misma transacción que el borrado
+    private final INotificationInboxRepository notificationInboxRepository;
+    private final IUserSeenSetRepository seenSetRepository;
+    private final IUserSuggestionQueueRepository suggestionQueueRepository;
+    private final IUserActivityDayRepository activityDayRepository;
+    private final SeenSetService seenSetService;
+    private final CachedUserService cachedUserService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier(AsyncConfig.BULK_USER_EXECUTOR)
+    private final TaskExecutor workers;
+
+    @Value("${admin.username}")
+    private String principalAdminEmail;
+
+    @Value("${admin.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${admin.bulk.async-threshold:1000}")
+    private int asyncThreshold;
+
+    /**
+     * Ejecuta la operación sobre los usuarios indicados: en la propia petición si la selección es pequeña
+     * (el resultado ya viene terminado) o en segundo plano si supera admin.bulk.async-threshold
+     * @param reason motivo de desactivación (solo DEACTIVATE)
+     */
+    public BulkUserJobDTO execute(BulkUserOperation operation, List<String> userIds, String adminEmail, String reason) {
+        if (operation == BulkUserOperation.GRANT_ADMIN || operation == BulkUserOperation.REVOKE_ADMIN) {
+            User admin = userRepository.findByEmail(adminEmail)
+                    .orElseThrow(() -> new UnauthorizedException("Administrador no encontrado"));
+            if (!admin.getUserRole().getUserRoleList().equals(UserRoleList.ADMIN)) {
+                throw new UnauthorizedException("Solo los administradores pueden modificar roles");
+            }
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        int invalid = 0;
+        for (String userId : userIds) {
+            try {
+                ids.add(Long.valueOf(userId.trim()));
+            } catch (NumberFormatException | NullPointerException e) {
+                invalid++;
+            }
+        }
+
+        // Los ids repetidos cuentan una vez; los no numéricos, como fallos
+        LocalDateTime now = LocalDateTime.now();
+        BulkUserJob job = jobRepository.save(BulkUserJob.builder()
+                .id(UUID.randomUUID().toString())
+                .operation(operation.name())
+                .adminEmail(adminEmail)
+                .total(ids.size() + invalid)
+                .processed(invalid)
+                .failed(invalid)
+                .startedAt(now)
+                .updatedAt(now)
+                .build());
+        Context context = new Context(operation, adminEmail, reason, resolveRole(operation));
+
+        if (ids.size() <= asyncThreshold) {
+            run(job, new ArrayList<>(ids), context);
+            return toDTO(job);
+        }
+
+        // El DTO se toma antes de entregar el trabajo: a partir de ahí solo lo modifica el hilo que lo ejecuta
+        BulkUserJobDTO accepted = toDTO(job);
+        try {
+            workers.execute(() -> run(job, new ArrayList<>(ids), context));
+        } catch (RejectedExecutionException e) {
+            jobRepository.delete(job);
+            throw new TooManyRequestsException("Hay demasiadas operaciones masivas en curso, inténtalo más tarde");
+        }
+        logger.info("Operación masiva en segundo plano", Map.of("jobId", job.getId(), "operation", operation.name(),
+                "total", ids.size(), "admin", adminEmail != null ? adminEmail : ""));
+        return accepted;
+    }
+
+    public BulkUserJobDTO getJob(String jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new NotFoundException("Operación masiva no encontrada: " + jobId));
+    }
+
+    private void run(BulkUserJob job, List<Long> ids, Context context) {
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            int succeeded = 0;
+            try {
+                if (context.operation() == BulkUserOperation.DELETE) {
+                    succeeded = deleteEach(chunk, context);
+                } else {
+                    Map<Long, String> affected = transactionTemplate.execute(status -> applyChunk(chunk, context));
+                    if (affected != null && !affected.isEmpty()) {
+                        cachedUserService.evictUserCaches(affected.values());
+                    }
+                    succeeded = affected != null ? affected.size() : 0;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Error en tramo de operación masiva " + context.operation(), e);
+            }
+            job.setSucceeded(job.getSucceeded() + succeeded);
+            job.setFailed(job.getFailed() + chunk.size() - succeeded);
+            job.setProcessed(job.getProcessed() + chunk.size());
+            saveProgress(job);
+        }
+        job.setFinishedAt(LocalDateTime.now());
+        saveProgress(job);
+    }
+
+    // Un fallo al guardar el progreso no detiene la operación; el siguiente tramo lo vuelve a escribir
+    private void saveProgress(BulkUserJob job) {
+        job.setUpdatedAt(LocalDateTime.now());
+        try {
+            jobRepository.save(job);
+        } catch (RuntimeException e) {
+            logger.error("No se pudo guardar el progreso de la operación masiva " + job.getId(), e);
+        }
+    }
+
+    /**
+     * Aplica la operación a un tramo de ids con una sola sentencia
+     * @return id y email de los usuarios modificados
+     */
+    private Map<Long, String> applyChunk(List<Long> chunk, Context context) {
+        Map<Long, String> targets = findTargets(chunk, context);
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
+        Set<Long> ids = targets.keySet();
+        LocalDateTime now = LocalDateTime.now();
+        switch (context.operation()) {
+            case APPROVE -> {
+                userRepository.approveByIdIn(ids, now);
+                ids.forEach(id -> eventPublisher.publishEvent(
+                        new UserNotificationEvent(id, NotificationType.ACCOUNT_APPROVED, Map.of())));
+            }
+            case REJECT -> userRepository.updateApprovalStatusByIdIn(ids, UserApprovalStatusList.REJECTED, now);
+            case GRANT_ADMIN, REVOKE_ADMIN -> userRepository.updateRoleByIdIn(ids, context.role(), now);
+            case DEACTIVATE -> userRepository.deactivateByIdIn(ids, context.reason(), now);
+            case REACTIVATE -> userRepository.reactivateByIdIn(ids, now);
+            case DELETE -> throw new IllegalStateException("Los borrados masivos se aplican con deleteEach");
+        }
+
+        logBatch(context, ids.size());
+        return targets;
+    }
+
+    /**
+     * Elimina los usuarios del tramo uno a uno, cada uno en su transacción junto con su buzón de notificaciones,
+     * conjunto de vistos, cola de sugerencias y días de actividad (las relaciones JPA se eliminan en cascada),
+     * de modo que un usuario que no se puede eliminar cuenta como fallo sin deshacer el resto
+     * @return usuarios eliminados
+     */
+    private int deleteEach(List<Long> chunk, Context context) {
+        Map<Long, String> deleted = new LinkedHashMap<>();
+        findTargets(chunk, context).forEach((id, email) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> deleteUser(id));
+                deleted.put(id, email);
+            } catch (RuntimeException e) {
+                logger.error("No se pudo eliminar el usuario " + id + " en la operación masiva", e);
+            }
+        });
+        if (!deleted.isEmpty()) {
+            seenSetService.forget(deleted.keySet());
+            cachedUserService.evictUserCaches(deleted.values());
+            logBatch(context, deleted.size());
+        }
+        return deleted.size();
+    }
+
+    private void deleteUser(Long id) {
+        notificationInboxRepository.deleteByUserId(id);
+        seenSetRepository.deleteByUserId(id);
+        suggestionQueueRepository.deleteByUserId(id);
+        activityDayRepository.deleteByUserId(id);
+        userRepository.deleteById(id);
+    }
+
+    // Id y email de los usuarios existentes del tramo; el administrador principal no pierde su rol ni se elimina
+    private Map<Long, String> findTargets(List<Long> chunk, Context context) {
+        Map<Long, String> targets = new LinkedHashMap<>();
+        for (Object[] row : userRepository.findIdAndEmailByIdIn(chunk)) {
+            targets.put((Long) row[0], (String) row[1]);
+        }
+        if (context.operation() == BulkUserOperation.REVOKE_ADMIN || context.operation() == BulkUserOperation.DELETE) {
+            targets.values().removeIf(principalAdminEmail::equals);
+        }
+        return targets;
+    }
+
+    private void logBatch(Context context, int count) {
+        logger.logUserOperation("users_" + context.operation().name().toLowerCase() + "_batch", context.adminEmail(),
+                Map.of("count", count, "reason", context.reason() != null ? context.reason() : "No especificada"));
+    }
+
+    private UserRole resolveRole(BulkUserOperation operation) {
+        return switch (operation) {
+            case GRANT_ADMIN -> roleRepository.findByUserRoleList(UserRoleList.ADMIN).orElseThrow();
+            case REVOKE_ADMIN -> roleRepository.findByUserRoleList(UserRoleList.CLIENT).orElseThrow();
+            default -> null;
+        };
+    }
+
+    private record Context(BulkUserOperation operation, String adminEmail, String reason, UserRole role) {}
+
+    private BulkUserJobDTO toDTO(BulkUserJob job) {
+        BulkUserOperation operation = BulkUserOperation.valueOf(job.getOperation());
+        boolean finished = job.getFinishedAt() != null;
+        String message = finished
+                ? String.format("Operación completada: %d %s, %d fallos",
+                        job.getSucceeded(), operation.getResultLabel(), job.getFailed())
+                : String.format("Operación en curso: %d de %d procesados", job.getProcessed(), job.getTotal());
+        return new BulkUserJobDTO(job.getId(), operation.name(), finished ? "COMPLETED" : "RUNNING", job.getTotal(),
+                job.getProcessed(), job.getSucceeded(), job.getFailed(), message, job.getStartedAt(), job.getFinishedAt());
+    }
+}
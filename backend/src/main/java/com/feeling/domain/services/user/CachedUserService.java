@@ -5,10 +5,14 @@ import com.feeling.infrastructure.repositories.user.IUserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,8 +24,16 @@ import java.util.Optional;
 public class CachedUserService {
 
     private static final Logger logger = LoggerFactory.getLogger(CachedUserService.class);
-    
+
+    private static final List<String> USER_CACHES = List.of(
+            "users", "user-validation", "user-profile-completion", "user-security-context", "user-active-status");
+
+    // A partir de este número de usuarios se vacían los caches en lugar de invalidar clave a clave
+    // (cada invalidación se publica a las demás réplicas, ver CacheInvalidationBus)
+    private static final int BULK_EVICTION_THRESHOLD = 200;
+
     private final IUserRepository userRepository;
+    private final CacheManager cacheManager;
 
     /**
      * Busca un usuario por email con cache optimizado para validación JWT
@@ -79,15 +91,37 @@ public class CachedUserService {
     /**
      * Invalida el cache cuando un usuario es modificado
      */
-    @CacheEvict(value = {"users", "user-validation", "user-profile-completion", "user-security-context"}, key = "#email")
+    @CacheEvict(value = {"users", "user-validation", "user-profile-completion", "user-security-context", "user-active-status"}, key = "#email")
     public void evictUserCache(String email) {
         logger.debug("Invalidando cache para usuario: {}", email);
     }
 
+    /**
+     * Invalida el cache de varios usuarios a la vez (operaciones masivas de administración)
+     */
+    public void evictUserCaches(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        boolean clear = emails.size() >= BULK_EVICTION_THRESHOLD;
+        for (String cacheName : USER_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            if (clear) {
+                cache.clear();
+            } else {
+                emails.forEach(cache::evict);
+            }
+        }
+        logger.debug("Cache invalidado para {} usuarios{}", emails.size(), clear ? " (vaciado completo)" : "");
+    }
+
     /**
      * Invalida todo el cache de usuarios (usar con precaución)
      */
-    @CacheEvict(value = {"users", "user-validation", "user-profile-completion", "user-security-context"}, allEntries = true)
+    @CacheEvict(value = {"users", "user-validation", "user-profile-completion", "user-security-context", "user-active-status"}, allEntries = true)
     public void evictAllUserCache() {
         logger.info("Invalidando todo el cache de usuarios");
     }
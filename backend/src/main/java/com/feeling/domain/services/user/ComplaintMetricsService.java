@@ -0,0 +1,165 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.domain.dto.user.UserComplaintResponseDTO;
+import com.feeling.exception.BadRequestException;
+import com.feeling.infrastructure.entities.user.UserComplaint;
+import com.feeling.infrastructure.repositories.user.IUserComplaintRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Métricas y cola de triaje del panel de soporte
+ * Las estadísticas salen de una única consulta agrupada por estado, prioridad y tipo (aggregateStats) que se pliega en
+ * memoria a los mismos totales que antes calculaban ~25 COUNT; el resultado se cachea en complaint-stats y
+ * UserComplaintService lo invalida al crear, actualizar o eliminar quejas.
+ * La cola de triaje pagina en BD las quejas abiertas o en progreso urgentes y/o vencidas, ordenadas por prioridad real
+ * (no alfabética) y antigüedad
+ */
+@Service
+@RequiredArgsConstructor
+public class ComplaintMetricsService {
+
+    public static final String STATS_CACHE = "complaint-stats";
+
+    private final IUserComplaintRepository complaintRepository;
+
+    @Value("${support.complaints.overdue-hours:24}")
+    private int overdueHours;
+
+    public enum TriageFilter {
+        ALL, URGENT, OVERDUE;
+
+        public static TriageFilter from(String value) {
+            if (value == null || value.isBlank()) {
+                return ALL;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Filtro de triaje no válido: " + value);
+            }
+        }
+    }
+
+    /**
+     * Obtiene estadísticas de quejas para el dashboard administrativo
+     */
+    @Cacheable(value = STATS_CACHE, key = "'dashboard'", sync = true)
+    public Map<String, Object> getComplaintStats() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = complaintRepository.aggregateStats(now.minusHours(24), now.minusHours(overdueHours));
+
+        Map<UserComplaint.Status, Long> byStatus = new EnumMap<>(UserComplaint.Status.class);
+        Map<UserComplaint.Priority, Long> byPriority = new EnumMap<>(UserComplaint.Priority.class);
+        Map<UserComplaint.ComplaintType, Long> byType = new EnumMap<>(UserComplaint.ComplaintType.class);
+        long totalComplaints = 0;
+        long withUserReference = 0;
+        long withEventReference = 0;
+        long withBookingReference = 0;
+        long complaintsLast24h = 0;
+        long overdueComplaints = 0;
+        long resolutionHours = 0;
+        long resolvedWithDate = 0;
+
+        for (Object[] row : rows) {
+            long count = toLong(row[3]);
+            byStatus.merge((UserComplaint.Status) row[0], count, Long::sum);
+            byPriority.merge((UserComplaint.Priority) row[1], count, Long::sum);
+            byType.merge((UserComplaint.ComplaintType) row[2], count, Long::sum);
+            totalComplaints += count;
+            withUserReference += toLong(row[4]);
+            withEventReference += toLong(row[5]);
+            withBookingReference += toLong(row[6]);
+            complaintsLast24h += toLong(row[7]);
+            overdueComplaints += toLong(row[8]);
+            // El promedio de resolución considera solo las quejas en estado RESOLVED
+            if (row[0] == UserComplaint.Status.RESOLVED) {
+                resolutionHours += toLong(row[9]);
+                resolvedWithDate += toLong(row[10]);
+            }
+        }
+
+        long openComplaints = byStatus.getOrDefault(UserComplaint.Status.OPEN, 0L);
+        long inProgressComplaints = byStatus.getOrDefault(UserComplaint.Status.IN_PROGRESS, 0L);
+        long waitingUserComplaints = byStatus.getOrDefault(UserComplaint.Status.WAITING_USER, 0L);
+        long resolvedComplaints = byStatus.getOrDefault(UserComplaint.Status.RESOLVED, 0L);
+
+        Map<String, Object> stats = new HashMap<>();
+
+        // Estadísticas básicas
+        stats.put("totalComplaints", totalComplaints);
+        stats.put("openComplaints", openComplaints);
+        stats.put("inProgressComplaints", inProgressComplaints);
+        stats.put("waitingUserComplaints", waitingUserComplaints);
+        stats.put("pendingComplaints", openComplaints + inProgressComplaints + waitingUserComplaints);
+        stats.put("resolvedComplaints", resolvedComplaints);
+        stats.put("closedComplaints", byStatus.getOrDefault(UserComplaint.Status.CLOSED, 0L));
+        stats.put("escalatedComplaints", byStatus.getOrDefault(UserComplaint.Status.ESCALATED, 0L));
+        stats.put("overdueComplaints", overdueComplaints);
+        stats.put("urgentComplaints", byPriority.getOrDefault(UserComplaint.Priority.URGENT, 0L));
+        stats.put("complaintsLast24h", complaintsLast24h);
+        stats.put("averageResolutionHours", resolvedWithDate > 0 ? (double) resolutionHours / resolvedWithDate : 0.0);
+        stats.put("resolutionRate", totalComplaints > 0 ? (double) resolvedComplaints / totalComplaints * 100 : 0.0);
+
+        // Distribución por prioridad y por tipo (claves en camelCase, con ceros para los valores sin quejas)
+        Map<String, Long> priorityDistribution = new LinkedHashMap<>();
+        for (UserComplaint.Priority priority : UserComplaint.Priority.values()) {
+            priorityDistribution.put(camelCase(priority), byPriority.getOrDefault(priority, 0L));
+        }
+        stats.put("priorityDistribution", priorityDistribution);
+
+        Map<String, Long> typeDistribution = new LinkedHashMap<>();
+        for (UserComplaint.ComplaintType type : UserComplaint.ComplaintType.values()) {
+            typeDistribution.put(camelCase(type), byType.getOrDefault(type, 0L));
+        }
+        stats.put("typeDistribution", typeDistribution);
+
+        // Métricas de contexto (quejas que referencian otros elementos)
+        Map<String, Long> contextMetrics = new LinkedHashMap<>();
+        contextMetrics.put("complaintsWithUserReference", withUserReference);
+        contextMetrics.put("complaintsWithEventReference", withEventReference);
+        contextMetrics.put("complaintsWithBookingReference", withBookingReference);
+        contextMetrics.put("totalContextualComplaints", withUserReference + withEventReference + withBookingReference);
+        stats.put("contextMetrics", contextMetrics);
+        stats.put("computedAt", now);
+
+        return stats;
+    }
+
+    /**
+     * Cola de triaje paginada: quejas abiertas o en progreso urgentes (URGENT), vencidas (OVERDUE) o ambas (ALL),
+     * primero las de mayor prioridad y dentro de cada prioridad las más antiguas
+     */
+    public Page<UserComplaintResponseDTO> getTriageQueue(TriageFilter filter, Pageable pageable) {
+        boolean includeUrgent = filter != TriageFilter.OVERDUE;
+        boolean includeOverdue = filter != TriageFilter.URGENT;
+        LocalDateTime overdueThreshold = LocalDateTime.now().minusHours(overdueHours);
+        return complaintRepository.findTriageQueue(includeUrgent, includeOverdue, overdueThreshold, pageable)
+                .map(UserComplaintResponseDTO::new);
+    }
+
+    // TECHNICAL_ISSUE -> technicalIssue
+    static String camelCase(Enum<?> value) {
+        StringBuilder key = new StringBuilder();
+        for (String part : value.name().toLowerCase(Locale.ROOT).split("_")) {
+            key.append(key.isEmpty() ? part : Character.toUpperCase(part.charAt(0)) + part.substring(1));
+        }
+        return key.toString();
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -0,0 +1,114 @@
+package com.feeling.domain.services.user;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de ids de usuario: conjunto compacto con falsos positivos acotados y sin falsos negativos.
+ * Admite inserciones concurrentes sin bloqueo; dos filtros con los mismos parámetros se combinan con un OR de bits,
+ * lo que permite fusionar lo registrado por distintas réplicas
+ */
+public final class SeenBloomFilter {
+
+    private final AtomicLongArray words;
+    private final int numBits;
+    private final int numHashes;
+
+    private SeenBloomFilter(int numBits, int numHashes) {
+        this.words = new AtomicLongArray((numBits + 63) >>> 6);
+        this.numBits = words.length() << 6;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Dimensiona el filtro para el número de elementos esperado y la tasa de falsos positivos indicada
+     */
+    public static SeenBloomFilter forCapacity(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(expectedInsertions, 1);
+        int bits = (int) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new SeenBloomFilter(bits, hashes);
+    }
+
+    public void put(long id) {
+        long h1 = mix(id);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            int bit = (int) Math.floorMod(h1 + i * h2, (long) numBits);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            while (((current = words.get(word)) & mask) == 0) {
+                if (words.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public boolean mightContain(long id) {
+        long h1 = mix(id);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            int bit = (int) Math.floorMod(h1 + i * h2, (long) numBits);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Añade a este filtro los elementos de otro con los mismos parámetros (si difieren, se ignora)
+     */
+    public boolean merge(SeenBloomFilter other) {
+        if (other.numBits != numBits || other.numHashes != numHashes) {
+            return false;
+        }
+        for (int i = 0; i < words.length(); i++) {
+            long bits = other.words.get(i);
+            words.getAndUpdate(i, current -> current | bits);
+        }
+        return true;
+    }
+
+    /**
+     * Estimación del número de elementos insertados a partir de los bits activos
+     */
+    public long approximateElementCount() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        if (setBits >= numBits) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-((double) numBits / numHashes) * Math.log1p(-(double) setBits / numBits));
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + words.length() * 8);
+        buffer.putInt(numBits).putInt(numHashes);
+        for (int i = 0; i < words.length(); i++) {
+            buffer.putLong(words.get(i));
+        }
+        return buffer.array();
+    }
+
+    public static SeenBloomFilter fromBytes(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        SeenBloomFilter filter = new SeenBloomFilter(buffer.getInt(), buffer.getInt());
+        for (int i = 0; i < filter.words.length() && buffer.remaining() >= 8; i++) {
+            filter.words.set(i, buffer.getLong());
+        }
+        return filter;
+    }
+
+    // Finalizador de SplitMix64: distribuye bien ids secuenciales
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
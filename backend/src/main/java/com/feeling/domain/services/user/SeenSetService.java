@@ -0,0 +1,164 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.infrastructure.entities.user.UserSeenSet;
+import com.feeling.infrastructure.repositories.match.IMatchRepository;
+import com.feeling.infrastructure.repositories.match.IUserFavoriteRepository;
+import com.feeling.infrastructure.repositories.user.IUserSeenSetRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Usuarios ya vistos por cada usuario en el feed de sugerencias: expuestos en una página, con match en
+ * cualquier sentido o marcados como favoritos. Cada conjunto es un filtro de Bloom que se mantiene en el cache
+ * "user-seen-sets" y se vuelca periódicamente a user_seen_sets, fusionándolo con lo persistido por otras réplicas.
+ * Un falso positivo solo retrasa la aparición de un candidato; al saturarse, el filtro se reinicia con los matches
+ * y favoritos, de modo que los usuarios solo expuestos vuelven a ser elegibles.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeenSetService {
+
+    static final String CACHE_NAME = "user-seen-sets";
+
+    private final IUserSeenSetRepository seenSetRepository;
+    private final IMatchRepository matchRepository;
+    private final IUserFavoriteRepository favoriteRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    // Filtros con cambios sin volcar; mantienen la referencia aunque el cache los desaloje
+    private final Map<Long, SeenBloomFilter> dirty = new ConcurrentHashMap<>();
+
+    @Value("${suggestions.seen-set.capacity:2000}")
+    private int capacity;
+
+    @Value("${suggestions.seen-set.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * Filtro de usuarios vistos por el usuario (se carga desde BD o se siembra en el primer acceso)
+     */
+    public SeenBloomFilter seenBy(Long userId) {
+        SeenBloomFilter filter = cache().get(userId, () -> load(userId));
+        return filter != null ? filter : load(userId);
+    }
+
+    public void markSeen(Long userId, Collection<Long> seenUserIds) {
+        if (seenUserIds.isEmpty()) {
+            return;
+        }
+        SeenBloomFilter filter = seenBy(userId);
+        seenUserIds.forEach(filter::put);
+        // Después de escribir los bits: un volcado concurrente que ya retiró el filtro lo vuelve a encontrar
+        dirty.put(userId, filter);
+    }
+
+    /**
+     * Descarta el filtro en memoria de usuarios eliminados para que el volcado no vuelva a crear su fila
+     */
+    public void forget(Collection<Long> userIds) {
+        userIds.forEach(userId -> {
+            dirty.remove(userId);
+            cache().evict(userId);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${suggestions.seen-set.flush-interval-ms:60000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        int flushed = 0;
+        for (Long userId : dirty.keySet()) {
+            SeenBloomFilter filter = dirty.remove(userId);
+            if (filter == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(userId, filter));
+                flushed++;
+            } catch (DataIntegrityViolationException e) {
+                // Otra réplica insertó la fila a la vez: se fusiona en el siguiente volcado
+                dirty.putIfAbsent(userId, filter);
+            } catch (RuntimeException e) {
+                log.warn("No se pudo volcar el conjunto de vistos del usuario {}", userId, e);
+                dirty.putIfAbsent(userId, filter);
+            }
+        }
+        log.debug("Conjuntos de vistos volcados: {}", flushed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void persist(Long userId, SeenBloomFilter filter) {
+        UserSeenSet stored = seenSetRepository.findForUpdate(userId).orElseGet(() -> {
+            UserSeenSet created = new UserSeenSet();
+            created.setUserId(userId);
+            return created;
+        });
+        if (stored.getBloomFilter() != null) {
+            filter.merge(SeenBloomFilter.fromBytes(stored.getBloomFilter()));
+        }
+
+        SeenBloomFilter toStore = filter;
+        if (filter.approximateElementCount() > capacity) {
+            toStore = seed(userId);
+            cache().put(userId, toStore);
+            log.debug("Conjunto de vistos del usuario {} saturado: se reinicia con matches y favoritos", userId);
+        }
+
+        stored.setBloomFilter(toStore.toBytes());
+        stored.setUpdatedAt(LocalDateTime.now());
+        seenSetRepository.save(stored);
+    }
+
+    private SeenBloomFilter load(Long userId) {
+        SeenBloomFilter pending = dirty.get(userId);
+        if (pending != null) {
+            return pending;
+        }
+        return seenSetRepository.findById(userId)
+                .map(stored -> SeenBloomFilter.fromBytes(stored.getBloomFilter()))
+                .orElseGet(() -> {
+                    SeenBloomFilter seeded = seed(userId);
+                    dirty.put(userId, seeded);
+                    return seeded;
+                });
+    }
+
+    /**
+     * Filtro nuevo con los usuarios con los que ya hay match (en cualquier sentido) o que son favoritos
+     */
+    private SeenBloomFilter seed(Long userId) {
+        SeenBloomFilter filter = SeenBloomFilter.forCapacity(capacity, falsePositiveRate);
+        matchRepository.findTargetUserIdsByInitiatorId(userId).forEach(filter::put);
+        matchRepository.findInitiatorUserIdsByTargetId(userId).forEach(filter::put);
+        favoriteRepository.findFavoriteUserIdsByUserId(userId).forEach(filter::put);
+        return filter;
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache no configurado: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,167 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.entities.user.UserSuggestionQueue;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import com.feeling.infrastructure.repositories.user.IUserSuggestionQueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Colas de sugerencias precalculadas por usuario
+ * El endpoint de sugerencias consume la cola en O(tamaño de página); la cola se construye con SuggestionRecommender
+ * en segundo plano para los usuarios activos (o en la primera petición si aún no existe) y se rellena al bajar
+ * de suggestions.queue.refill-below candidatos o al envejecer más de suggestions.queue.max-age-hours
+ * La reconstrucción en segundo plano es el job suggestion-queues (ClusterJobRunner, ver MaintenanceJobs); las peticiones
+ * de relleno se marcan en la propia cola para que las atienda la réplica que lo ejecute
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestionQueueService {
+
+    private final IUserSuggestionQueueRepository queueRepository;
+    private final IUserRepository userRepository;
+    private final SuggestionRecommender recommender;
+    private final SeenSetService seenSetService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${suggestions.queue.refill-below:40}")
+    private int refillBelow;
+
+    @Value("${suggestions.queue.max-age-hours:24}")
+    private long maxAgeHours;
+
+    @Value("${suggestions.queue.active-days:7}")
+    private long activeDays;
+
+    @Value("${suggestions.queue.batch-size:100}")
+    private int batchSize;
+
+    @Value("${suggestions.queue.empty-retry-minutes:10}")
+    private long emptyRetryMinutes;
+
+    /**
+     * Siguientes candidatos de la cola del usuario, descartando los vistos desde que se construyó
+     * Si hay que construir la cola, los candidatos se calculan antes de bloquearla: otra petición del mismo usuario
+     * solo espera al guardado. Una cola que salió vacía no se recalcula hasta pasados
+     * suggestions.queue.empty-retry-minutes, en lugar de en cada petición
+     * @return hasNext indica si quedan en la cola candidatos no vistos después de los devueltos
+     */
+    public Slice<Long> next(User viewer, int size) {
+        Long userId = viewer.getId();
+        if (needsRebuild(queueRepository.findById(userId).orElse(null))) {
+            LocalDateTime started = LocalDateTime.now();
+            store(userId, recommender.buildQueue(viewer), started);
+        }
+        return transactionTemplate.execute(status -> advance(userId, size));
+    }
+
+    /**
+     * Reconstruye hasta suggestions.queue.batch-size colas: primero las que pidieron relleno, después las de usuarios
+     * activos sin cola o con la cola envejecida
+     * @return colas reconstruidas
+     */
+    public int refreshQueues() {
+        Set<Long> userIds = new LinkedHashSet<>(queueRepository.findUserIdsWithRefillRequested(PageRequest.of(0, batchSize)));
+        if (userIds.size() < batchSize) {
+            LocalDateTime now = LocalDateTime.now();
+            userIds.addAll(queueRepository.findActiveUserIdsWithStaleQueue(
+                    now.minusDays(activeDays), now.minusHours(maxAgeHours), PageRequest.of(0, batchSize - userIds.size())));
+        }
+
+        int rebuilt = 0;
+        for (Long userId : userIds) {
+            try {
+                Optional<User> user = userRepository.findById(userId);
+                if (user.isPresent()) {
+                    LocalDateTime started = LocalDateTime.now();
+                    store(userId, recommender.buildQueue(user.get()), started);
+                    rebuilt++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("No se pudo reconstruir la cola de sugerencias del usuario {}", userId, e);
+            }
+        }
+        if (rebuilt > 0) {
+            log.info("Colas de sugerencias reconstruidas: {}", rebuilt);
+        }
+        return rebuilt;
+    }
+
+    private boolean needsRebuild(UserSuggestionQueue queue) {
+        if (queue == null) {
+            return true;
+        }
+        if (queue.remaining() > 0) {
+            return false;
+        }
+        // Agotada tras servirla entera se reconstruye ya; construida vacía, solo al pasar el intervalo de reintento
+        return queue.candidateCount() > 0
+                || queue.getBuiltAt().isBefore(LocalDateTime.now().minusMinutes(emptyRetryMinutes));
+    }
+
+    // Avanza la cola bajo bloqueo: dos peticiones simultáneas del mismo usuario no sirven los mismos candidatos
+    private Slice<Long> advance(Long userId, int size) {
+        UserSuggestionQueue queue = queueRepository.findForUpdate(userId).orElse(null);
+        if (queue == null) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+        }
+
+        SeenBloomFilter seen = seenSetService.seenBy(userId);
+        long[] candidates = queue.getCandidates();
+        int position = queue.getPosition();
+        List<Long> next = new ArrayList<>(size);
+        while (position < candidates.length && next.size() < size) {
+            long candidate = candidates[position++];
+            if (!seen.mightContain(candidate)) {
+                next.add(candidate);
+            }
+        }
+        // La posición queda en el siguiente candidato no visto, así que comprobar si hay más no cuesta otra pasada
+        while (position < candidates.length && seen.mightContain(candidates[position])) {
+            position++;
+        }
+        queue.setPosition(position);
+        // El job reconstruye primero las colas que bajaron del mínimo
+        if (queue.remaining() < refillBelow && queue.getRefillRequestedAt() == null) {
+            queue.setRefillRequestedAt(LocalDateTime.now());
+        }
+        queueRepository.save(queue);
+        return new SliceImpl<>(next, PageRequest.of(0, size), position < candidates.length);
+    }
+
+    // Guarda los candidatos calculados desde started, salvo que otra petición o réplica haya guardado después una cola más nueva
+    private void store(Long userId, long[] candidates, LocalDateTime started) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserSuggestionQueue queue = queueRepository.findForUpdate(userId).orElse(null);
+                if (queue == null) {
+                    queue = new UserSuggestionQueue();
+                    queue.setUserId(userId);
+                } else if (queue.getBuiltAt().isAfter(started)) {
+                    return;
+                }
+                queue.replaceCandidates(candidates);
+                queueRepository.saveAndFlush(queue);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Otra petición o réplica creó la cola a la vez
+            log.debug("Cola de sugerencias del usuario {} creada concurrentemente", userId);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.domain.services.location.GeoGridIndex;
+import com.feeling.domain.services.location.GeoIndexService;
+import com.feeling.domain.services.location.GeoPoint;
+import com.feeling.domain.services.location.LocationService;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Construye la cola de candidatos de un usuario (SuggestionQueueService)
+ * Toma un conjunto acotado de candidatos compatibles no vistos (categoría, rango de edad y ubicación): si el usuario
+ * tiene radio de búsqueda y su ciudad tiene centroide, del índice geográfico por cercanía; si no, en SQL por ciudad y
+ * departamento. Los puntúa por ubicación, tags en común, preferencia de edad recíproca y popularidad, y reserva una fracción
+ * de la cola para candidatos elegidos al azar entre el resto mediante muestreo de reservorio (sin ORDER BY RAND())
+ */
+@Component
+@RequiredArgsConstructor
+public class SuggestionRecommender {
+
+    private static final int SCAN_CHUNK_SIZE = 200;
+
+    // Pesos de la puntuación
+    private static final double SAME_CITY = 3.0;
+    private static final double SAME_DEPARTMENT = 1.5;
+    private static final double SHARED_TAGS = 4.0;
+    private static final double MUTUAL_AGE_PREFERENCE = 1.0;
+    private static final double POPULARITY = 2.0;
+
+    private final IUserRepository userRepository;
+    private final SeenSetService seenSetService;
+    private final GeoIndexService geoIndexService;
+    private final LocationService locationService;
+
+    @Value("${suggestions.max-scan:1000}")
+    private int poolSize;
+
+    // Filas compatibles que se recorren como máximo buscando candidatos no vistos
+    @Value("${suggestions.max-scanned-rows:20000}")
+    private int maxScannedRows;
+
+    @Value("${suggestions.queue.size:200}")
+    private int queueSize;
+
+    @Value("${suggestions.queue.exploration-ratio:0.1}")
+    private double explorationRatio;
+
+    /**
+     * Candidatos ordenados para la cola del usuario (como máximo suggestions.queue.size)
+     */
+    public long[] buildQueue(User viewer) {
+        SeenBloomFilter seen = seenSetService.seenBy(viewer.getId());
+        Map<Long, Double> distances = new HashMap<>();
+        List<Long> pool = nearbyPool(viewer, seen, distances).orElseGet(() -> candidatePool(viewer, seen));
+        if (pool.isEmpty()) {
+            return new long[0];
+        }
+
+        Map<Long, Double> scores = score(viewer, pool, distances);
+        List<Long> ranked = new ArrayList<>(pool);
+        ranked.sort(Comparator.comparingDouble((Long id) -> scores.getOrDefault(id, 0.0)).reversed());
+
+        int explorationSlots = (int) Math.round(Math.min(queueSize, pool.size()) * explorationRatio);
+        int rankedSlots = Math.min(queueSize - explorationSlots, ranked.size());
+        List<Long> top = ranked.subList(0, rankedSlots);
+        List<Long> explored = reservoirSample(ranked.subList(rankedSlots, ranked.size()), explorationSlots,
+                ThreadLocalRandom.current());
+
+        return interleave(top, explored);
+    }
+
+    /**
+     * Muestreo de reservorio (algoritmo R): k elementos uniformes de la secuencia en una sola pasada
+     */
+    static <T> List<T> reservoirSample(Iterable<T> source, int k, Random random) {
+        List<T> reservoir = new ArrayList<>(Math.max(k, 0));
+        if (k <= 0) {
+            return reservoir;
+        }
+        int seen = 0;
+        for (T item : source) {
+            seen++;
+            if (reservoir.size() < k) {
+                reservoir.add(item);
+            } else {
+                int slot = random.nextInt(seen);
+                if (slot < k) {
+                    reservoir.set(slot, item);
+                }
+            }
+        }
+        return reservoir;
+    }
+
+    // Candidatos compatibles no vistos dentro del radio del usuario, del más cercano al más lejano
+    // Vacío si no hay ninguno, para que buildQueue recurra a la búsqueda por ciudad y departamento
+    private Optional<List<Long>> nearbyPool(User viewer, SeenBloomFilter seen, Map<Long, Double> distances) {
+        Integer radiusKm = viewer.getLocationPreferenceRadius();
+        if (radiusKm == null || radiusKm <= 0) {
+            return Optional.empty();
+        }
+        Optional<GeoPoint> origin = locationService.resolveCentroid(viewer.getCountry(), viewer.getCity(), viewer.getLocality());
+        if (origin.isEmpty()) {
+            return Optional.empty();
+        }
+        return geoIndexService.withinRadius(
+                origin.get(),
+                radiusKm,
+                viewer.getId(),
+                viewer.getCategoryInterest() != null ? viewer.getCategoryInterest().getId() : null,
+                viewer.getAgePreferenceMin(),
+                viewer.getAgePreferenceMax(),
+                seen::mightContain,
+                poolSize
+        ).filter(hits -> !hits.isEmpty()).map(hits -> {
+            List<Long> pool = new ArrayList<>(hits.size());
+            for (GeoGridIndex.Hit<GeoIndexService.Candidate> hit : hits) {
+                Long candidateId = hit.value().userId();
+                pool.add(candidateId);
+                distances.put(candidateId, hit.distanceKm() / radiusKm);
+            }
+            return pool;
+        });
+    }
+
+    // Candidatos compatibles no vistos, en el orden de findCompatibleCandidatesAfter, hasta suggestions.max-scan
+    // Los tramos avanzan por clave hasta llenar el conjunto, agotar los compatibles o recorrer
+    // suggestions.max-scanned-rows filas, de modo que un usuario que ya vio a los primeros sigue encontrando candidatos
+    private List<Long> candidatePool(User viewer, SeenBloomFilter seen) {
+        List<Long> pool = new ArrayList<>();
+        int afterRank = 0;
+        double afterPopularity = 0.0;
+        long afterId = 0L;
+        int scanned = 0;
+        List<Object[]> rows;
+        do {
+            rows = userRepository.findCompatibleCandidatesAfter(
+                    viewer.getId(),
+                    viewer.getCategoryInterest() != null ? viewer.getCategoryInterest().getId() : null,
+                    viewer.getAgePreferenceMin(),
+                    viewer.getAgePreferenceMax(),
+                    viewer.getCity(),
+                    viewer.getDepartment(),
+                    afterRank,
+                    afterPopularity,
+                    afterId,
+                    PageRequest.of(0, SCAN_CHUNK_SIZE)
+            );
+            for (Object[] row : rows) {
+                Long candidateId = (Long) row[0];
+                if (!seen.mightContain(candidateId) && pool.size() < poolSize) {
+                    pool.add(candidateId);
+                }
+            }
+            if (!rows.isEmpty()) {
+                Object[] last = rows.get(rows.size() - 1);
+                afterId = (Long) last[0];
+                afterRank = ((Number) last[1]).intValue();
+                afterPopularity = ((Number) last[2]).doubleValue();
+            }
+            scanned += rows.size();
+        } while (rows.size() == SCAN_CHUNK_SIZE && pool.size() < poolSize && scanned < maxScannedRows);
+        return pool;
+    }
+
+    // distances: distancia relativa al radio (0 a 1) de los candidatos del índice geográfico
+    private Map<Long, Double> score(User viewer, List<Long> pool, Map<Long, Double> distances) {
+        Set<String> viewerTags = new HashSet<>(viewer.getTagNames());
+        Integer viewerAge = viewer.getAge();
+
+        Map<Long, Set<String>> tagsByUser = new HashMap<>();
+        for (Object[] row : userRepository.findTagNamesByUserIdIn(pool)) {
+            tagsByUser.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+        }
+
+        List<Object[]> features = userRepository.findRankingFeaturesByIdIn(pool);
+        double maxPopularity = features.stream()
+                .mapToDouble(row -> row[3] != null ? (Double) row[3] : 0.0)
+                .max().orElse(0.0);
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (Object[] row : features) {
+            Long id = (Long) row[0];
+            String city = (String) row[1];
+            String department = (String) row[2];
+            double popularity = row[3] != null ? (Double) row[3] : 0.0;
+            Integer ageMin = (Integer) row[4];
+            Integer ageMax = (Integer) row[5];
+
+            double score = 0.0;
+            Double distance = distances.get(id);
+            if (distance != null) {
+                score += SAME_CITY * (1.0 - distance);
+            } else if (city != null && city.equals(viewer.getCity())) {
+                score += SAME_CITY;
+            } else if (department != null && department.equals(viewer.getDepartment())) {
+                score += SAME_DEPARTMENT;
+            }
+            score += SHARED_TAGS * jaccard(viewerTags, tagsByUser.getOrDefault(id, Set.of()));
+            if (viewerAge != null && ageMin != null && ageMax != null && viewerAge >= ageMin && viewerAge <= ageMax) {
+                score += MUTUAL_AGE_PREFERENCE;
+            }
+            if (maxPopularity > 0) {
+                score += POPULARITY * popularity / maxPopularity;
+            }
+            scores.put(id, score);
+        }
+        return scores;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int shared = 0;
+        for (String tag : b) {
+            if (a.contains(tag)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    // Reparte los candidatos de exploración a intervalos regulares entre los mejor puntuados
+    private static long[] interleave(List<Long> ranked, List<Long> explored) {
+        long[] queue = new long[ranked.size() + explored.size()];
+        int interval = explored.isEmpty() ? Integer.MAX_VALUE : Math.max(ranked.size() / explored.size(), 1);
+        int r = 0;
+        int e = 0;
+        for (int i = 0; i < queue.length; i++) {
+            boolean explore = e < explored.size() && (r >= ranked.size() || (r > 0 && r % interval == 0 && r / interval > e));
+            queue[i] = explore ? explored.get(e++) : ranked.get(r++);
+        }
+        return queue;
+    }
+}
@@ -2,10 +2,15 @@ package com.feeling.domain.services.user;
 
 import com.feeling.domain.dto.user.UserAttributeCreateDTO;
 import com.feeling.domain.dto.user.UserAttributeDTO;
+import com.feeling.domain.services.reference.ReferenceDataRegistry;
 import com.feeling.infrastructure.entities.user.UserAttribute;
 import com.feeling.infrastructure.repositories.user.IUserAttributeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -27,6 +32,7 @@ import org.springframework.data.domain.Pageable;
 public class UserAttributeService {
 
     private final IUserAttributeRepository userAttributeRepository;
+    private final ReferenceDataRegistry referenceData;
 
     // Tipos de atributos válidos
     private static final Set<String> VALID_ATTRIBUTE_TYPES = Set.of(
@@ -37,10 +43,22 @@ public class UserAttributeService {
     /**
      * Obtiene todos los atributos agrupados por tipo
      */
+    @Cacheable(value = "user-attributes", key = "'grouped'", sync = true)
     public Map<String, List<UserAttributeDTO>> getAllAttributesGrouped() {
-        List<UserAttribute> attributes = userAttributeRepository.findByActiveTrue();
+        return loadAttributesGrouped();
+    }
+
+    /**
+     * Recarga los atributos agrupados en cache antes de que expiren (ver CatalogCacheRefresher)
+     */
+    @CachePut(value = "user-attributes", key = "'grouped'")
+    public Map<String, List<UserAttributeDTO>> refreshAttributesGrouped() {
+        return loadAttributesGrouped();
+    }
 
-        return attributes.stream()
+    private Map<String, List<UserAttributeDTO>> loadAttributesGrouped() {
+        return referenceData.attributes().all().stream()
+                .filter(UserAttribute::isActive)
                 .map(UserAttributeDTO::new)
                 .collect(Collectors.groupingBy(UserAttributeDTO::attributeType));
     }
@@ -49,7 +67,7 @@ public class UserAttributeService {
      * Obtiene atributos de un tipo específico
      */
     public List<UserAttributeDTO> getAttributesByType(String attributeType) {
-        return userAttributeRepository.findByAttributeTypeOrderedByDisplay(attributeType.toUpperCase())
+        return referenceData.activeAttributes(attributeType.toUpperCase())
                 .stream()
                 .map(UserAttributeDTO::new)
                 .collect(Collectors.toList());
@@ -59,7 +77,7 @@ public class UserAttributeService {
      * Obtiene un atributo por ID
      */
     public UserAttributeDTO getAttributeById(Long id) {
-        return userAttributeRepository.findById(id)
+        return referenceData.attribute(id)
                 .map(UserAttributeDTO::new)
                 .orElse(null);
     }
@@ -68,6 +86,10 @@ public class UserAttributeService {
      * Crea un nuevo atributo de usuario con validaciones
      * Por defecto se crea como inactivo (active=false) para aprobación
      */
+    @Caching(evict = {
+            @CacheEvict(value = "user-attributes", allEntries = true),
+            @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'" + ReferenceDataRegistry.ATTRIBUTES + "'")
+    })
     public UserAttributeDTO createAttribute(String attributeType, UserAttributeCreateDTO createDTO) {
         log.info("Iniciando creación de atributo tipo: {}, datos: {}", attributeType, createDTO);
 
@@ -220,6 +242,10 @@ public class UserAttributeService {
     /**
      * Actualiza un atributo existente
      */
+    @Caching(evict = {
+            @CacheEvict(value = "user-attributes", allEntries = true),
+            @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'" + ReferenceDataRegistry.ATTRIBUTES + "'")
+    })
     public UserAttributeDTO updateAttribute(Long attributeId, UserAttributeCreateDTO updateDTO) {
         try {
             UserAttribute attribute = userAttributeRepository.findById(attributeId)
@@ -247,6 +273,10 @@ public class UserAttributeService {
     /**
      * Elimina un atributo
      */
+    @Caching(evict = {
+            @CacheEvict(value = "user-attributes", allEntries = true),
+            @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'" + ReferenceDataRegistry.ATTRIBUTES + "'")
+    })
     public MessageResponseDTO deleteAttribute(Long attributeId) {
         try {
             UserAttribute attribute = userAttributeRepository.findById(attributeId)
@@ -270,7 +300,7 @@ public class UserAttributeService {
             Map<String, Object> statistics = new HashMap<>();
             
             // Obtener todos los atributos
-            List<UserAttribute> allAttributes = userAttributeRepository.findAll();
+            List<UserAttribute> allAttributes = referenceData.attributes().all();
             
             // Estadísticas generales
             statistics.put("totalAttributes", allAttributes.size());
@@ -1,5 +1,6 @@
 package com.feeling.domain.services.user;
 
+import com.feeling.domain.dto.auth.AuthenticatedUser;
 import com.feeling.infrastructure.entities.user.User;
 import com.feeling.infrastructure.repositories.user.IUserRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class UserAuthorizationService {
     private static final Logger logger = LoggerFactory.getLogger(UserAuthorizationService.class);
     
     private final IUserRepository userRepository;
+    private final CachedUserService cachedUserService;
 
     /**
      * Verifica si un userId corresponde a un email específico
@@ -91,21 +93,41 @@ public class UserAuthorizationService {
     }
 
     /**
-     * Obtiene el usuario actual desde el contexto de autenticación
+     * Obtiene la instantánea del usuario autenticado resuelta por JwtAuthFilter (sin consultar la BD)
      */
-    public User getCurrentUser(Authentication authentication) {
+    public AuthenticatedUser getAuthenticatedUser(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new RuntimeException("User not authenticated");
         }
 
-        String email;
-        if (authentication.getPrincipal() instanceof UserDetails) {
-            email = ((UserDetails) authentication.getPrincipal()).getUsername();
-        } else {
-            email = authentication.getName();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
         }
 
-        return userRepository.findByEmail(email)
+        // Autenticaciones que no pasan por JwtAuthFilter: se resuelve desde el cache de usuarios
+        String email = authentication.getPrincipal() instanceof UserDetails userDetails
+                ? userDetails.getUsername()
+                : authentication.getName();
+        return cachedUserService.findByEmailCached(email)
+                .map(AuthenticatedUser::from)
                 .orElseThrow(() -> new RuntimeException("User not found: " + email));
     }
-}
\ No newline at end of file
+
+    /**
+     * Referencia al usuario actual sin cargar su estado
+     * Suficiente como parámetro de consultas o asociación de nuevas entidades
+     */
+    public User getCurrentUserReference(Authentication authentication) {
+        return userRepository.getReferenceById(getAuthenticatedUser(authentication).id());
+    }
+
+    /**
+     * Obtiene el usuario actual completo desde la BD
+     * Usar solo cuando se necesita el estado de la entidad; para identidad y rol basta getAuthenticatedUser
+     */
+    public User getCurrentUser(Authentication authentication) {
+        AuthenticatedUser authenticatedUser = getAuthenticatedUser(authentication);
+        return userRepository.findById(authenticatedUser.id())
+                .orElseThrow(() -> new RuntimeException("User not found: " + authenticatedUser.email()));
+    }
+}
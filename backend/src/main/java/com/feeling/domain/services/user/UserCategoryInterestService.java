@@ -1,11 +1,16 @@
 package com.feeling.domain.services.user;
 
 import com.feeling.domain.dto.user.UserCategoryInterestDTO;
+import com.feeling.domain.services.reference.ReferenceDataRegistry;
 import com.feeling.infrastructure.entities.user.UserCategoryInterest;
 import com.feeling.infrastructure.entities.user.UserCategoryInterestList;
 import com.feeling.infrastructure.repositories.user.IUserCategoryInterestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,14 +27,29 @@ import com.feeling.domain.dto.response.MessageResponseDTO;
 public class UserCategoryInterestService {
 
     private final IUserCategoryInterestRepository repository;
+    private final ReferenceDataRegistry referenceData;
 
     /**
      * Obtiene todas las categorías activas
      */
     @Transactional(readOnly = true)
+    @Cacheable(value = "user-interests", key = "'active'", sync = true)
     public List<UserCategoryInterestDTO> getAllActiveCategories() {
-        return repository.findByIsActiveTrueOrderByDisplayOrder()
-                .stream()
+        return loadActiveCategories();
+    }
+
+    /**
+     * Recarga las categorías activas en cache antes de que expiren (ver CatalogCacheRefresher)
+     */
+    @Transactional(readOnly = true)
+    @CachePut(value = "user-interests", key = "'active'")
+    public List<UserCategoryInterestDTO> refreshActiveCategories() {
+        return loadActiveCategories();
+    }
+
+    private List<UserCategoryInterestDTO> loadActiveCategories() {
+        return referenceData.categoryInterests().all().stream()
+                .filter(UserCategoryInterest::isActive)
                 .map(this::mapToDTO)
                 .toList();
     }
@@ -39,8 +59,7 @@ public class UserCategoryInterestService {
      */
     @Transactional(readOnly = true)
     public List<UserCategoryInterestDTO> getAllCategories() {
-        return repository.findAllByOrderByDisplayOrder()
-                .stream()
+        return referenceData.categoryInterests().all().stream()
                 .map(this::mapToDTO)
                 .toList();
     }
@@ -50,7 +69,7 @@ public class UserCategoryInterestService {
      */
     @Transactional(readOnly = true)
     public Optional<UserCategoryInterestDTO> getCategoryByEnum(UserCategoryInterestList categoryEnum) {
-        return repository.findByCategoryInterestEnum(categoryEnum)
+        return referenceData.categoryInterest(categoryEnum)
                 .map(this::mapToDTO);
     }
 
@@ -59,7 +78,7 @@ public class UserCategoryInterestService {
      */
     @Transactional(readOnly = true)
     public Optional<UserCategoryInterestDTO> getCategoryById(Long id) {
-        return repository.findById(id)
+        return referenceData.categoryInterest(id)
                 .map(this::mapToDTO);
     }
 
@@ -67,6 +86,10 @@ public class UserCategoryInterestService {
      * Actualiza una categoría
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "user-interests", allEntries = true),
+            @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'" + ReferenceDataRegistry.CATEGORY_INTERESTS + "'")
+    })
     public UserCategoryInterestDTO updateCategory(Long id, UserCategoryInterestDTO categoryDTO) {
         UserCategoryInterest category = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Categoría no encontrada: " + id));
@@ -89,6 +112,10 @@ public class UserCategoryInterestService {
      * Activar/Desactivar categoría
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "user-interests", allEntries = true),
+            @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'" + ReferenceDataRegistry.CATEGORY_INTERESTS + "'")
+    })
     public UserCategoryInterestDTO toggleCategoryStatus(Long id) {
         UserCategoryInterest category = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Categoría no encontrada: " + id));
@@ -102,6 +129,10 @@ public class UserCategoryInterestService {
      * Crea una nueva categoría de interés
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "user-interests", allEntries = true),
+            @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'" + ReferenceDataRegistry.CATEGORY_INTERESTS + "'")
+    })
     public UserCategoryInterestDTO createCategory(UserCategoryInterestDTO categoryDTO) {
         try {
             UserCategoryInterest category = new UserCategoryInterest();
@@ -125,6 +156,10 @@ public class UserCategoryInterestService {
      * Elimina una categoría de interés
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "user-interests", allEntries = true),
+            @CacheEvict(value = ReferenceDataRegistry.CACHE, key = "'" + ReferenceDataRegistry.CATEGORY_INTERESTS + "'")
+    })
     public MessageResponseDTO deleteCategory(Long id) {
         try {
             UserCategoryInterest category = repository.findById(id)
@@ -147,7 +182,7 @@ public class UserCategoryInterestService {
             Map<String, Object> statistics = new HashMap<>();
             
             // Obtener todas las categorías
-            List<UserCategoryInterest> allCategories = repository.findAll();
+            List<UserCategoryInterest> allCategories = referenceData.categoryInterests().all();
             
             // Estadísticas generales
             statistics.put("totalCategories", allCategories.size());
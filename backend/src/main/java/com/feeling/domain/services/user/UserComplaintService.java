@@ -4,25 +4,30 @@ import com.feeling.domain.dto.response.MessageResponseDTO;
 import com.feeling.domain.dto.user.UserComplaintAdminActionDTO;
 import com.feeling.domain.dto.user.UserComplaintRequestDTO;
 import com.feeling.domain.dto.user.UserComplaintResponseDTO;
+import com.feeling.domain.services.export.ExportColumn;
+import com.feeling.domain.services.export.ExportFormat;
+import com.feeling.domain.services.export.StreamingExportService;
+import com.feeling.exception.BadRequestException;
 import com.feeling.exception.NotFoundException;
 import com.feeling.exception.UnauthorizedException;
 import com.feeling.infrastructure.entities.user.User;
 import com.feeling.infrastructure.entities.user.UserComplaint;
 import com.feeling.infrastructure.logging.StructuredLoggerFactory;
+import com.feeling.infrastructure.repositories.user.ComplaintExportRow;
 import com.feeling.infrastructure.repositories.user.IUserComplaintRepository;
 import com.feeling.infrastructure.repositories.user.IUserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,11 +38,29 @@ public class UserComplaintService {
     
     private final IUserComplaintRepository complaintRepository;
     private final IUserRepository userRepository;
+    private final StreamingExportService streamingExportService;
+
+    private static final List<ExportColumn<ComplaintExportRow>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", ComplaintExportRow::id),
+            ExportColumn.of("userEmail", ComplaintExportRow::userEmail),
+            ExportColumn.of("subject", ComplaintExportRow::subject),
+            ExportColumn.of("message", ComplaintExportRow::message),
+            ExportColumn.of("complaintType", ComplaintExportRow::complaintType),
+            ExportColumn.of("priority", ComplaintExportRow::priority),
+            ExportColumn.of("status", ComplaintExportRow::status),
+            ExportColumn.of("createdAt", ComplaintExportRow::createdAt),
+            ExportColumn.of("resolvedAt", ComplaintExportRow::resolvedAt),
+            ExportColumn.of("resolvedBy", ComplaintExportRow::resolvedBy),
+            ExportColumn.of("referencedUserId", ComplaintExportRow::referencedUserId),
+            ExportColumn.of("referencedEventId", ComplaintExportRow::referencedEventId),
+            ExportColumn.of("referencedBookingId", ComplaintExportRow::referencedBookingId)
+    );
 
     /**
      * Crea una nueva queja/consulta de usuario
      */
     @Transactional
+    @CacheEvict(value = ComplaintMetricsService.STATS_CACHE, allEntries = true)
     public UserComplaintResponseDTO createComplaint(String userEmail, 
                                                     UserComplaintRequestDTO requestDTO, 
                                                     HttpServletRequest request) {
@@ -110,6 +133,24 @@ public class UserComplaintService {
     // MÉTODOS ADMINISTRATIVOS
     // ========================================
 
+    /**
+     * Exporta en streaming las quejas (todas o las de un estado), con la misma búsqueda que el listado administrativo
+     */
+    public ResponseEntity<StreamingResponseBody> exportComplaints(String status, String search, ExportFormat format) {
+        UserComplaint.Status complaintStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                complaintStatus = UserComplaint.Status.valueOf(status.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Estado de queja no válido: " + status);
+            }
+        }
+        UserComplaint.Status filter = complaintStatus;
+        String searchTerm = search != null && !search.trim().isEmpty() ? search.trim() : null;
+        return streamingExportService.export("complaints", format, EXPORT_COLUMNS,
+                () -> complaintRepository.streamComplaintsForExport(filter, searchTerm));
+    }
+
     /**
      * Obtiene todas las quejas para administradores
      */
@@ -145,23 +186,11 @@ public class UserComplaintService {
         return complaints.map(UserComplaintResponseDTO::new);
     }
 
-    /**
-     * Obtiene quejas urgentes sin resolver
-     */
-    public List<UserComplaintResponseDTO> getUrgentComplaints() {
-        List<UserComplaint> complaints = complaintRepository.findUrgentPendingComplaints();
-        
-        logger.info("Quejas urgentes obtenidas", Map.of("count", complaints.size()));
-
-        return complaints.stream()
-                .map(UserComplaintResponseDTO::new)
-                .collect(Collectors.toList());
-    }
-
     /**
      * Actualiza el estado de una queja (solo administradores)
      */
     @Transactional
+    @CacheEvict(value = ComplaintMetricsService.STATS_CACHE, allEntries = true)
     public UserComplaintResponseDTO updateComplaintStatus(Long complaintId, 
                                                           UserComplaintAdminActionDTO actionDTO,
                                                           String adminEmail) {
@@ -209,131 +238,6 @@ public class UserComplaintService {
         return new UserComplaintResponseDTO(savedComplaint);
     }
 
-    /**
-     * Obtiene estadísticas de quejas para el dashboard administrativo
-     */
-    public Map<String, Object> getComplaintStats() {
-        long totalComplaints = complaintRepository.count();
-        long openComplaints = complaintRepository.countByStatus(UserComplaint.Status.OPEN);
-        long inProgressComplaints = complaintRepository.countByStatus(UserComplaint.Status.IN_PROGRESS);
-        long waitingUserComplaints = complaintRepository.countByStatus(UserComplaint.Status.WAITING_USER);
-        long pendingComplaints = openComplaints + inProgressComplaints + waitingUserComplaints;
-        long resolvedComplaints = complaintRepository.countByStatus(UserComplaint.Status.RESOLVED);
-        long closedComplaints = complaintRepository.countByStatus(UserComplaint.Status.CLOSED);
-        long escalatedComplaints = complaintRepository.countByStatus(UserComplaint.Status.ESCALATED);
-        
-        // Métricas por prioridad
-        long lowPriorityComplaints = complaintRepository.countByPriority(UserComplaint.Priority.LOW);
-        long mediumPriorityComplaints = complaintRepository.countByPriority(UserComplaint.Priority.MEDIUM);
-        long highPriorityComplaints = complaintRepository.countByPriority(UserComplaint.Priority.HIGH);
-        long urgentComplaints = complaintRepository.countByPriority(UserComplaint.Priority.URGENT);
-        
-        // Métricas por tipo de queja
-        long generalComplaints = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.GENERAL);
-        long technicalIssues = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.TECHNICAL_ISSUE);
-        long accountIssues = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.ACCOUNT_ISSUE);
-        long paymentIssues = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.PAYMENT_ISSUE);
-        long userReports = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.USER_REPORT);
-        long eventIssues = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.EVENT_ISSUE);
-        long bookingIssues = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.BOOKING_ISSUE);
-        long privacyConcerns = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.PRIVACY_CONCERN);
-        long featureRequests = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.FEATURE_REQUEST);
-        long bugReports = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.BUG_REPORT);
-        long abuseReports = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.ABUSE_REPORT);
-        long refundRequests = complaintRepository.countByComplaintType(UserComplaint.ComplaintType.REFUND_REQUEST);
-        
-        // Métricas de contexto (quejas que referencian otros elementos)
-        long complaintsWithUserReference = complaintRepository.countComplaintsWithUserReference();
-        long complaintsWithEventReference = complaintRepository.countComplaintsWithEventReference();
-        long complaintsWithBookingReference = complaintRepository.countComplaintsWithBookingReference();
-        
-        // Quejas de las últimas 24 horas
-        LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-        long complaintsLast24h = complaintRepository.countComplaintsSince(last24Hours);
-        
-        // Quejas vencidas (más de 24 horas pendientes)
-        LocalDateTime overdueThreshold = LocalDateTime.now().minusHours(24);
-        long overdueComplaints = complaintRepository.countOverdueComplaints(overdueThreshold);
-        
-        // Tiempo promedio de resolución
-        Double avgResolutionHours = complaintRepository.getAverageResolutionTimeInHours();
-        
-        // Crear mapa de estadísticas expandido
-        Map<String, Object> stats = new HashMap<>();
-        
-        // Estadísticas básicas
-        stats.put("totalComplaints", totalComplaints);
-        stats.put("openComplaints", openComplaints);
-        stats.put("inProgressComplaints", inProgressComplaints);
-        stats.put("waitingUserComplaints", waitingUserComplaints);
-        stats.put("pendingComplaints", pendingComplaints);
-        stats.put("resolvedComplaints", resolvedComplaints);
-        stats.put("closedComplaints", closedComplaints);
-        stats.put("escalatedComplaints", escalatedComplaints);
-        stats.put("overdueComplaints", overdueComplaints);
-        stats.put("urgentComplaints", urgentComplaints);
-        stats.put("complaintsLast24h", complaintsLast24h);
-        stats.put("averageResolutionHours", avgResolutionHours != null ? avgResolutionHours : 0.0);
-        stats.put("resolutionRate", totalComplaints > 0 ? (double) resolvedComplaints / totalComplaints * 100 : 0.0);
-        
-        // Distribución por prioridad
-        Map<String, Long> priorityDistribution = Map.of(
-                "low", lowPriorityComplaints,
-                "medium", mediumPriorityComplaints,
-                "high", highPriorityComplaints,
-                "urgent", urgentComplaints
-        );
-        stats.put("priorityDistribution", priorityDistribution);
-        
-        // Distribución por tipo de queja
-        Map<String, Long> typeDistribution = new HashMap<>();
-        typeDistribution.put("general", generalComplaints);
-        typeDistribution.put("technicalIssue", technicalIssues);
-        typeDistribution.put("accountIssue", accountIssues);
-        typeDistribution.put("paymentIssue", paymentIssues);
-        typeDistribution.put("userReport", userReports);
-        typeDistribution.put("eventIssue", eventIssues);
-        typeDistribution.put("bookingIssue", bookingIssues);
-        typeDistribution.put("privacyConcern", privacyConcerns);
-        typeDistribution.put("featureRequest", featureRequests);
-        typeDistribution.put("bugReport", bugReports);
-        typeDistribution.put("abuseReport", abuseReports);
-        typeDistribution.put("refundRequest", refundRequests);
-        stats.put("typeDistribution", typeDistribution);
-        
-        // Métricas de contexto
-        Map<String, Long> contextMetrics = Map.of(
-                "complaintsWithUserReference", complaintsWithUserReference,
-                "complaintsWithEventReference", complaintsWithEventReference,
-                "complaintsWithBookingReference", complaintsWithBookingReference,
-                "totalContextualComplaints", complaintsWithUserReference + complaintsWithEventReference + complaintsWithBookingReference
-        );
-        stats.put("contextMetrics", contextMetrics);
-        
-        logger.info("Estadísticas expandidas de quejas generadas", Map.of(
-                "totalComplaints", totalComplaints,
-                "pendingComplaints", pendingComplaints,
-                "resolvedComplaints", resolvedComplaints,
-                "typesWithComplaints", stats.toString()
-        ));
-        
-        return stats;
-    }
-
-    /**
-     * Obtiene quejas atrasadas (más de 24 horas sin resolver)
-     */
-    public List<UserComplaintResponseDTO> getOverdueComplaints() {
-        LocalDateTime overdueThreshold = LocalDateTime.now().minusHours(24);
-        List<UserComplaint> complaints = complaintRepository.findOverdueComplaints(overdueThreshold);
-        
-        logger.info("Quejas atrasadas obtenidas", Map.of("count", complaints.size()));
-        
-        return complaints.stream()
-                .map(UserComplaintResponseDTO::new)
-                .collect(Collectors.toList());
-    }
-
     /**
      * Obtiene quejas resueltas
      */
@@ -353,6 +257,7 @@ public class UserComplaintService {
      * Elimina una queja (solo administradores - uso con precaución)
      */
     @Transactional
+    @CacheEvict(value = ComplaintMetricsService.STATS_CACHE, allEntries = true)
     public MessageResponseDTO deleteComplaint(Long complaintId, String adminEmail) {
         UserComplaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new NotFoundException("Queja no encontrada"));
@@ -1,8 +1,16 @@
 package com.feeling.domain.services.user;
 
+import com.feeling.domain.dto.notification.NotificationType;
+import com.feeling.domain.dto.response.CursorPageDTO;
 import com.feeling.domain.dto.response.MessageResponseDTO;
+import com.feeling.domain.dto.response.SeekCursor;
 import com.feeling.domain.dto.user.*;
 import com.feeling.domain.services.email.EmailService;
+import com.feeling.domain.services.export.ExportColumn;
+import com.feeling.domain.services.export.ExportFormat;
+import com.feeling.domain.services.export.StreamingExportService;
+import com.feeling.domain.services.reference.ReferenceDataRegistry;
+import com.feeling.domain.services.notification.UserNotificationEvent;
 import com.feeling.domain.services.storage.StorageService;
 import com.feeling.exception.BadRequestException;
 import com.feeling.exception.NotFoundException;
@@ -13,12 +21,18 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import com.feeling.infrastructure.logging.StructuredLoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -38,10 +52,13 @@ public class UserService {
     private final IUserTokenRepository tokenRepository;
     private final StorageService storageService;
     private final UserTagService userTagService;
-    private final IUserAttributeRepository userAttributeRepository;
-    private final IUserCategoryInterestRepository userCategoryInterestRepository;
+    private final ReferenceDataRegistry referenceData;
     private final CachedUserService cachedUserService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeenSetService seenSetService;
+    private final SuggestionQueueService suggestionQueueService;
+    private final StreamingExportService streamingExportService;
     // private final UserAnalyticsService userAnalyticsService;
     
     @Value("${admin.username}")
@@ -88,7 +105,13 @@ public class UserService {
         return users.map(UserResponseDTO::new);
     }
 
-    public Page<UserPublicResponseDTO> getUserSuggestions(String userEmail, Pageable pageable) {
+    /**
+     * Siguiente tramo del feed de sugerencias
+     * Los candidatos salen de la cola precalculada (SuggestionQueueService), que se recorre por posición descartando a los
+     * usuarios vistos, y cada tramo servido se marca como visto. Por eso el feed avanza solo: el número de página no
+     * selecciona candidatos, solo se devuelve en el Slice para el cliente, y hasNext indica si quedan no vistos en la cola
+     */
+    public Slice<UserPublicResponseDTO> getUserSuggestions(String userEmail, Pageable pageable) {
         User currentUser = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new NotFoundException("Usuario no encontrado"));
 
@@ -96,22 +119,23 @@ public class UserService {
             throw new RuntimeException("Debes completar tu perfil antes de ver sugerencias");
         }
 
-        // Obtener usuarios compatibles con paginación optimizada
-        Page<User> suggestedUsers = userRepository.findCompatibleUsersOptimized(
-                currentUser.getId(),
-                currentUser.getCategoryInterest() != null ? 
-                    currentUser.getCategoryInterest().getId() : null,
-                currentUser.getAgePreferenceMin(),
-                currentUser.getAgePreferenceMax(),
-                currentUser.getCity(),
-                currentUser.getDepartment(),
-                pageable
-        );
+        int size = pageable.getPageSize();
+        Slice<Long> fresh = suggestionQueueService.next(currentUser, size);
+        List<Long> freshIds = fresh.getContent();
+
+        Map<Long, User> usersById = userRepository.findAllById(freshIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        List<UserPublicResponseDTO> suggestions = freshIds.stream()
+                .map(usersById::get)
+                // La cola se construyó antes: se descartan las cuentas desactivadas desde entonces
+                .filter(user -> user != null && !user.isAccountDeactivated())
+                .map(this::convertToUserPublicResponseDTO)
+                .toList();
+        seenSetService.markSeen(currentUser.getId(), freshIds);
 
-        logger.logMatching(userEmail, "suggestions", (int) suggestedUsers.getTotalElements(), 
-                Map.of("page", (int) pageable.getPageNumber()));
+        logger.logMatching(userEmail, "suggestions", suggestions.size(), Map.of("requested", size));
 
-        return suggestedUsers.map(this::convertToUserPublicResponseDTO);
+        return new SliceImpl<>(suggestions, PageRequest.of(pageable.getPageNumber(), size), fresh.hasNext());
     }
 
 
@@ -175,22 +199,21 @@ public class UserService {
                 throw new IllegalArgumentException("Categoría de interés no válida: " + profileData.categoryInterest() + ". Valores válidos: ESSENCE, ROUSE, SPIRIT");
             }
 
-            // Buscar en la base de datos usando el enum
-            UserCategoryInterest categoryInterest = userCategoryInterestRepository
-                    .findByCategoryInterestEnum(categoryEnum)
+            // Buscar en los datos de referencia usando el enum
+            UserCategoryInterest categoryInterest = referenceData.categoryInterest(categoryEnum)
                     .orElseThrow(() -> new NotFoundException("Categoría de interés no encontrada: " + categoryEnum));
 
             user.setCategoryInterest(categoryInterest);
         }
 
         if (profileData.genderId() != null) {
-            UserAttribute gender = userAttributeRepository.findById(profileData.genderId())
+            UserAttribute gender = referenceData.attribute(profileData.genderId())
                     .orElseThrow(() -> new NotFoundException("Género no encontrado"));
             user.setGender(gender);
         }
 
         if (profileData.maritalStatusId() != null) {
-            UserAttribute maritalStatus = userAttributeRepository.findById(profileData.maritalStatusId())
+            UserAttribute maritalStatus = referenceData.attribute(profileData.maritalStatusId())
                     .orElseThrow(() -> new NotFoundException("Estado civil no encontrado"));
             user.setMaritalStatus(maritalStatus);
         }
@@ -203,25 +226,25 @@ public class UserService {
         }
 
         if (profileData.eyeColorId() != null) {
-            UserAttribute eyeColor = userAttributeRepository.findById(profileData.eyeColorId())
+            UserAttribute eyeColor = referenceData.attribute(profileData.eyeColorId())
                     .orElseThrow(() -> new NotFoundException("Color de ojos no encontrado"));
             user.setEyeColor(eyeColor);
         }
 
         if (profileData.hairColorId() != null) {
-            UserAttribute hairColor = userAttributeRepository.findById(profileData.hairColorId())
+            UserAttribute hairColor = referenceData.attribute(profileData.hairColorId())
                     .orElseThrow(() -> new NotFoundException("Color de cabello no encontrado"));
             user.setHairColor(hairColor);
         }
 
         if (profileData.bodyTypeId() != null) {
-            UserAttribute bodyType = userAttributeRepository.findById(profileData.bodyTypeId())
+            UserAttribute bodyType = referenceData.attribute(profileData.bodyTypeId())
                     .orElseThrow(() -> new NotFoundException("Tipo de cuerpo no encontrado"));
             user.setBodyType(bodyType);
         }
 
         if (profileData.educationId() != null) {
-            UserAttribute educationLevel = userAttributeRepository.findById(profileData.educationId())
+            UserAttribute educationLevel = referenceData.attribute(profileData.educationId())
                     .orElseThrow(() -> new NotFoundException("Nivel educativo no encontrado"));
             user.setEducation(educationLevel);
         }
@@ -250,7 +273,7 @@ public class UserService {
         // ========================================
 
         if (profileData.religionId() != null) {
-            UserAttribute religion = userAttributeRepository.findById(profileData.religionId())
+            UserAttribute religion = referenceData.attribute(profileData.religionId())
                     .orElseThrow(() -> new NotFoundException("Religión no encontrada"));
             user.setReligion(religion);
         }
@@ -268,13 +291,13 @@ public class UserService {
         // ========================================
 
         if (profileData.sexualRoleId() != null) {
-            UserAttribute sexualRole = userAttributeRepository.findById(profileData.sexualRoleId())
+            UserAttribute sexualRole = referenceData.attribute(profileData.sexualRoleId())
                     .orElseThrow(() -> new NotFoundException("Rol sexual no encontrado"));
             user.setSexualRole(sexualRole);
         }
 
         if (profileData.relationshipId() != null) {
-            UserAttribute relationshipStatus = userAttributeRepository.findById(profileData.relationshipId())
+            UserAttribute relationshipStatus = referenceData.attribute(profileData.relationshipId())
                     .orElseThrow(() -> new NotFoundException("Estado de relación no encontrado"));
             user.setRelationshipType(relationshipStatus);
         }
@@ -398,6 +421,7 @@ public class UserService {
         List<UserToken> userTokens = tokenRepository.findByUser(user);
         tokenRepository.deleteAll(userTokens);
         userRepository.delete(user);
+        cachedUserService.evictUserCache(user.getEmail());
         logger.logUserOperation("user_deleted", user.getEmail(), null);
         return new MessageResponseDTO("Usuario eliminado correctamente");
     }
@@ -425,6 +449,7 @@ public class UserService {
         
         // Invalidar cache para que los cambios se reflejen inmediatamente
         cachedUserService.evictUserCache(user.getEmail());
+        eventPublisher.publishEvent(new UserNotificationEvent(user.getId(), NotificationType.ACCOUNT_APPROVED, Map.of()));
         
         // Enviar email de bienvenida para usuario validado por admin
         try {
@@ -771,47 +796,6 @@ public class UserService {
     // MÉTODOS DE ANALYTICS BÁSICOS
     // ========================================
 
-    public Map<String, Object> getAnalyticsOverview() {
-        Map<String, Object> result = new HashMap<>();
-        
-        // Contadores básicos del sistema
-        Map<String, Object> systemCounts = new HashMap<>();
-        systemCounts.put("totalUsers", userRepository.count());
-        systemCounts.put("verifiedUsers", userRepository.countByVerifiedTrue());
-        systemCounts.put("unverifiedUsers", userRepository.countByVerifiedFalse());
-        systemCounts.put("approvedUsers", userRepository.countByApprovedTrue());
-        systemCounts.put("pendingUsers", userRepository.countByApprovedFalse());
-        systemCounts.put("completeProfiles", userRepository.countByProfileCompleteTrue());
-        systemCounts.put("incompleteProfiles", userRepository.countByProfileCompleteFalse());
-        
-        // Usuarios activos en diferentes períodos
-        LocalDateTime now = LocalDateTime.now();
-        systemCounts.put("activeUsersLast7Days", userRepository.countActiveUsersSince(now.minusDays(7)));
-        systemCounts.put("activeUsersLast30Days", userRepository.countActiveUsersSince(now.minusDays(30)));
-        
-        result.put("systemCounts", systemCounts);
-        
-        // Métricas de calidad básicas
-        Map<String, Object> qualityMetrics = new HashMap<>();
-        long totalUsers = userRepository.count();
-        if (totalUsers > 0) {
-            long verified = userRepository.countByVerifiedTrue();
-            long approved = userRepository.countByApprovedTrue();
-            long complete = userRepository.countByProfileCompleteTrue();
-            
-            qualityMetrics.put("verificationRate", Math.round((double) verified / totalUsers * 100));
-            qualityMetrics.put("approvalRate", Math.round((double) approved / totalUsers * 100));
-            qualityMetrics.put("completionRate", Math.round((double) complete / totalUsers * 100));
-        } else {
-            qualityMetrics.put("verificationRate", 0);
-            qualityMetrics.put("approvalRate", 0);
-            qualityMetrics.put("completionRate", 0);
-        }
-        result.put("qualityMetrics", qualityMetrics);
-        
-        return result;
-    }
-
     public UserMetricsDTO getUserDetailedMetrics(Long userId) {
         User user = userRepository.findById(userId).orElse(null);
         if (user == null) {
@@ -827,75 +811,6 @@ public class UserService {
         );
     }
 
-    public Map<String, Object> getGeographicDistribution() {
-        Map<String, Object> result = new HashMap<>();
-        
-        // Distribución por países
-        List<Object[]> countryData = userRepository.getUserCountByCountry();
-        Map<String, Long> usersByCountry = new LinkedHashMap<>();
-        for (Object[] row : countryData) {
-            usersByCountry.put((String) row[0], (Long) row[1]);
-        }
-        result.put("usersByCountry", usersByCountry);
-        
-        // Distribución por ciudades
-        List<Object[]> cityData = userRepository.getUserCountByCity();
-        Map<String, Long> usersByCity = new LinkedHashMap<>();
-        for (Object[] row : cityData) {
-            usersByCity.put((String) row[0], (Long) row[1]);
-        }
-        result.put("usersByCity", usersByCity);
-        
-        // Top 5 de cada categoría
-        Map<String, Long> topCountries = usersByCountry.entrySet().stream()
-                .limit(5)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (oldValue, newValue) -> oldValue,
-                        LinkedHashMap::new
-                ));
-        
-        Map<String, Long> topCities = usersByCity.entrySet().stream()
-                .limit(5)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (oldValue, newValue) -> oldValue,
-                        LinkedHashMap::new
-                ));
-        
-        Map<String, Object> topLocations = new HashMap<>();
-        topLocations.put("topCountries", topCountries);
-        topLocations.put("topCities", topCities);
-        result.put("topLocations", topLocations);
-        
-        return result;
-    }
-
-    public Map<String, Object> getEngagementStats() {
-        Map<String, Object> result = new HashMap<>();
-        
-        // Estadísticas básicas de engagement
-        long totalUsers = userRepository.count();
-        long verifiedUsers = userRepository.countByVerifiedTrue();
-        long completeProfiles = userRepository.countByProfileCompleteTrue();
-        
-        result.put("totalUsers", totalUsers);
-        result.put("verifiedUsers", verifiedUsers);
-        result.put("completeProfiles", completeProfiles);
-        
-        if (totalUsers > 0) {
-            result.put("averageVerificationRate", Math.round((double) verifiedUsers / totalUsers * 100));
-            result.put("averageCompletionRate", Math.round((double) completeProfiles / totalUsers * 100));
-        } else {
-            result.put("averageVerificationRate", 0);
-            result.put("averageCompletionRate", 0);
-        }
-        
-        return result;
-    }
-
     public Map<String, Object> getTopUsers(int limit) {
         Map<String, Object> result = new HashMap<>();
         
@@ -906,39 +821,6 @@ public class UserService {
         return result;
     }
 
-    public Map<String, Object> getGrowthStats(String period) {
-        Map<String, Object> result = new HashMap<>();
-        
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Estadísticas de crecimiento básicas
-        long usersLast24Hours = userRepository.countNewUsersSince(now.minusDays(1));
-        long usersLast7Days = userRepository.countNewUsersSince(now.minusDays(7));
-        long usersLast30Days = userRepository.countNewUsersSince(now.minusDays(30));
-        
-        result.put("usersLast24Hours", usersLast24Hours);
-        result.put("usersLast7Days", usersLast7Days);
-        result.put("usersLast30Days", usersLast30Days);
-        
-        // Retención básica
-        long activeUsersLast7Days = userRepository.countActiveUsersSince(now.minusDays(7));
-        long activeUsersLast30Days = userRepository.countActiveUsersSince(now.minusDays(30));
-        
-        result.put("activeUsersLast7Days", activeUsersLast7Days);
-        result.put("activeUsersLast30Days", activeUsersLast30Days);
-        
-        long totalUsers = userRepository.count();
-        if (totalUsers > 0) {
-            result.put("retentionRate7Days", Math.round((double) activeUsersLast7Days / totalUsers * 100));
-            result.put("retentionRate30Days", Math.round((double) activeUsersLast30Days / totalUsers * 100));
-        } else {
-            result.put("retentionRate7Days", 0);
-            result.put("retentionRate30Days", 0);
-        }
-        
-        return result;
-    }
-
     /**
      * Obtiene el conteo de usuarios para cada pestaña del panel de administración
      * @return Map con el conteo de usuarios por categoría
@@ -1103,7 +985,7 @@ public class UserService {
         user.setDateOfBirth(profileRequest.dateOfBirth());
         // Set gender attribute if provided
         if (profileRequest.genderId() != null) {
-            UserAttribute gender = userAttributeRepository.findById(profileRequest.genderId()).orElse(null);
+            UserAttribute gender = referenceData.attribute(profileRequest.genderId()).orElse(null);
             user.setGender(gender);
         }
         user.setDescription(profileRequest.description());
@@ -1112,8 +994,7 @@ public class UserService {
         user.setCountry(profileRequest.country());
         // Set category interest if provided
         if (profileRequest.categoryInterest() != null) {
-            UserCategoryInterest categoryInterest = userCategoryInterestRepository
-                    .findByCategoryInterestEnum(UserCategoryInterestList.valueOf(profileRequest.categoryInterest()))
+            UserCategoryInterest categoryInterest = referenceData.categoryInterest(UserCategoryInterestList.valueOf(profileRequest.categoryInterest()))
                     .orElse(null);
             user.setCategoryInterest(categoryInterest);
         }
@@ -1121,12 +1002,12 @@ public class UserService {
         user.setHeight(profileRequest.height());
         // Set eye color attribute if provided
         if (profileRequest.eyeColorId() != null) {
-            UserAttribute eyeColor = userAttributeRepository.findById(profileRequest.eyeColorId()).orElse(null);
+            UserAttribute eyeColor = referenceData.attribute(profileRequest.eyeColorId()).orElse(null);
             user.setEyeColor(eyeColor);
         }
         // Set hair color attribute if provided
         if (profileRequest.hairColorId() != null) {
-            UserAttribute hairColor = userAttributeRepository.findById(profileRequest.hairColorId()).orElse(null);
+            UserAttribute hairColor = referenceData.attribute(profileRequest.hairColorId()).orElse(null);
             user.setHairColor(hairColor);
         }
 
@@ -1166,6 +1047,7 @@ public class UserService {
         user.setDeactivationReason(reason);
         
         userRepository.save(user);
+        cachedUserService.evictUserCache(user.getEmail());
         logger.logUserOperation("account_deactivated_self", userEmail, Map.of("reason", reason != null ? reason : "No especificada"));
         
         return new MessageResponseDTO("Cuenta desactivada correctamente");
@@ -1224,6 +1106,59 @@ public class UserService {
         return users.map(UserResponseDTO::new);
     }
 
+    private static final Set<String> CURSOR_STATUSES = Set.of(
+            "all", "active", "pending-approval", "unverified", "non-approved", "deactivated", "incomplete-profiles");
+
+    /**
+     * Obtiene usuarios filtrados por estado ('all' para todos) paginando por cursor sobre (createdAt, id)
+     */
+    public CursorPageDTO<UserResponseDTO> getUsersByStatus(String status, String search, String cursor, int size) {
+        String normalizedStatus = status.toLowerCase();
+        if (!CURSOR_STATUSES.contains(normalizedStatus)) {
+            throw new BadRequestException("Estado de usuario no válido: " + status);
+        }
+        String searchTerm = search != null && !search.trim().isEmpty() ? search.trim() : null;
+        SeekCursor after = SeekCursor.decode(cursor);
+
+        return CursorPageDTO.of(
+                userRepository.findUsersByStatusAfter(normalizedStatus, searchTerm, after.timestamp(), after.id(),
+                        SeekCursor.NULL_TIMESTAMP, PageRequest.of(0, size)),
+                user -> new SeekCursor(user.getCreatedAt(), user.getId()),
+                UserResponseDTO::new);
+    }
+
+    private static final List<ExportColumn<UserExportRow>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", UserExportRow::id),
+            ExportColumn.of("name", UserExportRow::name),
+            ExportColumn.of("lastName", UserExportRow::lastName),
+            ExportColumn.of("email", UserExportRow::email),
+            ExportColumn.of("role", UserExportRow::role),
+            ExportColumn.of("verified", UserExportRow::verified),
+            ExportColumn.of("profileComplete", UserExportRow::profileComplete),
+            ExportColumn.of("approvalStatus", UserExportRow::approvalStatus),
+            ExportColumn.of("accountDeactivated", UserExportRow::accountDeactivated),
+            ExportColumn.of("categoryInterest", UserExportRow::categoryInterest),
+            ExportColumn.of("country", UserExportRow::country),
+            ExportColumn.of("city", UserExportRow::city),
+            ExportColumn.of("department", UserExportRow::department),
+            ExportColumn.of("locality", UserExportRow::locality),
+            ExportColumn.of("createdAt", UserExportRow::createdAt),
+            ExportColumn.of("lastActive", UserExportRow::lastActive)
+    );
+
+    /**
+     * Exporta en streaming los usuarios de un estado ('all' para todos), con la misma búsqueda que el listado por cursor
+     */
+    public ResponseEntity<StreamingResponseBody> exportUsers(String status, String search, ExportFormat format) {
+        String normalizedStatus = status.toLowerCase();
+        if (!CURSOR_STATUSES.contains(normalizedStatus)) {
+            throw new BadRequestException("Estado de usuario no válido: " + status);
+        }
+        String searchTerm = search != null && !search.trim().isEmpty() ? search.trim() : null;
+        return streamingExportService.export("users-" + normalizedStatus, format, EXPORT_COLUMNS,
+                () -> userRepository.streamUsersForExport(normalizedStatus, searchTerm));
+    }
+
     /**
      * Actualiza el perfil de un usuario (admin)
      */
@@ -1241,7 +1176,7 @@ public class UserService {
         user.setDateOfBirth(profileRequest.dateOfBirth());
         // Set gender attribute if provided
         if (profileRequest.genderId() != null) {
-            UserAttribute gender = userAttributeRepository.findById(profileRequest.genderId()).orElse(null);
+            UserAttribute gender = referenceData.attribute(profileRequest.genderId()).orElse(null);
             user.setGender(gender);
         }
         user.setDescription(profileRequest.description());
@@ -1250,8 +1185,7 @@ public class UserService {
         user.setCountry(profileRequest.country());
         // Set category interest if provided
         if (profileRequest.categoryInterest() != null) {
-            UserCategoryInterest categoryInterest = userCategoryInterestRepository
-                    .findByCategoryInterestEnum(UserCategoryInterestList.valueOf(profileRequest.categoryInterest()))
+            UserCategoryInterest categoryInterest = referenceData.categoryInterest(UserCategoryInterestList.valueOf(profileRequest.categoryInterest()))
                     .orElse(null);
             user.setCategoryInterest(categoryInterest);
         }
@@ -1259,12 +1193,12 @@ public class UserService {
         user.setHeight(profileRequest.height());
         // Set eye color attribute if provided
         if (profileRequest.eyeColorId() != null) {
-            UserAttribute eyeColor = userAttributeRepository.findById(profileRequest.eyeColorId()).orElse(null);
+            UserAttribute eyeColor = referenceData.attribute(profileRequest.eyeColorId()).orElse(null);
             user.setEyeColor(eyeColor);
         }
         // Set hair color attribute if provided
         if (profileRequest.hairColorId() != null) {
-            UserAttribute hairColor = userAttributeRepository.findById(profileRequest.hairColorId()).orElse(null);
+            UserAttribute hairColor = referenceData.attribute(profileRequest.hairColorId()).orElse(null);
             user.setHairColor(hairColor);
         }
 
@@ -1299,66 +1233,12 @@ public class UserService {
 
         user.setApprovalStatus(UserApprovalStatusList.REJECTED);
         userRepository.save(user);
+        cachedUserService.evictUserCache(user.getEmail());
 
         logger.logUserOperation("user_approval_revoked", user.getEmail(), Map.of("userId", userId));
         return new MessageResponseDTO("Aprobación de usuario revocada correctamente");
     }
 
-    /**
-     * Operaciones en lote para aprobación
-     */
-    @Transactional
-    public MessageResponseDTO approveUsersBatch(List<String> userIds) {
-        int approved = 0;
-        int failed = 0;
-
-        for (String userId : userIds) {
-            try {
-                User user = userRepository.findById(Long.valueOf(userId)).orElse(null);
-                if (user != null) {
-                    user.setApprovalStatus(UserApprovalStatusList.APPROVED);
-                    userRepository.save(user);
-                    approved++;
-                    logger.logUserOperation("user_approved_batch", user.getEmail(), Map.of("userId", userId));
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                logger.error("Error aprobando usuario en lote: " + userId, e);
-                failed++;
-            }
-        }
-
-        String message = String.format("Operación completada: %d usuarios aprobados, %d fallos", approved, failed);
-        return new MessageResponseDTO(message);
-    }
-
-    @Transactional
-    public MessageResponseDTO rejectUsersBatch(List<String> userIds) {
-        int rejected = 0;
-        int failed = 0;
-
-        for (String userId : userIds) {
-            try {
-                User user = userRepository.findById(Long.valueOf(userId)).orElse(null);
-                if (user != null) {
-                    user.setApprovalStatus(UserApprovalStatusList.REJECTED);
-                    userRepository.save(user);
-                    rejected++;
-                    logger.logUserOperation("user_rejected_batch", user.getEmail(), Map.of("userId", userId));
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                logger.error("Error rechazando usuario en lote: " + userId, e);
-                failed++;
-            }
-        }
-
-        String message = String.format("Operación completada: %d usuarios rechazados, %d fallos", rejected, failed);
-        return new MessageResponseDTO(message);
-    }
-
     /**
      * Resetea el estado de aprobación a pendiente
      */
@@ -1369,6 +1249,7 @@ public class UserService {
 
         user.setApprovalStatus(UserApprovalStatusList.REJECTED);
         userRepository.save(user);
+        cachedUserService.evictUserCache(user.getEmail());
 
         logger.logUserOperation("user_reset_to_pending", user.getEmail(), Map.of("userId", userId));
         return new MessageResponseDTO("Usuario reseteado a estado pendiente correctamente");
@@ -1393,48 +1274,13 @@ public class UserService {
         UserRole adminRole = roleRepository.findByUserRoleList(UserRoleList.ADMIN).orElseThrow();
         user.setUserRole(adminRole);
         userRepository.save(user);
+        cachedUserService.evictUserCache(user.getEmail());
 
         logger.logUserOperation("admin_role_granted", user.getEmail(), 
             Map.of("grantedBy", adminEmail, "userId", userId));
         return new MessageResponseDTO("Rol de administrador otorgado correctamente");
     }
 
-    @Transactional
-    public MessageResponseDTO grantAdminRoleBatch(String adminEmail, List<String> userIds) {
-        // Verificar admin
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new UnauthorizedException("Administrador no encontrado"));
-        
-        if (!admin.getUserRole().getUserRoleList().equals(UserRoleList.ADMIN)) {
-            throw new UnauthorizedException("Solo los administradores pueden otorgar roles");
-        }
-
-        int granted = 0;
-        int failed = 0;
-
-        for (String userId : userIds) {
-            try {
-                User user = userRepository.findById(Long.valueOf(userId)).orElse(null);
-                if (user != null) {
-                    UserRole adminRole = roleRepository.findByUserRoleList(UserRoleList.ADMIN).orElseThrow();
-                    user.setUserRole(adminRole);
-                    userRepository.save(user);
-                    granted++;
-                    logger.logUserOperation("admin_role_granted_batch", user.getEmail(), 
-                        Map.of("grantedBy", adminEmail, "userId", userId));
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                logger.error("Error otorgando rol admin en lote: " + userId, e);
-                failed++;
-            }
-        }
-
-        String message = String.format("Operación completada: %d roles admin otorgados, %d fallos", granted, failed);
-        return new MessageResponseDTO(message);
-    }
-
     /**
      * Revoca rol de administrador
      */
@@ -1459,48 +1305,13 @@ public class UserService {
         UserRole clientRole = roleRepository.findByUserRoleList(UserRoleList.CLIENT).orElseThrow();
         user.setUserRole(clientRole);
         userRepository.save(user);
+        cachedUserService.evictUserCache(user.getEmail());
 
         logger.logUserOperation("admin_role_revoked", user.getEmail(), 
             Map.of("revokedBy", adminEmail, "userId", userId));
         return new MessageResponseDTO("Rol de administrador revocado correctamente");
     }
 
-    @Transactional
-    public MessageResponseDTO revokeAdminRoleBatch(String adminEmail, List<String> userIds) {
-        // Verificar admin
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new UnauthorizedException("Administrador no encontrado"));
-        
-        if (!admin.getUserRole().getUserRoleList().equals(UserRoleList.ADMIN)) {
-            throw new UnauthorizedException("Solo los administradores pueden revocar roles");
-        }
-
-        int revoked = 0;
-        int failed = 0;
-
-        for (String userId : userIds) {
-            try {
-                User user = userRepository.findById(Long.valueOf(userId)).orElse(null);
-                if (user != null && !user.getEmail().equals(this.adminEmail)) {
-                    UserRole clientRole = roleRepository.findByUserRoleList(UserRoleList.CLIENT).orElseThrow();
-                    user.setUserRole(clientRole);
-                    userRepository.save(user);
-                    revoked++;
-                    logger.logUserOperation("admin_role_revoked_batch", user.getEmail(), 
-                        Map.of("revokedBy", adminEmail, "userId", userId));
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                logger.error("Error revocando rol admin en lote: " + userId, e);
-                failed++;
-            }
-        }
-
-        String message = String.format("Operación completada: %d roles admin revocados, %d fallos", revoked, failed);
-        return new MessageResponseDTO(message);
-    }
-
     /**
      * Desactiva cuenta de usuario (admin)
      */
@@ -1513,6 +1324,7 @@ public class UserService {
         user.setDeactivationDate(LocalDateTime.now());
         user.setDeactivationReason(reason);
         userRepository.save(user);
+        cachedUserService.evictUserCache(user.getEmail());
 
         logger.logUserOperation("account_deactivated_by_admin", user.getEmail(), 
             Map.of("reason", reason != null ? reason : "No especificada", "userId", userId));
@@ -1531,68 +1343,12 @@ public class UserService {
         user.setDeactivationDate(null);
         user.setDeactivationReason(null);
         userRepository.save(user);
+        cachedUserService.evictUserCache(user.getEmail());
 
         logger.logUserOperation("account_reactivated", user.getEmail(), Map.of("userId", userId));
         return new MessageResponseDTO("Cuenta reactivada correctamente");
     }
 
-    @Transactional
-    public MessageResponseDTO deactivateAccountsBatch(List<String> userIds, String reason) {
-        int deactivated = 0;
-        int failed = 0;
-
-        for (String userId : userIds) {
-            try {
-                User user = userRepository.findById(Long.valueOf(userId)).orElse(null);
-                if (user != null) {
-                    user.setAccountDeactivated(true);
-                    user.setDeactivationDate(LocalDateTime.now());
-                    user.setDeactivationReason(reason);
-                    userRepository.save(user);
-                    deactivated++;
-                    logger.logUserOperation("account_deactivated_batch", user.getEmail(), 
-                        Map.of("reason", reason != null ? reason : "No especificada", "userId", userId));
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                logger.error("Error desactivando cuenta en lote: " + userId, e);
-                failed++;
-            }
-        }
-
-        String message = String.format("Operación completada: %d cuentas desactivadas, %d fallos", deactivated, failed);
-        return new MessageResponseDTO(message);
-    }
-
-    @Transactional
-    public MessageResponseDTO reactivateAccountsBatch(List<String> userIds) {
-        int reactivated = 0;
-        int failed = 0;
-
-        for (String userId : userIds) {
-            try {
-                User user = userRepository.findById(Long.valueOf(userId)).orElse(null);
-                if (user != null) {
-                    user.setAccountDeactivated(false);
-                    user.setDeactivationDate(null);
-                    user.setDeactivationReason(null);
-                    userRepository.save(user);
-                    reactivated++;
-                    logger.logUserOperation("account_reactivated_batch", user.getEmail(), Map.of("userId", userId));
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                logger.error("Error reactivando cuenta en lote: " + userId, e);
-                failed++;
-            }
-        }
-
-        String message = String.format("Operación completada: %d cuentas reactivadas, %d fallos", reactivated, failed);
-        return new MessageResponseDTO(message);
-    }
-
     /**
      * Envía correos en lote
      */
@@ -1633,34 +1389,9 @@ public class UserService {
 
         String userEmail = user.getEmail();
         userRepository.delete(user);
+        cachedUserService.evictUserCache(user.getEmail());
 
         logger.logUserOperation("user_deleted", userEmail, Map.of("userId", userId));
         return new MessageResponseDTO("Usuario eliminado correctamente");
     }
-
-    @Transactional
-    public MessageResponseDTO deleteUsersBatch(List<String> userIds) {
-        int deleted = 0;
-        int failed = 0;
-
-        for (String userId : userIds) {
-            try {
-                User user = userRepository.findById(Long.valueOf(userId)).orElse(null);
-                if (user != null && !user.getEmail().equals(this.adminEmail)) {
-                    String userEmail = user.getEmail();
-                    userRepository.delete(user);
-                    deleted++;
-                    logger.logUserOperation("user_deleted_batch", userEmail, Map.of("userId", userId));
-                } else {
-                    failed++;
-                }
-            } catch (Exception e) {
-                logger.error("Error eliminando usuario en lote: " + userId, e);
-                failed++;
-            }
-        }
-
-        String message = String.format("Operación completada: %d usuarios eliminados, %d fallos", deleted, failed);
-        return new MessageResponseDTO(message);
-    }
 }
@@ -3,6 +3,7 @@ package com.feeling.domain.services.user;
 import com.feeling.domain.dto.response.MessageResponseDTO;
 import com.feeling.domain.dto.user.UserTagDTO;
 import com.feeling.domain.dto.user.UserTagStatisticsDTO;
+import com.feeling.domain.services.job.ClusterJob;
 import com.feeling.exception.NotFoundException;
 import com.feeling.exception.UnauthorizedException;
 import com.feeling.infrastructure.entities.user.User;
@@ -14,7 +15,6 @@ import com.feeling.infrastructure.repositories.user.IUserTagRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.feeling.domain.dto.user.UserPublicResponseDTO;
 
@@ -318,33 +319,44 @@ public class UserTagService {
     // ========================================
 
     /**
-     * Limpia tags sin uso automáticamente (ejecutado por scheduler)
+     * Tramo del job de limpieza de tags sin uso (ClusterJobRunner, ver MaintenanceJobs)
+     * @param cursor último id revisado en el tramo anterior, o null para empezar
      */
-    @Scheduled(cron = "0 0 2 * * *") // Todos los días a las 2 AM
     @Transactional
-    public void cleanupUnusedTags() {
+    public ClusterJob.Chunk cleanupUnusedTags(String cursor, int chunkSize) {
         LocalDateTime twoWeeksAgo = LocalDateTime.now().minusWeeks(2);
+        List<Long> ids = userTagRepository.findUnusedTagIdsOlderThan(
+                twoWeeksAgo, parseCursor(cursor), PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return ClusterJob.Chunk.done(0);
+        }
 
-        int deletedCount = userTagRepository.deleteUnusedTagsOlderThan(twoWeeksAgo);
-
+        int deletedCount = userTagRepository.deleteUnusedTagsByIds(ids);
         if (deletedCount > 0) {
             logger.info("Limpieza automática: {} tags sin uso eliminados", deletedCount);
         }
+        return nextChunk(deletedCount, ids, chunkSize);
     }
 
     /**
-     * Actualiza las métricas de popularidad de los tags
+     * Tramo del job de métricas de popularidad: contadores de uso y actividad de los tags de ids posteriores al cursor
      */
-    @Scheduled(cron = "0 30 1 * * *") // Todos los días a la 1:30 AM
     @Transactional
-    public void updateTagMetrics() {
+    public ClusterJob.Chunk updateTagMetrics(String cursor, int chunkSize) {
+        Long afterId = parseCursor(cursor);
+        List<Long> ids = userTagRepository.findTagIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return ClusterJob.Chunk.done(0);
+        }
+
+        Long toId = ids.get(ids.size() - 1);
         // Actualizar contadores de uso
-        userTagRepository.updateUsageCounts();
+        int updated = userTagRepository.updateUsageCounts(afterId, toId);
 
         // Marcar tags activos/inactivos
-        userTagRepository.updateActiveStatus();
+        userTagRepository.updateActiveStatus(afterId, toId);
 
-        logger.info("Métricas de tags actualizadas correctamente");
+        return nextChunk(updated, ids, chunkSize);
     }
 
     /**
@@ -368,6 +380,17 @@ public class UserTagService {
     // MÉTODOS DE VALIDACIÓN Y UTILIDAD
     // ========================================
 
+    private Long parseCursor(String cursor) {
+        return cursor != null ? Long.valueOf(cursor) : 0L;
+    }
+
+    // Un tramo incompleto indica que no quedan más ids
+    private ClusterJob.Chunk nextChunk(long processed, List<Long> ids, int chunkSize) {
+        return ids.size() < chunkSize
+                ? ClusterJob.Chunk.done(processed)
+                : ClusterJob.Chunk.next(processed, String.valueOf(ids.get(ids.size() - 1)));
+    }
+
     /**
      * Normaliza el nombre de un tag
      */
@@ -3,7 +3,9 @@ package com.feeling.exception;
 import com.feeling.domain.dto.response.ErrorResponseDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -19,12 +21,16 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import javax.naming.AuthenticationNotSupportedException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    @Value("${executors.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
     // ========================================
     // EXCEPCIONES DE DOMINIO ESPECÍFICAS
     // ========================================
@@ -64,6 +70,19 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponseDTO("TOO_MANY_REQUESTS", ex.getMessage(), "429"));
     }
 
+    /**
+     * Un pool acotado sin cola (exportExecutor para las respuestas asíncronas, ver AsyncConfig) rechazó el trabajo:
+     * el servidor está saturado, no es un error interno, así que se pide reintentar más tarde
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRejectedExecutionException(RejectedExecutionException ex) {
+        logger.warn("Trabajo rechazado por un pool saturado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponseDTO("SERVICE_BUSY",
+                        "El servidor está ocupado con otras operaciones; inténtalo de nuevo en unos segundos", "503"));
+    }
+
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResponseDTO> handleBadRequestException(BadRequestException ex) {
         logger.warn("Solicitud incorrecta: {}", ex.getMessage());
@@ -0,0 +1,14 @@
+package com.feeling.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Fallo del backend de almacenamiento (MinIO, S3 o sistema de archivos) al atender una operación
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class StorageException extends RuntimeException {
+    public StorageException(String mensaje, Throwable cause) {
+        super(mensaje, cause);
+    }
+}
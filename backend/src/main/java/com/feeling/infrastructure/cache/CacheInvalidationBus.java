@@ -0,0 +1,200 @@
+package com.feeling.infrastructure.cache;
+
+import com.feeling.infrastructure.entities.cache.CacheInvalidation;
+import com.feeling.infrastructure.repositories.cache.ICacheInvalidationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Bus de invalidación de caches entre réplicas del backend
+ * Cada evict/clear local se publica en la tabla cache_invalidation y todos los nodos la consultan
+ * periódicamente para aplicar las invalidaciones de los demás. El retraso máximo es de unos dos
+ * intervalos de sondeo (publicación + aplicación), en lugar de la expiración completa de cada cache.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationBus {
+
+    private static final int PAGE_SIZE = 500;
+    private static final int MAX_KEY_LENGTH = 500;
+    private static final int APPLIED_IDS_CAPACITY = 10_000;
+
+    // Ventana en la que se vuelven a leer filas por si un id menor se confirmó después de uno mayor
+    private static final long COMMIT_OVERLAP_SECONDS = 30;
+
+    private final CacheManager cacheManager;
+    private final ICacheInvalidationRepository invalidationRepository;
+
+    @Value("${cache.invalidation.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final String nodeId = resolveNodeId();
+    private final Queue<CacheInvalidation> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Boolean> appliedIds = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > APPLIED_IDS_CAPACITY;
+        }
+    };
+
+    private long watermark;
+
+    @PostConstruct
+    void init() {
+        if (!(cacheManager instanceof VersionedCacheManager versionedCacheManager)) {
+            log.warn("CacheManager sin soporte de invalidación distribuida: {}", cacheManager.getClass().getSimpleName());
+            return;
+        }
+        // Un nodo recién iniciado tiene los caches vacíos: solo le interesan las invalidaciones futuras
+        watermark = invalidationRepository.findMaxId();
+        versionedCacheManager.setInvalidationListener(this::publish);
+        log.info("🔄 Bus de invalidación de cache activo (nodo {})", nodeId);
+    }
+
+    /**
+     * Encola una invalidación local; dentro de una transacción se publica solo tras el commit,
+     * para que los demás nodos no recarguen el dato antiguo antes de que se confirme el cambio
+     */
+    public void publish(String cacheName, Object key) {
+        CacheInvalidation invalidation = toInvalidation(cacheName, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.add(invalidation);
+                }
+            });
+        } else {
+            pending.add(invalidation);
+        }
+    }
+
+    /**
+     * Publica las invalidaciones pendientes y aplica las de otros nodos
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public void synchronize() {
+        try {
+            flushPending();
+            applyRemote();
+        } catch (Exception e) {
+            log.warn("Error sincronizando invalidaciones de cache: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:600000}")
+    @Transactional
+    public void cleanup() {
+        int deleted = invalidationRepository.deleteOlderThan(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            log.debug("Eliminadas {} invalidaciones de cache antiguas", deleted);
+        }
+    }
+
+    private void flushPending() {
+        List<CacheInvalidation> batch = new ArrayList<>();
+        CacheInvalidation invalidation;
+        while ((invalidation = pending.poll()) != null) {
+            batch.add(invalidation);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            invalidationRepository.saveAll(batch);
+        } catch (Exception e) {
+            // Se reintentan en el siguiente ciclo
+            pending.addAll(batch);
+            throw e;
+        }
+    }
+
+    private void applyRemote() {
+        VersionedCacheManager versionedCacheManager = (VersionedCacheManager) cacheManager;
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(COMMIT_OVERLAP_SECONDS);
+        long cursor = watermark;
+        long nextWatermark = watermark;
+        boolean settled = true;
+
+        List<CacheInvalidation> page;
+        do {
+            page = invalidationRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, PAGE_SIZE));
+            for (CacheInvalidation invalidation : page) {
+                cursor = invalidation.getId();
+                if (appliedIds.putIfAbsent(invalidation.getId(), Boolean.TRUE) == null
+                        && !nodeId.equals(invalidation.getOriginNode())) {
+                    versionedCacheManager.applyRemoteInvalidation(invalidation.getCacheName(), toKey(invalidation));
+                }
+                // El watermark solo avanza sobre filas fuera de la ventana de solapamiento
+                settled = settled && invalidation.getCreatedAt().isBefore(settledBefore);
+                if (settled) {
+                    nextWatermark = invalidation.getId();
+                }
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        watermark = nextWatermark;
+    }
+
+    private CacheInvalidation toInvalidation(String cacheName, Object key) {
+        String keyType = null;
+        String cacheKey = null;
+        if (key instanceof String || key instanceof Long || key instanceof Integer) {
+            String value = key.toString();
+            if (value.length() <= MAX_KEY_LENGTH) {
+                keyType = key.getClass().getSimpleName();
+                cacheKey = value;
+            }
+        }
+        // Claves no serializables como texto: los demás nodos vacían el cache completo
+        return CacheInvalidation.builder()
+                .cacheName(cacheName)
+                .cacheKey(cacheKey)
+                .keyType(keyType)
+                .originNode(nodeId)
+                .build();
+    }
+
+    private Object toKey(CacheInvalidation invalidation) {
+        if (invalidation.getCacheKey() == null || invalidation.getKeyType() == null) {
+            return null;
+        }
+        return switch (invalidation.getKeyType()) {
+            case "Long" -> Long.valueOf(invalidation.getCacheKey());
+            case "Integer" -> Integer.valueOf(invalidation.getCacheKey());
+            default -> invalidation.getCacheKey();
+        };
+    }
+
+    private static String resolveNodeId() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return (host.length() > 55 ? host.substring(0, 55) : host) + "-" + suffix;
+        } catch (Exception e) {
+            return "node-" + suffix;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.feeling.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mantiene un número de versión por cache que cambia cada vez que su contenido cambia
+ * (put con un valor distinto, evict o clear). Permite derivar ETags sin serializar la respuesta.
+ */
+@Component
+public class CacheVersionRegistry {
+
+    // Época de arranque: evita que un reinicio (contadores a cero) reutilice ETags ya emitidos
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long version(String cacheName) {
+        return counter(cacheName).get();
+    }
+
+    public long bump(String cacheName) {
+        return counter(cacheName).incrementAndGet();
+    }
+
+    /**
+     * Construye un ETag fuerte a partir de las versiones actuales de los caches indicados
+     */
+    public String etag(String... cacheNames) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch);
+        for (String cacheName : cacheNames) {
+            tag.append('-').append(Long.toString(version(cacheName), 36));
+        }
+        return tag.append('"').toString();
+    }
+
+    private AtomicLong counter(String cacheName) {
+        return versions.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+}
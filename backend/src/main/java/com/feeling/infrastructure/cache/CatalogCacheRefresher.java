@@ -0,0 +1,59 @@
+package com.feeling.infrastructure.cache;
+
+import com.feeling.domain.services.event.EventService;
+import com.feeling.domain.services.match.MatchPlanService;
+import com.feeling.domain.services.reference.ReferenceDataRegistry;
+import com.feeling.domain.services.user.UserAttributeService;
+import com.feeling.domain.services.user.UserCategoryInterestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh-ahead de los caches de catálogo
+ * Recarga las entradas más consultadas antes de que expiren (ver CacheConfig) para que ninguna
+ * petición pague la consulta a BD. Si el contenido no cambió, la versión del cache (y el ETag) se mantiene.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheRefresher {
+
+    private final EventService eventService;
+    private final UserAttributeService userAttributeService;
+    private final UserCategoryInterestService userCategoryInterestService;
+    private final MatchPlanService matchPlanService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    // Los eventos expiran a los 5 minutos
+    @Scheduled(fixedDelayString = "${cache.refresh.events-interval-ms:240000}",
+            initialDelayString = "${cache.refresh.events-interval-ms:240000}")
+    public void refreshEvents() {
+        refresh("events", () -> {
+            eventService.refreshActiveEvents();
+            eventService.refreshUpcomingEvents();
+        });
+    }
+
+    // Atributos, intereses y planes expiran a la hora
+    @Scheduled(fixedDelayString = "${cache.refresh.catalog-interval-ms:3000000}",
+            initialDelayString = "${cache.refresh.catalog-interval-ms:3000000}")
+    public void refreshCatalogs() {
+        // Primero las tablas de referencia, de las que se construyen los demás catálogos
+        refresh(ReferenceDataRegistry.CACHE, referenceDataRegistry::refreshAll);
+        refresh("user-attributes", userAttributeService::refreshAttributesGrouped);
+        refresh("user-interests", userCategoryInterestService::refreshActiveCategories);
+        refresh("match-plans", matchPlanService::refreshActivePlans);
+    }
+
+    private void refresh(String cacheName, Runnable refresher) {
+        try {
+            refresher.run();
+            log.debug("Cache '{}' refrescado", cacheName);
+        } catch (Exception e) {
+            // La entrada anterior sigue vigente hasta su expiración
+            log.warn("No se pudo refrescar el cache '{}': {}", cacheName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.feeling.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de respuestas ya serializadas (UTF-8 y gzip) para los endpoints de catálogo más pesados.
+ * Cada entrada guarda el ETag de la versión de caches con la que se generó, así que cualquier
+ * @CacheEvict sobre esos caches la invalida. Un acierto se escribe directo al output stream del servlet.
+ */
+@Component
+@Slf4j
+public class SerializedResponseCache {
+
+    /**
+     * Atributo de petición con el que el interceptor pide capturar la respuesta generada
+     */
+    public static final String CAPTURE_ATTRIBUTE = SerializedResponseCache.class.getName() + ".capture";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, SerializedResponse> responses;
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${http.serialized-cache.ttl-seconds:300}") long ttlSeconds,
+                                   @Value("${http.serialized-cache.max-bytes:33554432}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        // El TTL acota el tiempo que se sirven bytes de un cache que expiró sin ser desalojado explícitamente
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumWeight(maxBytes)
+                .<String, SerializedResponse>weigher((key, value) -> value.json().length + value.gzip().length)
+                .build();
+    }
+
+    /**
+     * Devuelve la respuesta serializada si fue generada con el ETag vigente
+     */
+    public SerializedResponse get(String key, String etag) {
+        SerializedResponse response = responses.getIfPresent(key);
+        return response != null && response.etag().equals(etag) ? response : null;
+    }
+
+    /**
+     * Serializa y guarda el cuerpo final de una respuesta
+     */
+    public void put(String key, String etag, Object body, Map<String, String> headers) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            responses.put(key, new SerializedResponse(etag, json, gzip(json), Map.copyOf(headers)));
+            log.debug("Respuesta serializada cacheada para {} ({} bytes)", key, json.length);
+        } catch (IOException e) {
+            log.warn("No se pudo serializar la respuesta para {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Escribe los bytes cacheados en la respuesta, comprimidos si el cliente acepta gzip
+     */
+    public void write(SerializedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        cached.headers().forEach(response::setHeader);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        byte[] payload = cached.json();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            payload = cached.gzip();
+        }
+        response.setContentLength(payload.length);
+        response.getOutputStream().write(payload);
+    }
+
+    /**
+     * Invalida todas las respuestas serializadas
+     */
+    public void clear() {
+        responses.invalidateAll();
+    }
+
+    public static String keyFor(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+
+    private byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        }
+        return buffer.toByteArray();
+    }
+
+    public record SerializedResponse(String etag, byte[] json, byte[] gzip, Map<String, String> headers) {}
+
+    /**
+     * Datos que el interceptor deja en la petición para capturar la respuesta en ResponseHandler
+     */
+    public record Capture(String key, String etag, String[] caches) {}
+}
@@ -0,0 +1,223 @@
+package com.feeling.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorador de CacheManager que notifica a CacheVersionRegistry cada modificación de un cache
+ * y publica las invalidaciones (evict/clear) para el resto de nodos (ver CacheInvalidationBus)
+ * Los servicios siguen usando @Cacheable/@CacheEvict sin cambios
+ */
+public class VersionedCacheManager implements CacheManager {
+
+    private static final int MAX_FINGERPRINTS = 10_000;
+
+    private final CacheManager delegate;
+    private final CacheVersionRegistry versionRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private volatile InvalidationListener invalidationListener;
+
+    public VersionedCacheManager(CacheManager delegate, CacheVersionRegistry versionRegistry) {
+        this.delegate = delegate;
+        this.versionRegistry = versionRegistry;
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    public void setInvalidationListener(InvalidationListener invalidationListener) {
+        this.invalidationListener = invalidationListener;
+    }
+
+    /**
+     * Aplica una invalidación recibida de otro nodo sin volver a publicarla
+     * Una clave nula vacía el cache completo
+     */
+    public void applyRemoteInvalidation(String cacheName, Object key) {
+        Cache target = delegate.getCache(cacheName);
+        if (target == null) {
+            return;
+        }
+        if (key == null) {
+            target.clear();
+        } else {
+            target.evict(key);
+        }
+        if (getCache(cacheName) instanceof VersionedCache versioned) {
+            versioned.forget(key);
+        }
+        versionRegistry.bump(cacheName);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name, key -> new VersionedCache(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private final class VersionedCache implements Cache {
+
+        private final Cache target;
+        // Huella (hashCode) del último valor de cada clave; sobrevive a la expiración de la entrada para que una
+        // recarga con el mismo contenido no cambie la versión del cache ni invalide los ETags ya emitidos
+        private final com.github.benmanes.caffeine.cache.Cache<Object, Integer> fingerprints = Caffeine.newBuilder()
+                .maximumSize(MAX_FINGERPRINTS)
+                .build();
+
+        private VersionedCache(Cache target) {
+            this.target = target;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return target.get(key, () -> {
+                T value = valueLoader.call();
+                Integer previous = fingerprints.getIfPresent(key);
+                // Primera carga de la clave (o tras un evict, que ya cambió la versión): nada que invalidar
+                if (previous != null && !previous.equals(fingerprint(value))) {
+                    bump();
+                }
+                fingerprints.put(key, fingerprint(value));
+                return value;
+            });
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            ValueWrapper previous = target.get(key);
+            target.put(key, value);
+            // Una recarga con el mismo contenido (p. ej. tras expirar) no invalida los ETags emitidos
+            boolean changed = previous != null
+                    ? !Objects.equals(previous.get(), value)
+                    : !Objects.equals(fingerprints.getIfPresent(key), fingerprint(value));
+            fingerprints.put(key, fingerprint(value));
+            if (changed) {
+                bump();
+            }
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            ValueWrapper existing = target.putIfAbsent(key, value);
+            if (existing == null) {
+                Integer previous = fingerprints.getIfPresent(key);
+                fingerprints.put(key, fingerprint(value));
+                if (!Objects.equals(previous, fingerprint(value))) {
+                    bump();
+                }
+            }
+            return existing;
+        }
+
+        @Override
+        public void evict(Object key) {
+            target.evict(key);
+            fingerprints.invalidate(key);
+            bump();
+            publish(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = target.evictIfPresent(key);
+            fingerprints.invalidate(key);
+            if (evicted) {
+                bump();
+            }
+            // Otro nodo puede tener la entrada aunque este no
+            publish(key);
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            target.clear();
+            fingerprints.invalidateAll();
+            bump();
+            publish(null);
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = target.invalidate();
+            fingerprints.invalidateAll();
+            bump();
+            publish(null);
+            return invalidated;
+        }
+
+        // Descarta la huella de una clave (todas si es nula) tras una invalidación
+        void forget(Object key) {
+            if (key == null) {
+                fingerprints.invalidateAll();
+            } else {
+                fingerprints.invalidate(key);
+            }
+        }
+
+        private static int fingerprint(Object value) {
+            try {
+                return Objects.hashCode(value);
+            } catch (RuntimeException e) {
+                // Valores sin hashCode utilizable (p. ej. asociaciones perezosas): se tratan como distintos
+                return System.identityHashCode(value);
+            }
+        }
+
+        private void bump() {
+            versionRegistry.bump(target.getName());
+        }
+
+        private void publish(Object key) {
+            InvalidationListener listener = invalidationListener;
+            if (listener != null) {
+                listener.onInvalidation(target.getName(), key);
+            }
+        }
+    }
+
+    /**
+     * Receptor de las invalidaciones locales (evict con clave, o clear con clave nula)
+     */
+    @FunctionalInterface
+    public interface InvalidationListener {
+        void onInvalidation(String cacheName, Object key);
+    }
+}
@@ -0,0 +1,29 @@
+package com.feeling.infrastructure.entities;
+
+import java.util.List;
+
+/**
+ * Generación de ids por bloques (tabla id_generators, optimizador pooled de Hibernate) para las entidades con más
+ * inserciones. A diferencia de IDENTITY, el id se conoce antes del INSERT y Hibernate puede agruparlos en lotes
+ * de hibernate.jdbc.batch_size. Cada entidad usa como clave el nombre de su tabla; IdGeneratorConfig ajusta los
+ * contadores al máximo id existente antes de arrancar JPA
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // Ids reservados por cada acceso a la tabla
+    public static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * Tablas con id por bloques (deben coincidir con el pkColumnValue de su @TableGenerator)
+     */
+    public static final List<String> POOLED_TABLES = List.of(
+            "users", "user_tokens", "user_tags", "matches", "user_favorites", "event_registrations"
+    );
+
+    private IdGenerators() {
+    }
+}
@@ -0,0 +1,31 @@
+package com.feeling.infrastructure.entities.analytics;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Usuarios de la cohorte de alta cohortDay que estuvieron activos el día activityDay (retención por cohortes)
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "analytics_cohort_activity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cohort_activity_days", columnNames = {"cohort_day", "activity_day"}),
+        indexes = @Index(name = "idx_cohort_activity_activity_day", columnList = "activity_day"))
+public class CohortActivity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cohort_day", nullable = false)
+    private LocalDate cohortDay;
+
+    @Column(name = "activity_day", nullable = false)
+    private LocalDate activityDay;
+
+    @Column(name = "active_users", nullable = false)
+    private long activeUsers;
+}
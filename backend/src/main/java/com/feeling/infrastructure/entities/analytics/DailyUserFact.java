@@ -0,0 +1,69 @@
+package com.feeling.infrastructure.entities.analytics;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Rollup diario de usuarios por país, ciudad y categoría de interés ('' si no se conoce)
+ * signups, verifications, approvals y activeUsers son hechos del día; totalUsers, verifiedUsers, approvedUsers y
+ * completeProfiles son la foto de los usuarios dados de alta hasta ese día según su estado al cierre del día.
+ * activeUsers solo se conoce desde la primera captura de actividad (activityKnown)
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "analytics_daily_user_facts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_user_facts_day_dims",
+                columnNames = {"day", "country", "city", "category"}))
+public class DailyUserFact {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "country", nullable = false, length = 100)
+    private String country;
+
+    @Column(name = "city", nullable = false, length = 100)
+    private String city;
+
+    @Column(name = "category", nullable = false, length = 20)
+    private String category;
+
+    @Column(name = "signups", nullable = false)
+    private long signups;
+
+    @Column(name = "verifications", nullable = false)
+    private long verifications;
+
+    @Column(name = "approvals", nullable = false)
+    private long approvals;
+
+    @Column(name = "active_users", nullable = false)
+    private long activeUsers;
+
+    // false en los días anteriores a la primera captura de actividad: activeUsers no es fiable
+    @Column(name = "activity_known", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean activityKnown;
+
+    @Column(name = "total_users", nullable = false)
+    private long totalUsers;
+
+    @Column(name = "verified_users", nullable = false)
+    private long verifiedUsers;
+
+    @Column(name = "approved_users", nullable = false)
+    private long approvedUsers;
+
+    @Column(name = "complete_profiles", nullable = false)
+    private long completeProfiles;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
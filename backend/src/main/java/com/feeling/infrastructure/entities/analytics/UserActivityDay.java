@@ -0,0 +1,42 @@
+package com.feeling.infrastructure.entities.analytics;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Día en que un usuario estuvo activo, con el día de su alta (cohorte)
+ * Lo alimenta AnalyticsRollupService a partir de users.last_active; base de los activos por rango y de la retención.
+ * Como last_active solo guarda la última actividad, los días anteriores a la primera captura (MIN(capturedAt)) están
+ * incompletos: los rollups los marcan como desconocidos
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "user_activity_days",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_activity_days_user_day", columnNames = {"user_id", "day"}),
+        indexes = {
+                @Index(name = "idx_user_activity_days_day", columnList = "day, cohort_day"),
+                @Index(name = "idx_user_activity_days_captured_at", columnList = "captured_at")
+        })
+public class UserActivityDay {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "cohort_day", nullable = false)
+    private LocalDate cohortDay;
+
+    // Momento de la captura; null en las filas registradas antes de existir la columna
+    @Column(name = "captured_at")
+    private LocalDateTime capturedAt;
+}
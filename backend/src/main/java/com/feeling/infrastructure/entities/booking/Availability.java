@@ -27,7 +27,8 @@ public class Availability {
     @Column(nullable = false)
     private LocalDateTime availableDate;
 
-    @Column(nullable = false)
+    // Solo se modifica con UPDATE condicionales (IAvailabilityRepository.reserveSlots/releaseSlots), nunca al guardar la entidad
+    @Column(nullable = false, updatable = false)
     private Integer availableSlots;
 
     @Column(nullable = false)
@@ -0,0 +1,8 @@
+package com.feeling.infrastructure.entities.booking;
+
+public enum HoldStatus {
+    HELD,       // Cupos descontados mientras el usuario completa el pago
+    CONFIRMED,  // Convertida en reserva definitiva
+    RELEASED,   // Liberada por el usuario o por un pago fallido
+    EXPIRED     // Liberada automáticamente al vencer el TTL
+}
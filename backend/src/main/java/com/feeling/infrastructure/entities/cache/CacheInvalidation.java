@@ -0,0 +1,42 @@
+package com.feeling.infrastructure.entities.cache;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Invalidación de cache publicada por un nodo para que el resto de réplicas la aplique
+ * Una clave nula indica que se vació el cache completo
+ */
+@Entity
+@Table(name = "cache_invalidation", indexes = {
+        @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 100)
+    private String cacheName;
+
+    @Column(name = "cache_key", length = 500)
+    private String cacheKey;
+
+    // Tipo de la clave original (String, Long, Integer) para reconstruirla en los demás nodos
+    @Column(name = "key_type", length = 20)
+    private String keyType;
+
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
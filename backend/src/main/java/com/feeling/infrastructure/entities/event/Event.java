@@ -47,7 +47,9 @@ public class Event {
     @Column(name = "max_capacity", nullable = false)
     private Integer maxCapacity;
 
-    @Column(name = "current_attendees")
+    // Plazas ocupadas por registros PENDING y COMPLETED; solo se modifica con UPDATE atómicos
+    // (IEventRepository.reserveSeat/releaseSeat), nunca al guardar la entidad
+    @Column(name = "current_attendees", updatable = false)
     @Builder.Default
     private Integer currentAttendees = 0;
 
@@ -106,18 +108,6 @@ public class Event {
         return maxCapacity - currentAttendees;
     }
 
-    public void incrementAttendees() {
-        if (hasAvailableSpots() && currentAttendees != null) {
-            this.currentAttendees++;
-        }
-    }
-
-    public void decrementAttendees() {
-        if (currentAttendees != null && currentAttendees > 0) {
-            this.currentAttendees--;
-        }
-    }
-
     public boolean isPublished() {
         return status != null && status == EventStatus.PUBLICADO;
     }
@@ -1,5 +1,6 @@
 package com.feeling.infrastructure.entities.event;
 
+import com.feeling.infrastructure.entities.IdGenerators;
 import com.feeling.infrastructure.entities.user.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -14,10 +15,14 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @Table(name = "event_registrations", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "event_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "event_id"}),
+       indexes = @Index(name = "idx_event_registrations_status_date", columnList = "payment_status, registration_date"))
 public class EventRegistration {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_registrations_id")
+    @TableGenerator(name = "event_registrations_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "event_registrations",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
@@ -68,6 +73,10 @@ public class EventRegistration {
         return PaymentStatus.CANCELLED.equals(paymentStatus);
     }
 
+    public boolean holdsSeat() {
+        return isPending() || isPaid();
+    }
+
     public void markAsPaid(BigDecimal amount, String stripePaymentIntentId) {
         this.paymentStatus = PaymentStatus.COMPLETED;
         this.amountPaid = amount;
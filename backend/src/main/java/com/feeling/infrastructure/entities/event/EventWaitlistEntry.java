@@ -0,0 +1,40 @@
+package com.feeling.infrastructure.entities.event;
+
+import com.feeling.infrastructure.entities.user.User;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrada de la lista de espera de un evento lleno
+ * El orden de promoción es el del id (FIFO); al liberarse una plaza se promueve la entrada más antigua
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "event_waitlist",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "user_id"}),
+       indexes = @Index(name = "idx_event_waitlist_event", columnList = "event_id, id"))
+public class EventWaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
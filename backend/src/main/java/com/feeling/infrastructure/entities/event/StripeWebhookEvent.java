@@ -0,0 +1,51 @@
+package com.feeling.infrastructure.entities.event;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de webhook de Stripe recibido y verificado. El id del evento de Stripe es la clave primaria, de modo que
+ * una entrega repetida se descarta con un único INSERT; StripeWebhookService lo procesa después en segundo plano
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "stripe_webhook_events",
+       indexes = @Index(name = "idx_stripe_webhook_events_due", columnList = "status, next_attempt_at"))
+public class StripeWebhookEvent {
+    @Id
+    @Column(length = 255)
+    private String id;
+
+    @Column(nullable = false, length = 100)
+    private String type;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookEventStatus status = WebhookEventStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // Siguiente intento si está PENDING; fin de la concesión si está PROCESSING
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,18 @@
+package com.feeling.infrastructure.entities.event;
+
+public enum WebhookEventStatus {
+    PENDING("Pendiente"),
+    PROCESSING("Procesando"),
+    PROCESSED("Procesado"),
+    DEAD_LETTER("Descartado tras reintentos");
+
+    private final String displayName;
+
+    WebhookEventStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
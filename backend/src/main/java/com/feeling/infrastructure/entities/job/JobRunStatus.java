@@ -0,0 +1,17 @@
+package com.feeling.infrastructure.entities.job;
+
+public enum JobRunStatus {
+    RUNNING("En ejecución"),
+    SUCCEEDED("Completado"),
+    FAILED("Fallido");
+
+    private final String displayName;
+
+    JobRunStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,16 @@
+package com.feeling.infrastructure.entities.job;
+
+public enum JobTrigger {
+    SCHEDULED("Programado"),
+    MANUAL("Manual");
+
+    private final String displayName;
+
+    JobTrigger(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
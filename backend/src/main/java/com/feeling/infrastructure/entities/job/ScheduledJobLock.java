@@ -0,0 +1,44 @@
+package com.feeling.infrastructure.entities.job;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Concesión de un job de mantenimiento: una fila por job, tomada con un UPDATE condicional sobre locked_until para que
+ * una sola réplica lo ejecute a la vez (ClusterJobRunner). Guarda además el punto de reanudación del último tramo
+ * completado, de modo que una ejecución interrumpida continúa donde se quedó en lugar de empezar de nuevo, y la hora
+ * prevista del último disparo programado, para que un cron que llega tarde a otra réplica no lo repita
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "scheduled_job_lock")
+public class ScheduledJobLock {
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    // Nodo que tiene (o tuvo por última vez) la concesión
+    @Column(name = "locked_by", length = 64)
+    private String lockedBy;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    // Fin de la concesión; en el pasado cuando el job está libre
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // Cursor del último tramo completado; null si la última ejecución terminó entera
+    @Column(name = "resume_cursor", length = 255)
+    private String resumeCursor;
+
+    // Hora prevista del último disparo programado que tomó la concesión; evita repetirlo en otra réplica
+    @Column(name = "last_fire_time")
+    private LocalDateTime lastFireTime;
+}
@@ -0,0 +1,61 @@
+package com.feeling.infrastructure.entities.job;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ejecución de un job de mantenimiento en el clúster: quién la lanzó, en qué nodo, cuánto duró y cuánto procesó
+ */
+@Entity
+@Table(name = "scheduled_job_runs", indexes = {
+        @Index(name = "idx_scheduled_job_runs_job", columnList = "job_name, started_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(nullable = false, length = 64)
+    private String node;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_type", nullable = false, length = 20)
+    private JobTrigger trigger;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private JobRunStatus status = JobRunStatus.RUNNING;
+
+    // Cursor desde el que se reanudó una ejecución anterior interrumpida
+    @Column(name = "resumed_from", length = 255)
+    private String resumedFrom;
+
+    @Column(nullable = false)
+    private int chunks;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(length = 1000)
+    private String error;
+}
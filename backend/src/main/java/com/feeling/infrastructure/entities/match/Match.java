@@ -1,5 +1,6 @@
 package com.feeling.infrastructure.entities.match;
 
+import com.feeling.infrastructure.entities.IdGenerators;
 import com.feeling.infrastructure.entities.user.User;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,14 +12,26 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        // Paginación por cursor de las bandejas (IMatchRepository.find*After)
+        @Index(name = "idx_matches_initiator_created", columnList = "initiator_user_id, created_at, id"),
+        @Index(name = "idx_matches_target_created", columnList = "target_user_id, created_at, id"),
+        @Index(name = "idx_matches_target_status_created", columnList = "target_user_id, status, created_at, id"),
+        @Index(name = "idx_matches_status_responded", columnList = "status, responded_at, id"),
+        // Matches aceptados de un usuario: una búsqueda por cada lado de la UNION ALL (findAcceptedMatchesAfter)
+        @Index(name = "idx_matches_initiator_status_responded", columnList = "initiator_user_id, status, responded_at, id"),
+        @Index(name = "idx_matches_target_status_responded", columnList = "target_user_id, status, responded_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Match {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "matches_id")
+    @TableGenerator(name = "matches_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "matches",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
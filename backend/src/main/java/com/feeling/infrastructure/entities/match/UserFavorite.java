@@ -1,5 +1,6 @@
 package com.feeling.infrastructure.entities.match;
 
+import com.feeling.infrastructure.entities.IdGenerators;
 import com.feeling.infrastructure.entities.user.User;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,14 +12,18 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user_favorites", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "favorite_user_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "favorite_user_id"}),
+       indexes = @Index(name = "idx_user_favorites_user_created", columnList = "user_id, created_at, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserFavorite {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_favorites_id")
+    @TableGenerator(name = "user_favorites_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "user_favorites",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
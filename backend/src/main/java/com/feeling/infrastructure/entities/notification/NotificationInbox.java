@@ -0,0 +1,31 @@
+package com.feeling.infrastructure.entities.notification;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notificaciones visibles sin leer de un usuario: una fila por usuario, creada con su primer aviso
+ * Los demás contadores se derivan de los matches; este no, así que se guarda aquí y no solo en el cache de
+ * NotificationService, que caduca y es propio de cada réplica
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "notification_inbox")
+public class NotificationInbox {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    // Última vez que el usuario marcó sus notificaciones como leídas
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+}
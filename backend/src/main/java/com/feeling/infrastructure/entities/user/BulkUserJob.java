@@ -0,0 +1,53 @@
+package com.feeling.infrastructure.entities.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progreso de una operación masiva de administración (BulkUserOperationService)
+ * Solo la escribe el nodo que la ejecuta, tras cada tramo; cualquier réplica la consulta
+ */
+@Entity
+@Table(name = "bulk_user_jobs", indexes = {
+        @Index(name = "idx_bulk_user_jobs_started_at", columnList = "started_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserJob {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    // Nombre de BulkUserOperation
+    @Column(nullable = false, length = 20)
+    private String operation;
+
+    @Column(name = "admin_email", length = 255)
+    private String adminEmail;
+
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private int processed;
+
+    @Column(nullable = false)
+    private int succeeded;
+
+    @Column(nullable = false)
+    private int failed;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -1,5 +1,6 @@
 package com.feeling.infrastructure.entities.user;
 
+import com.feeling.infrastructure.entities.IdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -18,10 +19,16 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_users_last_active", columnList = "last_active")
+})
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "users",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     // ========================================
@@ -71,6 +78,17 @@ public class User implements UserDetails {
     @Column(name = "last_active")
     private LocalDateTime lastActive;
 
+    // Momento de la verificación del email, de la primera aprobación y de la última vez que se completó el perfil
+    // (rollups diarios de AnalyticsRollupService)
+    @Column(name = "verified_at")
+    private LocalDateTime verifiedAt;
+
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+
+    @Column(name = "profile_completed_at")
+    private LocalDateTime profileCompletedAt;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "role_id")
     private UserRole userRole;
@@ -713,10 +731,13 @@ public class User implements UserDetails {
     }
     
     /**
-     * Aprueba al usuario
+     * Aprueba al usuario; approvedAt conserva la primera aprobación
      */
     public void approve() {
         this.approvalStatus = UserApprovalStatusList.APPROVED;
+        if (this.approvedAt == null) {
+            this.approvedAt = LocalDateTime.now();
+        }
         this.updatedAt = LocalDateTime.now();
     }
     
@@ -809,6 +830,7 @@ public class User implements UserDetails {
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
         this.profileComplete = isProfileComplete();
+        stampStateChanges(this.updatedAt);
     }
 
     @PrePersist
@@ -818,6 +840,22 @@ public class User implements UserDetails {
         }
         this.updatedAt = LocalDateTime.now();
         this.profileComplete = isProfileComplete();
+        stampStateChanges(this.createdAt);
+    }
+
+    // Fecha de verificación y aprobación para los caminos que cambian el estado sin pasar por approve(), y de perfil completo
+    private void stampStateChanges(LocalDateTime when) {
+        if (!this.profileComplete) {
+            this.profileCompletedAt = null;
+        } else if (this.profileCompletedAt == null) {
+            this.profileCompletedAt = when;
+        }
+        if (this.verified && this.verifiedAt == null) {
+            this.verifiedAt = when;
+        }
+        if (this.approvalStatus == UserApprovalStatusList.APPROVED && this.approvedAt == null) {
+            this.approvedAt = when;
+        }
     }
 
     // ========================================
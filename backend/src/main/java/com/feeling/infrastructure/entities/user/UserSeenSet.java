@@ -0,0 +1,30 @@
+package com.feeling.infrastructure.entities.user;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conjunto de usuarios ya vistos por un usuario en las sugerencias (expuestos, con match o favoritos),
+ * serializado como filtro de Bloom. Lo mantiene SeenSetService en memoria y lo persiste periódicamente
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_seen_sets")
+public class UserSeenSet {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Lob
+    @Column(name = "bloom_filter", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] bloomFilter;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -0,0 +1,69 @@
+package com.feeling.infrastructure.entities.user;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+/**
+ * Cola precalculada de candidatos sugeridos a un usuario, ordenada por afinidad (SuggestionRecommender).
+ * Los ids se guardan empaquetados como enteros de 8 bytes; position apunta al siguiente candidato por servir
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_suggestion_queues")
+public class UserSuggestionQueue {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Lob
+    @Column(name = "candidate_ids", nullable = false, columnDefinition = "BLOB")
+    private byte[] candidateIds;
+
+    @Column(nullable = false)
+    private Integer position = 0;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt = LocalDateTime.now();
+
+    // Momento en que la cola bajó de suggestions.queue.refill-below; null si no espera relleno
+    @Column(name = "refill_requested_at")
+    private LocalDateTime refillRequestedAt;
+
+    public long[] getCandidates() {
+        ByteBuffer buffer = ByteBuffer.wrap(candidateIds);
+        long[] candidates = new long[candidateIds.length / Long.BYTES];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = buffer.getLong();
+        }
+        return candidates;
+    }
+
+    /**
+     * Reemplaza la cola completa y vuelve a servir desde el principio
+     */
+    public void replaceCandidates(long[] candidates) {
+        ByteBuffer buffer = ByteBuffer.allocate(candidates.length * Long.BYTES);
+        for (long candidate : candidates) {
+            buffer.putLong(candidate);
+        }
+        this.candidateIds = buffer.array();
+        this.position = 0;
+        this.builtAt = LocalDateTime.now();
+        this.refillRequestedAt = null;
+    }
+
+    public int candidateCount() {
+        return candidateIds.length / Long.BYTES;
+    }
+
+    public int remaining() {
+        return Math.max(candidateCount() - position, 0);
+    }
+}
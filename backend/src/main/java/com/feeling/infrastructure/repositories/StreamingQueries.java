@@ -0,0 +1,16 @@
+package com.feeling.infrastructure.repositories;
+
+/**
+ * Constantes de las consultas que devuelven Stream (exportaciones de administración)
+ */
+public final class StreamingQueries {
+
+    /**
+     * Con MySQL Connector/J, un fetch size de Integer.MIN_VALUE abre un result set de solo avance que entrega
+     * las filas de una en una; cualquier otro valor carga el resultado completo en memoria
+     */
+    public static final String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    private StreamingQueries() {
+    }
+}
@@ -0,0 +1,35 @@
+package com.feeling.infrastructure.repositories.analytics;
+
+import com.feeling.infrastructure.entities.analytics.CohortActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ICohortActivityRepository extends JpaRepository<CohortActivity, Long> {
+
+    @Modifying
+    @Query("DELETE FROM CohortActivity c WHERE c.activityDay = :day")
+    int deleteByActivityDay(@Param("day") LocalDate day);
+
+    /**
+     * Activos del día agrupados por cohorte de alta, desde user_activity_days
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analytics_cohort_activity (cohort_day, activity_day, active_users) " +
+                   "SELECT a.cohort_day, a.day, COUNT(*) FROM user_activity_days a WHERE a.day = :day GROUP BY a.cohort_day",
+           nativeQuery = true)
+    int insertForActivityDay(@Param("day") LocalDate day);
+
+    /**
+     * cohortDay, activityDay y activos de las cohortes del rango
+     */
+    @Query("SELECT c.cohortDay, c.activityDay, c.activeUsers FROM CohortActivity c " +
+           "WHERE c.cohortDay BETWEEN :from AND :to AND c.activityDay >= c.cohortDay")
+    List<Object[]> findByCohortDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
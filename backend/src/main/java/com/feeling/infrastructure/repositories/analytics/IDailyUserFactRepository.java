@@ -0,0 +1,93 @@
+package com.feeling.infrastructure.repositories.analytics;
+
+import com.feeling.infrastructure.entities.analytics.DailyUserFact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface IDailyUserFactRepository extends JpaRepository<DailyUserFact, Long> {
+
+    @Modifying
+    @Query("DELETE FROM DailyUserFact f WHERE f.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+
+    /**
+     * Calcula el rollup del día [start, end) en una pasada sobre los usuarios dados de alta antes de end.
+     * La foto (verified_users, approved_users, complete_profiles) cuenta el estado alcanzado antes de end, no el actual.
+     * Los usuarios sin fecha registrada (anteriores a verified_at / approved_at / profile_completed_at) cuentan en su día de alta.
+     * Si activityKnown es false (día anterior a la primera captura de actividad) active_users queda a 0 y marcado como desconocido
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analytics_daily_user_facts " +
+                   "(day, country, city, category, signups, verifications, approvals, active_users, activity_known, " +
+                   " total_users, verified_users, approved_users, complete_profiles, computed_at) " +
+                   "SELECT :day, LEFT(COALESCE(u.country, ''), 100), LEFT(COALESCE(u.city, ''), 100), COALESCE(ci.category_interest_enum, ''), " +
+                   " SUM(CASE WHEN u.created_at >= :start THEN 1 ELSE 0 END), " +
+                   " SUM(CASE WHEN u.verified = true AND COALESCE(u.verified_at, u.created_at) >= :start " +
+                   "          AND COALESCE(u.verified_at, u.created_at) < :end THEN 1 ELSE 0 END), " +
+                   " SUM(CASE WHEN u.approval_status = 'APPROVED' AND COALESCE(u.approved_at, u.created_at) >= :start " +
+                   "          AND COALESCE(u.approved_at, u.created_at) < :end THEN 1 ELSE 0 END), " +
+                   " CASE WHEN :activityKnown THEN COUNT(a.user_id) ELSE 0 END, :activityKnown, COUNT(*), " +
+                   " SUM(CASE WHEN u.verified = true AND COALESCE(u.verified_at, u.created_at) < :end THEN 1 ELSE 0 END), " +
+                   " SUM(CASE WHEN u.approval_status = 'APPROVED' AND COALESCE(u.approved_at, u.created_at) < :end THEN 1 ELSE 0 END), " +
+                   " SUM(CASE WHEN u.profile_complete = true AND COALESCE(u.profile_completed_at, u.created_at) < :end THEN 1 ELSE 0 END), :now " +
+                   "FROM users u " +
+                   "LEFT JOIN user_category_interest ci ON ci.id = u.category_interest_id " +
+                   "LEFT JOIN user_activity_days a ON a.user_id = u.id AND a.day = :day " +
+                   "WHERE u.created_at < :end " +
+                   "GROUP BY LEFT(COALESCE(u.country, ''), 100), LEFT(COALESCE(u.city, ''), 100), COALESCE(ci.category_interest_enum, '')",
+           nativeQuery = true)
+    int insertRollup(@Param("day") LocalDate day,
+                     @Param("start") LocalDateTime start,
+                     @Param("end") LocalDateTime end,
+                     @Param("activityKnown") boolean activityKnown,
+                     @Param("now") LocalDateTime now);
+
+    @Query("SELECT MAX(f.day) FROM DailyUserFact f")
+    LocalDate findLatestDay();
+
+    @Query("SELECT DISTINCT f.day FROM DailyUserFact f WHERE f.day BETWEEN :from AND :to")
+    List<LocalDate> findDaysBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Foto del día: totalUsers, verifiedUsers, approvedUsers, completeProfiles y computedAt
+     */
+    @Query("SELECT SUM(f.totalUsers), SUM(f.verifiedUsers), SUM(f.approvedUsers), SUM(f.completeProfiles), MAX(f.computedAt) " +
+           "FROM DailyUserFact f WHERE f.day = :day")
+    List<Object[]> sumSnapshot(@Param("day") LocalDate day);
+
+    /**
+     * Hechos del rango sumados por día: day, signups, verifications, approvals, activeUsers, totalUsers y activityKnown (0/1)
+     */
+    @Query("SELECT f.day, SUM(f.signups), SUM(f.verifications), SUM(f.approvals), SUM(f.activeUsers), SUM(f.totalUsers), " +
+           "MIN(CASE WHEN f.activityKnown = true THEN 1 ELSE 0 END) " +
+           "FROM DailyUserFact f WHERE f.day BETWEEN :from AND :to GROUP BY f.day ORDER BY f.day")
+    List<Object[]> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Hechos del rango sumados por dimensión ('country', 'city' o 'category'): valor, signups, verifications, approvals
+     */
+    @Query("SELECT CASE :dimension WHEN 'country' THEN f.country WHEN 'city' THEN f.city ELSE f.category END, " +
+           "SUM(f.signups), SUM(f.verifications), SUM(f.approvals) " +
+           "FROM DailyUserFact f WHERE f.day BETWEEN :from AND :to " +
+           "GROUP BY CASE :dimension WHEN 'country' THEN f.country WHEN 'city' THEN f.city ELSE f.category END " +
+           "ORDER BY SUM(f.signups) DESC")
+    List<Object[]> sumByDimension(@Param("dimension") String dimension,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    @Query("SELECT f.country, SUM(f.totalUsers) FROM DailyUserFact f WHERE f.day = :day AND f.country <> '' " +
+           "GROUP BY f.country ORDER BY SUM(f.totalUsers) DESC")
+    List<Object[]> sumUsersByCountry(@Param("day") LocalDate day);
+
+    @Query("SELECT f.city, SUM(f.totalUsers) FROM DailyUserFact f WHERE f.day = :day AND f.city <> '' " +
+           "GROUP BY f.city ORDER BY SUM(f.totalUsers) DESC")
+    List<Object[]> sumUsersByCity(@Param("day") LocalDate day);
+}
@@ -0,0 +1,45 @@
+package com.feeling.infrastructure.repositories.analytics;
+
+import com.feeling.infrastructure.entities.analytics.UserActivityDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface IUserActivityDayRepository extends JpaRepository<UserActivityDay, Long> {
+
+    /**
+     * Registra el día de última actividad de los usuarios activos desde since; las repeticiones se ignoran
+     * @return filas nuevas
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_activity_days (user_id, day, cohort_day, captured_at) " +
+                   "SELECT u.id, DATE(u.last_active), DATE(u.created_at), :capturedAt FROM users u " +
+                   "WHERE u.last_active >= :since AND u.created_at IS NOT NULL",
+           nativeQuery = true)
+    int captureActiveSince(@Param("since") LocalDateTime since, @Param("capturedAt") LocalDateTime capturedAt);
+
+    @Query("SELECT MAX(a.day) FROM UserActivityDay a")
+    LocalDate findLatestDay();
+
+    /**
+     * Momento de la primera captura registrada; la actividad de los días anteriores está incompleta
+     */
+    @Query("SELECT MIN(a.capturedAt) FROM UserActivityDay a")
+    LocalDateTime findFirstCapturedAt();
+
+    @Query("SELECT COUNT(DISTINCT a.userId) FROM UserActivityDay a WHERE a.day BETWEEN :from AND :to")
+    long countDistinctUsersBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Elimina los días de actividad del usuario (borrado de la cuenta)
+     */
+    @Modifying
+    @Query("DELETE FROM UserActivityDay a WHERE a.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,44 @@
+package com.feeling.infrastructure.repositories.booking;
+
+import com.feeling.infrastructure.entities.booking.AvailabilityHold;
+import com.feeling.infrastructure.entities.booking.HoldStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IAvailabilityHoldRepository extends JpaRepository<AvailabilityHold, Long> {
+
+    Optional<AvailabilityHold> findByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT h FROM AvailabilityHold h JOIN FETCH h.availability " +
+           "WHERE h.status = :status AND h.expiresAt <= :now AND h.id > :afterId ORDER BY h.id")
+    List<AvailabilityHold> findExpired(@Param("status") HoldStatus status, @Param("now") LocalDateTime now,
+                                       @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Confirma una reserva temporal vigente; solo una confirmación concurrente puede tener éxito
+     */
+    @Modifying
+    @Query("UPDATE AvailabilityHold h SET h.status = :to WHERE h.id = :holdId AND h.status = :from AND h.expiresAt > :now")
+    int confirmIfActive(@Param("holdId") Long holdId, @Param("from") HoldStatus from, @Param("to") HoldStatus to,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * Cierra una reserva temporal sin confirmar; el llamador devuelve los cupos solo si afectó a la fila
+     */
+    @Modifying
+    @Query("UPDATE AvailabilityHold h SET h.status = :to WHERE h.id = :holdId AND h.status = :from")
+    int close(@Param("holdId") Long holdId, @Param("from") HoldStatus from, @Param("to") HoldStatus to);
+
+    @Modifying
+    @Query("DELETE FROM AvailabilityHold h WHERE h.availability.id = :availabilityId")
+    int deleteByAvailabilityId(@Param("availabilityId") Long availabilityId);
+}
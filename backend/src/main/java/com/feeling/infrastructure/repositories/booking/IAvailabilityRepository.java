@@ -3,6 +3,7 @@ package com.feeling.infrastructure.repositories.booking;
 import com.feeling.infrastructure.entities.booking.Availability;
 import com.feeling.infrastructure.entities.tour.Tour;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,4 +18,17 @@ public interface IAvailabilityRepository extends JpaRepository<Availability, Lon
     @Query("SELECT a FROM Availability a WHERE a.availableDate <= :endDate AND a.availableDate >= :startDate")
     List<Availability> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     Availability findByTourIdAndAvailableDate(Long tourId, LocalDateTime availableDate);
+
+    /**
+     * Descuenta cupos con un decremento condicional, sin bloqueo previo de la fila
+     * @return 1 si había cupos suficientes y se descontaron, 0 en otro caso (también si slots no es positivo)
+     */
+    @Modifying
+    @Query("UPDATE Availability a SET a.availableSlots = a.availableSlots - :slots " +
+           "WHERE a.id = :availabilityId AND a.availableSlots >= :slots AND :slots > 0")
+    int reserveSlots(@Param("availabilityId") Long availabilityId, @Param("slots") int slots);
+
+    @Modifying
+    @Query("UPDATE Availability a SET a.availableSlots = a.availableSlots + :slots WHERE a.id = :availabilityId")
+    int releaseSlots(@Param("availabilityId") Long availabilityId, @Param("slots") int slots);
 }
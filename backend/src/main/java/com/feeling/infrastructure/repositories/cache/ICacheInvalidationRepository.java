@@ -0,0 +1,32 @@
+package com.feeling.infrastructure.repositories.cache;
+
+import com.feeling.infrastructure.entities.cache.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ICacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    /**
+     * Invalidaciones posteriores a un id, en orden de publicación
+     */
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Último id publicado (punto de partida de un nodo recién iniciado)
+     */
+    @Query("SELECT COALESCE(MAX(ci.id), 0) FROM CacheInvalidation ci")
+    Long findMaxId();
+
+    /**
+     * Limpiar invalidaciones ya aplicadas por todos los nodos (para tarea programada)
+     */
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation ci WHERE ci.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
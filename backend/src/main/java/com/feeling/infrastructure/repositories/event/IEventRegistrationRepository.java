@@ -2,15 +2,25 @@ package com.feeling.infrastructure.repositories.event;
 
 import com.feeling.infrastructure.entities.event.EventRegistration;
 import com.feeling.infrastructure.entities.event.PaymentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.feeling.infrastructure.repositories.StreamingQueries.STREAMING_FETCH_SIZE;
 
 @Repository
 public interface IEventRegistrationRepository extends JpaRepository<EventRegistration, Long> {
@@ -22,10 +32,27 @@ public interface IEventRegistrationRepository extends JpaRepository<EventRegistr
     List<EventRegistration> findByEventIdOrderByRegistrationDateAsc(Long eventId);
     
     Page<EventRegistration> findByEventIdOrderByRegistrationDateAsc(Long eventId, Pageable pageable);
+
+    /**
+     * Exportación de inscripciones (de un evento o de todos si eventId es null) en orden de id, leída con cursor
+     * de solo avance (ver StreamingQueries). Consumir dentro de una transacción y cerrar el Stream
+     */
+    @Query("SELECT new com.feeling.infrastructure.repositories.event.RegistrationExportRow(" +
+           "er.id, e.id, e.title, u.id, u.name, u.lastName, u.email, er.registrationDate, er.paymentStatus, " +
+           "er.amountPaid, er.paymentDate, er.cancellationDate, er.isConfirmed) " +
+           "FROM EventRegistration er JOIN er.event e JOIN er.user u " +
+           "WHERE (:eventId IS NULL OR e.id = :eventId) ORDER BY er.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<RegistrationExportRow> streamRegistrationsForExport(@Param("eventId") Long eventId);
     
     Optional<EventRegistration> findByUserIdAndEventId(Long userId, Long eventId);
     
     boolean existsByUserIdAndEventId(Long userId, Long eventId);
+
+    boolean existsByUserIdAndEventIdAndPaymentStatusIn(Long userId, Long eventId, Collection<PaymentStatus> statuses);
     
     List<EventRegistration> findByPaymentStatus(PaymentStatus paymentStatus);
     
@@ -48,4 +75,75 @@ public interface IEventRegistrationRepository extends JpaRepository<EventRegistr
     
     @Query("SELECT er FROM EventRegistration er WHERE er.event.id = :eventId AND er.isConfirmed = true ORDER BY er.registrationDate ASC")
     Page<EventRegistration> findConfirmedAttendeesByEventId(@Param("eventId") Long eventId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Transición de estado que libera plaza: solo afecta a registros en alguno de los estados que la ocupan,
+     * de modo que una cancelación o un fallo de pago repetido no libera la plaza dos veces
+     * @return 1 si el registro ocupaba plaza y se actualizó, 0 en otro caso
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration er SET er.paymentStatus = :status, er.isConfirmed = false, er.cancellationDate = :cancellationDate " +
+           "WHERE er.id = :registrationId AND er.paymentStatus IN :seatStatuses")
+    int releaseSeatHolder(@Param("registrationId") Long registrationId,
+                          @Param("status") PaymentStatus status,
+                          @Param("cancellationDate") LocalDateTime cancellationDate,
+                          @Param("seatStatuses") Collection<PaymentStatus> seatStatuses);
+
+    /**
+     * Reabre como reserva PENDING el registro del usuario en el evento si quedó en uno de los estados indicados (reserva
+     * caducada, cancelada o con pago fallido) sin ningún pago guardado; la restricción única (user_id, event_id) impide
+     * insertar un segundo registro. La fecha de inscripción se renueva para que la reserva caduque desde ahora
+     * @return 1 si se reabrió, 0 si no hay registro o sigue ocupando plaza o tiene un pago
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration er SET er.paymentStatus = com.feeling.infrastructure.entities.event.PaymentStatus.PENDING, " +
+           "er.registrationDate = :now, er.cancellationDate = null, er.isConfirmed = false " +
+           "WHERE er.user.id = :userId AND er.event.id = :eventId AND er.paymentStatus IN :fromStatuses " +
+           "AND er.amountPaid IS NULL")
+    int reopenRegistration(@Param("userId") Long userId,
+                           @Param("eventId") Long eventId,
+                           @Param("now") LocalDateTime now,
+                           @Param("fromStatuses") Collection<PaymentStatus> fromStatuses);
+
+    /**
+     * Marca el registro como pagado solo si sigue en uno de los estados indicados, de modo que un pago no se cruce
+     * con la caducidad o la cancelación concurrente de su reserva
+     * @return 1 si el registro pasó a COMPLETED, 0 si su estado había cambiado
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration er SET er.paymentStatus = com.feeling.infrastructure.entities.event.PaymentStatus.COMPLETED, " +
+           "er.amountPaid = :amount, er.stripePaymentIntentId = :paymentIntentId, er.paymentDate = :now, " +
+           "er.isConfirmed = true, er.cancellationDate = null " +
+           "WHERE er.id = :registrationId AND er.paymentStatus IN :fromStatuses")
+    int markPaid(@Param("registrationId") Long registrationId,
+                 @Param("amount") BigDecimal amount,
+                 @Param("paymentIntentId") String paymentIntentId,
+                 @Param("now") LocalDateTime now,
+                 @Param("fromStatuses") Collection<PaymentStatus> fromStatuses);
+
+    /**
+     * Guarda un pago recibido cuando el registro ya no tiene plaza (reserva caducada o cancelada y evento lleno) sin
+     * cambiar su estado, para reembolsarlo; solo toca registros que no ocupan plaza
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration er SET er.amountPaid = :amount, er.stripePaymentIntentId = :paymentIntentId, " +
+           "er.paymentDate = :now, er.isConfirmed = false " +
+           "WHERE er.id = :registrationId AND er.paymentStatus NOT IN :seatStatuses")
+    int recordPaymentWithoutSeat(@Param("registrationId") Long registrationId,
+                                 @Param("amount") BigDecimal amount,
+                                 @Param("paymentIntentId") String paymentIntentId,
+                                 @Param("now") LocalDateTime now,
+                                 @Param("seatStatuses") Collection<PaymentStatus> seatStatuses);
+
+    /**
+     * Reservas sin pagar registradas antes de cutoff en eventos de pago, por orden de id a partir de afterId
+     * Cada fila: id del registro, id del evento, id del usuario
+     */
+    @Query("SELECT er.id, er.event.id, er.user.id FROM EventRegistration er " +
+           "WHERE er.paymentStatus = :pending AND er.registrationDate < :cutoff AND er.event.price > 0 " +
+           "AND er.id > :afterId ORDER BY er.id")
+    List<Object[]> findExpiredHolds(@Param("pending") PaymentStatus pending,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+}
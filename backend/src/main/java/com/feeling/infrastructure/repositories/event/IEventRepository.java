@@ -3,14 +3,17 @@ package com.feeling.infrastructure.repositories.event;
 import com.feeling.infrastructure.entities.event.Event;
 import com.feeling.infrastructure.entities.event.EventCategory;
 import com.feeling.infrastructure.entities.event.EventStatus;
+import com.feeling.infrastructure.entities.event.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -86,4 +89,25 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
     // Find event by ID with user fetch join
     @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.id = :id")
     Optional<Event> findByIdWithCreatedBy(@Param("id") Long id);
-}
\ No newline at end of file
+
+    /**
+     * Reserva una plaza con un incremento condicional: nunca supera max_capacity aunque haya inscripciones concurrentes
+     * @return 1 si se reservó la plaza, 0 si el evento no existe, no está activo, ya pasó o está lleno
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = e.currentAttendees + 1 " +
+           "WHERE e.id = :eventId AND e.isActive = true AND e.eventDate > :now AND e.currentAttendees < e.maxCapacity")
+    int reserveSeat(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = e.currentAttendees - 1 WHERE e.id = :eventId AND e.currentAttendees > 0")
+    int releaseSeat(@Param("eventId") Long eventId);
+
+    /**
+     * Recalcula current_attendees a partir de los registros que ocupan plaza (corrección puntual, ver MaintenanceJobs)
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.currentAttendees = (SELECT COUNT(er) FROM EventRegistration er " +
+           "WHERE er.event = e AND er.paymentStatus IN :seatStatuses)")
+    int recountAttendees(@Param("seatStatuses") Collection<PaymentStatus> seatStatuses);
+}
@@ -0,0 +1,41 @@
+package com.feeling.infrastructure.repositories.event;
+
+import com.feeling.infrastructure.entities.event.EventWaitlistEntry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IEventWaitlistRepository extends JpaRepository<EventWaitlistEntry, Long> {
+
+    /**
+     * Primera entrada de la cola bloqueada para promoción; las filas ya bloqueadas por otra
+     * transacción se saltan (SKIP LOCKED) para que dos cancelaciones simultáneas promuevan a usuarios distintos
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    Optional<EventWaitlistEntry> findFirstByEventIdOrderByIdAsc(Long eventId);
+
+    Optional<EventWaitlistEntry> findByEventIdAndUserId(Long eventId, Long userId);
+
+    @Query("SELECT COUNT(w) FROM EventWaitlistEntry w WHERE w.event.id = :eventId AND w.id < :entryId")
+    long countAhead(@Param("eventId") Long eventId, @Param("entryId") Long entryId);
+
+    long countByEventId(Long eventId);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.event.id = :eventId AND w.user.id = :userId")
+    int deleteByEventIdAndUserId(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM EventWaitlistEntry w WHERE w.event.id = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
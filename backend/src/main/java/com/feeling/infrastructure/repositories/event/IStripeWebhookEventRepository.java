@@ -0,0 +1,50 @@
+package com.feeling.infrastructure.repositories.event;
+
+import com.feeling.infrastructure.entities.event.StripeWebhookEvent;
+import com.feeling.infrastructure.entities.event.WebhookEventStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface IStripeWebhookEventRepository extends JpaRepository<StripeWebhookEvent, String> {
+
+    /**
+     * Registra el evento si su id no se había recibido antes (clave de idempotencia)
+     * @return 1 si es nuevo, 0 si es una entrega repetida
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO stripe_webhook_events " +
+                   "(id, type, payload, status, attempts, next_attempt_at, received_at) " +
+                   "VALUES (:id, :type, :payload, 'PENDING', 0, :now, :now)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("type") String type,
+                       @Param("payload") String payload,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Toma el evento para procesarlo hasta leaseUntil: pendiente y vencido, o en proceso con la concesión caducada
+     * (el nodo que lo tenía se detuvo). Solo un worker de todo el clúster obtiene 1
+     */
+    @Modifying
+    @Query("UPDATE StripeWebhookEvent e SET e.status = :processing, e.attempts = e.attempts + 1, e.nextAttemptAt = :leaseUntil " +
+           "WHERE e.id = :id AND e.status IN :claimable AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") String id,
+              @Param("processing") WebhookEventStatus processing,
+              @Param("claimable") List<WebhookEventStatus> claimable,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT e.id FROM StripeWebhookEvent e " +
+           "WHERE e.status IN :claimable AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<String> findDueEventIds(@Param("claimable") List<WebhookEventStatus> claimable,
+                                 @Param("now") LocalDateTime now,
+                                 Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.feeling.infrastructure.repositories.event;
+
+import com.feeling.infrastructure.entities.event.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila plana de la exportación de inscripciones a eventos (IEventRegistrationRepository.streamRegistrationsForExport)
+ */
+public record RegistrationExportRow(
+        Long id,
+        Long eventId,
+        String eventTitle,
+        Long userId,
+        String userName,
+        String userLastName,
+        String userEmail,
+        LocalDateTime registrationDate,
+        PaymentStatus paymentStatus,
+        BigDecimal amountPaid,
+        LocalDateTime paymentDate,
+        LocalDateTime cancellationDate,
+        Boolean confirmed
+) {
+}
@@ -0,0 +1,78 @@
+package com.feeling.infrastructure.repositories.job;
+
+import com.feeling.infrastructure.entities.job.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    /**
+     * Crea la fila de concesión del job, libre, si todavía no existe
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduled_job_lock (job_name, locked_until) VALUES (:jobName, :freeSince)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName, @Param("freeSince") LocalDateTime freeSince);
+
+    /**
+     * Toma la concesión si está libre o caducada
+     * Las fechas de la concesión usan el reloj de la base de datos, común a todas las réplicas. Una ejecución
+     * programada lleva la hora prevista de su cron (fireTime): si esa hora ya la ejecutó alguna réplica, no se repite
+     * aunque el cron de este nodo dispare tarde. Las ejecuciones manuales pasan fireTime null
+     * @return 1 si este nodo la obtuvo, 0 si otra réplica la tiene o ya ejecutó ese disparo
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduled_job_lock SET locked_by = :node, locked_at = NOW(6), " +
+                   "locked_until = NOW(6) + INTERVAL :leaseSeconds SECOND, " +
+                   "last_fire_time = COALESCE(:fireTime, last_fire_time) " +
+                   "WHERE job_name = :jobName AND locked_until <= NOW(6) " +
+                   "AND (:fireTime IS NULL OR last_fire_time IS NULL OR last_fire_time < :fireTime)",
+           nativeQuery = true)
+    int acquire(@Param("jobName") String jobName,
+                @Param("node") String node,
+                @Param("fireTime") LocalDateTime fireTime,
+                @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Guarda el cursor del tramo completado y prolonga la concesión
+     * @return 0 si la concesión caducó y la tomó otra réplica
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduled_job_lock SET resume_cursor = :cursor, " +
+                   "locked_until = NOW(6) + INTERVAL :leaseSeconds SECOND " +
+                   "WHERE job_name = :jobName AND locked_by = :node",
+           nativeQuery = true)
+    int checkpoint(@Param("jobName") String jobName,
+                   @Param("node") String node,
+                   @Param("cursor") String cursor,
+                   @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Libera la concesión conservando el cursor (null si el job terminó entero)
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduled_job_lock SET resume_cursor = :cursor, locked_until = NOW(6) " +
+                   "WHERE job_name = :jobName AND locked_by = :node",
+           nativeQuery = true)
+    int release(@Param("jobName") String jobName,
+                @Param("node") String node,
+                @Param("cursor") String cursor);
+
+    /**
+     * Concesión vigente del job según el reloj de la base de datos
+     */
+    @Query(value = "SELECT * FROM scheduled_job_lock WHERE job_name = :jobName AND locked_until > NOW(6)",
+           nativeQuery = true)
+    Optional<ScheduledJobLock> findHeld(@Param("jobName") String jobName);
+
+    @Query(value = "SELECT job_name FROM scheduled_job_lock WHERE locked_until > NOW(6)", nativeQuery = true)
+    List<String> findHeldJobNames();
+}
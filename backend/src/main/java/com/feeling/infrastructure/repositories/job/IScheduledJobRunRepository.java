@@ -0,0 +1,40 @@
+package com.feeling.infrastructure.repositories.job;
+
+import com.feeling.infrastructure.entities.job.JobRunStatus;
+import com.feeling.infrastructure.entities.job.ScheduledJobRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+
+    Page<ScheduledJobRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+    Optional<ScheduledJobRun> findFirstByJobNameOrderByStartedAtDesc(String jobName);
+
+    boolean existsByJobNameAndStatus(String jobName, JobRunStatus status);
+
+    /**
+     * Cierra como fallidas las ejecuciones que quedaron abiertas cuando su nodo dejó de renovar la concesión
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobRun r SET r.status = :failed, r.finishedAt = :now, r.error = :error " +
+           "WHERE r.jobName = :jobName AND r.status = :running")
+    int closeAbandoned(@Param("jobName") String jobName,
+                       @Param("running") JobRunStatus running,
+                       @Param("failed") JobRunStatus failed,
+                       @Param("error") String error,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ScheduledJobRun r WHERE r.jobName = :jobName AND r.startedAt < :before")
+    int deleteStartedBefore(@Param("jobName") String jobName, @Param("before") LocalDateTime before);
+}
@@ -4,11 +4,14 @@ import com.feeling.infrastructure.entities.match.Match;
 import com.feeling.infrastructure.entities.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +38,64 @@ public interface IMatchRepository extends JpaRepository<Match, Long> {
            "ORDER BY m.respondedAt DESC")
     Page<Match> findAcceptedMatches(@Param("user") User user, Pageable pageable);
 
+    // Ids de los usuarios con los que ya hay un match en cualquier sentido (SeenSetService)
+    @Query("SELECT m.targetUser.id FROM Match m WHERE m.initiatorUser.id = :userId")
+    List<Long> findTargetUserIdsByInitiatorId(@Param("userId") Long userId);
+
+    @Query("SELECT m.initiatorUser.id FROM Match m WHERE m.targetUser.id = :userId")
+    List<Long> findInitiatorUserIdsByTargetId(@Param("userId") Long userId);
+
+    // ========================================
+    // PAGINACIÓN POR CURSOR (seek sobre la clave de orden + id, sin COUNT)
+    // ========================================
+    @Query("SELECT m FROM Match m " +
+           "WHERE m.initiatorUser = :user " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    Slice<Match> findSentMatchesAfter(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT m FROM Match m " +
+           "WHERE m.targetUser = :user " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    Slice<Match> findReceivedMatchesAfter(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT m FROM Match m " +
+           "WHERE m.targetUser = :user AND m.status = 'PENDING' " +
+           "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    Slice<Match> findPendingReceivedMatchesAfter(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Matches aceptados del usuario (como iniciador o destinatario) posteriores al cursor, como máximo :limit
+     * Un OR entre las dos columnas de usuario no puede recorrer un índice en orden; cada rama de la UNION ALL es una
+     * búsqueda acotada sobre idx_matches_initiator_status_responded / idx_matches_target_status_responded y solo se
+     * ordenan sus 2 × :limit filas. Las ramas no se solapan: un usuario no puede tener un match consigo mismo
+     */
+    @Query(value = "(SELECT m.* FROM matches m WHERE m.initiator_user_id = :userId AND m.status = 'ACCEPTED' " +
+                   " AND (m.responded_at < :respondedAt OR (m.responded_at = :respondedAt AND m.id < :id)) " +
+                   " ORDER BY m.responded_at DESC, m.id DESC LIMIT :limit) " +
+                   "UNION ALL " +
+                   "(SELECT m.* FROM matches m WHERE m.target_user_id = :userId AND m.status = 'ACCEPTED' " +
+                   " AND (m.responded_at < :respondedAt OR (m.responded_at = :respondedAt AND m.id < :id)) " +
+                   " ORDER BY m.responded_at DESC, m.id DESC LIMIT :limit) " +
+                   "ORDER BY responded_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Match> findAcceptedMatchesAfter(@Param("userId") Long userId, @Param("respondedAt") LocalDateTime respondedAt,
+                                         @Param("id") Long id, @Param("limit") int limit);
+
+    /**
+     * Página por cursor sobre (respondedAt, id); pide una fila de más para saber si hay página siguiente
+     */
+    default Slice<Match> findAcceptedMatchesAfter(User user, LocalDateTime respondedAt, Long id, Pageable pageable) {
+        List<Match> rows = findAcceptedMatchesAfter(user.getId(), respondedAt, id, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
     @Query("SELECT m FROM Match m " +
            "WHERE m.initiatorUser = :initiator AND m.targetUser = :target")
     Optional<Match> findMatchBetweenUsers(@Param("initiator") User initiator, @Param("target") User target);
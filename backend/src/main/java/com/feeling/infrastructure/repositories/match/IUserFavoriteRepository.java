@@ -4,11 +4,14 @@ import com.feeling.infrastructure.entities.match.UserFavorite;
 import com.feeling.infrastructure.entities.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +22,16 @@ public interface IUserFavoriteRepository extends JpaRepository<UserFavorite, Lon
            "ORDER BY uf.createdAt DESC")
     Page<UserFavorite> findUserFavorites(@Param("user") User user, Pageable pageable);
 
+    @Query("SELECT uf.favoriteUser.id FROM UserFavorite uf WHERE uf.user.id = :userId")
+    List<Long> findFavoriteUserIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT uf FROM UserFavorite uf " +
+           "WHERE uf.user = :user " +
+           "AND (uf.createdAt < :createdAt OR (uf.createdAt = :createdAt AND uf.id < :id)) " +
+           "ORDER BY uf.createdAt DESC, uf.id DESC")
+    Slice<UserFavorite> findUserFavoritesAfter(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Pageable pageable);
+
     @Query("SELECT uf FROM UserFavorite uf " +
            "WHERE uf.user = :user AND uf.favoriteUser = :favoriteUser")
     Optional<UserFavorite> findByUserAndFavoriteUser(@Param("user") User user, @Param("favoriteUser") User favoriteUser);
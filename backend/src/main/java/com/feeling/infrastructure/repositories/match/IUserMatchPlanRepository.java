@@ -4,12 +4,12 @@ import com.feeling.infrastructure.entities.match.MatchPlan;
 import com.feeling.infrastructure.entities.match.UserMatchPlan;
 import com.feeling.infrastructure.entities.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface IUserMatchPlanRepository extends JpaRepository<UserMatchPlan, Long> {
@@ -19,11 +19,6 @@ public interface IUserMatchPlanRepository extends JpaRepository<UserMatchPlan, L
            "ORDER BY ump.createdAt DESC")
     List<UserMatchPlan> findActiveUserMatchPlans(@Param("user") User user);
 
-    @Query("SELECT ump FROM UserMatchPlan ump " +
-           "WHERE ump.user = :user AND ump.isActive = true AND ump.remainingAttempts > 0 " +
-           "ORDER BY ump.createdAt DESC")
-    Optional<UserMatchPlan> findFirstActiveUserMatchPlan(@Param("user") User user);
-
     @Query("SELECT ump FROM UserMatchPlan ump " +
            "WHERE ump.user = :user " +
            "ORDER BY ump.createdAt DESC")
@@ -33,6 +28,23 @@ public interface IUserMatchPlanRepository extends JpaRepository<UserMatchPlan, L
            "WHERE ump.user = :user AND ump.isActive = true")
     Integer getTotalRemainingAttempts(@Param("user") User user);
 
+    @Query("SELECT COALESCE(SUM(ump.remainingAttempts), 0) FROM UserMatchPlan ump " +
+           "WHERE ump.user.id = :userId AND ump.isActive = true")
+    Integer getTotalRemainingAttemptsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Consume un intento del plan activo más reciente con una sola sentencia condicional
+     * Devuelve 1 si se consumió el intento y 0 si el usuario no tenía intentos disponibles
+     */
+    @Modifying
+    @Query(value = "UPDATE user_match_plans " +
+           "SET remaining_attempts = remaining_attempts - 1, " +
+           "is_active = (remaining_attempts > 0), " +
+           "updated_at = NOW(6) " +
+           "WHERE user_id = :userId AND is_active = true AND remaining_attempts > 0 " +
+           "ORDER BY created_at DESC LIMIT 1", nativeQuery = true)
+    int consumeAttempt(@Param("userId") Long userId);
+
     @Query("SELECT ump FROM UserMatchPlan ump WHERE ump.matchPlan = :matchPlan")
     List<UserMatchPlan> findByMatchPlan(@Param("matchPlan") MatchPlan matchPlan);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.feeling.infrastructure.repositories.notification;
+
+import com.feeling.infrastructure.entities.notification.NotificationInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface INotificationInboxRepository extends JpaRepository<NotificationInbox, Long> {
+
+    @Query("SELECT i.unreadCount FROM NotificationInbox i WHERE i.userId = :userId")
+    Optional<Long> findUnreadCount(@Param("userId") Long userId);
+
+    /**
+     * Suma una notificación sin leer, creando la fila del usuario si no existe
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_inbox (user_id, unread_count) VALUES (:userId, 1) " +
+                   "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1",
+           nativeQuery = true)
+    int incrementUnread(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE NotificationInbox i SET i.unreadCount = 0, i.readAt = :now WHERE i.userId = :userId")
+    int markAllRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Elimina el buzón del usuario (borrado de la cuenta)
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationInbox i WHERE i.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,25 @@
+package com.feeling.infrastructure.repositories.user;
+
+import com.feeling.infrastructure.entities.user.UserComplaint;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila plana de la exportación de quejas (IUserComplaintRepository.streamComplaintsForExport)
+ */
+public record ComplaintExportRow(
+        Long id,
+        String userEmail,
+        String subject,
+        String message,
+        UserComplaint.ComplaintType complaintType,
+        UserComplaint.Priority priority,
+        UserComplaint.Status status,
+        LocalDateTime createdAt,
+        LocalDateTime resolvedAt,
+        String resolvedBy,
+        Long referencedUserId,
+        Long referencedEventId,
+        Long referencedBookingId
+) {
+}
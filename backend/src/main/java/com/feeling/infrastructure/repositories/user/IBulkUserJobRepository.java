@@ -0,0 +1,9 @@
+package com.feeling.infrastructure.repositories.user;
+
+import com.feeling.infrastructure.entities.user.BulkUserJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IBulkUserJobRepository extends JpaRepository<BulkUserJob, String> {
+}
@@ -2,15 +2,21 @@ package com.feeling.infrastructure.repositories.user;
 
 import com.feeling.infrastructure.entities.user.User;
 import com.feeling.infrastructure.entities.user.UserComplaint;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static com.feeling.infrastructure.repositories.StreamingQueries.STREAMING_FETCH_SIZE;
 
 @Repository
 public interface IUserComplaintRepository extends JpaRepository<UserComplaint, Long> {
@@ -42,8 +48,6 @@ public interface IUserComplaintRepository extends JpaRepository<UserComplaint, L
     
     Page<UserComplaint> findByPriority(UserComplaint.Priority priority, Pageable pageable);
     
-    @Query("SELECT c FROM UserComplaint c WHERE c.priority = 'URGENT' AND c.status IN ('OPEN', 'IN_PROGRESS') ORDER BY c.createdAt ASC")
-    List<UserComplaint> findUrgentPendingComplaints();
 
     // ========================================
     // BÚSQUEDAS POR FECHAS
@@ -70,6 +74,27 @@ public interface IUserComplaintRepository extends JpaRepository<UserComplaint, L
            "LOWER(c.user.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<UserComplaint> searchComplaints(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Exportación de quejas en orden de id, con estado y búsqueda opcionales, leída con cursor de solo avance
+     * (ver StreamingQueries). Consumir dentro de una transacción y cerrar el Stream
+     */
+    @Query("SELECT new com.feeling.infrastructure.repositories.user.ComplaintExportRow(" +
+           "c.id, u.email, c.subject, c.message, c.complaintType, c.priority, c.status, c.createdAt, c.resolvedAt, " +
+           "c.resolvedBy, c.referencedUserId, c.referencedEventId, c.referencedBookingId) " +
+           "FROM UserComplaint c LEFT JOIN c.user u WHERE " +
+           "(:status IS NULL OR c.status = :status) AND (:searchTerm IS NULL OR " +
+           "LOWER(c.subject) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(c.message) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+           "ORDER BY c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ComplaintExportRow> streamComplaintsForExport(@Param("status") UserComplaint.Status status,
+                                                         @Param("searchTerm") String searchTerm);
+
     // ========================================
     // ESTADÍSTICAS
     // ========================================
@@ -85,6 +110,42 @@ public interface IUserComplaintRepository extends JpaRepository<UserComplaint, L
     @Query("SELECT COUNT(c) FROM UserComplaint c WHERE c.createdAt >= :since")
     long countComplaintsSince(@Param("since") LocalDateTime since);
 
+    /**
+     * Desglose completo para el panel de soporte en una sola consulta: por cada combinación de estado, prioridad y tipo,
+     * status, priority, complaintType, total, con referencia a usuario / evento / reserva, creadas desde :since,
+     * vencidas (abiertas o en progreso creadas antes de :overdueThreshold), suma de horas de resolución y resueltas con fecha
+     */
+    @Query("SELECT c.status, c.priority, c.complaintType, COUNT(c), " +
+           "SUM(CASE WHEN c.referencedUserId IS NOT NULL THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.referencedEventId IS NOT NULL THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.referencedBookingId IS NOT NULL THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.createdAt >= :since THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.status IN ('OPEN', 'IN_PROGRESS') AND c.createdAt < :overdueThreshold THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.resolvedAt IS NOT NULL THEN TIMESTAMPDIFF(HOUR, c.createdAt, c.resolvedAt) ELSE 0 END), " +
+           "SUM(CASE WHEN c.resolvedAt IS NOT NULL THEN 1 ELSE 0 END) " +
+           "FROM UserComplaint c GROUP BY c.status, c.priority, c.complaintType")
+    List<Object[]> aggregateStats(@Param("since") LocalDateTime since,
+                                  @Param("overdueThreshold") LocalDateTime overdueThreshold);
+
+    /**
+     * Cola de triaje: quejas abiertas o en progreso urgentes (:includeUrgent) o vencidas (:includeOverdue),
+     * de mayor a menor prioridad y, dentro de cada prioridad, de la más antigua a la más reciente
+     */
+    @Query(value = "SELECT c FROM UserComplaint c LEFT JOIN FETCH c.user " +
+                   "WHERE c.status IN ('OPEN', 'IN_PROGRESS') AND " +
+                   "((:includeUrgent = true AND c.priority = 'URGENT') OR " +
+                   " (:includeOverdue = true AND c.createdAt < :overdueThreshold)) " +
+                   "ORDER BY CASE c.priority WHEN 'URGENT' THEN 0 WHEN 'HIGH' THEN 1 WHEN 'MEDIUM' THEN 2 ELSE 3 END, " +
+                   "c.createdAt ASC, c.id ASC",
+           countQuery = "SELECT COUNT(c) FROM UserComplaint c " +
+                        "WHERE c.status IN ('OPEN', 'IN_PROGRESS') AND " +
+                        "((:includeUrgent = true AND c.priority = 'URGENT') OR " +
+                        " (:includeOverdue = true AND c.createdAt < :overdueThreshold))")
+    Page<UserComplaint> findTriageQueue(@Param("includeUrgent") boolean includeUrgent,
+                                        @Param("includeOverdue") boolean includeOverdue,
+                                        @Param("overdueThreshold") LocalDateTime overdueThreshold,
+                                        Pageable pageable);
+
     // ========================================
     // CONSULTAS OPTIMIZADAS CON FETCH JOIN
     // ========================================
@@ -103,12 +164,6 @@ public interface IUserComplaintRepository extends JpaRepository<UserComplaint, L
     // ========================================
     // CONSULTAS ESPECIALES
     // ========================================
-    @Query("SELECT c FROM UserComplaint c WHERE " +
-           "c.status IN ('OPEN', 'IN_PROGRESS') AND " +
-           "c.createdAt < :overdueThreshold " +
-           "ORDER BY c.createdAt ASC")
-    List<UserComplaint> findOverdueComplaints(@Param("overdueThreshold") LocalDateTime overdueThreshold);
-    
     @Query("SELECT c FROM UserComplaint c WHERE " +
            "c.referencedUserId = :userId OR " +
            "c.referencedEventId = :eventId OR " +
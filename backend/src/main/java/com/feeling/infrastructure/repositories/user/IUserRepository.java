@@ -1,24 +1,50 @@
 package com.feeling.infrastructure.repositories.user;
 
 import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.entities.user.UserApprovalStatusList;
 import com.feeling.infrastructure.entities.user.UserCategoryInterest;
 import com.feeling.infrastructure.entities.user.UserCategoryInterestList;
 import com.feeling.infrastructure.entities.user.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.feeling.infrastructure.repositories.StreamingQueries.STREAMING_FETCH_SIZE;
 
 @Repository
 public interface IUserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Filtro por estado ('all' no filtra) y búsqueda opcional por nombre, apellido y email (:status, :searchTerm),
+     * compartido por el listado por cursor y la exportación
+     */
+    String STATUS_AND_SEARCH_FILTER =
+            "(:status = 'all' " +
+            " OR (:status = 'active' AND u.verified = true AND u.approvalStatus = 'APPROVED' AND u.profileComplete = true AND u.accountDeactivated = false) " +
+            " OR (:status = 'pending-approval' AND u.verified = true AND u.profileComplete = true AND u.approvalStatus = 'PENDING' AND u.accountDeactivated = false) " +
+            " OR (:status = 'unverified' AND u.verified = false AND u.accountDeactivated = false) " +
+            " OR (:status = 'non-approved' AND u.verified = true AND u.approvalStatus = 'REJECTED' AND u.accountDeactivated = false) " +
+            " OR (:status = 'deactivated' AND u.accountDeactivated = true) " +
+            " OR (:status = 'incomplete-profiles' AND u.verified = true AND u.profileComplete = false AND u.accountDeactivated = false)) " +
+            "AND (:searchTerm IS NULL OR " +
+            " LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            " LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            " LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) ";
+
     // ========================================
     // BÚSQUEDAS BÁSICAS
     // ========================================
@@ -111,30 +137,58 @@ public interface IUserRepository extends JpaRepository<User, Long> {
             Pageable pageable
     );
 
-    // Versión aleatoria para variedad (usar alternativamente)
-    @Query(value = "SELECT u.* FROM users u " +
-            "LEFT JOIN user_category_interests uci ON u.category_interest_id = uci.id " +
-            "WHERE u.verified = true AND u.approval_status = 'APPROVED' AND u.show_me_in_search = true " +
-            "AND u.profile_complete = true AND u.public_account = true AND u.search_visibility = true " +
-            "AND u.account_deactivated = false " +
+    /**
+     * Mismos criterios y orden que findCompatibleUsersOptimized, con paginación por clave en lugar de OFFSET:
+     * cada tramo empieza tras la última fila del anterior (afterRank, afterPopularity, afterId; 0, 0 y 0 al empezar),
+     * así que recorrer muchos candidatos ya vistos no repite el trabajo de los tramos previos
+     * Cada fila: id, rango de ubicación (1 misma ciudad, 2 mismo departamento, 3 resto) y popularidad
+     */
+    @Query("SELECT u.id, CASE WHEN u.city = :city THEN 1 WHEN u.department = :department THEN 2 ELSE 3 END, COALESCE(u.popularityScore, 0.0) FROM User u " +
+            "WHERE u.verified = true AND u.approvalStatus = 'APPROVED' AND u.showMeInSearch = true " +
+            "AND u.profileComplete = true AND u.publicAccount = true AND u.searchVisibility = true " +
+            "AND u.accountDeactivated = false " +
             "AND u.id != :excludeUserId " +
-            "AND (:categoryInterestId IS NULL OR u.category_interest_id = :categoryInterestId) " +
-            "AND (:minAge IS NULL OR YEAR(CURDATE()) - YEAR(u.date_of_birth) >= :minAge) " +
-            "AND (:maxAge IS NULL OR YEAR(CURDATE()) - YEAR(u.date_of_birth) <= :maxAge) " +
+            "AND (:categoryInterestId IS NULL OR u.categoryInterest.id = :categoryInterestId) " +
+            "AND (:minAge IS NULL OR YEAR(CURRENT_DATE) - YEAR(u.dateOfBirth) >= :minAge) " +
+            "AND (:maxAge IS NULL OR YEAR(CURRENT_DATE) - YEAR(u.dateOfBirth) <= :maxAge) " +
             "AND (:city IS NULL OR u.city = :city OR u.department = :department) " +
-            "ORDER BY RAND() " +
-            "LIMIT :limit",
-            nativeQuery = true)
-    List<User> findCompatibleUsersRandomized(
+            "AND (CASE WHEN u.city = :city THEN 1 WHEN u.department = :department THEN 2 ELSE 3 END > :afterRank " +
+            "     OR (CASE WHEN u.city = :city THEN 1 WHEN u.department = :department THEN 2 ELSE 3 END = :afterRank " +
+            "         AND (COALESCE(u.popularityScore, 0.0) < :afterPopularity " +
+            "              OR (COALESCE(u.popularityScore, 0.0) = :afterPopularity AND u.id > :afterId)))) " +
+            "ORDER BY CASE WHEN u.city = :city THEN 1 WHEN u.department = :department THEN 2 ELSE 3 END, COALESCE(u.popularityScore, 0.0) DESC, u.id")
+    List<Object[]> findCompatibleCandidatesAfter(
             @Param("excludeUserId") Long excludeUserId,
             @Param("categoryInterestId") Long categoryInterestId,
             @Param("minAge") Integer minAge,
             @Param("maxAge") Integer maxAge,
             @Param("city") String city,
             @Param("department") String department,
-            @Param("limit") int limit
+            @Param("afterRank") int afterRank,
+            @Param("afterPopularity") double afterPopularity,
+            @Param("afterId") long afterId,
+            Pageable pageable
     );
 
+    /**
+     * Ubicación de los usuarios descubribles (mismos filtros que findCompatibleUserIds) para el índice geográfico:
+     * id, país, ciudad, localidad, id de categoría de interés y fecha de nacimiento
+     */
+    @Query("SELECT u.id, u.country, u.city, u.locality, ci.id, u.dateOfBirth FROM User u " +
+            "LEFT JOIN u.categoryInterest ci " +
+            "WHERE u.verified = true AND u.approvalStatus = 'APPROVED' AND u.showMeInSearch = true " +
+            "AND u.profileComplete = true AND u.publicAccount = true AND u.searchVisibility = true " +
+            "AND u.accountDeactivated = false AND u.city IS NOT NULL")
+    List<Object[]> findDiscoverableLocations();
+
+    /**
+     * Atributos usados para puntuar candidatos en SuggestionRecommender:
+     * id, city, department, popularityScore, agePreferenceMin, agePreferenceMax
+     */
+    @Query("SELECT u.id, u.city, u.department, u.popularityScore, u.agePreferenceMin, u.agePreferenceMax " +
+            "FROM User u WHERE u.id IN :ids")
+    List<Object[]> findRankingFeaturesByIdIn(@Param("ids") Collection<Long> ids);
+
     // OPTIMIZACIÓN: Búsqueda con fetch join
     @Query("SELECT DISTINCT u FROM User u " +
             "LEFT JOIN FETCH u.userRole ur " +
@@ -201,6 +255,9 @@ public interface IUserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :since")
     long countNewUsersSince(@Param("since") LocalDateTime since);
 
+    @Query("SELECT MIN(u.createdAt) FROM User u")
+    LocalDateTime findEarliestCreatedAt();
+
     // ========================================
     // BÚSQUEDAS ADMINISTRATIVAS
     // ========================================
@@ -329,6 +386,55 @@ public interface IUserRepository extends JpaRepository<User, Long> {
            "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     Page<User> findIncompleteProfileUsersWithSearch(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Listado de administración paginado por cursor sobre (createdAt, id), sin COUNT.
+     * Reúne en una sola consulta los filtros de estado de los finders anteriores ('all' no filtra);
+     * la búsqueda se limita a nombre, apellido y email, comunes a todos los estados.
+     * created_at admite NULL: esas filas cuentan como :nullCreatedAt (SeekCursor.NULL_TIMESTAMP), y MySQL ya las
+     * ordena al final en DESC, así que el ORDER BY sigue recorriendo idx_users_created_at
+     */
+    @Query("SELECT u FROM User u WHERE " + STATUS_AND_SEARCH_FILTER +
+           "AND (COALESCE(u.createdAt, :nullCreatedAt) < :createdAt " +
+           " OR (COALESCE(u.createdAt, :nullCreatedAt) = :createdAt AND u.id < :id)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<User> findUsersByStatusAfter(@Param("status") String status, @Param("searchTerm") String searchTerm,
+                                       @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                       @Param("nullCreatedAt") LocalDateTime nullCreatedAt, Pageable pageable);
+
+    /**
+     * Exportación de usuarios por estado en orden de id, leída con cursor de solo avance
+     * (fetch size Integer.MIN_VALUE: Connector/J entrega las filas una a una en lugar de cargar el resultado completo).
+     * Consumir dentro de una transacción y cerrar el Stream; la conexión no admite otras consultas mientras está abierto
+     */
+    @Query("SELECT new com.feeling.infrastructure.repositories.user.UserExportRow(" +
+           "u.id, u.name, u.lastName, u.email, r.userRoleList, u.verified, u.profileComplete, u.approvalStatus, " +
+           "u.accountDeactivated, ci.categoryInterestEnum, u.country, u.city, u.department, u.locality, u.createdAt, u.lastActive) " +
+           "FROM User u LEFT JOIN u.userRole r LEFT JOIN u.categoryInterest ci WHERE " + STATUS_AND_SEARCH_FILTER +
+           "ORDER BY u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserExportRow> streamUsersForExport(@Param("status") String status, @Param("searchTerm") String searchTerm);
+
+    // ========================================
+    // TARJETAS PÚBLICAS POR LOTE (listados de matches y favoritos)
+    // ========================================
+    @Query("SELECT new com.feeling.infrastructure.repositories.user.UserPublicCard(" +
+           "u.id, u.verified, u.profileComplete, u.approvalStatus, ci.categoryInterestEnum, " +
+           "u.name, u.lastName, u.email, u.dateOfBirth, u.document, u.phone, u.phoneCode, " +
+           "u.country, u.city, u.department, u.locality, u.description, u.externalAvatarUrl, g.name, " +
+           "u.agePreferenceMin, u.agePreferenceMax, u.locationPreferenceRadius) " +
+           "FROM User u LEFT JOIN u.categoryInterest ci LEFT JOIN u.gender g " +
+           "WHERE u.id IN :ids")
+    List<UserPublicCard> findPublicCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id, i FROM User u JOIN u.images i WHERE u.id IN :ids")
+    List<Object[]> findImagesByUserIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id, t.name FROM User u JOIN u.tags t WHERE u.id IN :ids")
+    List<Object[]> findTagNamesByUserIdIn(@Param("ids") Collection<Long> ids);
+
     // ========================================
     // ACTUALIZACIONES ESPECÍFICAS
     // ========================================
@@ -336,6 +442,39 @@ public interface IUserRepository extends JpaRepository<User, Long> {
     @Query("UPDATE User u SET u.lastActive = :lastActive, u.updatedAt = :updatedAt WHERE u.id = :userId")
     int updateLastActive(@Param("userId") Long userId, @Param("lastActive") LocalDateTime lastActive, @Param("updatedAt") LocalDateTime updatedAt);
 
+    // Operaciones masivas de administración (BulkUserOperationService): un UPDATE por tramo de ids
+
+    @Query("SELECT u.id, u.email FROM User u WHERE u.id IN :ids")
+    List<Object[]> findIdAndEmailByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE User u SET u.approvalStatus = :status, u.updatedAt = :now WHERE u.id IN :ids")
+    int updateApprovalStatusByIdIn(@Param("ids") Collection<Long> ids,
+                                   @Param("status") UserApprovalStatusList status,
+                                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.approvalStatus = 'APPROVED', u.approvedAt = COALESCE(u.approvedAt, :now), u.updatedAt = :now WHERE u.id IN :ids")
+    int approveByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.userRole = :role, u.updatedAt = :now WHERE u.id IN :ids")
+    int updateRoleByIdIn(@Param("ids") Collection<Long> ids,
+                         @Param("role") UserRole role,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.accountDeactivated = true, u.deactivationDate = :now, " +
+           "u.deactivationReason = :reason, u.updatedAt = :now WHERE u.id IN :ids")
+    int deactivateByIdIn(@Param("ids") Collection<Long> ids,
+                         @Param("reason") String reason,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.accountDeactivated = false, u.deactivationDate = null, " +
+           "u.deactivationReason = null, u.updatedAt = :now WHERE u.id IN :ids")
+    int reactivateByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
     // ========================================
     // MÉTODOS PARA USUARIOS DE PRUEBA
     // ========================================
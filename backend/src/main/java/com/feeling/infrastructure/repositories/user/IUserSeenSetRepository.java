@@ -0,0 +1,31 @@
+package com.feeling.infrastructure.repositories.user;
+
+import com.feeling.infrastructure.entities.user.UserSeenSet;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IUserSeenSetRepository extends JpaRepository<UserSeenSet, Long> {
+
+    /**
+     * Filtro persistido bloqueado para fusionarlo con el de memoria antes de sobrescribirlo,
+     * de modo que dos réplicas que vuelcan el mismo usuario no pierden lo registrado por la otra
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserSeenSet s WHERE s.userId = :userId")
+    Optional<UserSeenSet> findForUpdate(@Param("userId") Long userId);
+
+    /**
+     * Elimina el conjunto de vistos del usuario (borrado de la cuenta)
+     */
+    @Modifying
+    @Query("DELETE FROM UserSeenSet s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,50 @@
+package com.feeling.infrastructure.repositories.user;
+
+import com.feeling.infrastructure.entities.user.UserSuggestionQueue;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IUserSuggestionQueueRepository extends JpaRepository<UserSuggestionQueue, Long> {
+
+    /**
+     * Cola bloqueada para avanzar su posición: dos peticiones simultáneas del mismo usuario no sirven los mismos candidatos
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM UserSuggestionQueue q WHERE q.userId = :userId")
+    Optional<UserSuggestionQueue> findForUpdate(@Param("userId") Long userId);
+
+    /**
+     * Usuarios cuya cola bajó del mínimo, por orden de petición
+     */
+    @Query("SELECT q.userId FROM UserSuggestionQueue q WHERE q.refillRequestedAt IS NOT NULL ORDER BY q.refillRequestedAt")
+    List<Long> findUserIdsWithRefillRequested(Pageable pageable);
+
+    /**
+     * Usuarios activos recientemente sin cola o con una cola construida antes de staleBefore
+     */
+    @Query("SELECT u.id FROM User u " +
+           "WHERE u.lastActive >= :activeSince AND u.profileComplete = true AND u.accountDeactivated = false " +
+           "AND NOT EXISTS (SELECT q FROM UserSuggestionQueue q WHERE q.userId = u.id AND q.builtAt >= :staleBefore) " +
+           "ORDER BY u.lastActive DESC")
+    List<Long> findActiveUserIdsWithStaleQueue(@Param("activeSince") LocalDateTime activeSince,
+                                               @Param("staleBefore") LocalDateTime staleBefore,
+                                               Pageable pageable);
+
+    /**
+     * Elimina la cola de sugerencias del usuario (borrado de la cuenta)
+     */
+    @Modifying
+    @Query("DELETE FROM UserSuggestionQueue q WHERE q.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,6 +1,7 @@
 package com.feeling.infrastructure.repositories.user;
 
 import com.feeling.infrastructure.entities.user.UserTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -88,9 +89,16 @@ public interface IUserTagRepository extends JpaRepository<UserTag, Long> {
     int deleteOldUnusedTags(@Param("cutoffDate") LocalDateTime cutoffDate);
 
     // Métodos adicionales para limpieza
+    // Tramo de la limpieza programada: ids de tags sin uso creados antes de olderThan, a partir de afterId
+    @Query("SELECT t.id FROM UserTag t WHERE t.usageCount = 0 AND t.createdAt < :olderThan AND t.id > :afterId " +
+           "ORDER BY t.id")
+    List<Long> findUnusedTagIdsOlderThan(@Param("olderThan") LocalDateTime olderThan,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
     @Modifying
-    @Query("DELETE FROM UserTag t WHERE t.usageCount = 0 AND t.createdAt < :olderThan")
-    int deleteUnusedTagsOlderThan(@Param("olderThan") LocalDateTime olderThan);
+    @Query("DELETE FROM UserTag t WHERE t.id IN :ids AND t.usageCount = 0")
+    int deleteUnusedTagsByIds(@Param("ids") List<Long> ids);
 
     @Modifying
     @Query("DELETE FROM UserTag t WHERE t.usageCount = 0")
@@ -220,17 +228,23 @@ public interface IUserTagRepository extends JpaRepository<UserTag, Long> {
     // ========================================
     // ACTUALIZACIÓN DE MÉTRICAS
     // ========================================
+    // Las métricas se recalculan por tramos de ids (afterId, toId] para no bloquear la tabla entera
+    @Query("SELECT t.id FROM UserTag t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findTagIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Modifying
     @Query("""
             UPDATE UserTag t SET t.usageCount = (
                 SELECT COUNT(u) FROM User u JOIN u.tags ut WHERE ut.id = t.id
             )
+            WHERE t.id > :afterId AND t.id <= :toId
             """)
-    void updateUsageCounts();
+    int updateUsageCounts(@Param("afterId") Long afterId, @Param("toId") Long toId);
 
     @Modifying
-    @Query("UPDATE UserTag t SET t.lastUsed = CURRENT_TIMESTAMP WHERE t.usageCount > 0")
-    void updateActiveStatus();
+    @Query("UPDATE UserTag t SET t.lastUsed = CURRENT_TIMESTAMP " +
+           "WHERE t.usageCount > 0 AND t.id > :afterId AND t.id <= :toId")
+    int updateActiveStatus(@Param("afterId") Long afterId, @Param("toId") Long toId);
 
     // ========================================
     // MÉTODOS DE UTILIDAD ESPECÍFICOS PARA FEELING
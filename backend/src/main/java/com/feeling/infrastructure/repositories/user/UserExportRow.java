@@ -0,0 +1,30 @@
+package com.feeling.infrastructure.repositories.user;
+
+import com.feeling.infrastructure.entities.user.UserApprovalStatusList;
+import com.feeling.infrastructure.entities.user.UserCategoryInterestList;
+import com.feeling.infrastructure.entities.user.UserRoleList;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila plana de la exportación de usuarios (IUserRepository.streamUsersForExport)
+ */
+public record UserExportRow(
+        Long id,
+        String name,
+        String lastName,
+        String email,
+        UserRoleList role,
+        boolean verified,
+        boolean profileComplete,
+        UserApprovalStatusList approvalStatus,
+        boolean accountDeactivated,
+        UserCategoryInterestList categoryInterest,
+        String country,
+        String city,
+        String department,
+        String locality,
+        LocalDateTime createdAt,
+        LocalDateTime lastActive
+) {
+}
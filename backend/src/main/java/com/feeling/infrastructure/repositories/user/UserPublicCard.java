@@ -0,0 +1,58 @@
+package com.feeling.infrastructure.repositories.user;
+
+import com.feeling.infrastructure.entities.user.UserApprovalStatusList;
+import com.feeling.infrastructure.entities.user.UserCategoryInterestList;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Proyección con las columnas del perfil público de un usuario (IUserRepository.findPublicCardsByIdIn).
+ * Evita cargar la entidad User con sus asociaciones EAGER; imágenes y tags se consultan aparte por lote
+ */
+public record UserPublicCard(
+        Long id,
+        boolean verified,
+        boolean profileComplete,
+        UserApprovalStatusList approvalStatus,
+        UserCategoryInterestList categoryInterest,
+        String name,
+        String lastName,
+        String email,
+        LocalDate dateOfBirth,
+        String document,
+        String phone,
+        String phoneCode,
+        String country,
+        String city,
+        String department,
+        String locality,
+        String description,
+        String externalAvatarUrl,
+        String gender,
+        Integer agePreferenceMin,
+        Integer agePreferenceMax,
+        Integer locationPreferenceRadius
+) {
+
+    /**
+     * Misma regla que User.getAge()
+     */
+    public Integer age() {
+        if (dateOfBirth == null) return null;
+        return LocalDate.now().getYear() - dateOfBirth.getYear();
+    }
+
+    /**
+     * Misma regla que User.getMainImage(): primera imagen subida o, en su defecto, el avatar externo
+     */
+    public String mainImage(List<String> images) {
+        if (images != null && !images.isEmpty()) {
+            return images.get(0);
+        }
+        if (externalAvatarUrl != null && !externalAvatarUrl.trim().isEmpty()) {
+            return externalAvatarUrl;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.feeling.config.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncConfigTest {
+
+    @Test
+    void saturatedPoolRunsInCallerAndCountsRejection() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("executors.mail.concurrency", "1")
+                .withProperty("executors.mail.queue-capacity", "1");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        AsyncConfig config = new AsyncConfig(environment, beanFactory.getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(config, "virtualThreads", false);
+
+        AsyncTaskExecutor executor = config.mailExecutor();
+        ((ThreadPoolTaskExecutor) executor).initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            AtomicReference<String> thread = new AtomicReference<>();
+            executor.execute(() -> thread.set(Thread.currentThread().getName()));
+
+            assertEquals(Thread.currentThread().getName(), thread.get());
+            assertEquals(1.0, registry.get("executor.rejected").tag("name", "mail").counter().count());
+        } finally {
+            release.countDown();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
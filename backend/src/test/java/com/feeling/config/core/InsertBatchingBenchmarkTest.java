@@ -0,0 +1,208 @@
+package com.feeling.config.core;
+
+import com.feeling.infrastructure.entities.IdGenerators;
+import jakarta.persistence.*;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark de inserción con Hibernate contra MySQL (Testcontainers, mysql:8.0 como en docker-compose.yml)
+ * Inserta las mismas filas con IDENTITY y con los ids por bloques de IdGenerators, con la configuración de
+ * application.properties (hibernate.jdbc.batch_size=20, order_inserts, rewriteBatchedStatements), y comprueba con las
+ * estadísticas de Hibernate que solo los ids por bloques agrupan los INSERT en lotes.
+ * Con BENCHMARK_DB_URL (y BENCHMARK_DB_USER / BENCHMARK_DB_PASSWORD) usa ese servidor en lugar del contenedor;
+ * sin Docker ni esa variable se omite
+ */
+@Slf4j
+@EnabledIf("databaseAvailable")
+public class InsertBatchingBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROWS = 500;
+    private static final int BATCH_SIZE = 20;
+
+    private static MySQLContainer<?> mysql;
+    private static String url;
+    private static String user;
+    private static String password;
+
+    static boolean databaseAvailable() {
+        return externalUrl() != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    private static String externalUrl() {
+        String externalUrl = System.getenv("BENCHMARK_DB_URL");
+        return externalUrl != null && !externalUrl.isBlank() ? externalUrl : null;
+    }
+
+    @BeforeAll
+    static void startDatabase() {
+        if (externalUrl() != null) {
+            url = externalUrl();
+            user = System.getenv("BENCHMARK_DB_USER");
+            password = System.getenv("BENCHMARK_DB_PASSWORD");
+            return;
+        }
+        mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+        mysql.start();
+        url = mysql.getJdbcUrl();
+        user = mysql.getUsername();
+        password = mysql.getPassword();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Test
+    void pooledIdsBatchTheInsertsThatIdentityRunsOneByOne() {
+        Run identity;
+        Run pooled;
+        Run rewritten;
+        try (SessionFactory sessionFactory = sessionFactory(false)) {
+            insert(sessionFactory, WARMUP_ROWS, IdentityRow::new);
+            insert(sessionFactory, WARMUP_ROWS, PooledRow::new);
+            identity = insert(sessionFactory, ROWS, IdentityRow::new);
+            pooled = insert(sessionFactory, ROWS, PooledRow::new);
+        }
+        try (SessionFactory sessionFactory = sessionFactory(true)) {
+            insert(sessionFactory, WARMUP_ROWS, PooledRow::new);
+            rewritten = insert(sessionFactory, ROWS, PooledRow::new);
+        }
+        log.info("{} filas -> IDENTITY: {} | ids por bloques: {} | ids por bloques y lotes reescritos: {}",
+                ROWS, identity, pooled, rewritten);
+
+        // IDENTITY: Hibernate ejecuta cada INSERT por separado para leer la clave generada
+        assertEquals(ROWS, identity.inserts());
+        assertEquals(0, identity.batches());
+        assertTrue(identity.statements() >= ROWS, identity.toString());
+
+        // Ids por bloques: un lote por cada batch_size filas; el resto de sentencias son las lecturas del contador
+        for (Run run : new Run[]{pooled, rewritten}) {
+            assertEquals(ROWS, run.inserts());
+            assertEquals(ROWS / BATCH_SIZE, run.batches());
+            assertTrue(run.statements() <= ROWS / BATCH_SIZE + 2L * ROWS / IdGenerators.ALLOCATION_SIZE + 2,
+                    run.toString());
+        }
+    }
+
+    private static SessionFactory sessionFactory(boolean rewriteBatchedStatements) {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class);
+        configuration.setProperty("hibernate.connection.url",
+                url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=" + rewriteBatchedStatements);
+        configuration.setProperty("hibernate.connection.username", user);
+        configuration.setProperty("hibernate.connection.password", password != null ? password : "");
+        configuration.setProperty("hibernate.dialect", "org.hibernate.dialect.MySQLDialect");
+        configuration.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE));
+        configuration.setProperty("hibernate.order_inserts", "true");
+        configuration.setProperty("hibernate.generate_statistics", "true");
+        configuration.setProperty("hibernate.session.events.auto", JdbcCounter.class.getName());
+        return configuration.buildSessionFactory();
+    }
+
+    private static Run insert(SessionFactory sessionFactory, int rows, IntFunction<Object> row) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        JdbcCounter.reset();
+
+        long start = System.nanoTime();
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(row.apply(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        return new Run(statistics.getEntityInsertCount(), JdbcCounter.BATCHES.get(),
+                statistics.getPrepareStatementCount(), millis);
+    }
+
+    private record Run(long inserts, int batches, long statements, long millis) {
+        @Override
+        public String toString() {
+            return String.format("%d ms (%.0f filas/s, %d lotes, %d sentencias)",
+                    millis, inserts / (Math.max(millis, 1) / 1000.0), batches, statements);
+        }
+    }
+
+    // Lotes JDBC ejecutados por las sesiones del benchmark
+    public static class JdbcCounter implements SessionEventListener {
+        static final AtomicInteger BATCHES = new AtomicInteger();
+
+        static void reset() {
+            BATCHES.set(0);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+
+    @Entity(name = "BenchmarkIdentityRow")
+    @Table(name = "benchmark_identity_rows")
+    public static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private String email;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(int i) {
+            this.email = "user" + i + "@bench.test";
+        }
+    }
+
+    @Entity(name = "BenchmarkPooledRow")
+    @Table(name = "benchmark_pooled_rows")
+    public static class PooledRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "benchmark_pooled_rows_id")
+        @TableGenerator(name = "benchmark_pooled_rows_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+                valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "benchmark_pooled_rows",
+                allocationSize = IdGenerators.ALLOCATION_SIZE)
+        private Long id;
+
+        @Column(nullable = false)
+        private String email;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(int i) {
+            this.email = "user" + i + "@bench.test";
+        }
+    }
+}
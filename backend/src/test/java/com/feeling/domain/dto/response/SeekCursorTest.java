@@ -0,0 +1,31 @@
+package com.feeling.domain.dto.response;
+
+import com.feeling.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeekCursorTest {
+
+    @Test
+    void roundTripsThroughTheToken() {
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2025, 3, 1, 10, 30, 15), 42L);
+
+        assertEquals(cursor, SeekCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void rowWithoutTimestampSortsAsTheMinimum() {
+        SeekCursor cursor = new SeekCursor(null, 42L);
+
+        assertEquals(SeekCursor.NULL_TIMESTAMP, cursor.timestamp());
+        assertEquals(cursor, SeekCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThrows(BadRequestException.class, () -> SeekCursor.decode("not-a-cursor"));
+    }
+}
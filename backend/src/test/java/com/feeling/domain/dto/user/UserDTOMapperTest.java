@@ -6,10 +6,13 @@ import com.feeling.infrastructure.entities.user.User;
 import com.feeling.infrastructure.entities.user.UserRole;
 import com.feeling.infrastructure.entities.user.UserRoleList;
 import com.feeling.infrastructure.entities.user.UserApprovalStatusList;
+import com.feeling.infrastructure.repositories.user.UserPublicCard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -128,4 +131,27 @@ public class UserDTOMapperTest {
         assertEquals(testUser.getProfileViews(), extendedDTO.metrics().profileViews());
         assertEquals(testUser.isAccountDeactivated(), extendedDTO.account().accountDeactivated());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testToUserPublicResponseDTOFromCardMatchesEntityMapping() {
+        testUser.setDateOfBirth(LocalDate.of(1990, 5, 20));
+        testUser.setExternalAvatarUrl("https://example.com/avatar.png");
+
+        UserPublicCard card = new UserPublicCard(
+                testUser.getId(), testUser.isVerified(), testUser.getProfileComplete(), testUser.getApprovalStatus(),
+                null, testUser.getName(), testUser.getLastName(), testUser.getEmail(), testUser.getDateOfBirth(),
+                testUser.getDocument(), testUser.getPhone(), testUser.getPhoneCode(), testUser.getCountry(),
+                testUser.getCity(), testUser.getDepartment(), testUser.getLocality(), testUser.getDescription(),
+                testUser.getExternalAvatarUrl(), null, testUser.getAgePreferenceMin(), testUser.getAgePreferenceMax(),
+                testUser.getLocationPreferenceRadius());
+
+        UserPublicResponseDTO fromEntity = UserDTOMapper.toUserPublicResponseDTO(testUser);
+        UserPublicResponseDTO fromCard = UserDTOMapper.toUserPublicResponseDTO(card, List.of(), List.of());
+
+        assertEquals(fromEntity, fromCard);
+        assertEquals("https://example.com/avatar.png", fromCard.profile().mainImage());
+
+        UserPublicResponseDTO withImages = UserDTOMapper.toUserPublicResponseDTO(card, List.of("a.jpg", "b.jpg"), List.of());
+        assertEquals("a.jpg", withImages.profile().mainImage());
+    }
+}
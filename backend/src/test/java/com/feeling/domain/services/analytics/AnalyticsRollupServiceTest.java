@@ -0,0 +1,127 @@
+package com.feeling.domain.services.analytics;
+
+import com.feeling.infrastructure.repositories.analytics.ICohortActivityRepository;
+import com.feeling.infrastructure.repositories.analytics.IDailyUserFactRepository;
+import com.feeling.infrastructure.repositories.analytics.IUserActivityDayRepository;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class AnalyticsRollupServiceTest {
+
+    private IDailyUserFactRepository factRepository;
+    private ICohortActivityRepository cohortRepository;
+    private IUserActivityDayRepository activityRepository;
+    private IUserRepository userRepository;
+    private AnalyticsRollupService rollupService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        factRepository = mock(IDailyUserFactRepository.class);
+        cohortRepository = mock(ICohortActivityRepository.class);
+        activityRepository = mock(IUserActivityDayRepository.class);
+        userRepository = mock(IUserRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        rollupService = new AnalyticsRollupService(factRepository, cohortRepository, activityRepository,
+                userRepository, transactionTemplate);
+        ReflectionTestUtils.setField(rollupService, "restateDays", 2);
+        ReflectionTestUtils.setField(rollupService, "backfillDays", 30);
+    }
+
+    @Test
+    void nightlyRestatesRecentDaysAndBackfillsOnlyMissingOnes() {
+        LocalDate today = LocalDate.now();
+        when(userRepository.findEarliestCreatedAt()).thenReturn(today.minusDays(5).atTime(9, 0));
+        when(activityRepository.findFirstCapturedAt()).thenReturn(today.minusDays(5).atTime(9, 5));
+        // Ya calculados: hace 5 y 4 días y los dos recién reprocesados
+        when(factRepository.findDaysBetween(today.minusDays(5), today.minusDays(1)))
+                .thenReturn(List.of(today.minusDays(5), today.minusDays(4), today.minusDays(2), today.minusDays(1)));
+
+        rollupService.nightly();
+
+        // Reproceso de los 2 últimos días y relleno del hueco de hace 3 días
+        verify(factRepository).deleteByDay(today.minusDays(1));
+        verify(factRepository).deleteByDay(today.minusDays(2));
+        verify(factRepository).deleteByDay(today.minusDays(3));
+        verify(factRepository, never()).deleteByDay(today.minusDays(4));
+        verify(factRepository, never()).deleteByDay(today);
+        verify(cohortRepository).insertForActivityDay(today.minusDays(3));
+    }
+
+    @Test
+    void daysBeforeTheFirstActivityCaptureAreFlaggedUnknown() {
+        LocalDate today = LocalDate.now();
+        when(activityRepository.findFirstCapturedAt()).thenReturn(today.minusDays(1).atTime(10, 0));
+
+        rollupService.rollupDay(today.minusDays(2));
+        rollupService.rollupDay(today.minusDays(1));
+
+        verify(factRepository).insertRollup(eq(today.minusDays(2)), any(), any(), eq(false), any());
+        verify(factRepository).insertRollup(eq(today.minusDays(1)), any(), any(), eq(true), any());
+        verify(cohortRepository).deleteByActivityDay(today.minusDays(2));
+        verify(cohortRepository, never()).insertForActivityDay(today.minusDays(2));
+        verify(cohortRepository).insertForActivityDay(today.minusDays(1));
+    }
+
+    @Test
+    void activityCaptureContinuesFromPreviousRun() {
+        LocalDate lastDay = LocalDate.now().minusDays(2);
+        when(activityRepository.findLatestDay()).thenReturn(lastDay);
+
+        rollupService.refreshToday();
+        rollupService.refreshToday();
+
+        verify(activityRepository).captureActiveSince(eq(lastDay.atStartOfDay().minusMinutes(1)), any());
+        verify(activityRepository, times(2)).captureActiveSince(any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(activityRepository, times(1)).findLatestDay();
+        verify(factRepository, times(2)).insertRollup(eq(LocalDate.now()), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    void cohortRetentionIsMeasuredAgainstSignupsOfTheCohort() {
+        AnalyticsReportService reportService = new AnalyticsReportService(factRepository, activityRepository,
+                cohortRepository, rollupService);
+        LocalDate cohortDay = LocalDate.now().minusDays(10);
+        // La captura empezó el día siguiente al alta: la actividad del propio día de alta es desconocida
+        when(activityRepository.findFirstCapturedAt()).thenReturn(cohortDay.plusDays(1).atTime(8, 0));
+        when(factRepository.sumByDay(cohortDay, cohortDay))
+                .thenReturn(List.<Object[]>of(new Object[]{cohortDay, 40L, 0L, 0L, 0L, 100L}));
+        when(cohortRepository.findByCohortDayBetween(cohortDay, cohortDay)).thenReturn(List.of(
+                new Object[]{cohortDay, cohortDay.plusDays(1), 20L},
+                new Object[]{cohortDay, cohortDay.plusDays(7), 10L}));
+
+        List<Map<String, Object>> cohorts = reportService.getCohortRetention(cohortDay, cohortDay, List.of(30, 7, 1, 0));
+
+        assertEquals(1, cohorts.size());
+        assertEquals(40L, cohorts.get(0).get("size"));
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> retention = (Map<String, Map<String, Object>>) cohorts.get(0).get("retention");
+        // El día 30 aún no ha llegado para esta cohorte
+        assertEquals(List.of("day0", "day1", "day7"), List.copyOf(retention.keySet()));
+        assertNull(retention.get("day0"));
+        assertEquals(50.0, retention.get("day1").get("rate"));
+        assertEquals(10L, retention.get("day7").get("activeUsers"));
+    }
+}
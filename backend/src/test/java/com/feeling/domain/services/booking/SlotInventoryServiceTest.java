@@ -0,0 +1,81 @@
+package com.feeling.domain.services.booking;
+
+import com.feeling.domain.services.job.ClusterJob;
+import com.feeling.exception.BadRequestException;
+import com.feeling.infrastructure.entities.booking.Availability;
+import com.feeling.infrastructure.entities.booking.AvailabilityHold;
+import com.feeling.infrastructure.entities.booking.HoldStatus;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.booking.IAvailabilityHoldRepository;
+import com.feeling.infrastructure.repositories.booking.IAvailabilityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SlotInventoryServiceTest {
+
+    private IAvailabilityRepository availabilityRepository;
+    private IAvailabilityHoldRepository holdRepository;
+    private TransactionTemplate transactionTemplate;
+    private SlotInventoryService service;
+
+    @BeforeEach
+    void setUp() {
+        availabilityRepository = mock(IAvailabilityRepository.class);
+        holdRepository = mock(IAvailabilityHoldRepository.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+        service = new SlotInventoryService(availabilityRepository, holdRepository, transactionTemplate);
+    }
+
+    @Test
+    void expiredHoldsAreReleasedOneChunkPerTransaction() {
+        when(holdRepository.findExpired(eq(HoldStatus.HELD), any(), eq(0L), any()))
+                .thenReturn(List.of(hold(1L, 2), hold(2L, 3)));
+        when(holdRepository.findExpired(eq(HoldStatus.HELD), any(), eq(2L), any()))
+                .thenReturn(List.of(hold(5L, 1)));
+        // La reserva 2 se confirmó mientras tanto: su cierre condicional no cambia nada
+        when(holdRepository.close(anyLong(), eq(HoldStatus.HELD), eq(HoldStatus.EXPIRED))).thenReturn(1);
+        when(holdRepository.close(eq(2L), eq(HoldStatus.HELD), eq(HoldStatus.EXPIRED))).thenReturn(0);
+
+        ClusterJob.Chunk first = service.releaseExpiredHolds(null, 2);
+        ClusterJob.Chunk last = service.releaseExpiredHolds(first.nextCursor(), 2);
+
+        assertEquals(new ClusterJob.Chunk(1, "2"), first);
+        assertEquals(ClusterJob.Chunk.done(1), last);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(availabilityRepository).releaseSlots(10L, 2);
+        verify(availabilityRepository).releaseSlots(10L, 1);
+        verifyNoMoreInteractions(availabilityRepository);
+    }
+
+    @Test
+    void holdRejectsNonPositiveSlotsWithoutTouchingInventory() {
+        Availability availability = new Availability();
+        availability.setId(10L);
+
+        assertThrows(BadRequestException.class, () -> service.hold(availability, new User(), 0));
+        assertThrows(BadRequestException.class, () -> service.hold(availability, new User(), -3));
+        verifyNoInteractions(availabilityRepository, holdRepository);
+    }
+
+    private static AvailabilityHold hold(Long id, int slots) {
+        Availability availability = new Availability();
+        availability.setId(10L);
+        AvailabilityHold hold = new AvailabilityHold();
+        hold.setId(id);
+        hold.setAvailability(availability);
+        hold.setSlots(slots);
+        hold.setStatus(HoldStatus.HELD);
+        return hold;
+    }
+}
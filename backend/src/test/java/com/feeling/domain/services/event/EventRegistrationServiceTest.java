@@ -0,0 +1,206 @@
+package com.feeling.domain.services.event;
+
+import com.feeling.domain.dto.event.EventRegistrationRequestDTO;
+import com.feeling.domain.dto.event.EventRegistrationResponseDTO;
+import com.feeling.domain.dto.notification.NotificationType;
+import com.feeling.domain.services.email.EmailService;
+import com.feeling.domain.services.job.ClusterJob;
+import com.feeling.domain.services.notification.UserNotificationEvent;
+import com.feeling.domain.services.user.UserAuthorizationService;
+import com.feeling.infrastructure.entities.event.Event;
+import com.feeling.infrastructure.entities.event.EventCategory;
+import com.feeling.infrastructure.entities.event.EventRegistration;
+import com.feeling.infrastructure.entities.event.EventWaitlistEntry;
+import com.feeling.infrastructure.entities.event.PaymentStatus;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.event.IEventRegistrationRepository;
+import com.feeling.infrastructure.repositories.event.IEventRepository;
+import com.feeling.infrastructure.repositories.event.IEventWaitlistRepository;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EventRegistrationServiceTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("50000");
+
+    private IEventRegistrationRepository registrationRepository;
+    private IEventRepository eventRepository;
+    private IEventWaitlistRepository waitlistRepository;
+    private EmailService emailService;
+    private ApplicationEventPublisher eventPublisher;
+    private IUserRepository userRepository;
+    private UserAuthorizationService userAuthorizationService;
+    private EventRegistrationService service;
+
+    private Event event;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository = mock(IEventRegistrationRepository.class);
+        eventRepository = mock(IEventRepository.class);
+        waitlistRepository = mock(IEventWaitlistRepository.class);
+        emailService = mock(EmailService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        userRepository = mock(IUserRepository.class);
+        userAuthorizationService = mock(UserAuthorizationService.class);
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+
+        service = new EventRegistrationService(registrationRepository, eventRepository, waitlistRepository,
+                userRepository, userAuthorizationService, null, emailService, eventPublisher, null, transactionTemplate);
+        ReflectionTestUtils.setField(service, "holdMinutes", 30L);
+
+        user = User.builder().id(7L).name("Ana").lastName("Gómez").build();
+        event = Event.builder()
+                .id(3L)
+                .title("Cata de vinos")
+                .eventDate(LocalDateTime.now().plusDays(5))
+                .price(PRICE)
+                .maxCapacity(1)
+                .currentAttendees(1)
+                .category(EventCategory.SOCIAL)
+                .build();
+    }
+
+    @Test
+    void pendingHoldIsPaidWithoutReservingAnotherSeat() throws Exception {
+        when(registrationRepository.findById(10L)).thenReturn(Optional.of(registration(10L, PaymentStatus.PENDING)));
+        when(registrationRepository.markPaid(eq(10L), eq(PRICE), eq("pi_1"), any(), eq(List.of(PaymentStatus.PENDING))))
+                .thenReturn(1);
+
+        assertTrue(service.confirmPayment(10L, PRICE, "pi_1"));
+
+        verify(eventRepository, never()).reserveSeat(any(), any());
+        assertEquals(NotificationType.EVENT_PAYMENT_CONFIRMED, publishedTypes().get(0));
+        verify(emailService).sendEventRegistrationConfirmation(any(), any());
+    }
+
+    @Test
+    void paymentForExpiredHoldOnFullEventIsNotMarkedPaid() throws Exception {
+        when(registrationRepository.findById(10L)).thenReturn(Optional.of(registration(10L, PaymentStatus.CANCELLED)));
+        when(eventRepository.reserveSeat(eq(3L), any())).thenReturn(0);
+
+        assertFalse(service.confirmPayment(10L, PRICE, "pi_1"));
+
+        verify(registrationRepository, never()).markPaid(any(), any(), any(), any(),
+                eq(List.of(PaymentStatus.FAILED, PaymentStatus.CANCELLED)));
+        verify(registrationRepository).recordPaymentWithoutSeat(eq(10L), eq(PRICE), eq("pi_1"), any(), any());
+        assertEquals(List.of(NotificationType.EVENT_PAYMENT_REFUND_PENDING), publishedTypes());
+        verify(emailService, never()).sendEventRegistrationConfirmation(any(), any());
+    }
+
+    @Test
+    void latePaymentFailedDoesNotUndoAPaidRegistration() {
+        EventRegistration registration = registration(10L, PaymentStatus.PENDING);
+        when(registrationRepository.findById(10L)).thenReturn(Optional.of(registration));
+        // Los UPDATE condicionales solo cambian el registro si su estado está en la lista recibida
+        when(registrationRepository.markPaid(eq(10L), any(), any(), any(), any())).thenAnswer(invocation -> {
+            List<PaymentStatus> from = invocation.getArgument(4);
+            if (!from.contains(registration.getPaymentStatus())) {
+                return 0;
+            }
+            registration.setPaymentStatus(PaymentStatus.COMPLETED);
+            return 1;
+        });
+        when(registrationRepository.releaseSeatHolder(eq(10L), any(), any(), any())).thenAnswer(invocation -> {
+            List<PaymentStatus> from = invocation.getArgument(3);
+            if (!from.contains(registration.getPaymentStatus())) {
+                return 0;
+            }
+            registration.setPaymentStatus(invocation.getArgument(1));
+            return 1;
+        });
+
+        // payment_intent.succeeded y después un payment_intent.payment_failed entregado tarde
+        assertTrue(service.confirmPayment(10L, PRICE, "pi_1"));
+        service.markPaymentFailed(10L);
+
+        assertEquals(PaymentStatus.COMPLETED, registration.getPaymentStatus());
+        verify(eventRepository, never()).releaseSeat(any());
+    }
+
+    @Test
+    void expiredHoldsReleaseTheirSeatAndPromoteTheWaitlist() {
+        when(registrationRepository.findExpiredHolds(eq(PaymentStatus.PENDING), any(), eq(0L), any()))
+                .thenReturn(List.of(new Object[]{10L, 3L, 7L}, new Object[]{11L, 3L, 8L}));
+        // La segunda reserva se pagó mientras tanto: su UPDATE condicional no cambia nada
+        when(registrationRepository.releaseSeatHolder(eq(10L), eq(PaymentStatus.CANCELLED), any(), any())).thenReturn(1);
+        when(registrationRepository.releaseSeatHolder(eq(11L), eq(PaymentStatus.CANCELLED), any(), any())).thenReturn(0);
+
+        User waiting = User.builder().id(9L).build();
+        EventWaitlistEntry entry = EventWaitlistEntry.builder().id(1L).event(event).user(waiting).build();
+        when(waitlistRepository.findFirstByEventIdOrderByIdAsc(3L)).thenReturn(Optional.of(entry));
+        when(eventRepository.reserveSeat(eq(3L), any())).thenReturn(1);
+        when(registrationRepository.saveAndFlush(any(EventRegistration.class))).thenAnswer(invocation -> {
+            EventRegistration saved = invocation.getArgument(0);
+            saved.setId(12L);
+            return saved;
+        });
+
+        ClusterJob.Chunk chunk = service.expireSeatHolds(null, 100);
+
+        assertEquals(1, chunk.processed());
+        assertNull(chunk.nextCursor());
+        verify(eventRepository, times(1)).releaseSeat(3L);
+        verify(waitlistRepository).delete(entry);
+        assertEquals(List.of(NotificationType.EVENT_SEAT_HOLD_EXPIRED, NotificationType.EVENT_WAITLIST_PROMOTED),
+                publishedTypes());
+    }
+
+    @Test
+    void expiredHoldIsReopenedWhenTheUserRegistersAgain() {
+        EventRegistration expired = registration(10L, PaymentStatus.CANCELLED);
+        when(userAuthorizationService.getUserIdByEmail("ana@feeling.test")).thenReturn(Optional.of(7L));
+        when(userRepository.getReferenceById(7L)).thenReturn(user);
+        when(eventRepository.getReferenceById(3L)).thenReturn(event);
+        when(eventRepository.reserveSeat(eq(3L), any())).thenReturn(1);
+        // La fila caducada sigue ocupando la clave única (user_id, event_id): se reabre en lugar de insertar otra
+        when(registrationRepository.reopenRegistration(eq(7L), eq(3L), any(),
+                eq(List.of(PaymentStatus.CANCELLED, PaymentStatus.FAILED)))).thenAnswer(invocation -> {
+            expired.setPaymentStatus(PaymentStatus.PENDING);
+            return 1;
+        });
+        when(registrationRepository.findByUserIdAndEventId(7L, 3L)).thenReturn(Optional.of(expired));
+
+        EventRegistrationResponseDTO response = service.registerForEvent(new EventRegistrationRequestDTO(3L), "ana@feeling.test");
+
+        assertEquals(10L, response.id());
+        assertEquals(PaymentStatus.PENDING, response.paymentStatus());
+        verify(registrationRepository, never()).saveAndFlush(any());
+    }
+
+    private EventRegistration registration(Long id, PaymentStatus status) {
+        return EventRegistration.builder()
+                .id(id)
+                .user(user)
+                .event(event)
+                .paymentStatus(status)
+                .isConfirmed(false)
+                .build();
+    }
+
+    private List<NotificationType> publishedTypes() {
+        ArgumentCaptor<UserNotificationEvent> captor = ArgumentCaptor.forClass(UserNotificationEvent.class);
+        verify(eventPublisher, atLeast(0)).publishEvent(captor.capture());
+        return captor.getAllValues().stream().map(UserNotificationEvent::type).toList();
+    }
+}
@@ -0,0 +1,222 @@
+package com.feeling.domain.services.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.feeling.exception.BadRequestException;
+import com.feeling.infrastructure.entities.event.Event;
+import com.feeling.infrastructure.entities.event.EventRegistration;
+import com.feeling.infrastructure.entities.event.StripeWebhookEvent;
+import com.feeling.infrastructure.entities.event.WebhookEventStatus;
+import com.feeling.infrastructure.repositories.event.IEventRegistrationRepository;
+import com.feeling.infrastructure.repositories.event.IStripeWebhookEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StripeWebhookServiceTest {
+
+    private static final String SECRET = "whsec_local_test";
+    private static final String PAYMENT_INTENT = "pi_123";
+
+    private IStripeWebhookEventRepository webhookEventRepository;
+    private IEventRegistrationRepository registrationRepository;
+    private EventRegistrationService registrationService;
+    private ThreadPoolTaskExecutor workers;
+    private StripeWebhookService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        webhookEventRepository = mock(IStripeWebhookEventRepository.class);
+        registrationRepository = mock(IEventRegistrationRepository.class);
+        registrationService = mock(EventRegistrationService.class);
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        StripeSignatureVerifier verifier = new StripeSignatureVerifier();
+        ReflectionTestUtils.setField(verifier, "webhookSecret", SECRET);
+        ReflectionTestUtils.setField(verifier, "toleranceSeconds", 300L);
+
+        workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(1);
+        workers.setQueueCapacity(10);
+        workers.initialize();
+
+        service = new StripeWebhookService(webhookEventRepository, registrationRepository, registrationService,
+                verifier, new ObjectMapper(), transactionTemplate, workers);
+        ReflectionTestUtils.setField(service, "currency", "cop");
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "retryBaseMs", 1000L);
+        ReflectionTestUtils.setField(service, "leaseMs", 60000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdown();
+    }
+
+    @Test
+    void rejectsPayloadWithInvalidSignature() {
+        String payload = LocalStripe.event("evt_1", "payment_intent.succeeded");
+        String signature = LocalStripe.sign(payload, "whsec_other", Instant.now().getEpochSecond());
+
+        assertThrows(BadRequestException.class, () -> service.receive(payload, signature));
+        verify(webhookEventRepository, never()).insertIfAbsent(any(), any(), any(), any());
+    }
+
+    @Test
+    void rejectsExpiredSignature() {
+        String payload = LocalStripe.event("evt_1", "payment_intent.succeeded");
+        String signature = LocalStripe.sign(payload, SECRET, Instant.now().getEpochSecond() - 3600);
+
+        assertThrows(BadRequestException.class, () -> service.receive(payload, signature));
+    }
+
+    @Test
+    void repeatedDeliveryIsAcknowledgedWithoutProcessing() {
+        String payload = LocalStripe.event("evt_1", "payment_intent.succeeded");
+        when(webhookEventRepository.insertIfAbsent(eq("evt_1"), any(), any(), any())).thenReturn(0);
+
+        assertFalse(service.receive(payload, LocalStripe.sign(payload, SECRET, Instant.now().getEpochSecond())));
+        verify(webhookEventRepository, after(200).never()).claim(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void newDeliveryConfirmsPaymentOnWorker() {
+        String payload = LocalStripe.event("evt_1", "payment_intent.succeeded");
+        StripeWebhookEvent stored = stored("evt_1", payload, 1);
+        when(webhookEventRepository.insertIfAbsent(eq("evt_1"), any(), any(), any())).thenReturn(1);
+        when(webhookEventRepository.claim(eq("evt_1"), any(), any(), any(), any())).thenReturn(1);
+        when(webhookEventRepository.findById("evt_1")).thenReturn(Optional.of(stored));
+        when(registrationRepository.findByStripePaymentIntentId(PAYMENT_INTENT)).thenReturn(Optional.of(registration()));
+
+        assertTrue(service.receive(payload, LocalStripe.sign(payload, SECRET, Instant.now().getEpochSecond())));
+
+        verify(registrationService, timeout(1000)).confirmPayment(10L, new BigDecimal("50000"), PAYMENT_INTENT);
+        verify(webhookEventRepository, timeout(1000)).save(stored);
+        assertEquals(WebhookEventStatus.PROCESSED, stored.getStatus());
+    }
+
+    @Test
+    void failureIsRetriedThenDeadLettered() {
+        String payload = LocalStripe.event("evt_2", "payment_intent.succeeded");
+        when(webhookEventRepository.claim(eq("evt_2"), any(), any(), any(), any())).thenReturn(1);
+        when(registrationRepository.findByStripePaymentIntentId(PAYMENT_INTENT)).thenReturn(Optional.empty());
+
+        StripeWebhookEvent retried = stored("evt_2", payload, 1);
+        when(webhookEventRepository.findById("evt_2")).thenReturn(Optional.of(retried));
+        service.process("evt_2");
+        assertEquals(WebhookEventStatus.PENDING, retried.getStatus());
+        assertTrue(retried.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertNotNull(retried.getLastError());
+
+        StripeWebhookEvent exhausted = stored("evt_2", payload, 3);
+        when(webhookEventRepository.findById("evt_2")).thenReturn(Optional.of(exhausted));
+        service.process("evt_2");
+        assertEquals(WebhookEventStatus.DEAD_LETTER, exhausted.getStatus());
+        verify(registrationService, never()).confirmPayment(any(), any(), any());
+    }
+
+    @Test
+    void amountDifferentFromPriceIsDeadLetteredWithoutConfirming() {
+        String payload = LocalStripe.event("evt_3", "payment_intent.succeeded", 100L, "cop");
+        StripeWebhookEvent stored = stored("evt_3", payload, 1);
+        when(webhookEventRepository.claim(eq("evt_3"), any(), any(), any(), any())).thenReturn(1);
+        when(webhookEventRepository.findById("evt_3")).thenReturn(Optional.of(stored));
+        when(registrationRepository.findByStripePaymentIntentId(PAYMENT_INTENT)).thenReturn(Optional.of(registration()));
+
+        service.process("evt_3");
+
+        assertEquals(WebhookEventStatus.DEAD_LETTER, stored.getStatus());
+        assertTrue(stored.getLastError().contains("distinto del precio"));
+        verify(registrationService, never()).confirmPayment(any(), any(), any());
+    }
+
+    @Test
+    void otherCurrencyIsDeadLetteredWithoutConfirming() {
+        String payload = LocalStripe.event("evt_4", "payment_intent.succeeded", 5_000_000L, "usd");
+        StripeWebhookEvent stored = stored("evt_4", payload, 1);
+        when(webhookEventRepository.claim(eq("evt_4"), any(), any(), any(), any())).thenReturn(1);
+        when(webhookEventRepository.findById("evt_4")).thenReturn(Optional.of(stored));
+        when(registrationRepository.findByStripePaymentIntentId(PAYMENT_INTENT)).thenReturn(Optional.of(registration()));
+
+        service.process("evt_4");
+
+        assertEquals(WebhookEventStatus.DEAD_LETTER, stored.getStatus());
+        verify(registrationService, never()).confirmPayment(any(), any(), any());
+    }
+
+    private static StripeWebhookEvent stored(String id, String payload, int attempts) {
+        StripeWebhookEvent event = new StripeWebhookEvent();
+        event.setId(id);
+        event.setType("payment_intent.succeeded");
+        event.setPayload(payload);
+        event.setStatus(WebhookEventStatus.PROCESSING);
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(LocalDateTime.now().plusMinutes(1));
+        event.setReceivedAt(LocalDateTime.now());
+        return event;
+    }
+
+    private static EventRegistration registration() {
+        Event event = new Event();
+        event.setPrice(new BigDecimal("50000"));
+        EventRegistration registration = new EventRegistration();
+        registration.setId(10L);
+        registration.setEvent(event);
+        registration.setStripePaymentIntentId(PAYMENT_INTENT);
+        return registration;
+    }
+
+    /**
+     * Sustituto local de Stripe: arma eventos y los firma como el endpoint real (t=...,v1=HMAC-SHA256)
+     */
+    static final class LocalStripe {
+
+        // 50000 COP en la unidad mínima de Stripe (centavos), el precio del evento de registration()
+        static String event(String id, String type) {
+            return event(id, type, 5_000_000L, "cop");
+        }
+
+        static String event(String id, String type, long amountReceived, String currency) {
+            return "{\"id\":\"" + id + "\",\"object\":\"event\",\"type\":\"" + type + "\"," +
+                    "\"data\":{\"object\":{\"id\":\"" + PAYMENT_INTENT + "\",\"object\":\"payment_intent\"," +
+                    "\"amount_received\":" + amountReceived + ",\"currency\":\"" + currency + "\"}}}";
+        }
+
+        static String sign(String payload, String secret, long timestamp) {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+                byte[] signature = mac.doFinal((timestamp + "." + payload).getBytes(StandardCharsets.UTF_8));
+                return "t=" + timestamp + ",v1=" + HexFormat.of().formatHex(signature);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.feeling.domain.services.export;
+
+import com.feeling.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamingExportServiceTest {
+
+    private record Row(Long id, String name, LocalDateTime createdAt, Boolean active) {
+    }
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            ExportColumn.of("id", Row::id),
+            ExportColumn.of("name", Row::name),
+            ExportColumn.of("createdAt", Row::createdAt),
+            ExportColumn.of("active", Row::active)
+    );
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 10, 30);
+
+    @Test
+    void csvQuotesSeparatorsAndNeutralizesFormulas() throws Exception {
+        StringWriter out = new StringWriter();
+
+        long written = StreamingExportService.write(out, ExportFormat.CSV, COLUMNS, Stream.of(
+                new Row(1L, "Pérez, \"Ana\"", CREATED, true),
+                new Row(2L, "=HYPERLINK(\"x\")", null, null)));
+
+        assertEquals(2, written);
+        assertEquals("id,name,createdAt,active\r\n" +
+                "1,\"Pérez, \"\"Ana\"\"\",2025-03-01T10:30,true\r\n" +
+                "2,\"'=HYPERLINK(\"\"x\"\")\",,\r\n", out.toString());
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        StringWriter out = new StringWriter();
+
+        StreamingExportService.write(out, ExportFormat.NDJSON, COLUMNS, Stream.of(
+                new Row(1L, "Ana", CREATED, true),
+                new Row(2L, "Luis\nGómez", null, false)));
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"id\":1,\"name\":\"Ana\",\"createdAt\":\"2025-03-01T10:30\",\"active\":true}", lines[0]);
+        assertEquals("{\"id\":2,\"name\":\"Luis\\nGómez\",\"createdAt\":null,\"active\":false}", lines[1]);
+    }
+
+    @Test
+    void formatFallsBackToCsvAndRejectsUnknownValues() {
+        assertEquals(ExportFormat.CSV, ExportFormat.from(null));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from("NDJSON"));
+        assertThrows(BadRequestException.class, () -> ExportFormat.from("xlsx"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.feeling.domain.services.job;
+
+import com.feeling.infrastructure.entities.job.JobRunStatus;
+import com.feeling.infrastructure.entities.job.JobTrigger;
+import com.feeling.infrastructure.entities.job.ScheduledJobLock;
+import com.feeling.infrastructure.entities.job.ScheduledJobRun;
+import com.feeling.infrastructure.repositories.job.IScheduledJobLockRepository;
+import com.feeling.infrastructure.repositories.job.IScheduledJobRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ClusterJobRunnerTest {
+
+    private static final String JOB = "test-job";
+
+    private IScheduledJobLockRepository lockRepository;
+    private IScheduledJobRunRepository runRepository;
+    private final List<String> cursorsSeen = new ArrayList<>();
+    private ClusterJobRunner runner;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lockRepository = mock(IScheduledJobLockRepository.class);
+        runRepository = mock(IScheduledJobRunRepository.class);
+        when(runRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(lockRepository.checkpoint(eq(JOB), anyString(), any(), anyLong())).thenReturn(1);
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // Tramos de 10 hasta 30; si cursorsSeen contiene "boom" falla el tramo que empieza en 20
+        ClusterJob job = ClusterJob.chunked(JOB, "-", cursor -> {
+            cursorsSeen.add(cursor);
+            if ("20".equals(cursor) && cursorsSeen.contains("boom")) {
+                throw new IllegalStateException("fallo en el tramo");
+            }
+            int from = cursor != null ? Integer.parseInt(cursor) : 0;
+            return from + 10 >= 30 ? ClusterJob.Chunk.done(10) : ClusterJob.Chunk.next(10, String.valueOf(from + 10));
+        });
+
+        runner = new ClusterJobRunner(List.of(job), lockRepository, runRepository, transactionTemplate,
+                mock(TaskScheduler.class));
+        ReflectionTestUtils.setField(runner, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(runner, "retentionDays", 30);
+    }
+
+    @Test
+    void skipsWhenAnotherNodeHoldsTheLease() {
+        when(lockRepository.acquire(eq(JOB), anyString(), any(), anyLong())).thenReturn(0);
+
+        assertTrue(runner.run(JOB, JobTrigger.SCHEDULED).isEmpty());
+
+        assertTrue(cursorsSeen.isEmpty());
+        verify(runRepository, never()).save(any());
+    }
+
+    @Test
+    void scheduledRunIsKeyedByItsFireTime() {
+        LocalDateTime fireTime = LocalDateTime.of(2026, 10, 19, 1, 30);
+        when(lockRepository.acquire(eq(JOB), anyString(), eq(fireTime), eq(300L))).thenReturn(0);
+
+        // Otra réplica ya tomó este disparo: un cron que llega tarde no lo repite
+        assertTrue(runner.run(JOB, JobTrigger.SCHEDULED, fireTime).isEmpty());
+        assertTrue(cursorsSeen.isEmpty());
+    }
+
+    @Test
+    void oneOffJobRunsAtStartupUntilItSucceeds() {
+        TaskScheduler scheduler = mock(TaskScheduler.class);
+        ClusterJobRunner oneOffRunner = new ClusterJobRunner(List.of(ClusterJob.oneOff("recount", () -> 5)),
+                lockRepository, runRepository, mock(TransactionTemplate.class), scheduler);
+
+        oneOffRunner.runPendingOneOffJobs();
+        when(runRepository.existsByJobNameAndStatus("recount", JobRunStatus.SUCCEEDED)).thenReturn(true);
+        oneOffRunner.runPendingOneOffJobs();
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void resumesFromStoredCursorAndClearsItWhenDone() {
+        when(lockRepository.acquire(eq(JOB), anyString(), any(), anyLong())).thenReturn(1);
+        when(lockRepository.findById(JOB)).thenReturn(Optional.of(lock("10")));
+
+        ScheduledJobRun run = runner.run(JOB, JobTrigger.MANUAL).orElseThrow();
+
+        assertEquals(Arrays.asList("10", "20"), cursorsSeen);
+        assertEquals(JobRunStatus.SUCCEEDED, run.getStatus());
+        assertEquals(JobTrigger.MANUAL, run.getTrigger());
+        assertEquals("10", run.getResumedFrom());
+        assertEquals(2, run.getChunks());
+        assertEquals(20, run.getProcessed());
+        assertNotNull(run.getDurationMs());
+        verify(lockRepository).checkpoint(eq(JOB), anyString(), eq("20"), eq(300L));
+        verify(lockRepository).release(eq(JOB), anyString(), isNull());
+    }
+
+    @Test
+    void failedRunKeepsLastCheckpointForTheNextRun() {
+        cursorsSeen.add("boom");
+        when(lockRepository.acquire(eq(JOB), anyString(), any(), anyLong())).thenReturn(1);
+        when(lockRepository.findById(JOB)).thenReturn(Optional.of(lock(null)));
+
+        ScheduledJobRun run = runner.run(JOB, JobTrigger.SCHEDULED).orElseThrow();
+
+        assertEquals(JobRunStatus.FAILED, run.getStatus());
+        assertEquals("fallo en el tramo", run.getError());
+        assertEquals(2, run.getChunks());
+        verify(lockRepository).release(eq(JOB), anyString(), eq("20"));
+    }
+
+    @Test
+    void lostLeaseStopsTheRun() {
+        when(lockRepository.acquire(eq(JOB), anyString(), any(), anyLong())).thenReturn(1);
+        when(lockRepository.findById(JOB)).thenReturn(Optional.of(lock(null)));
+        when(lockRepository.checkpoint(eq(JOB), anyString(), any(), anyLong())).thenReturn(0);
+
+        ScheduledJobRun run = runner.run(JOB, JobTrigger.SCHEDULED).orElseThrow();
+
+        assertEquals(JobRunStatus.FAILED, run.getStatus());
+        assertEquals(1, run.getChunks());
+    }
+
+    private static ScheduledJobLock lock(String cursor) {
+        return new ScheduledJobLock(JOB, "node", LocalDateTime.now(), LocalDateTime.now().plusMinutes(5), cursor, null);
+    }
+}
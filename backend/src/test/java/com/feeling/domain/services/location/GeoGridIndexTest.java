@@ -0,0 +1,48 @@
+package com.feeling.domain.services.location;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeoGridIndexTest {
+
+    private static final GeoPoint CHAPINERO = new GeoPoint(4.6486, -74.0628);
+    private static final GeoPoint SUBA = new GeoPoint(4.7411, -74.0836);
+    private static final GeoPoint SOACHA = new GeoPoint(4.5794, -74.2168);
+    private static final GeoPoint MEDELLIN = new GeoPoint(6.2442, -75.5812);
+
+    @Test
+    void withinRadiusReturnsOnlyPointsInsideOrderedByDistance() {
+        GeoGridIndex<String> index = new GeoGridIndex<>(0.1);
+        index.add(MEDELLIN, "medellin");
+        index.add(SOACHA, "soacha");
+        index.add(SUBA, "suba");
+
+        List<GeoGridIndex.Hit<String>> hits = index.withinRadius(CHAPINERO, 25, value -> true, 10);
+
+        assertEquals(List.of("suba", "soacha"), hits.stream().map(GeoGridIndex.Hit::value).toList());
+        assertTrue(hits.get(0).distanceKm() < hits.get(1).distanceKm());
+    }
+
+    @Test
+    void withinRadiusAppliesFilterAndLimit() {
+        GeoGridIndex<Integer> index = new GeoGridIndex<>(0.1);
+        for (int i = 0; i < 10; i++) {
+            index.add(new GeoPoint(4.60 + i * 0.01, -74.08), i);
+        }
+
+        List<GeoGridIndex.Hit<Integer>> hits = index.withinRadius(new GeoPoint(4.60, -74.08), 50, value -> value % 2 == 0, 3);
+
+        assertEquals(List.of(0, 2, 4), hits.stream().map(GeoGridIndex.Hit::value).toList());
+    }
+
+    @Test
+    void distanceKmMatchesKnownDistance() {
+        // Bogotá - Medellín en línea recta: unos 240 km
+        double distance = CHAPINERO.distanceKm(MEDELLIN);
+
+        assertTrue(distance > 230 && distance < 250, "distancia: " + distance);
+    }
+}
@@ -0,0 +1,60 @@
+package com.feeling.domain.services.match;
+
+import com.feeling.infrastructure.repositories.match.IUserMatchPlanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MatchAttemptLedgerTest {
+
+    private static final Long USER_ID = 7L;
+
+    private IUserMatchPlanRepository repository;
+    private MatchAttemptLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IUserMatchPlanRepository.class);
+        ledger = new MatchAttemptLedger(repository, new ConcurrentMapCacheManager(MatchAttemptLedger.CACHE_NAME));
+    }
+
+    @Test
+    void consumesAttemptAndUpdatesCachedBalance() {
+        when(repository.getTotalRemainingAttemptsByUserId(USER_ID)).thenReturn(2);
+        when(repository.consumeAttempt(USER_ID)).thenReturn(1);
+
+        assertTrue(ledger.tryConsume(USER_ID));
+        assertEquals(1, ledger.getBalance(USER_ID));
+        verify(repository, times(1)).getTotalRemainingAttemptsByUserId(USER_ID);
+    }
+
+    @Test
+    void rejectsWithoutWritingWhenCachedBalanceIsEmpty() {
+        when(repository.getTotalRemainingAttemptsByUserId(USER_ID)).thenReturn(0);
+
+        assertFalse(ledger.tryConsume(USER_ID));
+        assertFalse(ledger.tryConsume(USER_ID));
+        verify(repository, never()).consumeAttempt(anyLong());
+    }
+
+    @Test
+    void conditionalUpdateMissCorrectsOverstatedBalance() {
+        when(repository.getTotalRemainingAttemptsByUserId(USER_ID)).thenReturn(3);
+        when(repository.consumeAttempt(USER_ID)).thenReturn(0);
+
+        assertFalse(ledger.tryConsume(USER_ID));
+        assertEquals(0, ledger.getBalance(USER_ID));
+    }
+
+    @Test
+    void invalidateReloadsBalanceFromDatabase() {
+        when(repository.getTotalRemainingAttemptsByUserId(USER_ID)).thenReturn(0, 5);
+
+        assertEquals(0, ledger.getBalance(USER_ID));
+        ledger.invalidate(USER_ID);
+        assertEquals(5, ledger.getBalance(USER_ID));
+    }
+}
@@ -0,0 +1,126 @@
+package com.feeling.domain.services.notification;
+
+import com.feeling.domain.dto.notification.NotificationCountersDTO;
+import com.feeling.domain.dto.notification.NotificationType;
+import com.feeling.infrastructure.cache.CacheVersionRegistry;
+import com.feeling.infrastructure.cache.VersionedCacheManager;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.match.IMatchRepository;
+import com.feeling.infrastructure.repositories.notification.INotificationInboxRepository;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class NotificationServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    private IMatchRepository matchRepository;
+    private INotificationInboxRepository inboxRepository;
+    private IUserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private CacheManager cacheManager;
+    private NotificationService service;
+
+    // Estado de notification_inbox del usuario
+    private final AtomicLong storedUnread = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        matchRepository = mock(IMatchRepository.class);
+        inboxRepository = mock(INotificationInboxRepository.class);
+        userRepository = mock(IUserRepository.class);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder().id(USER_ID).build());
+        when(matchRepository.countPendingSentMatches(any())).thenReturn(0L);
+        when(matchRepository.countPendingReceivedMatches(any())).thenReturn(0L);
+        when(matchRepository.countAcceptedMatches(any())).thenReturn(0L);
+
+        when(inboxRepository.findUnreadCount(USER_ID)).thenAnswer(invocation -> Optional.of(storedUnread.get()));
+        when(inboxRepository.incrementUnread(USER_ID)).thenAnswer(invocation -> {
+            storedUnread.incrementAndGet();
+            return 1;
+        });
+        when(inboxRepository.markAllRead(eq(USER_ID), any())).thenAnswer(invocation -> {
+            storedUnread.set(0);
+            return 1;
+        });
+
+        transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        cacheManager = new ConcurrentMapCacheManager(NotificationService.CACHE_NAME);
+        service = new NotificationService(matchRepository, userRepository, inboxRepository, cacheManager,
+                transactionTemplate);
+    }
+
+    @Test
+    void eventForUncachedUserIsNotCountedTwice() {
+        // El match ya está en la BD cuando se entrega el evento, así que la carga lo incluye
+        when(matchRepository.countPendingReceivedMatches(any())).thenReturn(1L);
+
+        service.onNotification(new UserNotificationEvent(USER_ID, NotificationType.MATCH_RECEIVED, Map.of()));
+
+        assertEquals(new NotificationCountersDTO(0, 1, 0, 1), service.getCounters(USER_ID));
+    }
+
+    @Test
+    void eventReloadsCachedCountersFromTheDatabase() {
+        service.getCounters(USER_ID);
+        // Otra réplica aceptó un match que este nodo no ha procesado: la recarga lo incluye
+        when(matchRepository.countAcceptedMatches(any())).thenReturn(1L);
+        when(matchRepository.countPendingReceivedMatches(any())).thenReturn(1L);
+
+        service.onNotification(new UserNotificationEvent(USER_ID, NotificationType.MATCH_RECEIVED, Map.of()));
+        service.onNotification(new UserNotificationEvent(USER_ID, NotificationType.EVENT_PAYMENT_CONFIRMED, Map.of()));
+
+        assertEquals(new NotificationCountersDTO(0, 1, 1, 2), service.getCounters(USER_ID));
+    }
+
+    @Test
+    void eventEvictionIsPublishedToOtherReplicas() {
+        VersionedCacheManager versionedCacheManager = new VersionedCacheManager(cacheManager, new CacheVersionRegistry());
+        List<Object> published = new ArrayList<>();
+        versionedCacheManager.setInvalidationListener((cacheName, key) -> published.add(cacheName + ":" + key));
+        service = new NotificationService(matchRepository, userRepository, inboxRepository, versionedCacheManager,
+                transactionTemplate);
+
+        service.onNotification(new UserNotificationEvent(USER_ID, NotificationType.MATCH_RECEIVED, Map.of()));
+        service.markAsRead(USER_ID);
+
+        assertEquals(List.of(NotificationService.CACHE_NAME + ":" + USER_ID, NotificationService.CACHE_NAME + ":" + USER_ID),
+                published);
+    }
+
+    @Test
+    void unreadSurvivesCacheExpiryUntilMarkedAsRead() {
+        service.onNotification(new UserNotificationEvent(USER_ID, NotificationType.EVENT_PAYMENT_CONFIRMED, Map.of()));
+        service.onNotification(new UserNotificationEvent(USER_ID, NotificationType.ACCOUNT_APPROVED, Map.of()));
+        assertEquals(2, service.getCounters(USER_ID).unread());
+
+        cacheManager.getCache(NotificationService.CACHE_NAME).clear();
+        assertEquals(2, service.getCounters(USER_ID).unread());
+
+        assertEquals(0, service.markAsRead(USER_ID).unread());
+        cacheManager.getCache(NotificationService.CACHE_NAME).clear();
+        assertEquals(0, service.getCounters(USER_ID).unread());
+    }
+}
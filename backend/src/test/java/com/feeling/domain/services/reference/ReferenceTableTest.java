@@ -0,0 +1,39 @@
+package com.feeling.domain.services.reference;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReferenceTableTest {
+
+    private record Row(Long id, String code) {
+    }
+
+    @Test
+    void denseIdsAreIndexedAndOrderIsKept() {
+        List<Row> rows = new ArrayList<>(List.of(new Row(3L, "C"), new Row(1L, "A"), new Row(7L, "G")));
+        ReferenceTable<Row> table = ReferenceTable.of(rows, Row::id);
+        rows.clear();
+
+        assertEquals(3, table.size());
+        assertEquals("G", table.get(7L).map(Row::code).orElseThrow());
+        assertEquals(Optional.empty(), table.get(2L));
+        assertEquals(Optional.empty(), table.get(8L));
+        assertEquals(Optional.empty(), table.get(null));
+        assertEquals(List.of("C", "A", "G"), table.all().stream().map(Row::code).toList());
+        assertThrows(UnsupportedOperationException.class, () -> table.all().add(new Row(9L, "I")));
+    }
+
+    @Test
+    void sparseIdsFallBackToMap() {
+        ReferenceTable<Row> table = ReferenceTable.of(List.of(new Row(5L, "E"), new Row(10_000_000L, "X")), Row::id);
+
+        assertEquals("X", table.get(10_000_000L).map(Row::code).orElseThrow());
+        assertEquals("E", table.find(row -> row.code().equals("E")).map(Row::code).orElseThrow());
+        assertEquals(Optional.empty(), table.get(6L));
+    }
+}
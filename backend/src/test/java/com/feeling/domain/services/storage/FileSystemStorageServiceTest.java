@@ -0,0 +1,95 @@
+package com.feeling.domain.services.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileSystemStorageService storage;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new FileSystemStorageService();
+        ReflectionTestUtils.setField(storage, "rootDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(storage, "bucketName", "feeling");
+        ReflectionTestUtils.setField(storage, "publicUrl", "http://localhost/files");
+        ReflectionTestUtils.setField(storage, "signingKey", "clave-compartida-de-prueba-32-caracteres");
+        storage.init();
+    }
+
+    @Test
+    void testStartupRequiresSharedSigningKey() {
+        FileSystemStorageService unsigned = new FileSystemStorageService();
+        ReflectionTestUtils.setField(unsigned, "rootDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(unsigned, "bucketName", "feeling");
+        ReflectionTestUtils.setField(unsigned, "publicUrl", "http://localhost/files");
+
+        assertThrows(IllegalStateException.class, unsigned::init);
+        ReflectionTestUtils.setField(unsigned, "signingKey", "corta");
+        assertThrows(IllegalStateException.class, unsigned::init);
+    }
+
+    @Test
+    void testUploadAndDownloadRoundTrip() throws Exception {
+        byte[] content = "imagen de prueba".getBytes(StandardCharsets.UTF_8);
+
+        String url = storage.uploadFile(new ByteArrayInputStream(content), "feeling", "events/a.png", content.length, "image/png");
+
+        assertEquals("http://localhost/files/feeling/events/a.png", url);
+        assertEquals("events/a.png", storage.extractObjectKey(url));
+        try (InputStream in = storage.downloadFile("feeling", "events/a.png")) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testUploadWithUnknownSize() throws Exception {
+        byte[] content = new byte[100_000];
+
+        storage.uploadFile(new ByteArrayInputStream(content), "feeling", "events/b.png", -1, "image/png");
+
+        assertEquals(content.length, storage.getFileInfo("feeling", "events/b.png").size());
+    }
+
+    @Test
+    void testListAndDelete() throws Exception {
+        storage.uploadFile(new ByteArrayInputStream(new byte[1]), "feeling", "events/imagenes/x.png", 1, "image/png");
+        storage.uploadFile(new ByteArrayInputStream(new byte[1]), "feeling", "profiles/y.png", 1, "image/png");
+
+        assertEquals(List.of("events/imagenes/x.png"), storage.listFiles("feeling", "events/"));
+        assertTrue(storage.deleteFile("feeling", "events/imagenes/x.png"));
+        assertFalse(storage.fileExists("feeling", "events/imagenes/x.png"));
+    }
+
+    @Test
+    void testRejectsPathTraversal() {
+        assertThrows(IllegalArgumentException.class, () ->
+                storage.uploadFile(new ByteArrayInputStream(new byte[1]), "feeling", "../outside.png", 1, "image/png"));
+    }
+
+    @Test
+    void testSignedUploadUrl() {
+        String url = storage.generateUploadUrl("feeling", "events/c.png", 60);
+
+        assertTrue(url.startsWith("http://localhost/files/feeling/events/c.png?expires="));
+        long expires = Long.parseLong(url.replaceAll(".*expires=(\\d+)&.*", "$1"));
+        String signature = url.substring(url.indexOf("signature=") + "signature=".length());
+        assertTrue(storage.isValidUploadSignature("feeling", "events/c.png", expires, signature));
+        assertFalse(storage.isValidUploadSignature("feeling", "events/other.png", expires, signature));
+        assertFalse(storage.isValidUploadSignature("feeling", "events/c.png", expires + 1, signature));
+        assertFalse(storage.isValidUploadSignature("feeling", "events/c.png", 1, signature));
+    }
+}
@@ -0,0 +1,40 @@
+package com.feeling.domain.services.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StorageCatalogTest {
+
+    private final StorageCatalog catalog = new StorageCatalog();
+
+    @Test
+    void failedLoadIsRetriedOnNextLookup() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, Map<String, String>> loader = prefix -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("storage caído");
+            }
+            return Map.of("events/a.png", "url-a");
+        };
+
+        assertTrue(catalog.getOrLoad("events", loader).isEmpty());
+        assertEquals(Map.of("events/a.png", "url-a"), catalog.getOrLoad("events", loader));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void failedReconcileKeepsKnownEntries() {
+        catalog.getOrLoad("events", prefix -> Map.of("events/a.png", "url-a"));
+
+        catalog.reconcile(prefix -> {
+            throw new IllegalStateException("storage caído");
+        });
+
+        assertEquals("url-a", catalog.getOrLoad("events", prefix -> Map.of()).get("events/a.png"));
+    }
+}
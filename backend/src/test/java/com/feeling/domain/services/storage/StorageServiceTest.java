@@ -0,0 +1,46 @@
+package com.feeling.domain.services.storage;
+
+import com.feeling.domain.ports.infrastructure.IStoragePort;
+import com.feeling.exception.StorageException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StorageServiceTest {
+
+    @Test
+    void backendOutageKeepsTheKnownCatalog() {
+        IStoragePort storagePort = mock(IStoragePort.class);
+        when(storagePort.getDefaultBucket()).thenReturn("feeling");
+        when(storagePort.getPublicUrl(eq("feeling"), anyString())).thenAnswer(invocation -> "url/" + invocation.getArgument(1));
+        when(storagePort.listFiles("feeling", "events/"))
+                .thenReturn(List.of("events/a.png", "events/b.jpg"))
+                .thenThrow(new StorageException("Error listando archivos", new RuntimeException("connection refused")));
+        StorageService storageService = new StorageService(storagePort, new StorageCatalog());
+
+        assertEquals(List.of("url/events/a.png", "url/events/b.jpg"), storageService.listImages("events"));
+
+        storageService.reconcileCatalog();
+
+        assertEquals(List.of("url/events/a.png", "url/events/b.jpg"), storageService.listImages("events"));
+        verify(storagePort, times(2)).listFiles("feeling", "events/");
+    }
+
+    @Test
+    void backendOutageDoesNotCacheAnEmptyFolder() {
+        IStoragePort storagePort = mock(IStoragePort.class);
+        when(storagePort.getDefaultBucket()).thenReturn("feeling");
+        when(storagePort.getPublicUrl(eq("feeling"), anyString())).thenAnswer(invocation -> "url/" + invocation.getArgument(1));
+        when(storagePort.listFiles("feeling", "events/"))
+                .thenThrow(new StorageException("Error listando archivos", new RuntimeException("connection refused")))
+                .thenReturn(List.of("events/a.png"));
+        StorageService storageService = new StorageService(storagePort, new StorageCatalog());
+
+        assertTrue(storageService.listImages("events").isEmpty());
+        assertEquals(List.of("url/events/a.png"), storageService.listImages("events"));
+    }
+}
@@ -0,0 +1,193 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.domain.dto.user.BulkUserJobDTO;
+import com.feeling.infrastructure.entities.user.BulkUserJob;
+import com.feeling.infrastructure.entities.user.UserApprovalStatusList;
+import com.feeling.infrastructure.repositories.analytics.IUserActivityDayRepository;
+import com.feeling.infrastructure.repositories.notification.INotificationInboxRepository;
+import com.feeling.infrastructure.repositories.user.IBulkUserJobRepository;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import com.feeling.infrastructure.repositories.user.IUserRoleRepository;
+import com.feeling.infrastructure.repositories.user.IUserSeenSetRepository;
+import com.feeling.infrastructure.repositories.user.IUserSuggestionQueueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class BulkUserOperationServiceTest {
+
+    private static final String PRINCIPAL_ADMIN = "admin@feeling.com";
+
+    private IUserRepository userRepository;
+    private INotificationInboxRepository notificationInboxRepository;
+    private IUserSeenSetRepository seenSetRepository;
+    private IUserSuggestionQueueRepository suggestionQueueRepository;
+    private IUserActivityDayRepository activityDayRepository;
+    private SeenSetService seenSetService;
+    private CachedUserService cachedUserService;
+    private TransactionTemplate transactionTemplate;
+    private ThreadPoolTaskExecutor workers;
+    private BulkUserOperationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        userRepository = mock(IUserRepository.class);
+        notificationInboxRepository = mock(INotificationInboxRepository.class);
+        seenSetRepository = mock(IUserSeenSetRepository.class);
+        suggestionQueueRepository = mock(IUserSuggestionQueueRepository.class);
+        activityDayRepository = mock(IUserActivityDayRepository.class);
+        seenSetService = mock(SeenSetService.class);
+        cachedUserService = mock(CachedUserService.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // bulk_user_jobs compartida por todas las réplicas; se guardan copias como haría la BD
+        Map<String, BulkUserJob> storedJobs = new ConcurrentHashMap<>();
+        IBulkUserJobRepository jobRepository = mock(IBulkUserJobRepository.class);
+        when(jobRepository.save(any(BulkUserJob.class))).thenAnswer(invocation -> {
+            BulkUserJob job = invocation.getArgument(0);
+            storedJobs.put(job.getId(), copy(job));
+            return job;
+        });
+        when(jobRepository.findById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(storedJobs.get(invocation.<String>getArgument(0))).map(BulkUserOperationServiceTest::copy));
+
+        // Cada id existe y su email es user<id>@test.com (el 1 es el administrador principal)
+        when(userRepository.findIdAndEmailByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Long id : (Collection<Long>) invocation.getArgument(0)) {
+                rows.add(new Object[]{id, id == 1L ? PRINCIPAL_ADMIN : "user" + id + "@test.com"});
+            }
+            return rows;
+        });
+
+        workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(1);
+        workers.setQueueCapacity(1);
+        workers.initialize();
+
+        service = new BulkUserOperationService(userRepository, mock(IUserRoleRepository.class), jobRepository,
+                notificationInboxRepository, seenSetRepository, suggestionQueueRepository, activityDayRepository,
+                seenSetService, cachedUserService, mock(ApplicationEventPublisher.class), transactionTemplate, workers);
+        ReflectionTestUtils.setField(service, "principalAdminEmail", PRINCIPAL_ADMIN);
+        ReflectionTestUtils.setField(service, "chunkSize", 100);
+        ReflectionTestUtils.setField(service, "asyncThreshold", 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdown();
+    }
+
+    @Test
+    void rejectsWithOneUpdatePerChunk() {
+        List<String> ids = LongStream.rangeClosed(2, 251).mapToObj(String::valueOf).toList();
+
+        BulkUserJobDTO job = service.execute(BulkUserOperation.REJECT, ids, PRINCIPAL_ADMIN, null);
+
+        assertTrue(job.finished());
+        assertEquals(250, job.succeeded());
+        assertEquals(0, job.failed());
+        verify(userRepository, times(3)).updateApprovalStatusByIdIn(anyCollection(), eq(UserApprovalStatusList.REJECTED), any());
+        verify(cachedUserService, times(3)).evictUserCaches(anyCollection());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void skipsPrincipalAdminAndCountsInvalidIdsAsFailures() {
+        BulkUserJobDTO job = service.execute(BulkUserOperation.DELETE, List.of("1", "2", "abc", "2"), PRINCIPAL_ADMIN, null);
+
+        assertEquals(3, job.total());
+        assertEquals(1, job.succeeded());
+        assertEquals(2, job.failed());
+        verify(userRepository).deleteById(2L);
+        verify(userRepository, never()).deleteById(1L);
+    }
+
+    @Test
+    void deletesPerUserRowsInTheSameTransactionAsTheUser() {
+        BulkUserJobDTO job = service.execute(BulkUserOperation.DELETE, List.of("2", "3"), PRINCIPAL_ADMIN, null);
+
+        assertEquals(2, job.succeeded());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        for (long id : new long[]{2L, 3L}) {
+            InOrder inOrder = inOrder(notificationInboxRepository, seenSetRepository, suggestionQueueRepository,
+                    activityDayRepository, userRepository);
+            inOrder.verify(notificationInboxRepository).deleteByUserId(id);
+            inOrder.verify(seenSetRepository).deleteByUserId(id);
+            inOrder.verify(suggestionQueueRepository).deleteByUserId(id);
+            inOrder.verify(activityDayRepository).deleteByUserId(id);
+            inOrder.verify(userRepository).deleteById(id);
+        }
+        // El volcado periódico no debe recrear el conjunto de vistos de los usuarios eliminados
+        verify(seenSetService).forget(argThat(ids -> List.copyOf(ids).equals(List.of(2L, 3L))));
+    }
+
+    @Test
+    void userThatCannotBeDeletedDoesNotUndoTheRestOfTheChunk() {
+        doThrow(new DataIntegrityViolationException("fk")).when(userRepository).deleteById(3L);
+
+        BulkUserJobDTO job = service.execute(BulkUserOperation.DELETE, List.of("2", "3", "4"), PRINCIPAL_ADMIN, null);
+
+        assertEquals(2, job.succeeded());
+        assertEquals(1, job.failed());
+        verify(cachedUserService).evictUserCaches(argThat(emails ->
+                List.copyOf(emails).equals(List.of("user2@test.com", "user4@test.com"))));
+        assertEquals(2, service.getJob(job.jobId()).succeeded());
+    }
+
+    @Test
+    void largeSelectionRunsInBackgroundAndReportsProgress() {
+        List<String> ids = LongStream.rangeClosed(2, 1501).mapToObj(String::valueOf).toList();
+
+        BulkUserJobDTO accepted = service.execute(BulkUserOperation.REACTIVATE, ids, PRINCIPAL_ADMIN, null);
+
+        assertFalse(accepted.finished());
+        verify(userRepository, timeout(2000).times(15)).reactivateByIdIn(anyCollection(), any());
+        BulkUserJobDTO progress = service.getJob(accepted.jobId());
+        assertEquals(1500, progress.total());
+        assertTrue(progress.processed() <= progress.total());
+    }
+
+    private static BulkUserJob copy(BulkUserJob job) {
+        return BulkUserJob.builder()
+                .id(job.getId())
+                .operation(job.getOperation())
+                .adminEmail(job.getAdminEmail())
+                .total(job.getTotal())
+                .processed(job.getProcessed())
+                .succeeded(job.getSucceeded())
+                .failed(job.getFailed())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.exception.BadRequestException;
+import com.feeling.infrastructure.entities.user.UserComplaint;
+import com.feeling.infrastructure.repositories.user.IUserComplaintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ComplaintMetricsServiceTest {
+
+    private IUserComplaintRepository complaintRepository;
+    private ComplaintMetricsService metricsService;
+
+    @BeforeEach
+    void setUp() {
+        complaintRepository = mock(IUserComplaintRepository.class);
+        metricsService = new ComplaintMetricsService(complaintRepository);
+        ReflectionTestUtils.setField(metricsService, "overdueHours", 24);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statsAreFoldedFromGroupedRows() {
+        // status, priority, type, total, userRef, eventRef, bookingRef, last24h, overdue, resolutionHours, resolvedWithDate
+        when(complaintRepository.aggregateStats(any(), any())).thenReturn(List.of(
+                new Object[]{UserComplaint.Status.OPEN, UserComplaint.Priority.URGENT, UserComplaint.ComplaintType.PAYMENT_ISSUE,
+                        3L, 1L, 0L, 2L, 1L, 2L, 0L, 0L},
+                new Object[]{UserComplaint.Status.IN_PROGRESS, UserComplaint.Priority.LOW, UserComplaint.ComplaintType.GENERAL,
+                        2L, 0L, 1L, 0L, 0L, 1L, 0L, 0L},
+                new Object[]{UserComplaint.Status.RESOLVED, UserComplaint.Priority.URGENT, UserComplaint.ComplaintType.TECHNICAL_ISSUE,
+                        4L, 0L, 0L, 0L, 0L, 0L, 30L, 3L},
+                new Object[]{UserComplaint.Status.CLOSED, UserComplaint.Priority.HIGH, UserComplaint.ComplaintType.GENERAL,
+                        1L, 0L, 0L, 0L, 0L, 0L, 5L, 1L}));
+
+        Map<String, Object> stats = metricsService.getComplaintStats();
+
+        assertEquals(10L, stats.get("totalComplaints"));
+        assertEquals(5L, stats.get("pendingComplaints"));
+        assertEquals(4L, stats.get("resolvedComplaints"));
+        assertEquals(7L, stats.get("urgentComplaints"));
+        assertEquals(3L, stats.get("overdueComplaints"));
+        assertEquals(1L, stats.get("complaintsLast24h"));
+        assertEquals(10.0, stats.get("averageResolutionHours"));
+        assertEquals(40.0, stats.get("resolutionRate"));
+
+        Map<String, Long> types = (Map<String, Long>) stats.get("typeDistribution");
+        assertEquals(12, types.size());
+        assertEquals(3L, types.get("general"));
+        assertEquals(4L, types.get("technicalIssue"));
+        assertEquals(0L, types.get("refundRequest"));
+        assertEquals(Map.of("low", 2L, "medium", 0L, "high", 1L, "urgent", 7L), stats.get("priorityDistribution"));
+        assertEquals(4L, ((Map<String, Long>) stats.get("contextMetrics")).get("totalContextualComplaints"));
+    }
+
+    @Test
+    void triageFilterSelectsUrgentAndOverdueBranches() {
+        when(complaintRepository.findTriageQueue(anyBoolean(), anyBoolean(), any(), any())).thenReturn(Page.empty());
+
+        metricsService.getTriageQueue(ComplaintMetricsService.TriageFilter.from(null), PageRequest.of(0, 20));
+        metricsService.getTriageQueue(ComplaintMetricsService.TriageFilter.from("overdue"), PageRequest.of(0, 20));
+
+        verify(complaintRepository).findTriageQueue(eq(true), eq(true), any(), any());
+        verify(complaintRepository).findTriageQueue(eq(false), eq(true), any(), any());
+        assertThrows(BadRequestException.class, () -> ComplaintMetricsService.TriageFilter.from("later"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.feeling.domain.services.user;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeenBloomFilterTest {
+
+    @Test
+    void containsEveryInsertedIdAndFewOthers() {
+        SeenBloomFilter filter = SeenBloomFilter.forCapacity(2000, 0.01);
+        for (long id = 1; id <= 2000; id++) {
+            filter.put(id);
+        }
+
+        for (long id = 1; id <= 2000; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+        long falsePositives = 0;
+        for (long id = 100_000; id < 110_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "Falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    void survivesSerializationRoundTrip() {
+        SeenBloomFilter filter = SeenBloomFilter.forCapacity(100, 0.01);
+        filter.put(42L);
+
+        SeenBloomFilter restored = SeenBloomFilter.fromBytes(filter.toBytes());
+
+        assertTrue(restored.mightContain(42L));
+        assertFalse(restored.mightContain(43L));
+    }
+
+    @Test
+    void mergeAddsElementsFromOtherReplica() {
+        SeenBloomFilter local = SeenBloomFilter.forCapacity(100, 0.01);
+        SeenBloomFilter remote = SeenBloomFilter.forCapacity(100, 0.01);
+        local.put(1L);
+        remote.put(2L);
+
+        assertTrue(local.merge(remote));
+        assertTrue(local.mightContain(1L));
+        assertTrue(local.mightContain(2L));
+        assertEquals(2, local.approximateElementCount());
+    }
+}
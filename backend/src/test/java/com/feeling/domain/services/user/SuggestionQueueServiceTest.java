@@ -0,0 +1,88 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.entities.user.UserSuggestionQueue;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import com.feeling.infrastructure.repositories.user.IUserSuggestionQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SuggestionQueueServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private IUserSuggestionQueueRepository queueRepository;
+    private SuggestionRecommender recommender;
+    private SeenBloomFilter seen;
+    private SuggestionQueueService service;
+
+    @BeforeEach
+    void setUp() {
+        queueRepository = mock(IUserSuggestionQueueRepository.class);
+        recommender = mock(SuggestionRecommender.class);
+        SeenSetService seenSetService = mock(SeenSetService.class);
+        seen = SeenBloomFilter.forCapacity(100, 0.0001);
+        when(seenSetService.seenBy(USER_ID)).thenReturn(seen);
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+
+        service = new SuggestionQueueService(queueRepository, mock(IUserRepository.class), recommender,
+                seenSetService, transactionTemplate);
+        ReflectionTestUtils.setField(service, "refillBelow", 0);
+        ReflectionTestUtils.setField(service, "emptyRetryMinutes", 10L);
+    }
+
+    @Test
+    void skipsSeenCandidatesAndReportsWhetherUnseenRemain() {
+        UserSuggestionQueue queue = queue(new long[]{1, 2, 3, 4, 5});
+        seen.put(2);
+        seen.put(5);
+
+        Slice<Long> first = service.next(viewer(), 2);
+        assertEquals(List.of(1L, 3L), first.getContent());
+        assertTrue(first.hasNext());
+
+        Slice<Long> second = service.next(viewer(), 2);
+        assertEquals(List.of(4L), second.getContent());
+        assertFalse(second.hasNext());
+        assertEquals(0, queue.remaining());
+    }
+
+    @Test
+    void emptyQueueIsNotRebuiltOnEveryRequest() {
+        queue(new long[0]);
+
+        assertTrue(service.next(viewer(), 10).getContent().isEmpty());
+
+        verify(recommender, never()).buildQueue(any());
+    }
+
+    private UserSuggestionQueue queue(long[] candidates) {
+        UserSuggestionQueue queue = new UserSuggestionQueue();
+        queue.setUserId(USER_ID);
+        queue.replaceCandidates(candidates);
+        queue.setBuiltAt(LocalDateTime.now());
+        when(queueRepository.findById(USER_ID)).thenReturn(Optional.of(queue));
+        when(queueRepository.findForUpdate(USER_ID)).thenReturn(Optional.of(queue));
+        return queue;
+    }
+
+    private static User viewer() {
+        return User.builder().id(USER_ID).build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.feeling.domain.services.user;
+
+import com.feeling.domain.services.location.GeoIndexService;
+import com.feeling.domain.services.location.LocationService;
+import com.feeling.infrastructure.entities.user.User;
+import com.feeling.infrastructure.repositories.user.IUserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class SuggestionRecommenderTest {
+
+    @Test
+    void reservoirSampleReturnsKDistinctElementsFromSource() {
+        List<Long> source = LongStream.rangeClosed(1, 500).boxed().toList();
+
+        List<Long> sample = SuggestionRecommender.reservoirSample(source, 20, new Random(7));
+
+        assertEquals(20, sample.size());
+        assertEquals(20, new HashSet<>(sample).size());
+        assertTrue(source.containsAll(sample));
+    }
+
+    @Test
+    void reservoirSampleKeepsWholeSourceWhenSmallerThanK() {
+        List<Long> sample = SuggestionRecommender.reservoirSample(List.of(1L, 2L, 3L), 10, new Random(7));
+
+        assertEquals(List.of(1L, 2L, 3L), sample);
+    }
+
+    @Test
+    void reservoirSampleIsRoughlyUniform() {
+        int[] hits = new int[10];
+        Random random = new Random(42);
+        List<Integer> source = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        for (int i = 0; i < 10_000; i++) {
+            for (int item : SuggestionRecommender.reservoirSample(source, 3, random)) {
+                hits[item]++;
+            }
+        }
+        // Cada elemento debería aparecer ~3000 veces
+        for (int count : hits) {
+            assertTrue(count > 2700 && count < 3300, "Frecuencia fuera de rango: " + count);
+        }
+    }
+
+    @Test
+    void candidatePoolKeepsScanningPastSeenCandidates() {
+        IUserRepository userRepository = mock(IUserRepository.class);
+        SeenSetService seenSetService = mock(SeenSetService.class);
+        SuggestionRecommender recommender = new SuggestionRecommender(userRepository, seenSetService,
+                mock(GeoIndexService.class), mock(LocationService.class));
+        ReflectionTestUtils.setField(recommender, "poolSize", 300);
+        ReflectionTestUtils.setField(recommender, "maxScannedRows", 20000);
+        ReflectionTestUtils.setField(recommender, "queueSize", 200);
+        ReflectionTestUtils.setField(recommender, "explorationRatio", 0.0);
+
+        // 1000 compatibles en la misma ciudad; el usuario ya vio los 600 primeros
+        SeenBloomFilter seen = SeenBloomFilter.forCapacity(2000, 0.0001);
+        LongStream.rangeClosed(1, 600).forEach(seen::put);
+        when(seenSetService.seenBy(1L)).thenReturn(seen);
+        when(userRepository.findCompatibleCandidatesAfter(any(), any(), any(), any(), any(), any(),
+                anyInt(), anyDouble(), anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(8);
+            int limit = invocation.<Pageable>getArgument(9).getPageSize();
+            return LongStream.rangeClosed(afterId + 1, Math.min(afterId + limit, 1000))
+                    .mapToObj(id -> new Object[]{id, 1, 0.0})
+                    .toList();
+        });
+
+        long[] queue = recommender.buildQueue(User.builder().id(1L).build());
+
+        assertEquals(200, queue.length);
+        assertTrue(Arrays.stream(queue).allMatch(id -> id > 600));
+    }
+}
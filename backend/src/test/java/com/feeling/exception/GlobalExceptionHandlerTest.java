@@ -0,0 +1,62 @@
+package com.feeling.exception;
+
+import com.feeling.domain.dto.response.ErrorResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GlobalExceptionHandlerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor exportExecutor;
+    private GlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        // Igual que exportExecutor por defecto: sin cola y con política ABORT
+        exportExecutor = new ThreadPoolTaskExecutor();
+        exportExecutor.setCorePoolSize(1);
+        exportExecutor.setMaxPoolSize(1);
+        exportExecutor.setQueueCapacity(0);
+        exportExecutor.initialize();
+
+        handler = new GlobalExceptionHandler();
+        ReflectionTestUtils.setField(handler, "retryAfterSeconds", 30L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        exportExecutor.shutdown();
+    }
+
+    @Test
+    void rejectedExportIsServiceUnavailableWithRetryAfter() {
+        exportExecutor.submit(() -> {
+            release.await();
+            return null;
+        });
+        TaskRejectedException rejected = assertThrows(TaskRejectedException.class,
+                () -> exportExecutor.submit(() -> null));
+
+        // El manejador más cercano al tipo gana al de RuntimeException (500)
+        assertEquals("handleRejectedExecutionException",
+                new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class).resolveMethod(rejected).getName());
+        ResponseEntity<ErrorResponseDTO> response = handler.handleRejectedExecutionException(rejected);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("SERVICE_BUSY", response.getBody().error());
+    }
+}
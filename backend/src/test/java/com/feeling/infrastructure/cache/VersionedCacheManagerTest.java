@@ -0,0 +1,61 @@
+package com.feeling.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersionedCacheManagerTest {
+
+    private CacheVersionRegistry versionRegistry;
+    private ConcurrentMapCacheManager delegate;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        versionRegistry = new CacheVersionRegistry();
+        delegate = new ConcurrentMapCacheManager("events");
+        cache = new VersionedCacheManager(delegate, versionRegistry).getCache("events");
+    }
+
+    @Test
+    void reloadingSameValueAfterExpiryKeepsVersion() {
+        cache.get(1L, () -> List.of("a", "b"));
+        long version = versionRegistry.version("events");
+
+        // Expiración simulada: la entrada desaparece del cache subyacente sin pasar por evict
+        delegate.getCache("events").evict(1L);
+        cache.get(1L, () -> List.of("a", "b"));
+        cache.get(2L, () -> List.of("c"));
+
+        assertEquals(version, versionRegistry.version("events"));
+    }
+
+    @Test
+    void reloadingDifferentValueBumpsVersion() {
+        cache.get(1L, () -> List.of("a"));
+        long version = versionRegistry.version("events");
+
+        delegate.getCache("events").evict(1L);
+        cache.get(1L, () -> List.of("a", "nuevo"));
+
+        assertTrue(versionRegistry.version("events") > version);
+    }
+
+    @Test
+    void evictBumpsOnceAndReloadDoesNotBumpAgain() {
+        cache.get(1L, () -> List.of("a"));
+        long version = versionRegistry.version("events");
+
+        cache.evict(1L);
+        long afterEvict = versionRegistry.version("events");
+        cache.get(1L, () -> List.of("b"));
+
+        assertTrue(afterEvict > version);
+        assertEquals(afterEvict, versionRegistry.version("events"));
+    }
+}